@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.ads.mediation.sample.customevent;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.content.Context;
+import android.os.Bundle;
+import androidx.test.core.app.ApplicationProvider;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import com.google.ads.mediation.sample.sdk.SampleAdServer;
+import com.google.ads.mediation.sample.sdk.SampleErrorCode;
+import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
+import com.google.android.gms.ads.mediation.MediationInterstitialAd;
+import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback;
+import com.google.android.gms.ads.mediation.MediationInterstitialAdConfiguration;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Load tests {@link SampleCustomEvent} against the {@link SampleAdServer}, without any network.
+ *
+ * <p>Each test drives thousands of interstitial ad loads through the custom event and checks that
+ * every load gets exactly one callback. The duration and, where the JVM reports it, the allocations
+ * of the load calls are collected in {@link LoadMetrics} and checked against loose bounds, so that
+ * a change making the custom event block or allocate per load fails the test.
+ */
+@RunWith(AndroidJUnit4.class)
+public class SampleCustomEventLoadTest {
+
+  private static final int LOAD_COUNT = 10_000;
+
+  private static final long SEED = 42;
+
+  private static final int CALLBACK_THREAD_COUNT = 4;
+
+  /** Upper bound of the bytes allocated by one load call, far above what the custom event needs. */
+  private static final long MAX_ALLOCATED_BYTES_PER_LOAD = 64 * 1024;
+
+  private final Context context = ApplicationProvider.getApplicationContext();
+
+  private final MediationInterstitialAdCallback interstitialAdCallback =
+      mock(MediationInterstitialAdCallback.class);
+
+  private final SampleCustomEvent customEvent = new SampleCustomEvent();
+
+  private MediationInterstitialAdConfiguration adConfiguration;
+
+  private ExecutorService callbackExecutor;
+
+  /** Number of callbacks received by each load. */
+  private AtomicIntegerArray callbackCounts;
+
+  /** Whether each load succeeded, for the loads that got a callback. */
+  private AtomicIntegerArray succeededLoads;
+
+  /** Indices of the loads, in the order their callback was received. */
+  private List<Integer> callbackOrder;
+
+  private CountDownLatch callbackLatch;
+
+  private final AtomicLong duplicateCallbackCount = new AtomicLong();
+
+  @Before
+  public void setUp() {
+    Bundle serverParameters = new Bundle();
+    serverParameters.putString("parameter", "sample_ad_unit");
+    adConfiguration = mock(MediationInterstitialAdConfiguration.class);
+    when(adConfiguration.getContext()).thenReturn(context);
+    when(adConfiguration.getServerParameters()).thenReturn(serverParameters);
+    when(adConfiguration.getMediationExtras()).thenReturn(new Bundle());
+    callbackExecutor = Executors.newFixedThreadPool(CALLBACK_THREAD_COUNT);
+  }
+
+  @After
+  public void tearDown() {
+    SampleAdServer.getInstance().setConfiguration(null);
+    callbackExecutor.shutdownNow();
+  }
+
+  @Test
+  public void loadInterstitialAd_instantResponses_reportsEveryLoadOnceAndInOrder()
+      throws InterruptedException {
+    SampleAdServer.getInstance().setConfiguration(createConfigurationBuilder().build());
+
+    LoadMetrics loadMetrics = loadInterstitialAds();
+
+    assertEveryLoadReportedOnce();
+    assertAllocationsWithinBounds(loadMetrics);
+    // Instant responses are delivered before the load call returns.
+    for (int loadIndex = 0; loadIndex < LOAD_COUNT; loadIndex++) {
+      assertThat(callbackOrder.get(loadIndex)).isEqualTo(loadIndex);
+    }
+  }
+
+  @Test
+  public void loadInterstitialAd_delayedResponsesOnManyThreads_reportsEveryLoadOnce()
+      throws InterruptedException {
+    SampleAdServer.getInstance()
+        .setConfiguration(
+            createConfigurationBuilder()
+                .setLatencyDistribution(SampleAdServer.exponentialLatency(0, 1))
+                .setCallbackExecutor(callbackExecutor)
+                .build());
+
+    LoadMetrics loadMetrics = loadInterstitialAds();
+
+    assertEveryLoadReportedOnce();
+    assertAllocationsWithinBounds(loadMetrics);
+    // Delayed responses are reported on the callback threads, after the load calls returned.
+    assertThat(loadMetrics.callbackNanos).isAtLeast(loadMetrics.loadNanos);
+  }
+
+  @Test
+  public void loadInterstitialAd_sameSeed_getsSameOutcomes() throws InterruptedException {
+    SampleAdServer.getInstance().setConfiguration(createConfigurationBuilder().build());
+    loadInterstitialAds();
+    AtomicIntegerArray firstSucceededLoads = succeededLoads;
+
+    SampleAdServer.getInstance().setConfiguration(createConfigurationBuilder().build());
+    loadInterstitialAds();
+
+    assertThat(succeededLoads.toString()).isEqualTo(firstSucceededLoads.toString());
+  }
+
+  private static SampleAdServer.Configuration.Builder createConfigurationBuilder() {
+    return new SampleAdServer.Configuration.Builder()
+        .setSeed(SEED)
+        .setFillPercentage(90)
+        .setErrorWeight(SampleErrorCode.NO_INVENTORY, 6)
+        .setErrorWeight(SampleErrorCode.NETWORK_ERROR, 3)
+        .setErrorWeight(SampleErrorCode.UNKNOWN, 1);
+  }
+
+  /**
+   * Loads {@link #LOAD_COUNT} interstitial ads, waits for all of their callbacks and returns how
+   * long and how much memory the loads took.
+   */
+  private LoadMetrics loadInterstitialAds() throws InterruptedException {
+    callbackCounts = new AtomicIntegerArray(LOAD_COUNT);
+    succeededLoads = new AtomicIntegerArray(LOAD_COUNT);
+    callbackOrder = new ArrayList<>(LOAD_COUNT);
+    callbackLatch = new CountDownLatch(LOAD_COUNT);
+    duplicateCallbackCount.set(0);
+
+    ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    long allocatedBytesBefore = getAllocatedBytes(threadMXBean);
+    long startNanos = System.nanoTime();
+    for (int loadIndex = 0; loadIndex < LOAD_COUNT; loadIndex++) {
+      customEvent.loadInterstitialAd(adConfiguration, new CountingLoadCallback(loadIndex));
+    }
+    long loadNanos = System.nanoTime() - startNanos;
+    long allocatedBytes = getAllocatedBytes(threadMXBean) - allocatedBytesBefore;
+
+    assertThat(callbackLatch.await(30, TimeUnit.SECONDS)).isTrue();
+    long callbackNanos = System.nanoTime() - startNanos;
+    return new LoadMetrics(loadNanos, callbackNanos, allocatedBytes);
+  }
+
+  private void assertEveryLoadReportedOnce() {
+    assertThat(duplicateCallbackCount.get()).isEqualTo(0);
+    for (int loadIndex = 0; loadIndex < LOAD_COUNT; loadIndex++) {
+      assertThat(callbackCounts.get(loadIndex)).isEqualTo(1);
+    }
+  }
+
+  private static void assertAllocationsWithinBounds(LoadMetrics loadMetrics) {
+    if (loadMetrics.allocatedBytes >= 0) {
+      assertThat(loadMetrics.allocatedBytes / LOAD_COUNT).isAtMost(MAX_ALLOCATED_BYTES_PER_LOAD);
+    }
+  }
+
+  /**
+   * Returns the number of bytes allocated by the current thread so far, or -1 if the JVM doesn't
+   * report it.
+   */
+  private static long getAllocatedBytes(ThreadMXBean threadMXBean) {
+    if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+      return ((com.sun.management.ThreadMXBean) threadMXBean)
+          .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    return -1;
+  }
+
+  private void onCallback(int loadIndex, boolean succeeded) {
+    if (callbackCounts.incrementAndGet(loadIndex) > 1) {
+      duplicateCallbackCount.incrementAndGet();
+      return;
+    }
+    succeededLoads.set(loadIndex, succeeded ? 1 : 0);
+    synchronized (callbackOrder) {
+      callbackOrder.add(loadIndex);
+    }
+    callbackLatch.countDown();
+  }
+
+  /** How long and how much memory a run of {@link #loadInterstitialAds()} took. */
+  private static final class LoadMetrics {
+
+    /** Time spent in the load calls. */
+    final long loadNanos;
+
+    /** Time until every load was reported. */
+    final long callbackNanos;
+
+    /** Bytes allocated by the load calls, or a negative value if the JVM doesn't report it. */
+    final long allocatedBytes;
+
+    LoadMetrics(long loadNanos, long callbackNanos, long allocatedBytes) {
+      this.loadNanos = loadNanos;
+      this.callbackNanos = callbackNanos;
+      this.allocatedBytes = allocatedBytes;
+    }
+  }
+
+  /** Counts the callbacks of one interstitial ad load. */
+  private final class CountingLoadCallback
+      implements MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback> {
+
+    private final int loadIndex;
+
+    CountingLoadCallback(int loadIndex) {
+      this.loadIndex = loadIndex;
+    }
+
+    @Override
+    public MediationInterstitialAdCallback onSuccess(MediationInterstitialAd interstitialAd) {
+      onCallback(loadIndex, /* succeeded= */ true);
+      return interstitialAdCallback;
+    }
+
+    @Override
+    public void onFailure(AdError adError) {
+      onCallback(loadIndex, /* succeeded= */ false);
+    }
+
+    // Deprecated in the Google Mobile Ads SDK, but still part of the interface.
+    public void onFailure(String error) {
+      onCallback(loadIndex, /* succeeded= */ false);
+    }
+  }
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright (C) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.ads.mediation.sample.sdk;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A local stand-in for the ad server of the sample ad network. It decides the outcome of every ad
+ * request of the Sample SDK: whether the request fills or fails with which error, how long the
+ * response takes, and on which thread the response is delivered.
+ *
+ * <p>By default, every ad format responds instantly on the calling thread, with outcomes picked at
+ * random using its own fill rate. Set a {@link Configuration} with {@link #setConfiguration} to
+ * make the outcomes reproducible with a seed, change the fill rate or the mix of errors, add
+ * latency or deliver the responses on another thread, for example to load test an adapter without
+ * any network.
+ *
+ * <p>Banners and native ads create views when their response is delivered, so deliver their
+ * responses on the main thread.
+ */
+public final class SampleAdServer {
+
+  /** Receives the response to an ad request. */
+  interface ResponseListener {
+
+    /**
+     * Called when the ad server responds to an ad request.
+     *
+     * @param errorCode {@code null} if the request filled, or the error it failed with.
+     */
+    void onResponse(@Nullable SampleErrorCode errorCode);
+  }
+
+  /** Draws how long the ad server takes to respond to an ad request. */
+  public interface LatencyDistribution {
+
+    /**
+     * Returns the latency of the next response, in milliseconds.
+     *
+     * @param random The random number generator of the ad server, seeded if the configuration is.
+     */
+    long nextLatencyMillis(@NonNull Random random);
+  }
+
+  private static final SampleAdServer instance = new SampleAdServer();
+
+  /** The configuration set by the publisher, or {@code null} to use each format's default. */
+  @Nullable private volatile Configuration configuration;
+
+  /** Draws the outcomes and latencies of the responses. Guarded by {@code this}. */
+  private Random random = new Random();
+
+  /** Delays the responses with a latency. Created the first time a response is delayed. */
+  @Nullable private ScheduledExecutorService timer;
+
+  private SampleAdServer() {}
+
+  /** Returns the ad server that the Sample SDK sends its ad requests to. */
+  @NonNull
+  public static SampleAdServer getInstance() {
+    return instance;
+  }
+
+  /**
+   * Sets how the ad server responds to the ad requests of every ad format, and resets its random
+   * number generator.
+   *
+   * @param configuration The configuration, or {@code null} to restore the default behavior of
+   *     every ad format.
+   */
+  public synchronized void setConfiguration(@Nullable Configuration configuration) {
+    this.configuration = configuration;
+    random =
+        configuration != null && configuration.seed != null
+            ? new Random(configuration.seed)
+            : new Random();
+  }
+
+  /**
+   * Sends an ad request and reports its response to {@code listener}.
+   *
+   * @param defaultConfiguration How the ad format responds if no configuration was set.
+   */
+  void requestAd(
+      @NonNull Configuration defaultConfiguration, @NonNull ResponseListener listener) {
+    Configuration currentConfiguration = configuration;
+    if (currentConfiguration == null) {
+      currentConfiguration = defaultConfiguration;
+    }
+
+    SampleErrorCode errorCode;
+    long latencyMillis;
+    synchronized (this) {
+      errorCode = currentConfiguration.nextOutcome(random);
+      latencyMillis =
+          currentConfiguration.latencyDistribution != null
+              ? currentConfiguration.latencyDistribution.nextLatencyMillis(random)
+              : 0;
+    }
+
+    Executor callbackExecutor = currentConfiguration.callbackExecutor;
+    Runnable response = () -> deliver(callbackExecutor, () -> listener.onResponse(errorCode));
+    if (latencyMillis > 0) {
+      getTimer().schedule(response, latencyMillis, TimeUnit.MILLISECONDS);
+    } else {
+      response.run();
+    }
+  }
+
+  /** Returns a random number between 0 (inclusive) and {@code bound} (exclusive). */
+  synchronized int nextInt(int bound) {
+    return random.nextInt(bound);
+  }
+
+  private synchronized ScheduledExecutorService getTimer() {
+    if (timer == null) {
+      ScheduledThreadPoolExecutor executor =
+          new ScheduledThreadPoolExecutor(
+              1,
+              runnable -> {
+                Thread thread = new Thread(runnable, "SampleAdServer");
+                thread.setDaemon(true);
+                return thread;
+              });
+      executor.setRemoveOnCancelPolicy(true);
+      timer = executor;
+    }
+    return timer;
+  }
+
+  private static void deliver(@Nullable Executor callbackExecutor, @NonNull Runnable callback) {
+    if (callbackExecutor != null) {
+      callbackExecutor.execute(callback);
+    } else {
+      callback.run();
+    }
+  }
+
+  /** Returns a latency distribution that always draws {@code latencyMillis}. */
+  @NonNull
+  public static LatencyDistribution fixedLatency(long latencyMillis) {
+    return random -> latencyMillis;
+  }
+
+  /**
+   * Returns a latency distribution that draws latencies uniformly between {@code minMillis} and
+   * {@code maxMillis}, inclusive.
+   */
+  @NonNull
+  public static LatencyDistribution uniformLatency(long minMillis, long maxMillis) {
+    if (minMillis < 0 || maxMillis < minMillis) {
+      throw new IllegalArgumentException("Invalid latency range.");
+    }
+    return random -> minMillis + (long) (random.nextDouble() * (maxMillis - minMillis + 1));
+  }
+
+  /**
+   * Returns a latency distribution with a long tail, like the latencies of real ad servers: at
+   * least {@code minMillis}, plus an exponentially distributed delay with a mean of {@code
+   * meanExtraMillis}.
+   */
+  @NonNull
+  public static LatencyDistribution exponentialLatency(long minMillis, long meanExtraMillis) {
+    if (minMillis < 0 || meanExtraMillis < 0) {
+      throw new IllegalArgumentException("Invalid latency.");
+    }
+    return random -> minMillis + (long) (-meanExtraMillis * Math.log(1 - random.nextDouble()));
+  }
+
+  /** How the ad server responds to ad requests. Create one with a {@link Builder}. */
+  public static final class Configuration {
+
+    private final int fillPercentage;
+    private final Map<SampleErrorCode, Integer> errorWeights;
+    private final int totalErrorWeight;
+    @Nullable private final LatencyDistribution latencyDistribution;
+    @Nullable private final Executor callbackExecutor;
+    @Nullable private final Long seed;
+
+    private Configuration(@NonNull Builder builder) {
+      fillPercentage = builder.fillPercentage;
+      errorWeights = new EnumMap<>(builder.errorWeights);
+      int weight = 0;
+      for (int errorWeight : errorWeights.values()) {
+        weight += errorWeight;
+      }
+      totalErrorWeight = weight;
+      latencyDistribution = builder.latencyDistribution;
+      callbackExecutor = builder.callbackExecutor;
+      seed = builder.seed;
+    }
+
+    /** Returns {@code null} if the next request fills, or the error it fails with. */
+    @Nullable
+    private SampleErrorCode nextOutcome(@NonNull Random random) {
+      if (random.nextInt(100) < fillPercentage) {
+        return null;
+      }
+      if (totalErrorWeight == 0) {
+        return SampleErrorCode.NO_INVENTORY;
+      }
+      int remainingWeight = random.nextInt(totalErrorWeight);
+      for (Map.Entry<SampleErrorCode, Integer> errorWeight : errorWeights.entrySet()) {
+        remainingWeight -= errorWeight.getValue();
+        if (remainingWeight < 0) {
+          return errorWeight.getKey();
+        }
+      }
+      return SampleErrorCode.NO_INVENTORY;
+    }
+
+    /** Builds a {@link Configuration}. */
+    public static final class Builder {
+
+      private int fillPercentage = 100;
+      private final Map<SampleErrorCode, Integer> errorWeights =
+          new EnumMap<>(SampleErrorCode.class);
+      @Nullable private LatencyDistribution latencyDistribution;
+      @Nullable private Executor callbackExecutor;
+      @Nullable private Long seed;
+
+      /**
+       * Sets the percentage of ad requests that fill. Defaults to 100.
+       *
+       * @param fillPercentage A percentage between 0 and 100.
+       */
+      @NonNull
+      public Builder setFillPercentage(int fillPercentage) {
+        if (fillPercentage < 0 || fillPercentage > 100) {
+          throw new IllegalArgumentException("Invalid fill percentage: " + fillPercentage);
+        }
+        this.fillPercentage = fillPercentage;
+        return this;
+      }
+
+      /**
+       * Sets how often the ad requests that don't fill fail with {@code errorCode}, relative to
+       * the other errors. Requests that don't fill fail with {@link SampleErrorCode#NO_INVENTORY}
+       * if no error weight is set.
+       */
+      @NonNull
+      public Builder setErrorWeight(@NonNull SampleErrorCode errorCode, int weight) {
+        if (weight < 0) {
+          throw new IllegalArgumentException("Invalid error weight: " + weight);
+        }
+        errorWeights.put(errorCode, weight);
+        return this;
+      }
+
+      /** Sets the latency of the responses. Responses are instant by default. */
+      @NonNull
+      public Builder setLatencyDistribution(@Nullable LatencyDistribution latencyDistribution) {
+        this.latencyDistribution = latencyDistribution;
+        return this;
+      }
+
+      /**
+       * Sets the executor that delivers the responses. By default, instant responses are delivered
+       * on the thread that requested the ad, and delayed responses on a thread of the ad server.
+       */
+      @NonNull
+      public Builder setCallbackExecutor(@Nullable Executor callbackExecutor) {
+        this.callbackExecutor = callbackExecutor;
+        return this;
+      }
+
+      /**
+       * Seeds the random number generator of the ad server, so that the same sequence of ad
+       * requests gets the same outcomes and latencies.
+       */
+      @NonNull
+      public Builder setSeed(long seed) {
+        this.seed = seed;
+        return this;
+      }
+
+      @NonNull
+      public Configuration build() {
+        return new Configuration(this);
+      }
+    }
+  }
+}
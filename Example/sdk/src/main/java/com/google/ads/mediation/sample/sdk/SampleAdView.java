@@ -22,7 +22,6 @@ import android.content.Intent;
 import android.net.Uri;
 import android.view.View;
 import androidx.appcompat.widget.AppCompatTextView;
-import java.util.Random;
 
 /**
  * An ad view for the sample ad network. This is an example of an ad view that most ad network SDKs
@@ -31,6 +30,15 @@ import java.util.Random;
 @SuppressLint("SetTextI18n")
 public class SampleAdView extends AppCompatTextView {
 
+  /** How the ad server responds to banner requests, unless configured otherwise. */
+  private static final SampleAdServer.Configuration DEFAULT_CONFIGURATION =
+      new SampleAdServer.Configuration.Builder()
+          .setFillPercentage(85)
+          .setErrorWeight(SampleErrorCode.UNKNOWN, 5)
+          .setErrorWeight(SampleErrorCode.NETWORK_ERROR, 5)
+          .setErrorWeight(SampleErrorCode.NO_INVENTORY, 5)
+          .build();
+
   private SampleAdSize adSize;
   private String adUnit;
   private SampleAdListener listener;
@@ -72,8 +80,8 @@ public class SampleAdView extends AppCompatTextView {
   }
 
   /**
-   * Fetch an ad. Instead of doing an actual ad fetch, we will randomly decide to succeed, or fail
-   * with different error codes.
+   * Fetch an ad. Instead of doing an actual ad fetch, the {@link SampleAdServer} decides whether to
+   * succeed, or fail with different error codes.
    *
    * @param request The ad request with targeting information.
    */
@@ -85,33 +93,35 @@ public class SampleAdView extends AppCompatTextView {
     // If the publisher didn't set a size or ad unit, return a bad request.
     if (adSize == null || adUnit == null) {
       listener.onAdFetchFailed(SampleErrorCode.BAD_REQUEST);
+      return;
     }
 
-    // Randomly decide whether to succeed or fail.
-    Random random = new Random();
-    int nextInt = random.nextInt(100);
-    if (listener != null) {
-      if (nextInt < 85) {
-        this.setText("Sample Text Ad");
-        this.setOnClickListener(new OnClickListener() {
-          @Override
-          public void onClick(View view) {
-            // Notify the developer that a full screen view will be presented.
-            listener.onAdFullScreen();
-            Intent intent =
-                new Intent(Intent.ACTION_VIEW, Uri.parse("http://www.google.com"));
-            SampleAdView.this.getContext().startActivity(intent);
-          }
-        });
-        listener.onAdFetchSucceeded();
-      } else if (nextInt < 90) {
-        listener.onAdFetchFailed(SampleErrorCode.UNKNOWN);
-      } else if (nextInt < 95) {
-        listener.onAdFetchFailed(SampleErrorCode.NETWORK_ERROR);
-      } else if (nextInt < 100) {
-        listener.onAdFetchFailed(SampleErrorCode.NO_INVENTORY);
-      }
+    SampleAdServer.getInstance().requestAd(DEFAULT_CONFIGURATION, this::onAdResponse);
+  }
+
+  private void onAdResponse(SampleErrorCode errorCode) {
+    // The banner may have been destroyed while the ad was being fetched.
+    if (listener == null) {
+      return;
+    }
+
+    if (errorCode != null) {
+      listener.onAdFetchFailed(errorCode);
+      return;
     }
+
+    this.setText("Sample Text Ad");
+    this.setOnClickListener(new OnClickListener() {
+      @Override
+      public void onClick(View view) {
+        // Notify the developer that a full screen view will be presented.
+        listener.onAdFullScreen();
+        Intent intent =
+            new Intent(Intent.ACTION_VIEW, Uri.parse("http://www.google.com"));
+        SampleAdView.this.getContext().startActivity(intent);
+      }
+    });
+    listener.onAdFetchSucceeded();
   }
 
   /**
@@ -21,13 +21,22 @@ import android.content.Context;
 import android.content.DialogInterface;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
-import java.util.Random;
 
 /**
  * A sample app open ad. This is an example of an app open class that most ad networks SDKs have.
  */
 public class SampleAppOpen {
 
+  /** How the ad server responds to app open requests, unless configured otherwise. */
+  private static final SampleAdServer.Configuration DEFAULT_CONFIGURATION =
+      new SampleAdServer.Configuration.Builder()
+          .setFillPercentage(80)
+          .setErrorWeight(SampleErrorCode.UNKNOWN, 5)
+          .setErrorWeight(SampleErrorCode.BAD_REQUEST, 5)
+          .setErrorWeight(SampleErrorCode.NETWORK_ERROR, 5)
+          .setErrorWeight(SampleErrorCode.NO_INVENTORY, 5)
+          .build();
+
   private final Context context;
   private String adUnit;
   private SampleAdListener listener;
@@ -60,8 +69,8 @@ public class SampleAppOpen {
   }
 
   /**
-   * Fetch an ad. Instead of doing an actual ad fetch, we will randomly decide to succeed, or fail
-   * with different error codes.
+   * Fetch an ad. Instead of doing an actual ad fetch, the {@link SampleAdServer} decides whether to
+   * succeed, or fail with different error codes.
    *
    * @param request The ad request with targeting information.
    */
@@ -73,23 +82,24 @@ public class SampleAppOpen {
     // If the publisher didn't set an ad unit, return a bad request.
     if (adUnit == null) {
       listener.onAdFetchFailed(SampleErrorCode.BAD_REQUEST);
+      return;
     }
 
-    Random random = new Random();
-    int nextInt = random.nextInt(100);
-    if (listener != null) {
-      if (nextInt < 80) {
-        listener.onAdFetchSucceeded();
-      } else if (nextInt < 85) {
-        listener.onAdFetchFailed(SampleErrorCode.UNKNOWN);
-      } else if (nextInt < 90) {
-        listener.onAdFetchFailed(SampleErrorCode.BAD_REQUEST);
-      } else if (nextInt < 95) {
-        listener.onAdFetchFailed(SampleErrorCode.NETWORK_ERROR);
-      } else {
-        listener.onAdFetchFailed(SampleErrorCode.NO_INVENTORY);
-      }
-    }
+    SampleAdServer.getInstance()
+        .requestAd(
+            DEFAULT_CONFIGURATION,
+            errorCode -> {
+              // The app open ad may have been destroyed while the ad was being fetched.
+              SampleAdListener listener = this.listener;
+              if (listener == null) {
+                return;
+              }
+              if (errorCode == null) {
+                listener.onAdFetchSucceeded();
+              } else {
+                listener.onAdFetchFailed(errorCode);
+              }
+            });
   }
 
   /**
@@ -24,7 +24,6 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.ImageView;
 import androidx.core.content.res.ResourcesCompat;
-import java.util.Random;
 
 /**
  * An example AdLoader that pretends to load native ads. It has methods that will be used by the
@@ -32,6 +31,16 @@ import java.util.Random;
  */
 public class SampleNativeAdLoader {
 
+  /** How the ad server responds to native ad requests, unless configured otherwise. */
+  private static final SampleAdServer.Configuration DEFAULT_CONFIGURATION =
+      new SampleAdServer.Configuration.Builder()
+          .setFillPercentage(92)
+          .setErrorWeight(SampleErrorCode.UNKNOWN, 2)
+          .setErrorWeight(SampleErrorCode.BAD_REQUEST, 2)
+          .setErrorWeight(SampleErrorCode.NETWORK_ERROR, 2)
+          .setErrorWeight(SampleErrorCode.NO_INVENTORY, 2)
+          .build();
+
   private final Context context;
   private String adUnit;
   private SampleNativeAdListener listener;
@@ -64,8 +73,8 @@ public class SampleNativeAdLoader {
   }
 
   /**
-   * Fetch an ad. Instead of doing an actual ad fetch, we will randomly decide to succeed, or fail
-   * with different error codes.
+   * Fetch an ad. Instead of doing an actual ad fetch, the {@link SampleAdServer} decides whether to
+   * succeed, or fail with different error codes.
    *
    * @param request The ad request with targeting information.
    */
@@ -76,27 +85,22 @@ public class SampleNativeAdLoader {
       return;
     }
 
-    Random random = new Random();
-    int nextInt = random.nextInt(100);
-    if (listener != null) {
-      if (nextInt < 92) {
-        // Act as if the request was successful and create a sample native ad
-        // of the request type filled with dummy data.
-        if (random.nextBoolean()) {
-          listener.onNativeAdFetched(createSampleAppInstallAd(request));
-        } else {
-          listener.onNativeAdFetched(createSampleContentAd(request));
-        }
-      } else if (nextInt < 94) {
-        listener.onAdFetchFailed(SampleErrorCode.UNKNOWN);
-      } else if (nextInt < 96) {
-        listener.onAdFetchFailed(SampleErrorCode.BAD_REQUEST);
-      } else if (nextInt < 98) {
-        listener.onAdFetchFailed(SampleErrorCode.NETWORK_ERROR);
-      } else {
-        listener.onAdFetchFailed(SampleErrorCode.NO_INVENTORY);
-      }
-    }
+    SampleAdServer.getInstance()
+        .requestAd(
+            DEFAULT_CONFIGURATION,
+            errorCode -> {
+              if (errorCode != null) {
+                listener.onAdFetchFailed(errorCode);
+                return;
+              }
+              // Act as if the request was successful and create a sample native ad
+              // of the request type filled with dummy data.
+              if (SampleAdServer.getInstance().nextInt(2) == 0) {
+                listener.onNativeAdFetched(createSampleAppInstallAd(request));
+              } else {
+                listener.onNativeAdFetched(createSampleContentAd(request));
+              }
+            });
   }
 
   private SampleNativeAd createSampleAppInstallAd(SampleNativeAdRequest request) {
@@ -113,7 +117,7 @@ public class SampleNativeAdLoader {
     nativeAd.setIconUri(Uri.parse("http://www.example.com/"));
 
     // We pretend 80% of network's inventory has video assets and 20% doesn't.
-    if ((new Random()).nextInt(100) < 80) {
+    if (SampleAdServer.getInstance().nextInt(100) < 80) {
       nativeAd.setMediaView(new SampleMediaView(context));
     } else {
       nativeAd.setMediaView(null);
@@ -143,7 +147,7 @@ public class SampleNativeAdLoader {
     nativeAd.setDegreeOfAwesomeness("Fairly Awesome");
 
     // We pretend 80% of network's inventory has video assets and 20% doesn't.
-    if ((new Random()).nextInt(100) < 80) {
+    if (SampleAdServer.getInstance().nextInt(100) < 80) {
       nativeAd.setMediaView(new SampleMediaView(context));
     } else {
       nativeAd.setMediaView(null);
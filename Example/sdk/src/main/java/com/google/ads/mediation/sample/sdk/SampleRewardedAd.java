@@ -24,13 +24,22 @@ import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.google.ads.mediation.sample.sdk.activities.SampleSDKAdsActivity;
-import java.util.Random;
 
 /**
  * The {@link SampleRewardedAd} class is used to load and show rewarded ad for the Sample SDK.
  */
 public class SampleRewardedAd implements Parcelable {
 
+  /** How the ad server responds to rewarded requests, unless configured otherwise. */
+  private static final SampleAdServer.Configuration DEFAULT_CONFIGURATION =
+      new SampleAdServer.Configuration.Builder()
+          .setFillPercentage(80)
+          .setErrorWeight(SampleErrorCode.UNKNOWN, 5)
+          .setErrorWeight(SampleErrorCode.BAD_REQUEST, 5)
+          .setErrorWeight(SampleErrorCode.NETWORK_ERROR, 5)
+          .setErrorWeight(SampleErrorCode.NO_INVENTORY, 5)
+          .build();
+
   /**
    * A {@link Creator}, needed for an object to be parcelable.
    */
@@ -55,7 +64,7 @@ public class SampleRewardedAd implements Parcelable {
   /**
    * A flag that indicates whether a rewarded ad is ready to show.
    */
-  private boolean isAdAvailable;
+  private volatile boolean isAdAvailable;
 
   /**
    * A listener to forward any rewarded ad events.
@@ -117,25 +126,17 @@ public class SampleRewardedAd implements Parcelable {
    * Loads a rewarded ad.
    */
   public void loadAd(SampleAdRequest request) {
-    Random random = new Random();
-    int nextInt = random.nextInt(100);
-    SampleErrorCode errorCode = null;
-    if (nextInt < 80) {
+    SampleAdServer.getInstance().requestAd(DEFAULT_CONFIGURATION, this::onAdResponse);
+  }
+
+  private void onAdResponse(@Nullable SampleErrorCode errorCode) {
+    if (errorCode == null) {
       reward = 5;
       isAdAvailable = true;
       if (listener != null) {
         listener.onRewardedAdLoaded();
       }
-    } else if (nextInt < 85) {
-      errorCode = SampleErrorCode.UNKNOWN;
-    } else if (nextInt < 90) {
-      errorCode = SampleErrorCode.BAD_REQUEST;
-    } else if (nextInt < 95) {
-      errorCode = SampleErrorCode.NETWORK_ERROR;
-    } else {
-      errorCode = SampleErrorCode.NO_INVENTORY;
-    }
-    if (errorCode != null && listener != null && !isAdAvailable) {
+    } else if (listener != null && !isAdAvailable) {
       listener.onRewardedAdFailedToLoad(errorCode);
     }
   }
@@ -0,0 +1,103 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.adaptertestkit
+
+import android.content.Context
+import com.google.android.gms.ads.mediation.MediationConfiguration
+import com.google.android.gms.ads.mediation.MediationInterstitialAd
+import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback
+import com.google.android.gms.ads.mediation.MediationInterstitialAdConfiguration
+import com.google.android.gms.ads.mediation.MediationRewardedAd
+import com.google.android.gms.ads.mediation.MediationRewardedAdCallback
+import com.google.android.gms.ads.mediation.MediationRewardedAdConfiguration
+import com.google.android.gms.ads.mediation.rtb.RtbAdapter
+import com.google.android.gms.ads.mediation.rtb.RtbSignalData
+
+/** Names of the calls made by [RtbAdapter.runConcurrencyStress], as used in its report. */
+object ConcurrencyStressCallNames {
+  const val INITIALIZE = "initialize"
+  const val COLLECT_SIGNALS = "collectSignals"
+  const val LOAD_RTB_INTERSTITIAL_AD = "loadRtbInterstitialAd"
+  const val LOAD_RTB_REWARDED_AD = "loadRtbRewardedAd"
+}
+
+/**
+ * Extension function of [RtbAdapter] that calls [RtbAdapter.initialize],
+ * [RtbAdapter.collectSignals], [RtbAdapter.loadRtbInterstitialAd] and
+ * [RtbAdapter.loadRtbRewardedAd] [callCount] times each, concurrently from many threads, and
+ * returns how their callbacks were invoked.
+ *
+ * Only the calls whose parameters are given are made. The third-party SDK must be replaced by fakes
+ * that invoke its listeners, e.g. from a background thread to mimic a real SDK. Call
+ * [ConcurrencyStressReport.assertExactlyOnceCallbacks] on the result to check that no callback was
+ * lost or duplicated.
+ *
+ * @param runner the runner making the calls, to customize the number of threads or timeouts.
+ */
+fun RtbAdapter.runConcurrencyStress(
+  context: Context,
+  mediationConfigurations: List<MediationConfiguration>? = null,
+  rtbSignalData: RtbSignalData? = null,
+  interstitialAdConfiguration: MediationInterstitialAdConfiguration? = null,
+  rewardedAdConfiguration: MediationRewardedAdConfiguration? = null,
+  callCount: Int = DEFAULT_STRESS_CALL_COUNT,
+  runner: ConcurrencyStressRunner = ConcurrencyStressRunner(),
+): ConcurrencyStressReport {
+  val calls = mutableListOf<StressCall>()
+  if (mediationConfigurations != null) {
+    calls.add(
+      StressCall(ConcurrencyStressCallNames.INITIALIZE, callCount) { tracker ->
+        initialize(context, tracker.initializationCompleteCallback(), mediationConfigurations)
+      }
+    )
+  }
+  if (rtbSignalData != null) {
+    calls.add(
+      StressCall(ConcurrencyStressCallNames.COLLECT_SIGNALS, callCount) { tracker ->
+        collectSignals(rtbSignalData, tracker.signalCallbacks())
+      }
+    )
+  }
+  if (interstitialAdConfiguration != null) {
+    calls.add(
+      StressCall(ConcurrencyStressCallNames.LOAD_RTB_INTERSTITIAL_AD, callCount) { tracker ->
+        loadRtbInterstitialAd(
+          interstitialAdConfiguration,
+          tracker.adLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>(
+            FakeMediationInterstitialAdCallback()
+          ),
+        )
+      }
+    )
+  }
+  if (rewardedAdConfiguration != null) {
+    calls.add(
+      StressCall(ConcurrencyStressCallNames.LOAD_RTB_REWARDED_AD, callCount) { tracker ->
+        loadRtbRewardedAd(
+          rewardedAdConfiguration,
+          tracker.adLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>(
+            FakeMediationRewardedAdCallback()
+          ),
+        )
+      }
+    )
+  }
+  require(calls.isNotEmpty()) { "No call parameters were given." }
+
+  return runner.run(calls)
+}
+
+/** Default number of calls of each kind made by [RtbAdapter.runConcurrencyStress]. */
+const val DEFAULT_STRESS_CALL_COUNT = 200
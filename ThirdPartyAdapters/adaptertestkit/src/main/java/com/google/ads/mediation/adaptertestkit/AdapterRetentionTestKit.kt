@@ -0,0 +1,139 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.adaptertestkit
+
+import android.graphics.drawable.BitmapDrawable
+import android.view.View
+import android.view.ViewGroup
+import android.widget.ImageView
+import java.lang.ref.WeakReference
+
+/**
+ * Watches objects through weak references, to check that an adapter doesn't keep them reachable
+ * once its ads are destroyed.
+ *
+ * Watched objects must only be referenced by the code under test: Mockito mocks keep the arguments
+ * of every call made to them, so pass watched objects to fakes or to mocks that are dropped along
+ * with the ad.
+ */
+class RetentionProbe {
+
+  private class WatchedReference(referent: Any, val description: String) :
+    WeakReference<Any>(referent)
+
+  private val watchedReferences = mutableListOf<WatchedReference>()
+
+  /** Number of objects watched so far. */
+  val watchedCount: Int
+    @Synchronized get() = watchedReferences.size
+
+  /**
+   * Watches [referent], which is expected to become unreachable.
+   *
+   * @param description describes [referent] in the failure message if it is retained.
+   */
+  @Synchronized
+  fun watch(referent: Any, description: String = referent.javaClass.name) {
+    watchedReferences.add(WatchedReference(referent, description))
+  }
+
+  /**
+   * Watches [view], its context and, if it is a [ViewGroup], every view in its hierarchy along with
+   * the bitmaps shown by its image views.
+   */
+  fun watchViewHierarchy(view: View, description: String = view.javaClass.name) {
+    watch(view, description)
+    view.context?.let { watch(it, "Context of $description") }
+    if (view is ImageView) {
+      val drawable = view.drawable
+      if (drawable is BitmapDrawable && drawable.bitmap != null) {
+        watch(drawable.bitmap, "Bitmap of $description")
+      }
+    }
+    if (view is ViewGroup) {
+      for (index in 0 until view.childCount) {
+        val child = view.getChildAt(index)
+        watchViewHierarchy(child, "$description > ${child.javaClass.name}")
+      }
+    }
+  }
+
+  /**
+   * Triggers garbage collections until every watched object is collected or [timeoutMillis]
+   * elapses, and returns the descriptions of the objects that are still reachable.
+   */
+  fun getRetainedDescriptions(timeoutMillis: Long = DEFAULT_GC_TIMEOUT_MILLIS): List<String> {
+    val deadlineMillis = System.currentTimeMillis() + timeoutMillis
+    while (true) {
+      val retainedDescriptions = synchronized(this) {
+        watchedReferences.filter { it.get() != null }.map { it.description }
+      }
+      if (retainedDescriptions.isEmpty() || System.currentTimeMillis() >= deadlineMillis) {
+        return retainedDescriptions
+      }
+      // A single request is only a hint to the VM, so keep requesting collections.
+      Runtime.getRuntime().gc()
+      Thread.sleep(GC_INTERVAL_MILLIS)
+    }
+  }
+
+  /**
+   * Asserts that every watched object can be garbage collected.
+   *
+   * @throws AssertionError listing the retained objects otherwise.
+   */
+  fun assertNoneRetained(timeoutMillis: Long = DEFAULT_GC_TIMEOUT_MILLIS) {
+    val retainedDescriptions = getRetainedDescriptions(timeoutMillis)
+    if (retainedDescriptions.isNotEmpty()) {
+      throw AssertionError(
+        "${retainedDescriptions.size} of $watchedCount watched objects were retained:\n" +
+          retainedDescriptions.groupingBy { it }.eachCount().entries.joinToString("\n") {
+            "  ${it.value} x ${it.key}"
+          }
+      )
+    }
+  }
+
+  companion object {
+    const val DEFAULT_GC_TIMEOUT_MILLIS = 5_000L
+    private const val GC_INTERVAL_MILLIS = 50L
+  }
+}
+
+/**
+ * Runs [cycle] [cycleCount] times, then asserts that none of the objects it watched is retained.
+ *
+ * Each cycle should load an ad, destroy it, and [RetentionProbe.watch] the objects that must not
+ * outlive the ad, e.g. the `Activity` it was loaded with, its views and their bitmaps. Keep these
+ * objects in local variables of the cycle, so that only the code under test can retain them.
+ *
+ * @param idle called after every cycle. Tests of adapters that post work to the main thread should
+ *   idle the main looper here, so that the posted work doesn't retain the watched objects.
+ */
+fun assertNoRetentionAfterLoadDestroyCycles(
+  cycleCount: Int = DEFAULT_RETENTION_CYCLE_COUNT,
+  idle: () -> Unit = {},
+  cycle: (cycleIndex: Int, probe: RetentionProbe) -> Unit,
+) {
+  val probe = RetentionProbe()
+  for (cycleIndex in 0 until cycleCount) {
+    cycle(cycleIndex, probe)
+    idle()
+  }
+  probe.assertNoneRetained()
+}
+
+/** Default number of cycles run by [assertNoRetentionAfterLoadDestroyCycles]. */
+const val DEFAULT_RETENTION_CYCLE_COUNT = 20
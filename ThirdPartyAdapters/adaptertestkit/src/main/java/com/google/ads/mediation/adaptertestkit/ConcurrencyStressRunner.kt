@@ -0,0 +1,282 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.adaptertestkit
+
+import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.mediation.InitializationCompleteCallback
+import com.google.android.gms.ads.mediation.MediationAdLoadCallback
+import com.google.android.gms.ads.mediation.rtb.SignalCallbacks
+import java.util.Locale
+import java.util.Random
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.math.ceil
+
+/**
+ * A kind of call to fire concurrently with [ConcurrencyStressRunner].
+ *
+ * @param name the name of the call in the [ConcurrencyStressReport], e.g. "collectSignals".
+ * @param count how many times to make the call.
+ * @param call makes the call once, passing callbacks created by the given [StressCallTracker].
+ */
+class StressCall(val name: String, val count: Int, val call: (StressCallTracker) -> Unit)
+
+/**
+ * Tracks the callbacks of a single call made by [ConcurrencyStressRunner].
+ *
+ * Unlike the `Fake*Callback` classes, the callbacks created by a tracker can safely be invoked from
+ * any thread. Every callback invocation counts, whether it reports a success or a failure.
+ */
+class StressCallTracker internal constructor() {
+
+  private val callbackCount = AtomicInteger()
+
+  @Volatile private var startNanos = 0L
+
+  /** The exception thrown by the call, if any. */
+  @Volatile internal var exception: Exception? = null
+
+  internal val threwException: Boolean
+    get() = exception != null
+
+  /** Time from the start of the call to its first callback, or -1 if there is none yet. */
+  @Volatile
+  internal var latencyNanos = -1L
+    private set
+
+  internal val invokeCount: Int
+    get() = callbackCount.get()
+
+  internal fun start() {
+    startNanos = System.nanoTime()
+  }
+
+  /** Records a callback invocation. Only the first one counts toward the call latency. */
+  fun onCallback() {
+    val now = System.nanoTime()
+    if (callbackCount.incrementAndGet() == 1) {
+      latencyNanos = now - startNanos
+    }
+  }
+
+  /** Returns an [InitializationCompleteCallback] that reports to this tracker. */
+  fun initializationCompleteCallback(): InitializationCompleteCallback =
+    object : InitializationCompleteCallback {
+      override fun onInitializationSucceeded() = onCallback()
+
+      override fun onInitializationFailed(error: String) = onCallback()
+    }
+
+  /** Returns a [SignalCallbacks] that reports to this tracker. */
+  fun signalCallbacks(): SignalCallbacks =
+    object : SignalCallbacks {
+      override fun onSuccess(signals: String) = onCallback()
+
+      override fun onFailure(adError: AdError) = onCallback()
+    }
+
+  /**
+   * Returns a [MediationAdLoadCallback] that reports to this tracker.
+   *
+   * @param adCallback the callback to return from [MediationAdLoadCallback.onSuccess].
+   */
+  fun <MediationAdT : Any, MediationAdCallbackT : Any> adLoadCallback(
+    adCallback: MediationAdCallbackT
+  ): MediationAdLoadCallback<MediationAdT, MediationAdCallbackT> =
+    object : MediationAdLoadCallback<MediationAdT, MediationAdCallbackT> {
+      override fun onSuccess(ad: MediationAdT): MediationAdCallbackT {
+        onCallback()
+        return adCallback
+      }
+
+      override fun onFailure(adError: AdError) = onCallback()
+    }
+}
+
+/**
+ * Fires [StressCall]s concurrently from many threads and reports how their callbacks were invoked.
+ *
+ * The calls of every kind are shuffled together and released at once from a pool of
+ * [threadCount] threads, so that each call races with the others. The runner then waits for every
+ * call to get a callback and for a further [quietPeriodMillis], so that late duplicated callbacks
+ * are reported too.
+ *
+ * @param threadCount the number of threads making the calls.
+ * @param callbackTimeoutMillis how long to wait for every call to get a callback. Calls that don't
+ *   get one in time are reported as lost.
+ * @param quietPeriodMillis how long to keep counting callbacks after every call got one.
+ * @param seed the seed used to shuffle the calls, so that a failing order can be reproduced.
+ * @param idle called repeatedly from the test thread while waiting for callbacks. Tests of adapters
+ *   that post callbacks to the main thread should idle the main looper here.
+ */
+class ConcurrencyStressRunner(
+  private val threadCount: Int = DEFAULT_THREAD_COUNT,
+  private val callbackTimeoutMillis: Long = DEFAULT_CALLBACK_TIMEOUT_MILLIS,
+  private val quietPeriodMillis: Long = DEFAULT_QUIET_PERIOD_MILLIS,
+  private val seed: Long = DEFAULT_SEED,
+  private val idle: () -> Unit = {},
+) {
+
+  /** Makes every call of [calls] concurrently and returns how their callbacks were invoked. */
+  fun run(calls: List<StressCall>): ConcurrencyStressReport {
+    val trackedCalls =
+      calls.flatMap { stressCall -> List(stressCall.count) { stressCall to StressCallTracker() } }
+    val shuffledCalls = trackedCalls.shuffled(Random(seed))
+
+    val executor = Executors.newFixedThreadPool(threadCount)
+    val startGate = CountDownLatch(1)
+    try {
+      for ((stressCall, tracker) in shuffledCalls) {
+        executor.execute {
+          startGate.await()
+          tracker.start()
+          try {
+            stressCall.call(tracker)
+          } catch (exception: Exception) {
+            tracker.exception = exception
+          }
+        }
+      }
+      startGate.countDown()
+
+      val deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(callbackTimeoutMillis)
+      while (
+        System.nanoTime() < deadlineNanos &&
+          trackedCalls.any { (_, tracker) -> tracker.invokeCount == 0 && !tracker.threwException }
+      ) {
+        idle()
+        Thread.sleep(POLL_INTERVAL_MILLIS)
+      }
+      val quietPeriodEndNanos =
+        System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(quietPeriodMillis)
+      while (System.nanoTime() < quietPeriodEndNanos) {
+        idle()
+        Thread.sleep(POLL_INTERVAL_MILLIS)
+      }
+    } finally {
+      executor.shutdownNow()
+    }
+
+    return ConcurrencyStressReport(
+      calls.map { stressCall ->
+        ConcurrencyStressResult(
+          stressCall.name,
+          trackedCalls.filter { (call, _) -> call === stressCall }.map { (_, tracker) -> tracker },
+        )
+      }
+    )
+  }
+
+  companion object {
+    const val DEFAULT_THREAD_COUNT = 8
+    const val DEFAULT_CALLBACK_TIMEOUT_MILLIS = 10_000L
+    const val DEFAULT_QUIET_PERIOD_MILLIS = 100L
+    const val DEFAULT_SEED = 0L
+    private const val POLL_INTERVAL_MILLIS = 1L
+  }
+}
+
+/** How the callbacks of one kind of [StressCall] were invoked. */
+class ConcurrencyStressResult
+internal constructor(val name: String, trackers: List<StressCallTracker>) {
+
+  /** Number of calls made. */
+  val callCount: Int = trackers.size
+
+  /** Number of calls whose callbacks were never invoked, i.e. whose listener was lost. */
+  val lostCallbackCount: Int = trackers.count { it.invokeCount == 0 && !it.threwException }
+
+  /** Number of calls whose callbacks were invoked more than once. */
+  val duplicatedCallbackCount: Int = trackers.count { it.invokeCount > 1 }
+
+  /** Number of calls that threw an exception instead of invoking a callback. */
+  val exceptionCount: Int = trackers.count { it.threwException }
+
+  /** The exception thrown by the first of these calls that threw one, if any. */
+  val firstException: Exception? = trackers.firstNotNullOfOrNull { it.exception }
+
+  private val sortedLatenciesNanos: LongArray =
+    trackers.map { it.latencyNanos }.filter { it >= 0 }.toLongArray().apply { sort() }
+
+  /**
+   * Returns the [percentile]th percentile of the time from a call to its first callback, or 0 if no
+   * callback was invoked.
+   *
+   * @param percentile the percentile, between 0 and 100 (e.g. 99 for the p99 latency).
+   */
+  fun getLatencyPercentileMillis(percentile: Double): Double {
+    require(percentile in 0.0..100.0) { "Invalid percentile: $percentile" }
+    if (sortedLatenciesNanos.isEmpty()) {
+      return 0.0
+    }
+    val rank = ceil(percentile / 100 * sortedLatenciesNanos.size).toInt().coerceAtLeast(1)
+    return sortedLatenciesNanos[rank - 1] / NANOS_PER_MILLI
+  }
+
+  override fun toString(): String =
+    String.format(
+      Locale.US,
+      "%s: %d calls, %d lost, %d duplicated, %d threw, latency p50 %.3f ms, p99 %.3f ms, " +
+        "max %.3f ms",
+      name,
+      callCount,
+      lostCallbackCount,
+      duplicatedCallbackCount,
+      exceptionCount,
+      getLatencyPercentileMillis(50.0),
+      getLatencyPercentileMillis(99.0),
+      getLatencyPercentileMillis(100.0),
+    )
+
+  private companion object {
+    const val NANOS_PER_MILLI = 1_000_000.0
+  }
+}
+
+/** The [ConcurrencyStressResult] of every kind of call made by a [ConcurrencyStressRunner]. */
+class ConcurrencyStressReport internal constructor(val results: List<ConcurrencyStressResult>) {
+
+  /** Returns the result of the calls named [name]. */
+  fun getResult(name: String): ConcurrencyStressResult =
+    results.firstOrNull { it.name == name } ?: error("No call named $name was made.")
+
+  /**
+   * Asserts that every call invoked its callbacks exactly once, without throwing.
+   *
+   * @throws AssertionError listing the result of every kind of call otherwise. Its cause is the
+   *   first exception thrown by a call, and the first exception of every other kind of call that
+   *   threw is suppressed in it.
+   */
+  fun assertExactlyOnceCallbacks() {
+    if (
+      results.any {
+        it.lostCallbackCount > 0 || it.duplicatedCallbackCount > 0 || it.exceptionCount > 0
+      }
+    ) {
+      val exceptions = results.mapNotNull { it.firstException }
+      val assertionError =
+        AssertionError(
+          "Expected every callback to be invoked exactly once.\n$this",
+          exceptions.firstOrNull(),
+        )
+      exceptions.drop(1).forEach { assertionError.addSuppressed(it) }
+      throw assertionError
+    }
+  }
+
+  override fun toString(): String = results.joinToString(separator = "\n")
+}
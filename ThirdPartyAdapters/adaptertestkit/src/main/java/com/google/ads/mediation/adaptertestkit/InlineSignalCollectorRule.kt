@@ -0,0 +1,41 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.adaptertestkit
+
+import com.google.ads.mediation.common.SignalCollector
+import org.junit.rules.ExternalResource
+import org.mockito.kotlin.mock
+
+/**
+ * Makes the shared [SignalCollector] generate signals on the test thread, without a deadline, for
+ * the duration of each test. Adapter tests can then assert on the [FakeSignalCallbacks] right
+ * after calling `collectSignals`.
+ *
+ * Only adapters that depend on the common library can use this rule:
+ * ```
+ * @get:Rule val inlineSignalCollectorRule = InlineSignalCollectorRule()
+ * ```
+ */
+class InlineSignalCollectorRule : ExternalResource() {
+
+  override fun before() {
+    // The deadline is scheduled on a mock that never runs it.
+    SignalCollector.setInstanceForTesting(SignalCollector({ it.run() }, mock()))
+  }
+
+  override fun after() {
+    SignalCollector.setInstanceForTesting(null)
+  }
+}
@@ -0,0 +1,144 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.adaptertestkit
+
+import com.google.common.truth.Truth.assertThat
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+import org.junit.After
+import org.junit.Assert.assertThrows
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+
+@RunWith(JUnit4::class)
+class ConcurrencyStressRunnerTest {
+
+  private val sdkExecutor = Executors.newSingleThreadExecutor()
+
+  private val runner =
+    ConcurrencyStressRunner(threadCount = 4, callbackTimeoutMillis = 2_000, quietPeriodMillis = 20)
+
+  @After
+  fun tearDown() {
+    sdkExecutor.shutdownNow()
+  }
+
+  @Test
+  fun run_callbacksInvokedOnceFromAnotherThread_reportsEveryCallbackOnce() {
+    val report =
+      runner.run(
+        listOf(
+          StressCall(CALL_NAME, CALL_COUNT) { tracker ->
+            val signalCallbacks = tracker.signalCallbacks()
+            sdkExecutor.execute { signalCallbacks.onSuccess("signals") }
+          }
+        )
+      )
+
+    report.assertExactlyOnceCallbacks()
+    val result = report.getResult(CALL_NAME)
+    assertThat(result.callCount).isEqualTo(CALL_COUNT)
+    assertThat(result.lostCallbackCount).isEqualTo(0)
+    assertThat(result.duplicatedCallbackCount).isEqualTo(0)
+    assertThat(result.getLatencyPercentileMillis(99.0))
+      .isAtLeast(result.getLatencyPercentileMillis(50.0))
+  }
+
+  @Test
+  fun run_callbacksNeverInvoked_reportsLostCallbacks() {
+    val callIndex = AtomicInteger()
+    val report =
+      ConcurrencyStressRunner(callbackTimeoutMillis = 50, quietPeriodMillis = 0)
+        .run(
+          listOf(
+            StressCall(CALL_NAME, CALL_COUNT) { tracker ->
+              if (callIndex.getAndIncrement() % 2 == 0) {
+                tracker.initializationCompleteCallback().onInitializationSucceeded()
+              }
+            }
+          )
+        )
+
+    assertThat(report.getResult(CALL_NAME).lostCallbackCount).isEqualTo(CALL_COUNT / 2)
+    val error = assertThrows(AssertionError::class.java) { report.assertExactlyOnceCallbacks() }
+    assertThat(error).hasMessageThat().contains("${CALL_COUNT / 2} lost")
+  }
+
+  @Test
+  fun run_callbacksInvokedTwice_reportsDuplicatedCallbacks() {
+    val report =
+      runner.run(
+        listOf(
+          StressCall(CALL_NAME, CALL_COUNT) { tracker ->
+            val signalCallbacks = tracker.signalCallbacks()
+            signalCallbacks.onSuccess("signals")
+            sdkExecutor.execute { signalCallbacks.onSuccess("signals") }
+          }
+        )
+      )
+
+    assertThat(report.getResult(CALL_NAME).duplicatedCallbackCount).isEqualTo(CALL_COUNT)
+    assertThrows(AssertionError::class.java) { report.assertExactlyOnceCallbacks() }
+  }
+
+  @Test
+  fun run_callThrows_reportsExceptions() {
+    val report =
+      runner.run(listOf(StressCall(CALL_NAME, CALL_COUNT) { error("SDK crashed.") }))
+
+    val result = report.getResult(CALL_NAME)
+    assertThat(result.exceptionCount).isEqualTo(CALL_COUNT)
+    assertThat(result.lostCallbackCount).isEqualTo(0)
+    val assertionError =
+      assertThrows(AssertionError::class.java) { report.assertExactlyOnceCallbacks() }
+    assertThat(assertionError).hasCauseThat().isInstanceOf(IllegalStateException::class.java)
+    assertThat(assertionError).hasCauseThat().hasMessageThat().isEqualTo("SDK crashed.")
+  }
+
+  @Test
+  fun run_multipleCalls_reportsEachCallSeparately() {
+    val report =
+      runner.run(
+        listOf(
+          StressCall(CALL_NAME, CALL_COUNT) { tracker ->
+            tracker.initializationCompleteCallback().onInitializationSucceeded()
+          },
+          StressCall(OTHER_CALL_NAME, OTHER_CALL_COUNT) { tracker ->
+            tracker.signalCallbacks().onSuccess("signals")
+          },
+        )
+      )
+
+    assertThat(report.results.map { it.name }).containsExactly(CALL_NAME, OTHER_CALL_NAME).inOrder()
+    assertThat(report.getResult(OTHER_CALL_NAME).callCount).isEqualTo(OTHER_CALL_COUNT)
+    report.assertExactlyOnceCallbacks()
+  }
+
+  @Test
+  fun getLatencyPercentileMillis_invalidPercentile_throwsIllegalArgumentException() {
+    val result =
+      runner.run(listOf(StressCall(CALL_NAME, 1) { it.onCallback() })).getResult(CALL_NAME)
+
+    assertThrows(IllegalArgumentException::class.java) { result.getLatencyPercentileMillis(101.0) }
+  }
+
+  private companion object {
+    const val CALL_NAME = "collectSignals"
+    const val OTHER_CALL_NAME = "initialize"
+    const val CALL_COUNT = 100
+    const val OTHER_CALL_COUNT = 50
+  }
+}
@@ -0,0 +1,79 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.adaptertestkit
+
+import com.google.common.truth.Truth.assertThat
+import org.junit.Assert.assertThrows
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+
+@RunWith(JUnit4::class)
+class RetentionProbeTest {
+
+  private val probe = RetentionProbe()
+
+  @Test
+  fun getRetainedDescriptions_unreachableObjects_returnsEmptyList() {
+    watchUnreachableObject()
+    watchUnreachableObject()
+
+    assertThat(probe.getRetainedDescriptions()).isEmpty()
+    assertThat(probe.watchedCount).isEqualTo(2)
+  }
+
+  @Test
+  fun getRetainedDescriptions_reachableObject_returnsItsDescription() {
+    val retainedObject = Any()
+    probe.watch(retainedObject, "retained object")
+    watchUnreachableObject()
+
+    assertThat(probe.getRetainedDescriptions(TIMEOUT_MILLIS)).containsExactly("retained object")
+    // Keeps the object reachable until here.
+    assertThat(retainedObject).isNotNull()
+  }
+
+  @Test
+  fun assertNoRetentionAfterLoadDestroyCycles_nothingRetained_passes() {
+    assertNoRetentionAfterLoadDestroyCycles { _, probe -> probe.watch(Any(), "ad") }
+  }
+
+  @Test
+  fun assertNoRetentionAfterLoadDestroyCycles_objectsRetained_throwsAssertionError() {
+    val leakedObjects = mutableListOf<Any>()
+
+    val error =
+      assertThrows(AssertionError::class.java) {
+        assertNoRetentionAfterLoadDestroyCycles(cycleCount = 3) { cycleIndex, probe ->
+          val ad = Any()
+          if (cycleIndex > 0) {
+            leakedObjects.add(ad)
+          }
+          probe.watch(ad, "ad")
+        }
+      }
+
+    assertThat(error).hasMessageThat().contains("2 of 3 watched objects were retained")
+    assertThat(error).hasMessageThat().contains("2 x ad")
+  }
+
+  private fun watchUnreachableObject() {
+    probe.watch(Any())
+  }
+
+  private companion object {
+    const val TIMEOUT_MILLIS = 200L
+  }
+}
@@ -30,6 +30,8 @@ public class AppLovinExtras {
     public static final String KEY_WATERMARK = "google_watermark";
 
     public static final String MUTE_AUDIO = "mute_audio";
+
+    public static final String ENABLE_ZONE_INVENTORY = "enable_zone_inventory";
   }
 
   /**
@@ -39,6 +41,8 @@ public class AppLovinExtras {
 
     private boolean muteAudio;
 
+    private boolean zoneInventoryEnabled;
+
     /**
      * Use this to mute audio for video ads. Must be set on each ad request.
      */
@@ -47,12 +51,23 @@ public class AppLovinExtras {
       return this;
     }
 
+    /**
+     * Use this to serve waterfall interstitial and rewarded ads from a per-zone inventory of
+     * preloaded ads, which is refilled in the background each time an ad is served. Must be set on
+     * each ad request.
+     */
+    public Builder setZoneInventoryEnabled(boolean zoneInventoryEnabled) {
+      this.zoneInventoryEnabled = zoneInventoryEnabled;
+      return this;
+    }
+
     /**
      * Builds a {@link Bundle} object with the given inputs.
      */
     public Bundle build() {
-      final Bundle extras = new Bundle(1);
+      final Bundle extras = new Bundle(2);
       extras.putBoolean(Keys.MUTE_AUDIO, muteAudio);
+      extras.putBoolean(Keys.ENABLE_ZONE_INVENTORY, zoneInventoryEnabled);
 
       return extras;
     }
@@ -34,13 +34,22 @@ import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.RequestConfiguration;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /** A helper class used by {@link ApplovinAdapter}. */
 public class AppLovinUtils {
 
   private static final String DEFAULT_ZONE = "";
 
+  /**
+   * Banner sizes supported by AppLovin. Kept in a constant so that resolving the banner size of a
+   * refreshing banner doesn't allocate.
+   */
+  private static final List<AdSize> SUPPORTED_BANNER_SIZES =
+      Collections.unmodifiableList(Arrays.asList(AdSize.BANNER, AdSize.LEADERBOARD));
+
   @VisibleForTesting
   public static final String ERROR_MSG_REASON_PREFIX =
       "AppLovin SDK returned a load failure callback with reason: ";
@@ -96,6 +105,12 @@ public class AppLovinUtils {
     return networkExtras != null && networkExtras.getBoolean(AppLovinExtras.Keys.MUTE_AUDIO);
   }
 
+  /** Retrieves whether or not to serve the ad from the zone inventory. */
+  public static boolean isZoneInventoryEnabled(Bundle networkExtras) {
+    return networkExtras != null
+        && networkExtras.getBoolean(AppLovinExtras.Keys.ENABLE_ZONE_INVENTORY);
+  }
+
   /** Convert the given AppLovin SDK error code into a Google AdError. */
   public static AdError getAdError(int applovinErrorCode) {
     String reason = "AppLovin error code " + applovinErrorCode;
@@ -162,11 +177,7 @@ public class AppLovinUtils {
   @Nullable
   public static AppLovinAdSize appLovinAdSizeFromAdMobAdSize(
       @NonNull Context context, @NonNull AdSize adSize, MediationUtilsWrapper mediationUtils) {
-    ArrayList<AdSize> potentials = new ArrayList<>();
-    potentials.add(AdSize.BANNER);
-    potentials.add(AdSize.LEADERBOARD);
-
-    AdSize closestSize = mediationUtils.findClosestSize(context, adSize, potentials);
+    AdSize closestSize = mediationUtils.findClosestSize(context, adSize, SUPPORTED_BANNER_SIZES);
     if (AdSize.BANNER.equals(closestSize)) {
       return AppLovinAdSize.BANNER;
     } else if (AdSize.LEADERBOARD.equals(closestSize)) {
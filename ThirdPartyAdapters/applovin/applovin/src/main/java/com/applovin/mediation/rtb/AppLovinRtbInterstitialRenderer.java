@@ -25,6 +25,7 @@ import com.applovin.sdk.AppLovinSdk;
 import com.google.ads.mediation.applovin.AppLovinAdFactory;
 import com.google.ads.mediation.applovin.AppLovinInitializer;
 import com.google.ads.mediation.applovin.AppLovinInterstitialRenderer;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAd;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback;
@@ -49,6 +50,7 @@ public final class AppLovinRtbInterstitialRenderer extends AppLovinInterstitialR
 
   @Override
   public void loadAd(@NonNull MediationInterstitialAdConfiguration interstitialAdConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     sdk = appLovinInitializer.retrieveSdk(interstitialAdConfiguration.getContext());
     // Create interstitial object
     interstitialAd =
@@ -60,11 +62,13 @@ public final class AppLovinRtbInterstitialRenderer extends AppLovinInterstitialR
     networkExtras = interstitialAdConfiguration.getMediationExtras();
 
     // Load ad!
+    latencyTracker.startStage(Stage.SDK_LOAD);
     sdk.getAdService().loadNextAdForAdToken(interstitialAdConfiguration.getBidResponse(), this);
   }
 
   @Override
   public void showAd(@NonNull Context context) {
+    latencyTracker.startStage(Stage.SHOW);
     // Update mute state
     boolean muted = AppLovinUtils.shouldMuteAudio(networkExtras);
     sdk.getSettings().setMuted(muted);
@@ -24,6 +24,7 @@ import com.google.ads.mediation.applovin.AppLovinAdFactory;
 import com.google.ads.mediation.applovin.AppLovinInitializer;
 import com.google.ads.mediation.applovin.AppLovinRewardedRenderer;
 import com.google.ads.mediation.applovin.AppLovinSdkUtilsWrapper;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAd;
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback;
@@ -47,6 +48,7 @@ public final class AppLovinRtbRewardedRenderer extends AppLovinRewardedRenderer
 
   @Override
   public void loadAd(@NonNull MediationRewardedAdConfiguration adConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     Context context = adConfiguration.getContext();
     appLovinSdk = appLovinInitializer.retrieveSdk(context);
 
@@ -56,11 +58,13 @@ public final class AppLovinRtbRewardedRenderer extends AppLovinRewardedRenderer
     networkExtras = adConfiguration.getMediationExtras();
 
     // Load ad.
+    latencyTracker.startStage(Stage.SDK_LOAD);
     appLovinSdk.getAdService().loadNextAdForAdToken(adConfiguration.getBidResponse(), this);
   }
 
   @Override
   public void showAd(@NonNull Context context) {
+    latencyTracker.startStage(Stage.SHOW);
     appLovinSdk.getSettings()
         .setMuted(AppLovinUtils.shouldMuteAudio(networkExtras));
 
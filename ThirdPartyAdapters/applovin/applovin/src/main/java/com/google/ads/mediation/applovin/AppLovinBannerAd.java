@@ -19,6 +19,7 @@ import static com.google.ads.mediation.applovin.AppLovinMediationAdapter.ERROR_D
 import static com.google.ads.mediation.applovin.AppLovinMediationAdapter.ERROR_MISSING_SDK_KEY;
 import static com.google.ads.mediation.applovin.AppLovinMediationAdapter.ERROR_MSG_BANNER_SIZE_MISMATCH;
 import static com.google.ads.mediation.applovin.AppLovinMediationAdapter.ERROR_MSG_MISSING_SDK;
+import static com.google.ads.mediation.applovin.AppLovinMediationAdapter.NETWORK_NAME;
 
 import android.content.Context;
 import android.os.Bundle;
@@ -38,7 +39,10 @@ import com.applovin.sdk.AppLovinAdLoadListener;
 import com.applovin.sdk.AppLovinAdSize;
 import com.applovin.sdk.AppLovinSdk;
 import com.google.ads.mediation.applovin.AppLovinInitializer.OnInitializeSuccessListener;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationBannerAd;
@@ -70,6 +74,9 @@ public class AppLovinBannerAd
       mediationAdLoadCallback;
   private MediationBannerAdCallback bannerAdCallback;
 
+  private final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.BANNER);
+
   private static final String TAG = AppLovinBannerAd.class.getSimpleName();
 
   private AppLovinBannerAd(
@@ -103,6 +110,7 @@ public class AppLovinBannerAd
   public void loadAd(
       @NonNull MediationBannerAdConfiguration mediationBannerAdConfiguration,
       MediationUtilsWrapper mediationUtils) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     Context context = mediationBannerAdConfiguration.getContext();
     Bundle serverParameters = mediationBannerAdConfiguration.getServerParameters();
     final AdSize adSize = mediationBannerAdConfiguration.getAdSize();
@@ -125,12 +133,14 @@ public class AppLovinBannerAd
       return;
     }
 
+    latencyTracker.startStage(Stage.INITIALIZATION);
     appLovinInitializer.initialize(
         context,
         sdkKey,
         new OnInitializeSuccessListener() {
           @Override
           public void onInitializeSuccess() {
+            latencyTracker.endStage(Stage.INITIALIZATION);
             // Store parent objects
             sdk = appLovinInitializer.retrieveSdk(context);
             zoneId = AppLovinUtils.retrieveZoneId(serverParameters);
@@ -143,6 +153,7 @@ public class AppLovinBannerAd
             appLovinAdViewWrapper.setAdClickListener(AppLovinBannerAd.this);
             appLovinAdViewWrapper.setAdViewEventListener(AppLovinBannerAd.this);
 
+            latencyTracker.startStage(Stage.SDK_LOAD);
             if (!TextUtils.isEmpty(zoneId)) {
               sdk.getAdService().loadNextAdForZoneId(zoneId, AppLovinBannerAd.this);
             } else {
@@ -161,8 +172,12 @@ public class AppLovinBannerAd
   @Override
   public void adReceived(final AppLovinAd ad) {
     Log.d(TAG, "Banner did load ad for zone: " + zoneId);
+    latencyTracker.endStage(Stage.SDK_LOAD);
     appLovinAdViewWrapper.renderAd(ad);
+    latencyTracker.endStage(Stage.TIME_TO_FILL);
+    latencyTracker.startStage(Stage.LOAD_CALLBACK);
     bannerAdCallback = mediationAdLoadCallback.onSuccess(this);
+    latencyTracker.endStage(Stage.LOAD_CALLBACK);
   }
 
   @Override
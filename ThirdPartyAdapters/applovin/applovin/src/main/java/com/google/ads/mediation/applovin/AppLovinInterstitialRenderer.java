@@ -14,6 +14,8 @@
 
 package com.google.ads.mediation.applovin;
 
+import static com.google.ads.mediation.applovin.AppLovinMediationAdapter.NETWORK_NAME;
+
 import android.os.Bundle;
 import android.util.Log;
 import androidx.annotation.NonNull;
@@ -25,7 +27,10 @@ import com.applovin.sdk.AppLovinAdClickListener;
 import com.applovin.sdk.AppLovinAdDisplayListener;
 import com.applovin.sdk.AppLovinAdLoadListener;
 import com.applovin.sdk.AppLovinAdVideoPlaybackListener;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAd;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback;
@@ -65,6 +70,10 @@ public abstract class AppLovinInterstitialRenderer
 
   @Nullable protected Bundle networkExtras;
 
+  /** Times the stages of the load and show of this ad. */
+  protected final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.INTERSTITIAL);
+
   public AppLovinInterstitialRenderer(
       @NonNull
           MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>
@@ -83,7 +92,11 @@ public abstract class AppLovinInterstitialRenderer
     Log.d(TAG, "Interstitial did load ad for zone: " + zoneId);
     appLovinInterstitialAd = ad;
 
+    latencyTracker.endStage(Stage.SDK_LOAD);
+    latencyTracker.endStage(Stage.TIME_TO_FILL);
+    latencyTracker.startStage(Stage.LOAD_CALLBACK);
     interstitialAdCallback = interstitialAdLoadCallback.onSuccess(this);
+    latencyTracker.endStage(Stage.LOAD_CALLBACK);
   }
 
   @Override
@@ -97,6 +110,7 @@ public abstract class AppLovinInterstitialRenderer
   @Override
   public void adDisplayed(AppLovinAd ad) {
     Log.d(TAG, "Interstitial displayed.");
+    latencyTracker.endStage(Stage.SHOW);
     interstitialAdCallback.onAdOpened();
     interstitialAdCallback.reportAdImpression();
   }
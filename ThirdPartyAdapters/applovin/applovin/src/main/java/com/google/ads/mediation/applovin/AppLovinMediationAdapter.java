@@ -31,6 +31,8 @@ import com.applovin.mediation.rtb.AppLovinRtbRewardedRenderer;
 import com.applovin.sdk.AppLovinSdk;
 import com.applovin.sdk.AppLovinSdkSettings;
 import com.google.ads.mediation.applovin.AppLovinInitializer.OnInitializeSuccessListener;
+import com.google.ads.mediation.common.SignalCollector;
+import com.google.ads.mediation.common.VersionInfoParser;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.VersionInfo;
@@ -57,6 +59,15 @@ import java.util.List;
 @SuppressWarnings("FieldCanBeLocal")
 public class AppLovinMediationAdapter extends RtbAdapter {
 
+  /** Parses and caches the adapter version. */
+  private static final VersionInfoParser ADAPTER_VERSION_PARSER = new VersionInfoParser(4, 4);
+
+  /** Parses and caches the SDK version. */
+  private static final VersionInfoParser SDK_VERSION_PARSER = new VersionInfoParser(3, 3);
+
+  /** Deadline for AppLovin SDK to return its bid token, which it reads synchronously. */
+  private static final long SIGNAL_TIMEOUT_MILLIS = 500;
+
   private AppLovinBannerAd bannerAd;
 
   private AppLovinWaterfallInterstitialAd waterfallInterstitialAd;
@@ -94,6 +105,9 @@ public class AppLovinMediationAdapter extends RtbAdapter {
 
   private static final String TAG = AppLovinMediationAdapter.class.getSimpleName();
 
+  /** The network name reported to the bid token cache and the ad latency metrics. */
+  static final String NETWORK_NAME = "AppLovin";
+
   @Retention(RetentionPolicy.SOURCE)
   @IntDef(
       value = {
@@ -248,13 +262,9 @@ public class AppLovinMediationAdapter extends RtbAdapter {
   @NonNull
   @VisibleForTesting
   VersionInfo getVersionInfo(String versionString) {
-    String[] splits = versionString.split("\\.");
-
-    if (splits.length >= 4) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int micro = Integer.parseInt(splits[2]) * 100 + Integer.parseInt(splits[3]);
-      return new VersionInfo(major, minor, micro);
+    VersionInfo versionInfo = ADAPTER_VERSION_PARSER.parse(versionString);
+    if (versionInfo != null) {
+      return versionInfo;
     }
 
     String logMessage = String.format(
@@ -268,13 +278,9 @@ public class AppLovinMediationAdapter extends RtbAdapter {
   @NonNull
   public VersionInfo getSDKVersionInfo() {
     String versionString = appLovinSdkWrapper.getSdkVersion();
-    String[] splits = versionString.split("\\.");
-
-    if (splits.length >= 3) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int patch = Integer.parseInt(splits[2]);
-      return new VersionInfo(major, minor, patch);
+    VersionInfo versionInfo = SDK_VERSION_PARSER.parse(versionString);
+    if (versionInfo != null) {
+      return versionInfo;
     }
 
     String logMessage = String.format(
@@ -310,19 +316,31 @@ public class AppLovinMediationAdapter extends RtbAdapter {
 
     // Check if the publisher provided extra parameters
     Log.i(TAG, "Extras for signal collection: " + rtbSignalData.getNetworkExtras());
-    AppLovinSdk sdk = appLovinInitializer.retrieveSdk(rtbSignalData.getContext());
-    String bidToken = sdk.getAdService().getBidToken();
-
-    if (TextUtils.isEmpty(bidToken)) {
-      AdError error = new AdError(ERROR_EMPTY_BID_TOKEN, "Failed to generate bid token.",
-          ERROR_DOMAIN);
-      Log.e(TAG, error.getMessage());
-      signalCallbacks.onFailure(error);
-      return;
-    }
-
-    Log.i(TAG, "Generated bid token: " + bidToken);
-    signalCallbacks.onSuccess(bidToken);
+    // AppLovin generates the bid token synchronously, so generate it off the calling thread.
+    SignalCollector.getInstance()
+        .collectCachedSignals(
+            rtbSignalData.getContext(),
+            NETWORK_NAME,
+            configs.isEmpty() ? null : configs.get(0).getFormat(),
+            /* qualifier= */ null,
+            signalCallbacks,
+            SIGNAL_TIMEOUT_MILLIS,
+            callbacks -> {
+              AppLovinSdk sdk = appLovinInitializer.retrieveSdk(rtbSignalData.getContext());
+              String bidToken = sdk.getAdService().getBidToken();
+
+              if (TextUtils.isEmpty(bidToken)) {
+                AdError error =
+                    new AdError(
+                        ERROR_EMPTY_BID_TOKEN, "Failed to generate bid token.", ERROR_DOMAIN);
+                Log.e(TAG, error.getMessage());
+                callbacks.onFailure(error);
+                return;
+              }
+
+              Log.i(TAG, "Generated bid token: " + bidToken);
+              callbacks.onSuccess(bidToken);
+            });
   }
 
   @Override
@@ -14,6 +14,8 @@
 
 package com.google.ads.mediation.applovin;
 
+import static com.google.ads.mediation.applovin.AppLovinMediationAdapter.NETWORK_NAME;
+
 import android.os.Bundle;
 import android.util.Log;
 import androidx.annotation.NonNull;
@@ -28,7 +30,10 @@ import com.applovin.sdk.AppLovinAdLoadListener;
 import com.applovin.sdk.AppLovinAdRewardListener;
 import com.applovin.sdk.AppLovinAdVideoPlaybackListener;
 import com.applovin.sdk.AppLovinSdk;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAd;
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback;
@@ -78,6 +83,10 @@ public abstract class AppLovinRewardedRenderer
   @Nullable
   protected AppLovinIncentivizedInterstitial incentivizedInterstitial;
 
+  /** Times the stages of the load and show of this ad. */
+  protected final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.REWARDED);
+
   protected AppLovinRewardedRenderer(
       @NonNull MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback> callback,
       @NonNull AppLovinInitializer appLovinInitializer,
@@ -98,11 +107,15 @@ public abstract class AppLovinRewardedRenderer
   @Override
   public void adReceived(final @NonNull AppLovinAd appLovinAd) {
     Log.i(TAG, "Rewarded video did load ad.");
+    latencyTracker.endStage(Stage.SDK_LOAD);
     appLovinSdkUtilsWrapper.runOnUiThread(
         new Runnable() {
           @Override
           public void run() {
+            latencyTracker.endStage(Stage.TIME_TO_FILL);
+            latencyTracker.startStage(Stage.LOAD_CALLBACK);
             rewardedAdCallback = adLoadCallback.onSuccess(AppLovinRewardedRenderer.this);
+            latencyTracker.endStage(Stage.LOAD_CALLBACK);
           }
         });
   }
@@ -125,6 +138,7 @@ public abstract class AppLovinRewardedRenderer
   @Override
   public void adDisplayed(@NonNull AppLovinAd ad) {
     Log.d(TAG, "Rewarded video displayed.");
+    latencyTracker.endStage(Stage.SHOW);
     if (rewardedAdCallback == null) {
       return;
     }
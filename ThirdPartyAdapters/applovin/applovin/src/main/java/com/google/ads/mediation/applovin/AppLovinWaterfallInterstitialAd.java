@@ -33,6 +33,7 @@ import com.applovin.mediation.AppLovinUtils.ServerParameterKeys;
 import com.applovin.sdk.AppLovinAd;
 import com.applovin.sdk.AppLovinSdk;
 import com.google.ads.mediation.applovin.AppLovinInitializer.OnInitializeSuccessListener;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAd;
@@ -68,6 +69,7 @@ public class AppLovinWaterfallInterstitialAd extends AppLovinInterstitialRendere
 
   @Override
   public void loadAd(@NonNull MediationInterstitialAdConfiguration interstitialAdConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     Context context = interstitialAdConfiguration.getContext();
     Bundle serverParameters = interstitialAdConfiguration.getServerParameters();
     String sdkKey = serverParameters.getString(ServerParameterKeys.SDK_KEY);
@@ -84,13 +86,20 @@ public class AppLovinWaterfallInterstitialAd extends AppLovinInterstitialRendere
     }
     networkExtras = interstitialAdConfiguration.getMediationExtras();
 
+    latencyTracker.startStage(Stage.INITIALIZATION);
     appLovinInitializer.initialize(
         context,
         sdkKey,
         new OnInitializeSuccessListener() {
           @Override
           public void onInitializeSuccess() {
+            latencyTracker.endStage(Stage.INITIALIZATION);
             zoneId = AppLovinUtils.retrieveZoneId(serverParameters);
+            sdk = appLovinInitializer.retrieveSdk(context);
+            if (serveFromZoneInventory()) {
+              return;
+            }
+
             if (appLovinWaterfallInterstitialAds.containsKey(zoneId)
                 && appLovinWaterfallInterstitialAds.get(zoneId).get() != null) {
               AdError error =
@@ -103,11 +112,9 @@ public class AppLovinWaterfallInterstitialAd extends AppLovinInterstitialRendere
             appLovinWaterfallInterstitialAds.put(
                 zoneId, new WeakReference<>(AppLovinWaterfallInterstitialAd.this));
 
-            // Store parent objects.
-            sdk = appLovinInitializer.retrieveSdk(context);
-
             Log.d(TAG, "Requesting interstitial for zone: " + zoneId);
 
+            latencyTracker.startStage(Stage.SDK_LOAD);
             if (!TextUtils.isEmpty(zoneId)) {
               sdk.getAdService().loadNextAdForZoneId(zoneId, AppLovinWaterfallInterstitialAd.this);
             } else {
@@ -117,8 +124,30 @@ public class AppLovinWaterfallInterstitialAd extends AppLovinInterstitialRendere
         });
   }
 
+  /**
+   * Serves this request from the inventory of its zone, or from the inventory refill in flight, if
+   * the zone inventory is enabled.
+   *
+   * @return true if this request is served from the zone inventory.
+   */
+  private boolean serveFromZoneInventory() {
+    if (!AppLovinUtils.isZoneInventoryEnabled(networkExtras) || TextUtils.isEmpty(zoneId)) {
+      return false;
+    }
+
+    AppLovinZoneAdInventory zoneAdInventory = AppLovinZoneAdInventory.getInstance();
+    AppLovinAd inventoryAd = zoneAdInventory.poll(zoneId);
+    if (inventoryAd != null) {
+      Log.d(TAG, "Serving interstitial from the inventory of zone: " + zoneId);
+      adReceived(inventoryAd);
+      return true;
+    }
+    return zoneAdInventory.awaitRefill(zoneId, this);
+  }
+
   @Override
   public void showAd(Context context) {
+    latencyTracker.startStage(Stage.SHOW);
     // Update mute state.
     sdk.getSettings().setMuted(AppLovinUtils.shouldMuteAudio(networkExtras));
 
@@ -152,6 +181,9 @@ public class AppLovinWaterfallInterstitialAd extends AppLovinInterstitialRendere
       unregister();
     }
     super.adReceived(ad);
+    if (AppLovinUtils.isZoneInventoryEnabled(networkExtras) && !TextUtils.isEmpty(zoneId)) {
+      AppLovinZoneAdInventory.getInstance().refill(sdk, zoneId);
+    }
   }
 
   @Override
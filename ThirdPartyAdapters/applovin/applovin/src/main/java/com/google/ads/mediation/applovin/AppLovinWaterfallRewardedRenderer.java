@@ -26,11 +26,14 @@ import android.os.Bundle;
 import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import com.applovin.mediation.AppLovinUtils;
 import com.applovin.mediation.AppLovinUtils.ServerParameterKeys;
 import com.applovin.sdk.AppLovinAd;
+import com.applovin.sdk.AppLovinAdLoadListener;
 import com.google.ads.mediation.applovin.AppLovinInitializer.OnInitializeSuccessListener;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAd;
@@ -60,6 +63,9 @@ public class AppLovinWaterfallRewardedRenderer extends AppLovinRewardedRenderer
   // Flag to let multiple loading of ads
   private boolean enableMultipleAdLoading = false;
 
+  /** The ad served from the zone inventory, if any. */
+  @Nullable private AppLovinAd inventoryAd;
+
   protected AppLovinWaterfallRewardedRenderer(
       @NonNull MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback> callback,
       @NonNull AppLovinInitializer appLovinInitializer,
@@ -70,6 +76,7 @@ public class AppLovinWaterfallRewardedRenderer extends AppLovinRewardedRenderer
 
   @Override
   public void loadAd(@NonNull MediationRewardedAdConfiguration adConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     final Context context = adConfiguration.getContext();
     final Bundle serverParameters = adConfiguration.getServerParameters();
     String sdkKey = serverParameters.getString(ServerParameterKeys.SDK_KEY);
@@ -86,18 +93,24 @@ public class AppLovinWaterfallRewardedRenderer extends AppLovinRewardedRenderer
     }
     networkExtras = adConfiguration.getMediationExtras();
 
+    latencyTracker.startStage(Stage.INITIALIZATION);
     appLovinInitializer.initialize(
         context,
         sdkKey,
         new OnInitializeSuccessListener() {
           @Override
           public void onInitializeSuccess() {
+            latencyTracker.endStage(Stage.INITIALIZATION);
             zoneId = AppLovinUtils.retrieveZoneId(serverParameters);
             appLovinSdk = appLovinInitializer.retrieveSdk(context);
 
             String logMessage = String.format("Requesting rewarded video for zone '%s'", zoneId);
             Log.d(TAG, logMessage);
 
+            if (serveFromZoneInventory()) {
+              return;
+            }
+
             // Check if incentivized ad for zone already exists.
             boolean adAlreadyRequested = false;
             if (incentivizedAdsMap.containsKey(zoneId)) {
@@ -125,13 +138,63 @@ public class AppLovinWaterfallRewardedRenderer extends AppLovinRewardedRenderer
               incentivizedInterstitial =
                   appLovinAdFactory.createIncentivizedInterstitial(zoneId, appLovinSdk);
             }
+            latencyTracker.startStage(Stage.SDK_LOAD);
             incentivizedInterstitial.preload(AppLovinWaterfallRewardedRenderer.this);
           }
         });
   }
 
+  /**
+   * Serves this request from the inventory of its zone, or from the inventory refill in flight, if
+   * the zone inventory is enabled.
+   *
+   * @return true if this request is served from the zone inventory.
+   */
+  private boolean serveFromZoneInventory() {
+    if (!AppLovinUtils.isZoneInventoryEnabled(networkExtras) || TextUtils.isEmpty(zoneId)) {
+      return false;
+    }
+
+    AppLovinZoneAdInventory zoneAdInventory = AppLovinZoneAdInventory.getInstance();
+    AppLovinAd ad = zoneAdInventory.poll(zoneId);
+    if (ad != null) {
+      Log.d(TAG, String.format("Serving rewarded video from the inventory of zone '%s'", zoneId));
+      onInventoryAdReceived(ad);
+      return true;
+    }
+    return zoneAdInventory.awaitRefill(
+        zoneId,
+        new AppLovinAdLoadListener() {
+          @Override
+          public void adReceived(AppLovinAd ad) {
+            onInventoryAdReceived(ad);
+          }
+
+          @Override
+          public void failedToReceiveAd(int code) {
+            AppLovinWaterfallRewardedRenderer.super.failedToReceiveAd(code);
+          }
+        });
+  }
+
+  private void onInventoryAdReceived(@NonNull AppLovinAd ad) {
+    // Inventory ads are shown with the Zones API incentivized interstitial of their zone.
+    incentivizedInterstitial =
+        appLovinAdFactory.createIncentivizedInterstitial(zoneId, appLovinSdk);
+    inventoryAd = ad;
+    super.adReceived(ad);
+    refillZoneInventory();
+  }
+
+  private void refillZoneInventory() {
+    if (AppLovinUtils.isZoneInventoryEnabled(networkExtras) && !TextUtils.isEmpty(zoneId)) {
+      AppLovinZoneAdInventory.getInstance().refill(appLovinSdk, zoneId);
+    }
+  }
+
   @Override
   public void showAd(@NonNull Context context) {
+    latencyTracker.startStage(Stage.SHOW);
     appLovinSdk.getSettings().setMuted(AppLovinUtils.shouldMuteAudio(networkExtras));
 
     if (zoneId != null) {
@@ -139,6 +202,11 @@ public class AppLovinWaterfallRewardedRenderer extends AppLovinRewardedRenderer
       Log.d(TAG, logMessage);
     }
 
+    if (inventoryAd != null) {
+      incentivizedInterstitial.show(inventoryAd, context, this, this, this, this);
+      return;
+    }
+
     if (!incentivizedInterstitial.isAdReadyToDisplay()) {
       AdError error =
           new AdError(ERROR_PRESENTATION_AD_NOT_READY, ERROR_MSG_AD_NOT_READY, ERROR_DOMAIN);
@@ -156,6 +224,7 @@ public class AppLovinWaterfallRewardedRenderer extends AppLovinRewardedRenderer
       incentivizedAdsMap.remove(zoneId);
     }
     super.adReceived(appLovinAd);
+    refillZoneInventory();
   }
 
   // region AppLovinAdLoadListener implementation
@@ -0,0 +1,200 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.applovin;
+
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.applovin.sdk.AppLovinAd;
+import com.applovin.sdk.AppLovinAdLoadListener;
+import com.applovin.sdk.AppLovinSdk;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+
+/**
+ * A per-zone inventory of preloaded AppLovin ads, used by waterfall interstitial and rewarded ads
+ * when {@link com.applovin.mediation.AppLovinExtras.Builder#setZoneInventoryEnabled} is set.
+ *
+ * <p>Each time an ad is served for a zone, the inventory of that zone is refilled in the
+ * background, up to {@link #MAX_ADS_PER_ZONE} ads, so that back-to-back requests for the same zone
+ * can be served without a network round trip. Ads expire {@link #TIME_TO_LIVE_MILLIS} after they
+ * are loaded.
+ */
+public final class AppLovinZoneAdInventory {
+
+  private static final String TAG = AppLovinZoneAdInventory.class.getSimpleName();
+
+  /** Maximum number of ads preloaded per zone. */
+  @VisibleForTesting static final int MAX_ADS_PER_ZONE = 2;
+
+  /** How long a preloaded ad can be served after it was loaded. */
+  @VisibleForTesting static final long TIME_TO_LIVE_MILLIS = 30 * 60 * 1000;
+
+  private static AppLovinZoneAdInventory instance;
+
+  /** A preloaded ad. */
+  private static final class ReadyAd {
+
+    private final AppLovinAd ad;
+    private final long expiresAtMillis;
+
+    ReadyAd(@NonNull AppLovinAd ad, long expiresAtMillis) {
+      this.ad = ad;
+      this.expiresAtMillis = expiresAtMillis;
+    }
+  }
+
+  /** A background load refilling the inventory of a zone. */
+  private final class Refill implements AppLovinAdLoadListener {
+
+    private final AppLovinSdk sdk;
+    private final String zoneId;
+
+    /** An ad request waiting for this load, which is served the loaded ad. */
+    @Nullable private AppLovinAdLoadListener waitingListener;
+
+    Refill(@NonNull AppLovinSdk sdk, @NonNull String zoneId) {
+      this.sdk = sdk;
+      this.zoneId = zoneId;
+    }
+
+    @Override
+    public void adReceived(AppLovinAd ad) {
+      AppLovinAdLoadListener listener;
+      synchronized (AppLovinZoneAdInventory.this) {
+        refills.remove(zoneId, this);
+        listener = waitingListener;
+        if (listener == null) {
+          ArrayDeque<ReadyAd> ads = readyAds.get(zoneId);
+          if (ads == null) {
+            ads = new ArrayDeque<>();
+            readyAds.put(zoneId, ads);
+          }
+          ads.addLast(new ReadyAd(ad, SystemClock.elapsedRealtime() + TIME_TO_LIVE_MILLIS));
+          Log.d(TAG, "Added an ad to the inventory of zone: " + zoneId);
+        }
+      }
+      if (listener != null) {
+        // The waiting ad request refills the inventory again when it receives the ad.
+        listener.adReceived(ad);
+      } else {
+        refill(sdk, zoneId);
+      }
+    }
+
+    @Override
+    public void failedToReceiveAd(int code) {
+      AppLovinAdLoadListener listener;
+      synchronized (AppLovinZoneAdInventory.this) {
+        refills.remove(zoneId, this);
+        listener = waitingListener;
+      }
+      Log.d(TAG, "Failed to refill the inventory of zone " + zoneId + " with error code: " + code);
+      if (listener != null) {
+        listener.failedToReceiveAd(code);
+      }
+    }
+  }
+
+  /** Zone ID to preloaded ads, oldest first. */
+  private final HashMap<String, ArrayDeque<ReadyAd>> readyAds = new HashMap<>();
+
+  /** Zone ID to the load refilling its inventory. */
+  private final HashMap<String, Refill> refills = new HashMap<>();
+
+  @VisibleForTesting
+  AppLovinZoneAdInventory() {}
+
+  /** Returns the inventory shared by all AppLovin waterfall ad requests. */
+  @NonNull
+  public static synchronized AppLovinZoneAdInventory getInstance() {
+    if (instance == null) {
+      instance = new AppLovinZoneAdInventory();
+    }
+    return instance;
+  }
+
+  /** Removes and returns the oldest unexpired ad preloaded for {@code zoneId}, if any. */
+  @Nullable
+  synchronized AppLovinAd poll(@NonNull String zoneId) {
+    ArrayDeque<ReadyAd> ads = readyAds.get(zoneId);
+    if (ads == null) {
+      return null;
+    }
+    removeExpiredAds(ads);
+    ReadyAd readyAd = ads.pollFirst();
+    if (ads.isEmpty()) {
+      readyAds.remove(zoneId);
+    }
+    return readyAd == null ? null : readyAd.ad;
+  }
+
+  /**
+   * Serves the ad currently being loaded for {@code zoneId} to {@code listener}.
+   *
+   * @return false if no load is in flight for {@code zoneId} or another ad request is already
+   *     waiting for it.
+   */
+  synchronized boolean awaitRefill(
+      @NonNull String zoneId, @NonNull AppLovinAdLoadListener listener) {
+    Refill refill = refills.get(zoneId);
+    if (refill == null || refill.waitingListener != null) {
+      return false;
+    }
+    refill.waitingListener = listener;
+    return true;
+  }
+
+  /** Loads another ad for {@code zoneId} in the background if its inventory is not full. */
+  void refill(@NonNull AppLovinSdk sdk, @NonNull String zoneId) {
+    Refill refill;
+    synchronized (this) {
+      if (refills.containsKey(zoneId) || getReadyAdCount(zoneId) >= MAX_ADS_PER_ZONE) {
+        return;
+      }
+      refill = new Refill(sdk, zoneId);
+      refills.put(zoneId, refill);
+    }
+    Log.d(TAG, "Refilling the inventory of zone: " + zoneId);
+    sdk.getAdService().loadNextAdForZoneId(zoneId, refill);
+  }
+
+  /** Returns the number of unexpired ads preloaded for {@code zoneId}. */
+  @VisibleForTesting
+  synchronized int getReadyAdCount(@NonNull String zoneId) {
+    ArrayDeque<ReadyAd> ads = readyAds.get(zoneId);
+    if (ads == null) {
+      return 0;
+    }
+    removeExpiredAds(ads);
+    return ads.size();
+  }
+
+  /** Drops every preloaded ad and forgets the loads in flight. */
+  @VisibleForTesting
+  synchronized void clear() {
+    readyAds.clear();
+    refills.clear();
+  }
+
+  private static void removeExpiredAds(@NonNull ArrayDeque<ReadyAd> ads) {
+    long nowMillis = SystemClock.elapsedRealtime();
+    while (!ads.isEmpty() && ads.peekFirst().expiresAtMillis <= nowMillis) {
+      ads.pollFirst();
+    }
+  }
+}
@@ -15,6 +15,7 @@
 package com.google.ads.mediation.applovin
 
 import android.content.Context
+import com.google.ads.mediation.common.BannerSizeCache
 import com.google.android.gms.ads.AdSize
 import com.google.android.gms.ads.MediationUtils
 
@@ -22,10 +23,11 @@ import com.google.android.gms.ads.MediationUtils
  * A wrapper class for [MediationUtils].
  *
  * This wrapper lets us mock [MediationUtils] for unit tests since directly calling [MediationUtils]
- * doesn't work in robolectric.
+ * doesn't work in robolectric. Sizes are resolved through the [BannerSizeCache] shared by all
+ * adapters, so that refreshing banners don't resolve the same size again.
  */
 class MediationUtilsWrapper {
 
   fun findClosestSize(context: Context, adSize: AdSize, potentials: List<AdSize>) =
-    MediationUtils.findClosestSize(context, adSize, potentials)
+    BannerSizeCache.getInstance().findClosestSize(context, adSize, potentials)
 }
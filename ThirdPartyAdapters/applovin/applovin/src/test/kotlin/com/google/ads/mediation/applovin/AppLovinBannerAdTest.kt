@@ -14,6 +14,10 @@ import com.google.ads.mediation.adaptertestkit.FakeMediationAdLoadCallback
 import com.google.ads.mediation.adaptertestkit.FakeMediationBannerAdCallback
 import com.google.ads.mediation.adaptertestkit.assertThat
 import com.google.ads.mediation.applovin.AppLovinInitializer.OnInitializeSuccessListener
+import com.google.ads.mediation.common.AdLatencyMetrics
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.HistogramAdLatencyMetrics
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.AdSize
 import com.google.android.gms.ads.mediation.MediationBannerAd
 import com.google.android.gms.ads.mediation.MediationBannerAdCallback
@@ -92,6 +96,28 @@ class AppLovinBannerAdTest {
     assertThat(bannerAdLoadCallback).hasSucceededWith(appLovinBannerAd)
   }
 
+  @Test
+  fun adReceived_withLatencyMetrics_recordsLoadStages() {
+    val latencyMetrics = HistogramAdLatencyMetrics()
+    AdLatencyMetrics.setInstance(latencyMetrics)
+    try {
+      appLovinBannerAd =
+        AppLovinBannerAd.newInstance(bannerAdLoadCallback, appLovinInitializer, appLovinAdFactory)
+
+      loadAndReceiveAd()
+    } finally {
+      AdLatencyMetrics.setInstance(null)
+    }
+
+    for (stage in
+      listOf(Stage.INITIALIZATION, Stage.SDK_LOAD, Stage.LOAD_CALLBACK, Stage.TIME_TO_FILL)) {
+      assertThat(latencyMetrics.getHistogram("AppLovin", AdFormat.BANNER, stage)!!.getCount())
+        .isEqualTo(1)
+    }
+    assertThat(latencyMetrics.getHistogram("AppLovin", AdFormat.BANNER, Stage.SHOW)!!.getCount())
+      .isEqualTo(0)
+  }
+
   @Test
   fun failedToReceiveAd_invokesOnFailure() {
     appLovinBannerAd.failedToReceiveAd(AppLovinErrorCodes.NO_FILL)
@@ -22,4 +22,11 @@ class AppLovinExtrasTest {
 
     assertThat(extras.getBoolean(AppLovinExtras.Keys.MUTE_AUDIO)).isFalse()
   }
+
+  @Test
+  fun build_withZoneInventoryEnabled_returnedBundleWithZoneInventoryEnabled() {
+    val extras = AppLovinExtras.Builder().setZoneInventoryEnabled(true).build()
+
+    assertThat(extras.getBoolean(AppLovinExtras.Keys.ENABLE_ZONE_INVENTORY)).isTrue()
+  }
 }
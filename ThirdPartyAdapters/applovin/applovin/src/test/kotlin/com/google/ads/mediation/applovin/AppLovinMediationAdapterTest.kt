@@ -16,6 +16,7 @@ import com.applovin.sdk.AppLovinSdk
 import com.google.ads.mediation.adaptertestkit.FakeInitializationCompleteCallback
 import com.google.ads.mediation.adaptertestkit.FakeMediationAdLoadCallback
 import com.google.ads.mediation.adaptertestkit.FakeSignalCallbacks
+import com.google.ads.mediation.adaptertestkit.InlineSignalCollectorRule
 import com.google.ads.mediation.adaptertestkit.assertThat
 import com.google.ads.mediation.applovin.AppLovinInitializer.OnInitializeSuccessListener
 import com.google.ads.mediation.applovin.AppLovinMediationAdapter.APPLOVIN_SDK_ERROR_DOMAIN
@@ -52,6 +53,7 @@ import com.google.android.gms.ads.mediation.rtb.RtbSignalData
 import com.google.common.truth.Truth.assertThat
 import org.junit.After
 import org.junit.Before
+import org.junit.Rule
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.kotlin.any
@@ -69,6 +71,8 @@ import org.mockito.kotlin.whenever
 @RunWith(AndroidJUnit4::class)
 class AppLovinMediationAdapterTest {
 
+  @get:Rule val inlineSignalCollectorRule = InlineSignalCollectorRule()
+
   // Subject of tests
   private lateinit var appLovinMediationAdapter: AppLovinMediationAdapter
   private var serverParameters: Bundle = Bundle()
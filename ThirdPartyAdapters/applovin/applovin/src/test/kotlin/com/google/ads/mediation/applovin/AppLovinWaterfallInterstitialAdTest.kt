@@ -5,8 +5,10 @@ import androidx.core.os.bundleOf
 import androidx.test.core.app.ApplicationProvider
 import androidx.test.ext.junit.runners.AndroidJUnit4
 import com.applovin.adview.AppLovinInterstitialAdDialog
+import com.applovin.mediation.AppLovinExtras
 import com.applovin.mediation.AppLovinUtils
 import com.applovin.sdk.AppLovinAd
+import com.applovin.sdk.AppLovinAdLoadListener
 import com.applovin.sdk.AppLovinAdService
 import com.applovin.sdk.AppLovinErrorCodes
 import com.applovin.sdk.AppLovinSdk
@@ -25,6 +27,7 @@ import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.kotlin.any
+import org.mockito.kotlin.argumentCaptor
 import org.mockito.kotlin.doAnswer
 import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.eq
@@ -87,6 +90,7 @@ class AppLovinWaterfallInterstitialAdTest {
   fun tearDown() {
     appLovinMediationInterstitialAd.unregister()
     AppLovinWaterfallInterstitialAd.appLovinWaterfallInterstitialAds.clear()
+    AppLovinZoneAdInventory.getInstance().clear()
   }
 
   private fun mockInitializeSuccess() {
@@ -183,6 +187,33 @@ class AppLovinWaterfallInterstitialAdTest {
     verify(adService).loadNextAdForZoneId(eq(TEST_ZONE_ID), any())
   }
 
+  @Test
+  fun loadAd_withZoneInventoryEnabled_servesBackToBackRequestFromInventory() {
+    whenever(interstitialAdConfiguration.mediationExtras) doReturn
+      AppLovinExtras.Builder().setZoneInventoryEnabled(true).build()
+    loadAndReceiveAd()
+    val listenerCaptor = argumentCaptor<AppLovinAdLoadListener>()
+    verify(adService, times(2)).loadNextAdForZoneId(eq(TEST_ZONE_ID), listenerCaptor.capture())
+    val inventoryAd: AppLovinAd = mock()
+    listenerCaptor.lastValue.adReceived(inventoryAd)
+    val secondInterstitialAdLoadCallback =
+      FakeMediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>(
+        FakeMediationInterstitialAdCallback()
+      )
+    val secondInterstitialAd =
+      AppLovinWaterfallInterstitialAd(
+        secondInterstitialAdLoadCallback,
+        appLovinInitializer,
+        appLovinAdFactory,
+      )
+
+    secondInterstitialAd.loadAd(interstitialAdConfiguration)
+    secondInterstitialAd.showAd(context)
+
+    assertThat(secondInterstitialAdLoadCallback).hasSucceeded()
+    verify(appLovinInterstitialAdDialog).showAndRender(inventoryAd)
+  }
+
   @Test
   fun appLovinWaterfallInterstitialAd_isASubclassOfAppLovinInterstitialRenderer() {
     assertThat(appLovinMediationInterstitialAd)
@@ -0,0 +1,134 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.applovin
+
+import android.os.Looper
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.applovin.sdk.AppLovinAd
+import com.applovin.sdk.AppLovinAdLoadListener
+import com.applovin.sdk.AppLovinAdService
+import com.applovin.sdk.AppLovinErrorCodes
+import com.applovin.sdk.AppLovinSdk
+import com.google.ads.mediation.applovin.AppLovinZoneAdInventory.MAX_ADS_PER_ZONE
+import com.google.ads.mediation.applovin.AppLovinZoneAdInventory.TIME_TO_LIVE_MILLIS
+import com.google.common.truth.Truth.assertThat
+import java.time.Duration
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.kotlin.any
+import org.mockito.kotlin.argumentCaptor
+import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.eq
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.times
+import org.mockito.kotlin.verify
+import org.robolectric.Shadows.shadowOf
+
+/** Tests for [AppLovinZoneAdInventory]. */
+@RunWith(AndroidJUnit4::class)
+class AppLovinZoneAdInventoryTest {
+
+  private val adService: AppLovinAdService = mock()
+  private val appLovinSdk: AppLovinSdk = mock { on { getAdService() } doReturn adService }
+  private val zoneAdInventory = AppLovinZoneAdInventory()
+
+  @Test
+  fun refill_loadsAdsUntilInventoryIsFull() {
+    zoneAdInventory.refill(appLovinSdk, TEST_ZONE_ID)
+
+    repeat(MAX_ADS_PER_ZONE) { receiveRefillAd(loadCount = it + 1, mock()) }
+
+    verify(adService, times(MAX_ADS_PER_ZONE)).loadNextAdForZoneId(eq(TEST_ZONE_ID), any())
+    assertThat(zoneAdInventory.getReadyAdCount(TEST_ZONE_ID)).isEqualTo(MAX_ADS_PER_ZONE)
+  }
+
+  @Test
+  fun refill_withRefillInFlight_doesNotLoadAnotherAd() {
+    zoneAdInventory.refill(appLovinSdk, TEST_ZONE_ID)
+    zoneAdInventory.refill(appLovinSdk, TEST_ZONE_ID)
+
+    verify(adService, times(1)).loadNextAdForZoneId(eq(TEST_ZONE_ID), any())
+  }
+
+  @Test
+  fun poll_returnsAdsOfTheZoneOldestFirst() {
+    val firstAd: AppLovinAd = mock()
+    val secondAd: AppLovinAd = mock()
+    zoneAdInventory.refill(appLovinSdk, TEST_ZONE_ID)
+    receiveRefillAd(loadCount = 1, firstAd)
+    receiveRefillAd(loadCount = 2, secondAd)
+
+    assertThat(zoneAdInventory.poll(OTHER_ZONE_ID)).isNull()
+    assertThat(zoneAdInventory.poll(TEST_ZONE_ID)).isSameInstanceAs(firstAd)
+    assertThat(zoneAdInventory.poll(TEST_ZONE_ID)).isSameInstanceAs(secondAd)
+    assertThat(zoneAdInventory.poll(TEST_ZONE_ID)).isNull()
+  }
+
+  @Test
+  fun poll_afterTimeToLive_returnsNull() {
+    zoneAdInventory.refill(appLovinSdk, TEST_ZONE_ID)
+    receiveRefillAd(loadCount = 1, mock())
+
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(TIME_TO_LIVE_MILLIS))
+
+    assertThat(zoneAdInventory.poll(TEST_ZONE_ID)).isNull()
+  }
+
+  @Test
+  fun awaitRefill_withoutRefillInFlight_returnsFalse() {
+    assertThat(zoneAdInventory.awaitRefill(TEST_ZONE_ID, mock())).isFalse()
+  }
+
+  @Test
+  fun awaitRefill_servesLoadedAdToWaitingListener() {
+    val ad: AppLovinAd = mock()
+    val waitingListener: AppLovinAdLoadListener = mock()
+    zoneAdInventory.refill(appLovinSdk, TEST_ZONE_ID)
+
+    assertThat(zoneAdInventory.awaitRefill(TEST_ZONE_ID, waitingListener)).isTrue()
+    assertThat(zoneAdInventory.awaitRefill(TEST_ZONE_ID, mock())).isFalse()
+    receiveRefillAd(loadCount = 1, ad)
+
+    verify(waitingListener).adReceived(ad)
+    assertThat(zoneAdInventory.getReadyAdCount(TEST_ZONE_ID)).isEqualTo(0)
+  }
+
+  @Test
+  fun awaitRefill_refillFails_forwardsErrorToWaitingListener() {
+    val waitingListener: AppLovinAdLoadListener = mock()
+    zoneAdInventory.refill(appLovinSdk, TEST_ZONE_ID)
+    zoneAdInventory.awaitRefill(TEST_ZONE_ID, waitingListener)
+
+    val listenerCaptor = argumentCaptor<AppLovinAdLoadListener>()
+    verify(adService).loadNextAdForZoneId(eq(TEST_ZONE_ID), listenerCaptor.capture())
+    listenerCaptor.firstValue.failedToReceiveAd(AppLovinErrorCodes.NO_FILL)
+
+    verify(waitingListener).failedToReceiveAd(AppLovinErrorCodes.NO_FILL)
+    assertThat(zoneAdInventory.awaitRefill(TEST_ZONE_ID, mock())).isFalse()
+  }
+
+  /** Completes the [loadCount]th load of the test zone with [ad]. */
+  private fun receiveRefillAd(loadCount: Int, ad: AppLovinAd) {
+    val listenerCaptor = argumentCaptor<AppLovinAdLoadListener>()
+    verify(adService, times(loadCount))
+      .loadNextAdForZoneId(eq(TEST_ZONE_ID), listenerCaptor.capture())
+    listenerCaptor.lastValue.adReceived(ad)
+  }
+
+  private companion object {
+    const val TEST_ZONE_ID = "zoneId"
+    const val OTHER_ZONE_ID = "otherZoneId"
+  }
+}
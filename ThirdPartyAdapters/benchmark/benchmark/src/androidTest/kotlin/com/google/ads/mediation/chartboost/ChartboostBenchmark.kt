@@ -0,0 +1,80 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.chartboost
+
+import android.content.Context
+import android.preference.PreferenceManager
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.chartboost.ChartboostConstants.AD_TECHNOLOGY_PROVIDER_ID
+import com.google.android.gms.ads.AdSize
+import org.junit.After
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/** Benchmarks for the Chartboost adapter code that runs on every ad request. */
+@RunWith(AndroidJUnit4::class)
+class ChartboostBenchmark {
+
+  @get:Rule val benchmarkRule = BenchmarkRule()
+
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+
+  @Before
+  fun setUp() {
+    PreferenceManager.getDefaultSharedPreferences(context)
+      .edit()
+      .putInt("IABTCF_gdprApplies", 1)
+      .putString("IABTCF_AddtlConsent", ADDITIONAL_CONSENT)
+      .commit()
+  }
+
+  @After
+  fun tearDown() {
+    PreferenceManager.getDefaultSharedPreferences(context).edit().clear().commit()
+  }
+
+  @Test
+  fun hasACConsent() {
+    benchmarkRule.measureRepeated {
+      ChartboostAdapterUtils.hasACConsent(context, AD_TECHNOLOGY_PROVIDER_ID)
+    }
+  }
+
+  @Test
+  fun findClosestBannerSize() {
+    benchmarkRule.measureRepeated {
+      ChartboostAdapterUtils.findClosestBannerSize(context, AdSize.MEDIUM_RECTANGLE)
+    }
+  }
+
+  @Test
+  fun getVersionInfo() {
+    val adapter = ChartboostMediationAdapter()
+
+    benchmarkRule.measureRepeated { adapter.versionInfo }
+  }
+
+  private companion object {
+    // A realistic string with a few hundred consented and disclosed vendors.
+    val ADDITIONAL_CONSENT =
+      "2~" + (1..300).joinToString(".") { (it * 11).toString() } + "~dv." +
+        (1..100).joinToString(".") { (it * 13).toString() }
+  }
+}
@@ -0,0 +1,70 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.content.Context
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.android.gms.ads.AdSize
+import com.google.android.gms.ads.MediationUtils
+import org.junit.After
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/**
+ * Compares resolving the banner size of an auto-refreshing banner through [BannerSizeCache] with
+ * calling [MediationUtils.findClosestSize] on every request.
+ */
+@RunWith(AndroidJUnit4::class)
+class BannerSizeCacheBenchmark {
+
+  @get:Rule val benchmarkRule = BenchmarkRule()
+
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+
+  @After
+  fun tearDown() {
+    BannerSizeCache.getInstance().clear()
+  }
+
+  @Test
+  fun findClosestSize_uncached() {
+    benchmarkRule.measureRepeated {
+      MediationUtils.findClosestSize(context, REQUESTED_SIZE, SUPPORTED_SIZES)
+    }
+  }
+
+  @Test
+  fun findClosestSize_cached() {
+    val bannerSizeCache = BannerSizeCache.getInstance()
+    // Resolve the size once, as the first banner request would.
+    bannerSizeCache.findClosestSize(context, REQUESTED_SIZE, SUPPORTED_SIZES)
+
+    benchmarkRule.measureRepeated {
+      bannerSizeCache.findClosestSize(context, REQUESTED_SIZE, SUPPORTED_SIZES)
+    }
+  }
+
+  private companion object {
+    val REQUESTED_SIZE = AdSize(320, 60)
+
+    // Kept in a constant, as adapters do, so that cached lookups compare the list by instance.
+    val SUPPORTED_SIZES =
+      listOf(AdSize.BANNER, AdSize.LARGE_BANNER, AdSize.MEDIUM_RECTANGLE, AdSize.LEADERBOARD)
+  }
+}
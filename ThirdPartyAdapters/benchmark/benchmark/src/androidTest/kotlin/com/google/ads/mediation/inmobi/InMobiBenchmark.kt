@@ -0,0 +1,100 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.inmobi
+
+import android.content.Context
+import android.content.res.Resources
+import android.graphics.Bitmap
+import android.graphics.BitmapFactory
+import android.graphics.drawable.BitmapDrawable
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.android.gms.ads.AdSize
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/** Benchmarks for the InMobi adapter code that runs on every ad request. */
+@RunWith(AndroidJUnit4::class)
+class InMobiBenchmark {
+
+  @get:Rule val benchmarkRule = BenchmarkRule()
+
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+  private val drawable =
+    BitmapDrawable(Resources.getSystem(), Bitmap.createBitmap(64, 64, Bitmap.Config.ARGB_8888))
+
+  @Test
+  fun memoryCache_getHit() {
+    val memoryCache = InMobiMemoryCache(CACHE_LIMIT_BYTES)
+    memoryCache.put(URL, drawable)
+
+    benchmarkRule.measureRepeated { memoryCache.get(URL) }
+  }
+
+  @Test
+  fun memoryCache_getMiss() {
+    val memoryCache = InMobiMemoryCache(CACHE_LIMIT_BYTES)
+
+    benchmarkRule.measureRepeated { memoryCache.get(URL) }
+  }
+
+  @Test
+  fun memoryCache_putWithEviction() {
+    // Holds two drawables, so that every put evicts the least recently used one.
+    val memoryCache = InMobiMemoryCache(2L * 64 * 64 * 4)
+    val urls = Array(8) { "$URL$it" }
+    var index = 0
+
+    benchmarkRule.measureRepeated {
+      memoryCache.put(urls[index], drawable)
+      index = (index + 1) % urls.size
+    }
+  }
+
+  @Test
+  fun calculateInSampleSize() {
+    val options =
+      BitmapFactory.Options().apply {
+        outWidth = 4096
+        outHeight = 3072
+      }
+
+    benchmarkRule.measureRepeated { ImageDownloader.calculateInSampleSize(options, 1024, 1024) }
+  }
+
+  @Test
+  fun findClosestBannerSize() {
+    val mediationUtils = MediationUtilsWrapper()
+
+    benchmarkRule.measureRepeated {
+      InMobiAdapterUtils.findClosestBannerSize(context, AdSize.MEDIUM_RECTANGLE, mediationUtils)
+    }
+  }
+
+  @Test
+  fun getVersionInfo() {
+    val adapter = InMobiMediationAdapter()
+
+    benchmarkRule.measureRepeated { adapter.versionInfo }
+  }
+
+  private companion object {
+    const val URL = "https://example.com/image.png"
+    const val CACHE_LIMIT_BYTES = 8L * 1024 * 1024
+  }
+}
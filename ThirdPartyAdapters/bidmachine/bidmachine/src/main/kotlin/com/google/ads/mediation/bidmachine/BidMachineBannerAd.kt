@@ -22,10 +22,14 @@ import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.ERROR_CODE_INVALID_AD_SIZE
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.ERROR_MSG_AD_REQUEST_EXPIRED
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.ERROR_MSG_INVALID_AD_SIZE
+import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.PLACEMENT_ID_KEY
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.WATERMARK_KEY
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.AdLatencyTracker
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.AdSize
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationBannerAd
@@ -55,6 +59,8 @@ internal constructor(
   private var bannerAdCallback: MediationBannerAdCallback? = null
   @VisibleForTesting internal var bannerRequestBuilder = BannerRequest.Builder(adPlacementConfig)
   private lateinit var adView: BannerView
+  /** Times the stages of the load of this ad. */
+  private val latencyTracker = AdLatencyTracker(NETWORK_NAME, AdFormat.BANNER)
 
   fun loadWaterfallAd(bannerView: BannerView, context: Context) {
     val bannerRequest = bannerRequestBuilder.setListener(this).build()
@@ -73,6 +79,8 @@ internal constructor(
   ) {
     adView = bannerView
     adView.setListener(this)
+    latencyTracker.startStage(Stage.TIME_TO_FILL)
+    latencyTracker.startStage(Stage.SDK_LOAD)
     bannerRequest.request(context)
   }
 
@@ -104,7 +112,11 @@ internal constructor(
   }
 
   override fun onAdLoaded(bannerView: BannerView) {
+    latencyTracker.endStage(Stage.SDK_LOAD)
+    latencyTracker.endStage(Stage.TIME_TO_FILL)
+    latencyTracker.startStage(Stage.LOAD_CALLBACK)
     bannerAdCallback = mediationAdLoadCallback.onSuccess(this)
+    latencyTracker.endStage(Stage.LOAD_CALLBACK)
   }
 
   override fun onAdLoadFailed(bannerView: BannerView, bMError: BMError) {
@@ -132,16 +144,22 @@ internal constructor(
   }
 
   companion object {
+    /**
+     * List of banner ad sizes supported by BidMachine, kept in a constant so lookups don't
+     * allocate.
+     */
+    private val SUPPORTED_BANNER_SIZES =
+      listOf(AdSize.BANNER, AdSize.MEDIUM_RECTANGLE, AdSize.LEADERBOARD)
+
     fun mapAdSizeToBidMachineBannerAdSize(
       context: Context,
       adSize: AdSize,
       isRtb: Boolean,
       mediationUtils: MediationUtilsWrapper,
     ): BannerAdSize? {
-      // List of banner ad sizes supported by BidMachine.
-      val supportedSizes = listOf(AdSize.BANNER, AdSize.MEDIUM_RECTANGLE, AdSize.LEADERBOARD)
       // Find the supported size that is closest to the publisher-requested size.
-      val closestSupportedSize = mediationUtils.findClosestSize(context, adSize, supportedSizes)
+      val closestSupportedSize =
+        mediationUtils.findClosestSize(context, adSize, SUPPORTED_BANNER_SIZES)
       return when (closestSupportedSize) {
         AdSize.BANNER -> BannerAdSize.Banner
         AdSize.MEDIUM_RECTANGLE -> BannerAdSize.MediumRectangle
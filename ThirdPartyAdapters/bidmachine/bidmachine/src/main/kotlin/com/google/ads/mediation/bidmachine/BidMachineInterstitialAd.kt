@@ -21,10 +21,14 @@ import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.ERROR_CODE_COULD_NOT_SHOW_FULLSCREEN_AD
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.ERROR_MSG_AD_REQUEST_EXPIRED
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.ERROR_MSG_COULD_NOT_SHOW_FULLSCREEN_AD
+import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.PLACEMENT_ID_KEY
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.WATERMARK_KEY
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.AdLatencyTracker
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationInterstitialAd
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback
@@ -53,6 +57,8 @@ private constructor(
   internal var interstitialRequestBuilder = InterstitialRequest.Builder(adPlacementConfig)
   private lateinit var bidMachineInterstitialAd: InterstitialAd
   private var interstitialAdCallback: MediationInterstitialAdCallback? = null
+  /** Times the stages of the load and show of this ad. */
+  private val latencyTracker = AdLatencyTracker(NETWORK_NAME, AdFormat.INTERSTITIAL)
 
   fun loadWaterfallAd(interstitialAd: InterstitialAd, context: Context) {
     val interstitialRequest = interstitialRequestBuilder.setListener(this).build()
@@ -71,6 +77,8 @@ private constructor(
     context: Context,
   ) {
     bidMachineInterstitialAd = interstitialAd
+    latencyTracker.startStage(Stage.TIME_TO_FILL)
+    latencyTracker.startStage(Stage.SDK_LOAD)
     interstitialRequest.request(context)
   }
 
@@ -86,6 +94,7 @@ private constructor(
       return
     }
 
+    latencyTracker.startStage(Stage.SHOW)
     bidMachineInterstitialAd.show()
   }
 
@@ -121,7 +130,11 @@ private constructor(
   }
 
   override fun onAdLoaded(interstitialAd: InterstitialAd) {
+    latencyTracker.endStage(Stage.SDK_LOAD)
+    latencyTracker.endStage(Stage.TIME_TO_FILL)
+    latencyTracker.startStage(Stage.LOAD_CALLBACK)
     interstitialAdCallback = mediationAdLoadCallback.onSuccess(this)
+    latencyTracker.endStage(Stage.LOAD_CALLBACK)
   }
 
   override fun onAdLoadFailed(interstitialAd: InterstitialAd, bMError: BMError) {
@@ -131,6 +144,7 @@ private constructor(
   }
 
   override fun onAdImpression(interstitialAd: InterstitialAd) {
+    latencyTracker.endStage(Stage.SHOW)
     interstitialAdCallback?.reportAdImpression()
     interstitialAdCallback?.onAdOpened()
   }
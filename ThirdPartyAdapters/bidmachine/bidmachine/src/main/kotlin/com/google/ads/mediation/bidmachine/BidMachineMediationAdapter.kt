@@ -19,6 +19,8 @@ import android.util.Log
 import androidx.annotation.VisibleForTesting
 import com.google.ads.mediation.bidmachine.BidMachineBannerAd.Companion.mapAdSizeToBidMachineBannerAdSize
 import com.google.ads.mediation.common.AgeRestrictedTreatmentUtils
+import com.google.ads.mediation.common.SignalCollector
+import com.google.ads.mediation.common.VersionInfoParser
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.AdSize
@@ -70,13 +72,8 @@ constructor(private val mediationUtils: MediationUtilsWrapper = MediationUtilsWr
       ?: getSDKVersionInfo(BidMachine.VERSION)
 
   private fun getSDKVersionInfo(sdkVersion: String): VersionInfo {
-    val splits = sdkVersion.split("\\.".toRegex()).dropLastWhile { it.isEmpty() }.toTypedArray()
-
-    if (splits.size >= 3) {
-      val major = splits[0].toInt()
-      val minor = splits[1].toInt()
-      val micro = splits[2].toInt()
-      return VersionInfo(major, minor, micro)
+    SDK_VERSION_PARSER.parse(sdkVersion)?.let {
+      return it
     }
 
     val logMessage =
@@ -93,12 +90,8 @@ constructor(private val mediationUtils: MediationUtilsWrapper = MediationUtilsWr
       ?: getVersionInfo(BuildConfig.ADAPTER_VERSION)
 
   private fun getVersionInfo(versionString: String): VersionInfo {
-    val splits = versionString.split("\\.".toRegex()).dropLastWhile { it.isEmpty() }.toTypedArray()
-    if (splits.size >= 4) {
-      val major = splits[0].toInt()
-      val minor = splits[1].toInt()
-      val micro = splits[2].toInt() * 100 + splits[3].toInt()
-      return VersionInfo(major, minor, micro)
+    ADAPTER_VERSION_PARSER.parse(versionString)?.let {
+      return it
     }
 
     val logMessage =
@@ -169,11 +162,21 @@ constructor(private val mediationUtils: MediationUtilsWrapper = MediationUtilsWr
       callback.onFailure(adError)
       return
     }
-    adPlacementConfigBuilder.withPlacementId(
-      signalData.configurations[0].serverParameters.getString(PLACEMENT_ID_KEY)
-    )
-    BidMachine.getBidToken(signalData.context, adPlacementConfigBuilder.build()) { bidToken ->
-      callback.onSuccess(bidToken)
+    val placementId = signalData.configurations[0].serverParameters.getString(PLACEMENT_ID_KEY)
+    adPlacementConfigBuilder.withPlacementId(placementId)
+    val adPlacementConfig = adPlacementConfigBuilder.build()
+    SignalCollector.getInstance().collectCachedSignals(
+      signalData.context,
+      NETWORK_NAME,
+      signalData.configurations[0].format,
+      // Bid tokens differ per placement and banner size.
+      qualifier = "$placementId/${signalData.adSize}",
+      signalCallbacks = callback,
+      timeoutMillis = SIGNAL_TIMEOUT_MILLIS,
+    ) { signalCallbacks ->
+      BidMachine.getBidToken(signalData.context, adPlacementConfig) { bidToken ->
+        signalCallbacks.onSuccess(bidToken)
+      }
     }
   }
 
@@ -323,6 +326,18 @@ constructor(private val mediationUtils: MediationUtilsWrapper = MediationUtilsWr
   }
 
   internal companion object {
+    /** Parses and caches the adapter version. */
+    private val ADAPTER_VERSION_PARSER = VersionInfoParser(4, 4)
+
+    /** Parses and caches the SDK version. */
+    private val SDK_VERSION_PARSER = VersionInfoParser(3, 3)
+
+    /** Deadline for BidMachine SDK to generate its bid token, which it does asynchronously. */
+    private const val SIGNAL_TIMEOUT_MILLIS = 1000L
+
+    /** The network name reported to the bid token cache and the ad latency metrics. */
+    const val NETWORK_NAME = "BidMachine"
+
     private val TAG = BidMachineMediationAdapter::class.simpleName
     @VisibleForTesting var bidMachineSdkVersionDelegate: String? = null
     @VisibleForTesting var adapterVersionDelegate: String? = null
@@ -25,10 +25,14 @@ import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.ERROR_CODE_EMPTY_NATIVE_AD_DATA
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.ERROR_MSG_AD_REQUEST_EXPIRED
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.ERROR_MSG_EMPTY_NATIVE_AD_DATA
+import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.PLACEMENT_ID_KEY
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.WATERMARK_KEY
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.AdLatencyTracker
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationNativeAdCallback
 import com.google.android.gms.ads.mediation.MediationNativeAdConfiguration
@@ -60,6 +64,8 @@ private constructor(
   @VisibleForTesting internal var nativeRequestBuilder = NativeRequest.Builder(adPlacementConfig)
   private lateinit var bidMachineNativeAd: NativeAd
   private var bidMachineMediaView: NativeMediaView? = null
+  /** Times the stages of the load of this ad. */
+  private val latencyTracker = AdLatencyTracker(NETWORK_NAME, AdFormat.NATIVE)
 
   fun loadWaterfallAd(nativeAd: NativeAd) {
     val nativeRequest = nativeRequestBuilder.setListener(this).build()
@@ -74,6 +80,8 @@ private constructor(
   private fun loadAd(nativeAd: NativeAd, nativeRequest: NativeRequest) {
     bidMachineNativeAd = nativeAd
     bidMachineNativeAd.setListener(this)
+    latencyTracker.startStage(Stage.TIME_TO_FILL)
+    latencyTracker.startStage(Stage.SDK_LOAD)
     nativeRequest.request(context)
   }
 
@@ -105,6 +113,7 @@ private constructor(
   }
 
   override fun onAdLoaded(nativeAd: NativeAd) {
+    latencyTracker.endStage(Stage.SDK_LOAD)
     val adData = bidMachineNativeAd.adData
     if (adData == null) {
       val adError =
@@ -116,10 +125,15 @@ private constructor(
       mediationNativeAdLoadCallback.onFailure(adError)
       return
     }
+    latencyTracker.startStage(Stage.ASSET_MAPPING)
     mapNativeAd(adData)
     bidMachineMediaView = NativeMediaView(context)
     bidMachineMediaView?.let { setMediaView(it) }
+    latencyTracker.endStage(Stage.ASSET_MAPPING)
+    latencyTracker.endStage(Stage.TIME_TO_FILL)
+    latencyTracker.startStage(Stage.LOAD_CALLBACK)
     nativeAdCallback = mediationNativeAdLoadCallback.onSuccess(this)
+    latencyTracker.endStage(Stage.LOAD_CALLBACK)
   }
 
   override fun trackViews(
@@ -21,10 +21,14 @@ import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.ERROR_CODE_COULD_NOT_SHOW_FULLSCREEN_AD
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.ERROR_MSG_AD_REQUEST_EXPIRED
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.ERROR_MSG_COULD_NOT_SHOW_FULLSCREEN_AD
+import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.PLACEMENT_ID_KEY
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.WATERMARK_KEY
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.AdLatencyTracker
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationRewardedAd
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback
@@ -53,6 +57,8 @@ private constructor(
   internal var rewardedRequestBuilder = RewardedRequest.Builder(adPlacementConfig)
   private lateinit var bidMachineRewardedAd: RewardedAd
   private var rewardedAdCallback: MediationRewardedAdCallback? = null
+  /** Times the stages of the load and show of this ad. */
+  private val latencyTracker = AdLatencyTracker(NETWORK_NAME, AdFormat.REWARDED)
 
   fun loadWaterfallAd(rewardedAd: RewardedAd, context: Context) {
     val rewardedRequest = rewardedRequestBuilder.setListener(this).build()
@@ -67,6 +73,8 @@ private constructor(
 
   private fun loadAd(rewardedAd: RewardedAd, rewardedRequest: RewardedRequest, context: Context) {
     bidMachineRewardedAd = rewardedAd
+    latencyTracker.startStage(Stage.TIME_TO_FILL)
+    latencyTracker.startStage(Stage.SDK_LOAD)
     rewardedRequest.request(context)
   }
 
@@ -82,6 +90,7 @@ private constructor(
       return
     }
 
+    latencyTracker.startStage(Stage.SHOW)
     bidMachineRewardedAd.show()
   }
 
@@ -114,7 +123,11 @@ private constructor(
   }
 
   override fun onAdLoaded(rewardedAd: RewardedAd) {
+    latencyTracker.endStage(Stage.SDK_LOAD)
+    latencyTracker.endStage(Stage.TIME_TO_FILL)
+    latencyTracker.startStage(Stage.LOAD_CALLBACK)
     rewardedAdCallback = mediationAdLoadCallback.onSuccess(this)
+    latencyTracker.endStage(Stage.LOAD_CALLBACK)
   }
 
   override fun onAdLoadFailed(rewardedAd: RewardedAd, bMError: BMError) {
@@ -124,6 +137,7 @@ private constructor(
   }
 
   override fun onAdImpression(rewardedAd: RewardedAd) {
+    latencyTracker.endStage(Stage.SHOW)
     rewardedAdCallback?.reportAdImpression()
     rewardedAdCallback?.onAdOpened()
   }
@@ -32,7 +32,11 @@ import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.ERROR_MSG_COULD_NOT_SHOW_FULLSCREEN_AD
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.PLACEMENT_ID_KEY
 import com.google.ads.mediation.bidmachine.BidMachineMediationAdapter.Companion.SDK_ERROR_DOMAIN
+import com.google.ads.mediation.common.AdLatencyMetrics
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.HistogramAdLatencyMetrics
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.mediation.MediationInterstitialAd
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback
 import com.google.common.truth.Truth.assertThat
@@ -226,6 +230,44 @@ class BidMachineInterstitialAdTest {
     assertThat(interstitialAdCallback.isOpened).isTrue()
   }
 
+  @Test
+  fun onAdImpression_withLatencyMetrics_recordsLoadAndShowStages() {
+    val adConfiguration =
+      createMediationInterstitialAdConfiguration(
+        context = context,
+        bidResponse = TEST_BID_RESPONSE,
+        serverParameters = bundleOf(PLACEMENT_ID_KEY to TEST_PLACEMENT_ID),
+        watermark = TEST_WATERMARK,
+      )
+    val latencyMetrics = HistogramAdLatencyMetrics()
+    AdLatencyMetrics.setInstance(latencyMetrics)
+    try {
+      bidMachineInterstitialAd =
+        BidMachineInterstitialAd.newInstance(adConfiguration, interstitialAdLoadCallback)
+          .getOrThrow()
+      bidMachineInterstitialAd.interstitialRequestBuilder =
+        mock<InterstitialRequest.Builder> {
+          on { setBidPayload(any()) } doReturn it
+          on { setListener(any()) } doReturn it
+          on { build() } doReturn mockInterstitialRequest
+        }
+      bidMachineInterstitialAd.loadRtbAd(mockInterstitialAd, context)
+      bidMachineInterstitialAd.onAdLoaded(mockInterstitialAd)
+
+      bidMachineInterstitialAd.showAd(context)
+      bidMachineInterstitialAd.onAdImpression(mockInterstitialAd)
+    } finally {
+      AdLatencyMetrics.setInstance(null)
+    }
+
+    for (stage in listOf(Stage.SDK_LOAD, Stage.LOAD_CALLBACK, Stage.TIME_TO_FILL, Stage.SHOW)) {
+      assertThat(
+          latencyMetrics.getHistogram("BidMachine", AdFormat.INTERSTITIAL, stage)!!.getCount()
+        )
+        .isEqualTo(1)
+    }
+  }
+
   @Test
   fun onAdClicked_invokesReportAdClicked() {
     bidMachineInterstitialAd.onAdLoaded(mockInterstitialAd)
@@ -23,6 +23,7 @@ import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_PLAC
 import com.google.ads.mediation.adaptertestkit.FakeInitializationCompleteCallback
 import com.google.ads.mediation.adaptertestkit.FakeMediationAdLoadCallback
 import com.google.ads.mediation.adaptertestkit.FakeSignalCallbacks
+import com.google.ads.mediation.adaptertestkit.InlineSignalCollectorRule
 import com.google.ads.mediation.adaptertestkit.assertGetSdkVersion
 import com.google.ads.mediation.adaptertestkit.assertGetVersionInfo
 import com.google.ads.mediation.adaptertestkit.assertThat
@@ -68,6 +69,7 @@ import io.bidmachine.nativead.NativeAd
 import io.bidmachine.rewarded.RewardedAd
 import org.junit.After
 import org.junit.Before
+import org.junit.Rule
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.MockedStatic
@@ -85,6 +87,8 @@ import org.mockito.kotlin.whenever
 
 @RunWith(AndroidJUnit4::class)
 class BidMachineMediationAdapterTest {
+  @get:Rule val inlineSignalCollectorRule = InlineSignalCollectorRule()
+
   // Subject of testing
   private lateinit var adapter: BidMachineMediationAdapter
   private lateinit var mockBidMachine: MockedStatic<BidMachine>
@@ -19,6 +19,15 @@ import com.google.android.gms.ads.AdError
 import sg.bigo.ads.api.AdSize
 
 object BigoUtils {
+  /** List of banner ad sizes supported by Bigo, kept in a constant so lookups don't allocate. */
+  private val SUPPORTED_BANNER_SIZES =
+    listOf(
+      com.google.android.gms.ads.AdSize.BANNER,
+      com.google.android.gms.ads.AdSize.MEDIUM_RECTANGLE,
+      com.google.android.gms.ads.AdSize.LARGE_BANNER,
+      com.google.android.gms.ads.AdSize.LEADERBOARD,
+    )
+
   fun getGmaAdError(code: Int, message: String, domain: String) = AdError(code, message, domain)
 
   fun mapAdSizeToBigoBannerSize(
@@ -26,16 +35,9 @@ object BigoUtils {
     adSize: com.google.android.gms.ads.AdSize,
     mediationUtils: MediationUtilsWrapper,
   ): AdSize {
-    // List of banner ad sizes supported by Bigo.
-    val supportedSizes =
-      listOf(
-        com.google.android.gms.ads.AdSize.BANNER,
-        com.google.android.gms.ads.AdSize.MEDIUM_RECTANGLE,
-        com.google.android.gms.ads.AdSize.LARGE_BANNER,
-        com.google.android.gms.ads.AdSize.LEADERBOARD,
-      )
     // Find the supported size that is closest to the publisher-requested size.
-    val closestSupportedSize = mediationUtils.findClosestSize(context, adSize, supportedSizes)
+    val closestSupportedSize =
+      mediationUtils.findClosestSize(context, adSize, SUPPORTED_BANNER_SIZES)
     return when (closestSupportedSize) {
       com.google.android.gms.ads.AdSize.BANNER -> AdSize.BANNER
       com.google.android.gms.ads.AdSize.MEDIUM_RECTANGLE -> AdSize.MEDIUM_RECTANGLE
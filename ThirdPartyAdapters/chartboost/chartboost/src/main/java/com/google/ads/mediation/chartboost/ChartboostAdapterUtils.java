@@ -28,13 +28,15 @@ import com.chartboost.sdk.Chartboost;
 import com.chartboost.sdk.Mediation;
 import com.chartboost.sdk.ads.Banner;
 import com.chartboost.sdk.privacy.model.COPPA;
+import com.google.ads.mediation.common.AdditionalConsentIndex;
 import com.google.ads.mediation.common.AgeRestrictedTreatmentUtils;
+import com.google.ads.mediation.common.BannerSizeCache;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.AgeRestrictedTreatment;
-import com.google.android.gms.ads.MediationUtils;
 import com.google.android.gms.ads.RequestConfiguration;
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Utility methods for the Chartboost Adapter.
@@ -71,6 +73,25 @@ class ChartboostAdapterUtils {
    */
   static final String LOCATION_DEFAULT = "default";
 
+  /**
+   * Google Mobile Ads SDK equivalents of the banner sizes supported by Chartboost.
+   */
+  private static final AdSize STANDARD_SIZE =
+      new AdSize(Banner.BannerSize.STANDARD.getWidth(), Banner.BannerSize.STANDARD.getHeight());
+
+  private static final AdSize MEDIUM_SIZE =
+      new AdSize(Banner.BannerSize.MEDIUM.getWidth(), Banner.BannerSize.MEDIUM.getHeight());
+
+  private static final AdSize LEADERBOARD_SIZE =
+      new AdSize(
+          Banner.BannerSize.LEADERBOARD.getWidth(), Banner.BannerSize.LEADERBOARD.getHeight());
+
+  /**
+   * Kept in a constant so that resolving the banner size of a refreshing banner doesn't allocate.
+   */
+  private static final List<AdSize> SUPPORTED_BANNER_SIZES =
+      Collections.unmodifiableList(Arrays.asList(STANDARD_SIZE, MEDIUM_SIZE, LEADERBOARD_SIZE));
+
   /**
    * Chartboost mediation object.
    */
@@ -142,31 +163,17 @@ class ChartboostAdapterUtils {
    */
   @Nullable
   static Banner.BannerSize findClosestBannerSize(@NonNull Context context, @NonNull AdSize adSize) {
-    AdSize standardSize =
-        new AdSize(
-            Banner.BannerSize.STANDARD.getWidth(), Banner.BannerSize.STANDARD.getHeight());
-    AdSize mediumSize =
-        new AdSize(Banner.BannerSize.MEDIUM.getWidth(), Banner.BannerSize.MEDIUM.getHeight());
-    AdSize leaderboardSize =
-        new AdSize(
-            Banner.BannerSize.LEADERBOARD.getWidth(),
-            Banner.BannerSize.LEADERBOARD.getHeight());
-
-    ArrayList<AdSize> potentials = new ArrayList<>();
-    potentials.add(standardSize);
-    potentials.add(mediumSize);
-    potentials.add(leaderboardSize);
-
-    AdSize supportedAdSize = MediationUtils.findClosestSize(context, adSize, potentials);
+    AdSize supportedAdSize =
+        BannerSizeCache.getInstance().findClosestSize(context, adSize, SUPPORTED_BANNER_SIZES);
     if (supportedAdSize == null) {
       return null;
     }
 
-    if (supportedAdSize.equals(standardSize)) {
+    if (supportedAdSize.equals(STANDARD_SIZE)) {
       return Banner.BannerSize.STANDARD;
-    } else if (supportedAdSize.equals(mediumSize)) {
+    } else if (supportedAdSize.equals(MEDIUM_SIZE)) {
       return Banner.BannerSize.MEDIUM;
-    } else if (supportedAdSize.equals(leaderboardSize)) {
+    } else if (supportedAdSize.equals(LEADERBOARD_SIZE)) {
       return Banner.BannerSize.LEADERBOARD;
     }
     return null;
@@ -200,123 +207,13 @@ class ChartboostAdapterUtils {
    */
   static @NonNull ConsentResult hasACConsent(@NonNull Context context, int vendorId) {
     SharedPreferences sharedPref = PreferenceManager.getDefaultSharedPreferences(context);
-
-    int gdprApplies = -1;
-    try {
-      gdprApplies = sharedPref.getInt("IABTCF_gdprApplies", -1);
-    } catch (ClassCastException exception) {
-      Log.w(
-          TAG,
-          "Could not parse IABTCF_gdprApplies as an integer. Did your CMP write it correctly?",
-          exception);
-    }
-
-    if (gdprApplies != 1) {
-      return ConsentResult.UNKNOWN;
-    }
-
-    String additionalConsentString = "";
-    try {
-      additionalConsentString = sharedPref.getString("IABTCF_AddtlConsent", "");
-    } catch (ClassCastException exception) {
-      Log.w(
-          TAG,
-          "Could not parse IABTCF_AddtlConsent as a string. Did your CMP write it correctly?",
-          exception);
-    }
-
-    if (TextUtils.isEmpty(additionalConsentString)) {
-      return ConsentResult.UNKNOWN;
-    }
-
-    String vendorIdString = String.valueOf(vendorId);
-    String[] additionalConsentParts = additionalConsentString.split("~");
-
-    int version;
-    try {
-      version = Integer.parseInt(additionalConsentParts[0]);
-    } catch (Exception exception) {
-      Log.w(
-          TAG,
-          "Could not parse the IABTCF_AddtlConsent spec version. Did your CMP write it correctly?",
-          exception);
-      return ConsentResult.UNKNOWN;
-    }
-
-    if (version == 1) {
-      // Spec version 1
-      Log.w(
-          TAG,
-          "The IABTCF_AddtlConsent string uses version 1 of Google’s Additional Consent spec."
-              + " Version 1 does not report vendors to whom the user denied consent. To detect"
-              + " vendors that the user denied consent, upgrade to a CMP that supports version 2 of"
-              + " Google's Additional Consent technical specification.");
-
-      if (additionalConsentParts.length == 1) {
-        // The AC string had no consented vendor.
-        return ConsentResult.UNKNOWN;
-      }
-
-      if (additionalConsentParts.length == 2) {
-        String[] consentedIds = additionalConsentParts[1].split("\\.");
-        if (Arrays.asList(consentedIds).contains(vendorIdString)) {
-          return ConsentResult.TRUE;
-        }
-
-        // The targeting vendor ID is not included in the consented vendor list
-        return ConsentResult.UNKNOWN;
-      }
-
-      String errorMessage =
-          String.format(
-              "Could not parse the IABTCF_AddtlConsent string: \"%s\". String had more parts than"
-                  + " expected. Did your CMP write IABTCF_AddtlConsent correctly?",
-              additionalConsentString);
-      Log.w(TAG, errorMessage);
-      return ConsentResult.UNKNOWN;
-    } else if (version >= 2) {
-      // Spec version 2
-      if (additionalConsentParts.length < 3) {
-        String errorMessage =
-            String.format(
-                "Could not parse the IABTCF_AddtlConsent string: \"%s\". String had less parts than"
-                    + " expected. Did your CMP write IABTCF_AddtlConsent correctly?",
-                additionalConsentString);
-        Log.w(TAG, errorMessage);
-        return ConsentResult.UNKNOWN;
-      }
-
-      String[] disclosedIds = additionalConsentParts[2].split("\\.");
-      if (!disclosedIds[0].equals("dv")) {
-        String errorMessage =
-            String.format(
-                "Could not parse the IABTCF_AddtlConsent string: \"%s\". Expected disclosed vendors"
-                    + " part to have the string \"dv.\". Did your CMP write IABTCF_AddtlConsent"
-                    + " correctly?",
-                additionalConsentString);
-        Log.w(TAG, errorMessage);
-        return ConsentResult.UNKNOWN;
-      }
-
-      String[] consentedIds = additionalConsentParts[1].split("\\.");
-      if (Arrays.asList(consentedIds).contains(vendorIdString)) {
+    switch (AdditionalConsentIndex.getInstance().getConsentResult(sharedPref, vendorId)) {
+      case TRUE:
         return ConsentResult.TRUE;
-      }
-
-      if (Arrays.asList(disclosedIds).contains(vendorIdString)) {
+      case FALSE:
         return ConsentResult.FALSE;
-      }
-
-      return ConsentResult.UNKNOWN;
-    } else {
-      // Unknown spec version
-      String errorMessage =
-          String.format(
-              "Could not parse the IABTCF_AddtlConsent string: \"%s\". Spec version was unexpected."
-                  + " Did your CMP write IABTCF_AddtlConsent correctly?",
-              additionalConsentString);
-      Log.w(TAG, errorMessage);
-      return ConsentResult.UNKNOWN;
+      default:
+        return ConsentResult.UNKNOWN;
     }
   }
 
@@ -16,6 +16,7 @@ package com.google.ads.mediation.chartboost;
 
 import static com.google.ads.mediation.chartboost.ChartboostConstants.ERROR_BANNER_SIZE_MISMATCH;
 import static com.google.ads.mediation.chartboost.ChartboostConstants.ERROR_INVALID_SERVER_PARAMETERS;
+import static com.google.ads.mediation.chartboost.ChartboostMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.chartboost.ChartboostMediationAdapter.TAG;
 
 import android.content.Context;
@@ -36,7 +37,10 @@ import com.chartboost.sdk.events.ExpirationEvent;
 import com.chartboost.sdk.events.ImpressionEvent;
 import com.chartboost.sdk.events.ShowError;
 import com.chartboost.sdk.events.ShowEvent;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
@@ -53,6 +57,10 @@ public class ChartboostBannerAd implements MediationBannerAd, BannerCallback {
       mediationAdLoadCallback;
   private MediationBannerAdCallback bannerAdCallback;
 
+  /** Times the stages of the load of this ad. */
+  private final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.BANNER);
+
   public ChartboostBannerAd(
       @NonNull
           MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback>
@@ -61,6 +69,7 @@ public class ChartboostBannerAd implements MediationBannerAd, BannerCallback {
   }
 
   public void loadAd(MediationBannerAdConfiguration bannerAdConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     final Context context = bannerAdConfiguration.getContext();
     Bundle serverParameters = bannerAdConfiguration.getServerParameters();
 
@@ -92,6 +101,7 @@ public class ChartboostBannerAd implements MediationBannerAd, BannerCallback {
 
     final String location = chartboostParams.getLocation();
     ChartboostAdapterUtils.updateCoppaStatus(context, MobileAds.getRequestConfiguration());
+    latencyTracker.startStage(Stage.INITIALIZATION);
     ChartboostInitializer.getInstance()
         .initialize(
             context,
@@ -99,6 +109,7 @@ public class ChartboostBannerAd implements MediationBannerAd, BannerCallback {
             new ChartboostInitializer.Listener() {
               @Override
               public void onInitializationSucceeded() {
+                latencyTracker.endStage(Stage.INITIALIZATION);
                 createAndLoadBannerAd(context, location, supportedAdSize);
               }
 
@@ -137,6 +148,7 @@ public class ChartboostBannerAd implements MediationBannerAd, BannerCallback {
             ChartboostAdapterUtils.getChartboostMediation());
     bannerContainer.addView(chartboostBannerAd, paramsLayout);
     // Chartboost banner requires cache call to be loaded. It has to be done before show call.
+    latencyTracker.startStage(Stage.SDK_LOAD);
     chartboostBannerAd.cache();
   }
 
@@ -177,7 +189,11 @@ public class ChartboostBannerAd implements MediationBannerAd, BannerCallback {
     }
 
     Log.d(TAG, "Chartboost banner ad has been loaded.");
+    latencyTracker.endStage(Stage.SDK_LOAD);
+    latencyTracker.endStage(Stage.TIME_TO_FILL);
+    latencyTracker.startStage(Stage.LOAD_CALLBACK);
     bannerAdCallback = mediationAdLoadCallback.onSuccess(ChartboostBannerAd.this);
+    latencyTracker.endStage(Stage.LOAD_CALLBACK);
     cacheEvent.getAd().show();
   }
 
@@ -29,9 +29,9 @@ import com.chartboost.sdk.privacy.model.DataUseConsent;
 import com.chartboost.sdk.privacy.model.GDPR;
 import com.chartboost.sdk.privacy.model.GDPR.GDPR_CONSENT;
 import com.google.ads.mediation.chartboost.ChartboostAdapterUtils.ConsentResult;
+import com.google.ads.mediation.common.SingleFlightInitializer;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.MobileAds;
-import java.util.ArrayList;
 
 /**
  * The {@link ChartboostInitializer} class is used to handle initialization process.
@@ -40,11 +40,9 @@ public class ChartboostInitializer {
 
   private static ChartboostInitializer instance;
 
-  private boolean isInitializing = false;
-  private boolean isInitialized = false;
-  private final ArrayList<Listener> initListeners = new ArrayList<>();
+  private final SingleFlightInitializer<Listener> initializer = new SingleFlightInitializer<>();
 
-  public static ChartboostInitializer getInstance() {
+  public static synchronized ChartboostInitializer getInstance() {
     if (instance == null) {
       instance = new ChartboostInitializer();
     }
@@ -53,19 +51,16 @@ public class ChartboostInitializer {
 
   public void initialize(@NonNull final Context context,
       @NonNull ChartboostParams chartboostParams, @NonNull final Listener listener) {
-    if (isInitializing) {
-      initListeners.add(listener);
-      return;
+    switch (initializer.addListener(listener)) {
+      case ALREADY_INITIALIZED:
+        listener.onInitializationSucceeded();
+        return;
+      case JOINED_PENDING_INITIALIZATION:
+        return;
+      case START_INITIALIZATION:
+        break;
     }
 
-    if (isInitialized) {
-      listener.onInitializationSucceeded();
-      return;
-    }
-
-    isInitializing = true;
-    initListeners.add(listener);
-
     ConsentResult consentResult =
         ChartboostAdapterUtils.hasACConsent(context, AD_TECHNOLOGY_PROVIDER_ID);
     if (consentResult == ChartboostAdapterUtils.ConsentResult.TRUE) {
@@ -82,21 +77,17 @@ public class ChartboostInitializer {
         new StartCallback() {
           @Override
           public void onStartCompleted(@Nullable StartError startError) {
-            isInitializing = false;
             if (startError == null) {
-              isInitialized = true;
               Log.d(TAG, "Chartboost SDK initialized.");
-              for (Listener initListener : initListeners) {
+              for (Listener initListener : initializer.completeWithSuccess()) {
                 initListener.onInitializationSucceeded();
               }
             } else {
-              isInitialized = false;
               AdError initializationError = ChartboostConstants.createSDKError(startError);
-              for (Listener initListener : initListeners) {
+              for (Listener initListener : initializer.completeWithFailure()) {
                 initListener.onInitializationFailed(initializationError);
               }
             }
-            initListeners.clear();
           }
         });
   }
@@ -117,7 +108,7 @@ public class ChartboostInitializer {
   }
 
   @VisibleForTesting
-  protected static void clearInstance() {
+  protected static synchronized void clearInstance() {
     instance = null;
   }
 }
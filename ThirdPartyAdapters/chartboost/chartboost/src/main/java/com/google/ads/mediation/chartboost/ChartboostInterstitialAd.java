@@ -16,6 +16,7 @@ package com.google.ads.mediation.chartboost;
 
 import static com.google.ads.mediation.chartboost.ChartboostConstants.ERROR_AD_NOT_READY;
 import static com.google.ads.mediation.chartboost.ChartboostConstants.ERROR_INVALID_SERVER_PARAMETERS;
+import static com.google.ads.mediation.chartboost.ChartboostMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.chartboost.ChartboostMediationAdapter.TAG;
 
 import android.content.Context;
@@ -35,7 +36,10 @@ import com.chartboost.sdk.events.ExpirationEvent;
 import com.chartboost.sdk.events.ImpressionEvent;
 import com.chartboost.sdk.events.ShowError;
 import com.chartboost.sdk.events.ShowEvent;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAd;
@@ -49,6 +53,10 @@ public class ChartboostInterstitialAd implements MediationInterstitialAd, Inters
       mediationAdLoadCallback;
   private MediationInterstitialAdCallback interstitialAdCallback;
 
+  /** Times the stages of the load and show of this ad. */
+  private final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.INTERSTITIAL);
+
   public ChartboostInterstitialAd(
       @NonNull
           MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>
@@ -57,6 +65,7 @@ public class ChartboostInterstitialAd implements MediationInterstitialAd, Inters
   }
 
   public void loadAd(MediationInterstitialAdConfiguration interstitialAdConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     final Context context = interstitialAdConfiguration.getContext();
     Bundle serverParameters = interstitialAdConfiguration.getServerParameters();
 
@@ -76,6 +85,7 @@ public class ChartboostInterstitialAd implements MediationInterstitialAd, Inters
 
     final String location = chartboostParams.getLocation();
     ChartboostAdapterUtils.updateCoppaStatus(context, MobileAds.getRequestConfiguration());
+    latencyTracker.startStage(Stage.INITIALIZATION);
     ChartboostInitializer.getInstance()
         .initialize(
             context,
@@ -83,6 +93,7 @@ public class ChartboostInterstitialAd implements MediationInterstitialAd, Inters
             new ChartboostInitializer.Listener() {
               @Override
               public void onInitializationSucceeded() {
+                latencyTracker.endStage(Stage.INITIALIZATION);
                 createAndLoadInterstitialAd(location);
               }
 
@@ -103,6 +114,7 @@ public class ChartboostInterstitialAd implements MediationInterstitialAd, Inters
       Log.w(TAG, error.toString());
       return;
     }
+    latencyTracker.startStage(Stage.SHOW);
     chartboostInterstitialAd.show();
   }
 
@@ -123,6 +135,7 @@ public class ChartboostInterstitialAd implements MediationInterstitialAd, Inters
             location,
             ChartboostInterstitialAd.this,
             ChartboostAdapterUtils.getChartboostMediation());
+    latencyTracker.startStage(Stage.SDK_LOAD);
     chartboostInterstitialAd.cache();
   }
 
@@ -146,6 +159,7 @@ public class ChartboostInterstitialAd implements MediationInterstitialAd, Inters
   public void onAdShown(@NonNull ShowEvent showEvent, @Nullable ShowError showError) {
     if (showError == null) {
       Log.d(TAG, "Chartboost interstitial has been shown.");
+      latencyTracker.endStage(Stage.SHOW);
       if (interstitialAdCallback != null) {
         interstitialAdCallback.onAdOpened();
       }
@@ -168,7 +182,11 @@ public class ChartboostInterstitialAd implements MediationInterstitialAd, Inters
     if (cacheError == null) {
       Log.d(TAG, "Chartboost interstitial ad has been loaded.");
       if (mediationAdLoadCallback != null) {
+        latencyTracker.endStage(Stage.SDK_LOAD);
+        latencyTracker.endStage(Stage.TIME_TO_FILL);
+        latencyTracker.startStage(Stage.LOAD_CALLBACK);
         interstitialAdCallback = mediationAdLoadCallback.onSuccess(ChartboostInterstitialAd.this);
+        latencyTracker.endStage(Stage.LOAD_CALLBACK);
       }
     } else {
       AdError error = ChartboostConstants.createSDKError(cacheError);
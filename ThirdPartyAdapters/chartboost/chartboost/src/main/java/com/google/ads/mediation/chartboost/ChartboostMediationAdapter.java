@@ -24,6 +24,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import com.chartboost.sdk.Chartboost;
+import com.google.ads.mediation.common.VersionInfoParser;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.VersionInfo;
 import com.google.android.gms.ads.mediation.Adapter;
@@ -48,6 +49,12 @@ import java.util.List;
  */
 public class ChartboostMediationAdapter extends Adapter {
 
+  /** Parses and caches the adapter version. */
+  private static final VersionInfoParser ADAPTER_VERSION_PARSER = new VersionInfoParser(4, 4);
+
+  /** Parses and caches the SDK version. */
+  private static final VersionInfoParser SDK_VERSION_PARSER = new VersionInfoParser(3, 3);
+
   @VisibleForTesting
   static final String ERROR_MESSAGE_MISSING_OR_INVALID_APP_ID = "Missing or invalid App ID.";
 
@@ -56,6 +63,9 @@ public class ChartboostMediationAdapter extends Adapter {
 
   static final String TAG = ChartboostMediationAdapter.class.getSimpleName();
 
+  /** The network name reported to the ad latency metrics. */
+  static final String NETWORK_NAME = "Chartboost";
+
   private ChartboostBannerAd bannerAd;
   private ChartboostInterstitialAd interstitialAd;
   private ChartboostRewardedAd rewardedAd;
@@ -79,13 +89,9 @@ public class ChartboostMediationAdapter extends Adapter {
   @Override
   public VersionInfo getVersionInfo() {
     String versionString = ChartboostAdapterUtils.getAdapterVersion();
-    String[] splits = versionString.split("\\.");
-
-    if (splits.length >= 4) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int micro = Integer.parseInt(splits[2]) * 100 + Integer.parseInt(splits[3]);
-      return new VersionInfo(major, minor, micro);
+    VersionInfo versionInfo = ADAPTER_VERSION_PARSER.parse(versionString);
+    if (versionInfo != null) {
+      return versionInfo;
     }
 
     String logMessage =
@@ -100,13 +106,9 @@ public class ChartboostMediationAdapter extends Adapter {
   @Override
   public VersionInfo getSDKVersionInfo() {
     String versionString = Chartboost.getSDKVersion();
-    String[] splits = versionString.split("\\.");
-
-    if (splits.length >= 3) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int micro = Integer.parseInt(splits[2]);
-      return new VersionInfo(major, minor, micro);
+    VersionInfo versionInfo = SDK_VERSION_PARSER.parse(versionString);
+    if (versionInfo != null) {
+      return versionInfo;
     }
 
     String logMessage =
@@ -16,6 +16,7 @@ package com.google.ads.mediation.chartboost;
 
 import static com.google.ads.mediation.chartboost.ChartboostConstants.ERROR_AD_NOT_READY;
 import static com.google.ads.mediation.chartboost.ChartboostConstants.ERROR_INVALID_SERVER_PARAMETERS;
+import static com.google.ads.mediation.chartboost.ChartboostMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.chartboost.ChartboostMediationAdapter.TAG;
 
 import android.content.Context;
@@ -35,7 +36,10 @@ import com.chartboost.sdk.events.ImpressionEvent;
 import com.chartboost.sdk.events.RewardEvent;
 import com.chartboost.sdk.events.ShowError;
 import com.chartboost.sdk.events.ShowEvent;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAd;
@@ -50,6 +54,10 @@ public class ChartboostRewardedAd implements MediationRewardedAd, RewardedCallba
       mediationAdLoadCallback;
   private MediationRewardedAdCallback rewardedAdCallback;
 
+  /** Times the stages of the load and show of this ad. */
+  private final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.REWARDED);
+
   public ChartboostRewardedAd(
       @NonNull
           MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>
@@ -58,6 +66,7 @@ public class ChartboostRewardedAd implements MediationRewardedAd, RewardedCallba
   }
 
   public void loadAd(MediationRewardedAdConfiguration rewardedAdConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     final Context context = rewardedAdConfiguration.getContext();
     Bundle serverParameters = rewardedAdConfiguration.getServerParameters();
 
@@ -76,6 +85,7 @@ public class ChartboostRewardedAd implements MediationRewardedAd, RewardedCallba
 
     final String location = chartboostParams.getLocation();
     ChartboostAdapterUtils.updateCoppaStatus(context, MobileAds.getRequestConfiguration());
+    latencyTracker.startStage(Stage.INITIALIZATION);
     ChartboostInitializer.getInstance()
         .initialize(
             context,
@@ -83,11 +93,13 @@ public class ChartboostRewardedAd implements MediationRewardedAd, RewardedCallba
             new ChartboostInitializer.Listener() {
               @Override
               public void onInitializationSucceeded() {
+                latencyTracker.endStage(Stage.INITIALIZATION);
                 chartboostRewardedAd =
                     new Rewarded(
                         location,
                         ChartboostRewardedAd.this,
                         ChartboostAdapterUtils.getChartboostMediation());
+                latencyTracker.startStage(Stage.SDK_LOAD);
                 chartboostRewardedAd.cache();
               }
 
@@ -108,6 +120,7 @@ public class ChartboostRewardedAd implements MediationRewardedAd, RewardedCallba
       Log.w(TAG, error.toString());
       return;
     }
+    latencyTracker.startStage(Stage.SHOW);
     chartboostRewardedAd.show();
   }
 
@@ -140,6 +153,7 @@ public class ChartboostRewardedAd implements MediationRewardedAd, RewardedCallba
   public void onAdShown(@NonNull ShowEvent showEvent, @Nullable ShowError showError) {
     if (showError == null) {
       Log.d(TAG, "Chartboost rewarded ad has been shown.");
+      latencyTracker.endStage(Stage.SHOW);
       if (rewardedAdCallback != null) {
         rewardedAdCallback.onAdOpened();
         rewardedAdCallback.onVideoStart();
@@ -163,7 +177,11 @@ public class ChartboostRewardedAd implements MediationRewardedAd, RewardedCallba
     if (cacheError == null) {
       Log.d(TAG, "Chartboost rewarded ad has been loaded.");
       if (mediationAdLoadCallback != null) {
+        latencyTracker.endStage(Stage.SDK_LOAD);
+        latencyTracker.endStage(Stage.TIME_TO_FILL);
+        latencyTracker.startStage(Stage.LOAD_CALLBACK);
         rewardedAdCallback = mediationAdLoadCallback.onSuccess(ChartboostRewardedAd.this);
+        latencyTracker.endStage(Stage.LOAD_CALLBACK);
       }
     } else {
       AdError error = ChartboostConstants.createSDKError(cacheError);
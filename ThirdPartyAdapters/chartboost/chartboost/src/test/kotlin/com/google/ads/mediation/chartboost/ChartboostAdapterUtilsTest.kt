@@ -28,11 +28,13 @@ import com.google.ads.mediation.chartboost.ChartboostAdapterUtils.KEY_APP_ID
 import com.google.ads.mediation.chartboost.ChartboostAdapterUtils.KEY_APP_SIGNATURE
 import com.google.ads.mediation.chartboost.ChartboostAdapterUtils.LOCATION_DEFAULT
 import com.google.ads.mediation.chartboost.ChartboostConstants.AD_TECHNOLOGY_PROVIDER_ID
+import com.google.ads.mediation.common.BannerSizeCache
 import com.google.android.gms.ads.AdSize
 import com.google.android.gms.ads.MediationUtils
 import com.google.android.gms.ads.RequestConfiguration
 import com.google.common.truth.Truth.assertThat
 import kotlin.test.assertIs
+import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.Mockito.mockStatic
@@ -53,6 +55,12 @@ class ChartboostAdapterUtilsTest {
     mock<Context> { on { getSharedPreferences(any(), any()) } doReturn sharedPreferences }
   private val appContext = ApplicationProvider.getApplicationContext<Context>()
 
+  @Before
+  fun setUp() {
+    // Resolved banner sizes are cached across tests otherwise.
+    BannerSizeCache.getInstance().clear()
+  }
+
   // region createChartboostParams() Tests
   @Test
   fun createChartboostParams_validBundle_returnsPopulatedChartboostParams() {
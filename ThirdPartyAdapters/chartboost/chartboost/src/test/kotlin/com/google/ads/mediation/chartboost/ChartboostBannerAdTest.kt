@@ -40,6 +40,7 @@ import com.google.ads.mediation.chartboost.ChartboostConstants.CHARTBOOST_SDK_ER
 import com.google.ads.mediation.chartboost.ChartboostConstants.ERROR_BANNER_SIZE_MISMATCH
 import com.google.ads.mediation.chartboost.ChartboostConstants.ERROR_DOMAIN
 import com.google.ads.mediation.chartboost.ChartboostConstants.ERROR_INVALID_SERVER_PARAMETERS
+import com.google.ads.mediation.common.BannerSizeCache
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.AdSize
 import com.google.android.gms.ads.MediationUtils
@@ -99,6 +100,7 @@ class ChartboostBannerAdTest {
     mockChartboost = mockStatic(Chartboost::class.java)
     mockMediationUtils = mockStatic(MediationUtils::class.java)
     ChartboostInitializer.clearInstance()
+    BannerSizeCache.getInstance().clear()
 
     mockChartboost
       .`when`<Unit> { Chartboost.startWithAppId(any(), any(), any(), any()) }
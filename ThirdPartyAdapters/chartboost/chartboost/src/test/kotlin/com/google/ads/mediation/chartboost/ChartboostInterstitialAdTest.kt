@@ -39,7 +39,11 @@ import com.google.ads.mediation.chartboost.ChartboostAdapterUtils.KEY_APP_SIGNAT
 import com.google.ads.mediation.chartboost.ChartboostConstants.CHARTBOOST_SDK_ERROR_DOMAIN
 import com.google.ads.mediation.chartboost.ChartboostConstants.ERROR_DOMAIN
 import com.google.ads.mediation.chartboost.ChartboostConstants.ERROR_INVALID_SERVER_PARAMETERS
+import com.google.ads.mediation.common.AdLatencyMetrics
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.HistogramAdLatencyMetrics
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationInterstitialAd
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback
@@ -272,6 +276,45 @@ class ChartboostInterstitialAdTest {
       }
   }
 
+  @Test
+  fun onAdShown_withLatencyMetrics_recordsLoadAndShowStages() {
+    val serverParameters =
+      bundleOf(
+        KEY_APP_ID to TEST_APP_ID,
+        KEY_APP_SIGNATURE to TEST_APP_SIGNATURE,
+        KEY_AD_LOCATION to TEST_LOCATION,
+      )
+    val config =
+      createMediationInterstitialAdConfiguration(
+        context = context,
+        serverParameters = serverParameters,
+      )
+    val latencyMetrics = HistogramAdLatencyMetrics()
+    AdLatencyMetrics.setInstance(latencyMetrics)
+    try {
+      interstitialAd = ChartboostInterstitialAd(mediationAdLoadCallback)
+      mockConstruction(Interstitial::class.java) { mock, _ ->
+          whenever(mock.isCached()) doReturn true
+        }
+        .use {
+          interstitialAd.loadAd(config)
+          interstitialAd.onAdLoaded(cacheEvent, null)
+
+          interstitialAd.showAd(context)
+          interstitialAd.onAdShown(showEvent, null)
+        }
+    } finally {
+      AdLatencyMetrics.setInstance(null)
+    }
+
+    for (stage in Stage.values().filter { it != Stage.ASSET_MAPPING && it != Stage.IMAGE_LOAD }) {
+      assertThat(
+          latencyMetrics.getHistogram("Chartboost", AdFormat.INTERSTITIAL, stage)!!.getCount()
+        )
+        .isEqualTo(1)
+    }
+  }
+
   @Test
   fun onAdDismiss_invokesOnAdClosed() {
     interstitialAd.onAdLoaded(cacheEvent, null)
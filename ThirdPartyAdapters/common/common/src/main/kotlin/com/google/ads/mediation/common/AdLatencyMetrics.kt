@@ -0,0 +1,74 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import com.google.android.gms.ads.AdFormat
+
+/**
+ * Receives how long each stage of the ad loads and shows of adapters takes, per network and ad
+ * format.
+ *
+ * No metrics are recorded by default. Install an implementation with [setInstance], for example a
+ * [HistogramAdLatencyMetrics] to compare the latency percentiles of every network. Adapters time
+ * their stages with an [AdLatencyTracker], which reports them to the metrics installed when the
+ * tracker was created.
+ */
+fun interface AdLatencyMetrics {
+
+  /** The timed stages of an ad load and show. Stages may overlap. */
+  enum class Stage {
+    /** Waiting for the third-party SDK to initialize before loading the ad. */
+    INITIALIZATION,
+    /** The load call of the third-party SDK, until the SDK reports the ad as loaded. */
+    SDK_LOAD,
+    /** Mapping the assets of a native ad to the Google Mobile Ads SDK. */
+    ASSET_MAPPING,
+    /** The `MediationAdLoadCallback.onSuccess` call returning the loaded ad. */
+    LOAD_CALLBACK,
+    /** From the ad request until the loaded ad is returned to the Google Mobile Ads SDK. */
+    TIME_TO_FILL,
+    /** From the show call until the third-party SDK reports the ad as shown. */
+    SHOW,
+    /**
+     * Loading one image of a native ad, reported once per image. Images loaded concurrently
+     * overlap.
+     */
+    IMAGE_LOAD,
+  }
+
+  /**
+   * Records that [stage] of an ad of [adFormat] from [network] took [durationMillis]. Called on the
+   * thread the stage ended on, which is often the main thread, so implementations must be fast and
+   * thread-safe.
+   *
+   * @param network the network name, as shown in the adapter's changelog (e.g. "AppLovin").
+   */
+  fun recordStage(network: String, adFormat: AdFormat, stage: Stage, durationMillis: Long)
+
+  companion object {
+    internal val NO_OP = AdLatencyMetrics { _, _, _, _ -> }
+
+    @Volatile private var instance: AdLatencyMetrics = NO_OP
+
+    /** Returns the metrics that adapters report to, which record nothing unless one is set. */
+    @JvmStatic fun getInstance(): AdLatencyMetrics = instance
+
+    /** Sets the metrics that adapters report to, or stops recording metrics if null. */
+    @JvmStatic
+    fun setInstance(metrics: AdLatencyMetrics?) {
+      instance = metrics ?: NO_OP
+    }
+  }
+}
@@ -0,0 +1,80 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.os.SystemClock
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.android.gms.ads.AdFormat
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLongArray
+
+/**
+ * Times the stages of the load and show of one ad, and reports them to the [AdLatencyMetrics]
+ * installed when the tracker is created.
+ *
+ * Adapters create one tracker per ad, and start and end each stage where it starts and ends. A
+ * started stage is reported once, when it ends: ending a stage that was not started, for example
+ * the [Stage.TIME_TO_FILL] of a load that failed before it was timed, does nothing. Timing a stage
+ * doesn't allocate, and does nothing at all when no metrics are installed.
+ *
+ * Stages are timed with [SystemClock.elapsedRealtimeNanos], so that short stages such as native
+ * asset mapping are not skewed by the millisecond clock ticking in between.
+ *
+ * @param network the network name, as shown in the adapter's changelog (e.g. "AppLovin").
+ */
+class AdLatencyTracker(private val network: String, private val adFormat: AdFormat) {
+
+  private val metrics = AdLatencyMetrics.getInstance()
+
+  /** Start times of the stages, or null if no metrics are installed. */
+  private val stageStartNanos: AtomicLongArray? =
+    if (metrics === AdLatencyMetrics.NO_OP) {
+      null
+    } else {
+      AtomicLongArray(Stage.values().size).apply {
+        for (index in 0 until length()) {
+          set(index, NOT_STARTED)
+        }
+      }
+    }
+
+  /** Starts [stage], or restarts it if it already started. */
+  fun startStage(stage: Stage) {
+    stageStartNanos?.set(stage.ordinal, SystemClock.elapsedRealtimeNanos())
+  }
+
+  /** Ends [stage] and reports its duration, if it started. */
+  fun endStage(stage: Stage) {
+    val startNanos = stageStartNanos?.getAndSet(stage.ordinal, NOT_STARTED) ?: return
+    if (startNanos != NOT_STARTED) {
+      val durationNanos = SystemClock.elapsedRealtimeNanos() - startNanos
+      metrics.recordStage(network, adFormat, stage, TimeUnit.NANOSECONDS.toMillis(durationNanos))
+    }
+  }
+
+  /**
+   * Reports that [stage] took [durationMillis], for stages that the adapter times itself, e.g. the
+   * [Stage.IMAGE_LOAD] of images loaded concurrently.
+   */
+  fun recordStage(stage: Stage, durationMillis: Long) {
+    if (stageStartNanos != null) {
+      metrics.recordStage(network, adFormat, stage, durationMillis)
+    }
+  }
+
+  private companion object {
+    const val NOT_STARTED = Long.MIN_VALUE
+  }
+}
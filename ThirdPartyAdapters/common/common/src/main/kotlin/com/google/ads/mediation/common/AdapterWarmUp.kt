@@ -0,0 +1,233 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.content.Context
+import android.os.Bundle
+import android.os.Handler
+import android.os.Looper
+import android.os.SystemClock
+import android.util.Log
+import androidx.annotation.VisibleForTesting
+import com.google.android.gms.ads.AdFormat
+import com.google.android.gms.ads.mediation.Adapter
+import com.google.android.gms.ads.mediation.InitializationCompleteCallback
+import com.google.android.gms.ads.mediation.MediationConfiguration
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Opt-in API to initialize the third-party SDKs of several mediation adapters concurrently, ahead
+ * of the first ad request.
+ *
+ * [Adapter.initialize] is called for each [WarmUpRequest] on the main thread, as the Google Mobile
+ * Ads SDK does, since many third-party SDKs must be initialized there. The third-party SDKs then
+ * initialize concurrently, and the time until each adapter reports completion is recorded per
+ * network. Adapters coalesce initialization requests, so an ad load that starts while a warm-up is
+ * in flight waits for that initialization instead of starting another one. [awaitWarmUp] can also
+ * be used to wait for a given network explicitly.
+ *
+ * Warming up the same adapter class more than once is a no-op until its previous warm-up failed.
+ */
+object AdapterWarmUp {
+
+  private const val TAG = "AdapterWarmUp"
+
+  /** A request to initialize [adapter] with [serverParameters]. */
+  class WarmUpRequest
+  @JvmOverloads
+  constructor(
+    val adapter: Adapter,
+    val serverParameters: Bundle,
+    val adFormat: AdFormat = AdFormat.BANNER,
+  ) {
+    /** The name under which the warm-up of this adapter is recorded. */
+    val network: String
+      get() = adapter.javaClass.name
+  }
+
+  /** The outcome of the warm-up of a single network. */
+  class WarmUpResult(
+    val network: String,
+    /** Time from the start of the initialization until the adapter reported completion. */
+    val latencyMillis: Long,
+    /** The initialization error reported by the adapter, or null if it succeeded. */
+    val errorMessage: String?,
+  ) {
+    val isSuccess: Boolean
+      get() = errorMessage == null
+
+    override fun toString() =
+      "WarmUpResult(network=$network, latencyMillis=$latencyMillis, errorMessage=$errorMessage)"
+  }
+
+  /** Listener notified once every network of a [warmUp] call completed. */
+  fun interface WarmUpListener {
+    fun onWarmUpComplete(results: List<WarmUpResult>)
+  }
+
+  /** Tracks the warm-up of one network. */
+  private class WarmUp {
+    val latch = CountDownLatch(1)
+    @Volatile var result: WarmUpResult? = null
+    private val listeners = mutableListOf<(WarmUpResult) -> Unit>()
+
+    /** Calls [listener] with the result of this warm-up, immediately if it is already known. */
+    fun addListener(listener: (WarmUpResult) -> Unit) {
+      synchronized(this) {
+        if (result == null) {
+          listeners.add(listener)
+          return
+        }
+      }
+      listener(result!!)
+    }
+
+    fun complete(result: WarmUpResult) {
+      val pendingListeners =
+        synchronized(this) {
+          this.result = result
+          listeners.toList().also { listeners.clear() }
+        }
+      latch.countDown()
+      pendingListeners.forEach { it(result) }
+    }
+  }
+
+  private val warmUps = ConcurrentHashMap<String, WarmUp>()
+
+  /**
+   * Initializes the adapters of [requests] on the main thread.
+   *
+   * @param listener notified once every adapter completed initialization, on the thread on which
+   *   the last adapter reported completion.
+   */
+  @JvmStatic
+  @JvmOverloads
+  fun warmUp(context: Context, requests: List<WarmUpRequest>, listener: WarmUpListener? = null) {
+    warmUp(context, requests, listener, mainExecutor)
+  }
+
+  private val mainExecutor: Executor by lazy {
+    val mainHandler = Handler(Looper.getMainLooper())
+    Executor { mainHandler.post(it) }
+  }
+
+  @VisibleForTesting
+  internal fun warmUp(
+    context: Context,
+    requests: List<WarmUpRequest>,
+    listener: WarmUpListener?,
+    mainExecutor: Executor,
+  ) {
+    val applicationContext = context.applicationContext ?: context
+    val results = ConcurrentHashMap<String, WarmUpResult>()
+    val remaining = AtomicInteger(requests.size)
+    val onNetworkComplete = { result: WarmUpResult ->
+      results[result.network] = result
+      if (remaining.decrementAndGet() == 0) {
+        listener?.onWarmUpComplete(requests.mapNotNull { results[it.network] })
+      }
+    }
+    if (requests.isEmpty()) {
+      listener?.onWarmUpComplete(emptyList())
+      return
+    }
+
+    for (request in requests) {
+      val warmUp = WarmUp()
+      val existingWarmUp = warmUps.putIfAbsent(request.network, warmUp)
+      if (existingWarmUp != null) {
+        // Already warmed up or in flight: report its outcome once it is known, without
+        // initializing the adapter again.
+        existingWarmUp.addListener(onNetworkComplete)
+        continue
+      }
+      warmUp.addListener(onNetworkComplete)
+      val configurations =
+        listOf(MediationConfiguration(request.adFormat, request.serverParameters))
+      mainExecutor.execute { initialize(applicationContext, request, configurations, warmUp) }
+    }
+  }
+
+  /**
+   * Returns the outcome of the warm-up of [network] (the adapter class name), or null if it was
+   * not requested or has not completed yet.
+   */
+  @JvmStatic fun getResult(network: String): WarmUpResult? = warmUps[network]?.result
+
+  /**
+   * Blocks until the warm-up of [network] (the adapter class name) completes, for at most
+   * [timeout]. Must not be called on the main thread.
+   *
+   * @return the outcome of the warm-up, or null if it was not requested or did not complete in
+   *   time.
+   */
+  @JvmStatic
+  fun awaitWarmUp(network: String, timeout: Long, unit: TimeUnit): WarmUpResult? {
+    val warmUp = warmUps[network] ?: return null
+    return if (warmUp.latch.await(timeout, unit)) warmUp.result else null
+  }
+
+  @VisibleForTesting
+  internal fun reset() {
+    warmUps.clear()
+  }
+
+  private fun initialize(
+    context: Context,
+    request: WarmUpRequest,
+    configurations: List<MediationConfiguration>,
+    warmUp: WarmUp,
+  ) {
+    val network = request.network
+    val startTimeMillis = SystemClock.elapsedRealtime()
+    val isComplete = AtomicBoolean()
+    val complete = { errorMessage: String? ->
+      if (isComplete.compareAndSet(false, true)) {
+        val result =
+          WarmUpResult(network, SystemClock.elapsedRealtime() - startTimeMillis, errorMessage)
+        Log.d(TAG, result.toString())
+        if (!result.isSuccess) {
+          // Allow a later warm-up to retry.
+          warmUps.remove(network, warmUp)
+        }
+        warmUp.complete(result)
+      }
+    }
+    try {
+      request.adapter.initialize(
+        context,
+        object : InitializationCompleteCallback {
+          override fun onInitializationSucceeded() {
+            complete(null)
+          }
+
+          override fun onInitializationFailed(errorMessage: String) {
+            complete(errorMessage)
+          }
+        },
+        configurations,
+      )
+    } catch (exception: RuntimeException) {
+      Log.w(TAG, "Failed to warm up $network.", exception)
+      complete(exception.toString())
+    }
+  }
+}
@@ -0,0 +1,313 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.content.SharedPreferences
+import android.util.Log
+import androidx.annotation.VisibleForTesting
+import java.util.Arrays
+import java.util.regex.Pattern
+
+/**
+ * A parsed index of the `IABTCF_AddtlConsent` string written by the CMP, shared by the adapters
+ * that forward Google's Additional Consent to their third-party SDK. For more details, see
+ * [Google’s Additional Consent technical specification](https://support.google.com/admob/answer/9681920).
+ *
+ * The string is parsed once into sorted arrays of consented and disclosed vendor IDs, so that
+ * looking up a vendor neither allocates nor scans the string. The parsed index is dropped when the
+ * CMP rewrites `IABTCF_gdprApplies` or `IABTCF_AddtlConsent`.
+ *
+ * Use [getInstance] to get the index shared by all adapters in the process.
+ */
+class AdditionalConsentIndex @VisibleForTesting internal constructor() {
+
+  /** Represents the result of a consent check for advertising purposes. */
+  enum class ConsentResult {
+    /** The consent status could not be determined, or consent does not apply. */
+    UNKNOWN,
+    /** The user has given their consent. */
+    TRUE,
+    /** The user has explicitly declined consent. */
+    FALSE,
+  }
+
+  /**
+   * The parsed consent state of [sharedPreferences]. Both vendor arrays are sorted. A null
+   * [consentedVendorIds] means that consent is [ConsentResult.UNKNOWN] for every vendor.
+   */
+  private class Index(
+    val sharedPreferences: SharedPreferences,
+    val consentedVendorIds: IntArray?,
+    val disclosedVendorIds: IntArray,
+  )
+
+  @Volatile private var index: Index? = null
+
+  /** Incremented whenever the CMP rewrites a key the index depends on. */
+  @Volatile private var generation = 0
+
+  /** The preferences [listener] is registered on. */
+  private var observedSharedPreferences: SharedPreferences? = null
+
+  // Held strongly, since SharedPreferences only keeps weak references to its listeners.
+  private val listener =
+    SharedPreferences.OnSharedPreferenceChangeListener { _, key ->
+      if (key == null || key == KEY_GDPR_APPLIES || key == KEY_ADDITIONAL_CONSENT) {
+        invalidate()
+      }
+    }
+
+  /**
+   * Checks whether the user provided consent to a Google Ad Tech Provider (ATP) in the Additional
+   * Consent string stored in [sharedPreferences].
+   *
+   * Returns [ConsentResult.UNKNOWN] if GDPR does not apply or if positive or negative consent was
+   * not explicitly detected.
+   *
+   * @param sharedPreferences the default [SharedPreferences] of the application
+   * @param vendorId a Google Ad Tech Provider (ATP) ID from
+   *   https://storage.googleapis.com/tcfac/additional-consent-providers.csv
+   */
+  fun getConsentResult(sharedPreferences: SharedPreferences, vendorId: Int): ConsentResult {
+    val currentIndex =
+      index?.takeIf { it.sharedPreferences === sharedPreferences } ?: parse(sharedPreferences)
+    val consentedVendorIds = currentIndex.consentedVendorIds ?: return ConsentResult.UNKNOWN
+    if (Arrays.binarySearch(consentedVendorIds, vendorId) >= 0) {
+      return ConsentResult.TRUE
+    }
+    if (Arrays.binarySearch(currentIndex.disclosedVendorIds, vendorId) >= 0) {
+      return ConsentResult.FALSE
+    }
+    return ConsentResult.UNKNOWN
+  }
+
+  /** Drops the parsed index so that the next lookup reads the consent string again. */
+  fun invalidate() {
+    synchronized(this) {
+      generation++
+      index = null
+    }
+  }
+
+  private fun parse(sharedPreferences: SharedPreferences): Index {
+    val parseGeneration =
+      synchronized(this) {
+        if (observedSharedPreferences !== sharedPreferences) {
+          observedSharedPreferences?.unregisterOnSharedPreferenceChangeListener(listener)
+          sharedPreferences.registerOnSharedPreferenceChangeListener(listener)
+          observedSharedPreferences = sharedPreferences
+        }
+        generation
+      }
+    val parsedIndex = readIndex(sharedPreferences)
+    synchronized(this) {
+      // Don't keep an index parsed from a value that was rewritten while parsing it.
+      if (generation == parseGeneration) {
+        index = parsedIndex
+      }
+    }
+    return parsedIndex
+  }
+
+  private fun readIndex(sharedPreferences: SharedPreferences): Index {
+    val unknown = Index(sharedPreferences, consentedVendorIds = null, EMPTY_VENDOR_IDS)
+
+    val gdprApplies =
+      try {
+        sharedPreferences.getInt(KEY_GDPR_APPLIES, -1)
+      } catch (exception: ClassCastException) {
+        Log.w(
+          TAG,
+          "Could not parse IABTCF_gdprApplies as an integer. Did your CMP write it correctly?",
+          exception,
+        )
+        -1 // Fallback value.
+      }
+
+    if (gdprApplies != 1) {
+      return unknown
+    }
+
+    val additionalConsentString =
+      try {
+        sharedPreferences.getString(KEY_ADDITIONAL_CONSENT, "") ?: ""
+      } catch (exception: ClassCastException) {
+        Log.w(
+          TAG,
+          "Could not parse IABTCF_AddtlConsent as a string. Did your CMP write it correctly?",
+          exception,
+        )
+        "" // Fallback value.
+      }
+
+    if (additionalConsentString.isEmpty()) {
+      return unknown
+    }
+
+    // Pattern.split drops trailing empty parts, as the adapters' String.split calls did.
+    val additionalConsentParts = TILDE.split(additionalConsentString)
+
+    val version =
+      try {
+        additionalConsentParts[0].toInt()
+      } catch (exception: Exception) {
+        Log.w(
+          TAG,
+          "Could not parse the IABTCF_AddtlConsent spec version. Did your CMP write it correctly?",
+          exception,
+        )
+        return unknown
+      }
+
+    if (version == 1) {
+      // Spec version 1
+      Log.w(
+        TAG,
+        "The IABTCF_AddtlConsent string uses version 1 of Google’s Additional Consent spec." +
+          " Version 1 does not report vendors to whom the user denied consent. To detect" +
+          " vendors that the user denied consent, upgrade to a CMP that supports version 2 of" +
+          " Google's Additional Consent technical specification.",
+      )
+
+      if (additionalConsentParts.size == 1) {
+        // The AC string had no consented vendor.
+        return unknown
+      }
+
+      if (additionalConsentParts.size == 2) {
+        return Index(
+          sharedPreferences,
+          parseVendorIds(additionalConsentParts[1], startIndex = 0),
+          EMPTY_VENDOR_IDS,
+        )
+      }
+
+      Log.w(
+        TAG,
+        "Could not parse the IABTCF_AddtlConsent string: \"$additionalConsentString\". String" +
+          " had more parts than expected. Did your CMP write IABTCF_AddtlConsent correctly?",
+      )
+      return unknown
+    } else if (version >= 2) {
+      // Spec version 2
+      if (additionalConsentParts.size < 3) {
+        Log.w(
+          TAG,
+          "Could not parse the IABTCF_AddtlConsent string: \"$additionalConsentString\". String" +
+            " had less parts than expected. Did your CMP write IABTCF_AddtlConsent correctly?",
+        )
+        return unknown
+      }
+
+      val disclosedPart = additionalConsentParts[2]
+      if (
+        !disclosedPart.startsWith(DISCLOSED_VENDORS_PREFIX) &&
+          disclosedPart != DISCLOSED_VENDORS_MARKER
+      ) {
+        Log.w(
+          TAG,
+          "Could not parse the IABTCF_AddtlConsent string: \"$additionalConsentString\". Expected" +
+            " disclosed vendors part to have the string \"dv.\". Did your CMP write" +
+            " IABTCF_AddtlConsent correctly?",
+        )
+        return unknown
+      }
+
+      return Index(
+        sharedPreferences,
+        parseVendorIds(additionalConsentParts[1], startIndex = 0),
+        parseVendorIds(disclosedPart, startIndex = DISCLOSED_VENDORS_MARKER.length),
+      )
+    }
+
+    // Unknown spec version
+    Log.w(
+      TAG,
+      "Could not parse the IABTCF_AddtlConsent string: \"$additionalConsentString\". Spec version" +
+        " was unexpected. Did your CMP write IABTCF_AddtlConsent correctly?",
+    )
+    return unknown
+  }
+
+  companion object {
+    private const val TAG = "AdditionalConsentIndex"
+
+    private const val KEY_GDPR_APPLIES = "IABTCF_gdprApplies"
+
+    private const val KEY_ADDITIONAL_CONSENT = "IABTCF_AddtlConsent"
+
+    private const val DISCLOSED_VENDORS_MARKER = "dv"
+
+    private const val DISCLOSED_VENDORS_PREFIX = "dv."
+
+    private val TILDE = Pattern.compile("~")
+
+    private val EMPTY_VENDOR_IDS = IntArray(0)
+
+    @Volatile private var instance: AdditionalConsentIndex? = null
+
+    /** Returns the Additional Consent index shared by all adapters in the process. */
+    @JvmStatic
+    fun getInstance(): AdditionalConsentIndex =
+      instance
+        ?: synchronized(this) { instance ?: AdditionalConsentIndex().also { instance = it } }
+
+    /**
+     * Parses the dot-separated vendor IDs of [part], starting at [startIndex], into a sorted array.
+     * Only IDs written in canonical decimal form are kept, since those are the only ones a vendor
+     * ID could have matched when comparing strings.
+     */
+    @VisibleForTesting
+    internal fun parseVendorIds(part: String, startIndex: Int): IntArray {
+      var vendorIds = IntArray(8)
+      var count = 0
+      var tokenStart = startIndex
+      while (tokenStart <= part.length) {
+        var tokenEnd = part.indexOf('.', tokenStart)
+        if (tokenEnd < 0) {
+          tokenEnd = part.length
+        }
+        val vendorId = parseVendorId(part, tokenStart, tokenEnd)
+        if (vendorId >= 0) {
+          if (count == vendorIds.size) {
+            vendorIds = vendorIds.copyOf(count * 2)
+          }
+          vendorIds[count++] = vendorId
+        }
+        tokenStart = tokenEnd + 1
+      }
+      val sortedVendorIds = vendorIds.copyOf(count)
+      sortedVendorIds.sort()
+      return sortedVendorIds
+    }
+
+    /** Returns the vendor ID in `part[start, end)`, or -1 if it is not a canonical decimal. */
+    private fun parseVendorId(part: String, start: Int, end: Int): Int {
+      val length = end - start
+      if (length == 0 || length > 9 || (length > 1 && part[start] == '0')) {
+        return -1
+      }
+      var vendorId = 0
+      for (i in start until end) {
+        val digit = part[i] - '0'
+        if (digit !in 0..9) {
+          return -1
+        }
+        vendorId = vendorId * 10 + digit
+      }
+      return vendorId
+    }
+  }
+}
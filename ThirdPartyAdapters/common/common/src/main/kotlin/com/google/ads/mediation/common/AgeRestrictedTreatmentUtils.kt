@@ -14,7 +14,6 @@
 
 package com.google.ads.mediation.common
 
-import com.google.android.gms.ads.MobileAds
 import com.google.android.gms.ads.VersionInfo
 
 /** Contains util functions for comparing two instances of [VersionInfo]. */
@@ -26,12 +25,24 @@ object AgeRestrictedTreatmentUtils {
    *
    * Classic GMA SDK (play-services-ads) supports it regardless of version. NextGen GMA SDK
    * (ads-mobile-sdk) supports it for versions >= 1.2.0.
+   *
+   * The result is reused while the runtime GMA SDK version is unchanged.
    */
   @JvmStatic
-  @JvmOverloads
-  fun runtimeGmaSdkSupportsChildAgeRestrictedTreatment(
-    gmaVersion: VersionInfo = MobileAds.getVersion()
-  ): Boolean {
+  fun runtimeGmaSdkSupportsChildAgeRestrictedTreatment(): Boolean =
+    runtimeGmaSdkSupportsChildTreatment.get()
+
+  /**
+   * Checks whether [gmaVersion] of the GMA SDK supports checking
+   * [com.google.android.gms.ads.RequestConfiguration.getAgeRestrictedTreatment] ==
+   * [com.google.android.gms.ads.AgeRestrictedTreatment.CHILD].
+   */
+  @JvmStatic
+  fun runtimeGmaSdkSupportsChildAgeRestrictedTreatment(gmaVersion: VersionInfo): Boolean {
     return VersionInfoCompareUtils.isVersionGreaterThanOrEqualTo(gmaVersion, VersionInfo(1, 2, 0))
   }
+
+  private val runtimeGmaSdkSupportsChildTreatment = RuntimeGmaVersionCheck {
+    runtimeGmaSdkSupportsChildAgeRestrictedTreatment(it)
+  }
 }
@@ -0,0 +1,132 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.content.Context
+import android.util.LongSparseArray
+import androidx.annotation.VisibleForTesting
+import com.google.android.gms.ads.AdSize
+import com.google.android.gms.ads.MediationUtils
+
+/**
+ * A cache of the banner sizes resolved by [MediationUtils.findClosestSize], keyed by the list of
+ * sizes supported by the network, the requested size and the display density.
+ *
+ * Banners that auto-refresh request the same size over and over, so adapters should resolve their
+ * banner sizes through this cache rather than calling [MediationUtils.findClosestSize] directly.
+ * Lookups don't allocate as long as adapters pass the same list instance of supported sizes on
+ * every request, so keep that list in a constant.
+ *
+ * Use [getInstance] to get the cache shared by all adapters in the process.
+ */
+class BannerSizeCache
+@VisibleForTesting
+internal constructor(private val sizeFinder: ClosestSizeFinder) {
+
+  /** Finds the closest size to a requested size among the sizes supported by a network. */
+  internal fun interface ClosestSizeFinder {
+    fun findClosestSize(context: Context, adSize: AdSize, potentials: List<AdSize>): AdSize?
+  }
+
+  /** The sizes resolved for one list of supported sizes. */
+  private class Entry(val potentials: List<AdSize>) {
+    /** Resolved sizes, or [NO_CLOSEST_SIZE] if there is none, keyed by [cacheKey]. */
+    val closestSizes = LongSparseArray<Any>()
+  }
+
+  /** Entries of the lists of supported sizes, from the least to the most recently added. */
+  private val entries = ArrayList<Entry>(MAX_ENTRIES)
+
+  /**
+   * Returns the size among [potentials] that is closest to [adSize], or null if none of them fits.
+   * Equivalent to [MediationUtils.findClosestSize], except that the result is cached.
+   */
+  fun findClosestSize(context: Context, adSize: AdSize, potentials: List<AdSize>): AdSize? {
+    // Full width, auto height and fluid sizes depend on more than the display density.
+    if (!isCacheable(adSize.width) || !isCacheable(adSize.height)) {
+      return sizeFinder.findClosestSize(context, adSize, potentials)
+    }
+
+    val key = cacheKey(adSize, context.resources.displayMetrics.density)
+    val entry = synchronized(this) { getOrCreateEntry(potentials) }
+    val cachedSize = synchronized(entry) { entry.closestSizes.get(key) }
+    if (cachedSize != null) {
+      return if (cachedSize === NO_CLOSEST_SIZE) null else cachedSize as AdSize
+    }
+
+    val closestSize = sizeFinder.findClosestSize(context, adSize, potentials)
+    synchronized(entry) { entry.closestSizes.put(key, closestSize ?: NO_CLOSEST_SIZE) }
+    return closestSize
+  }
+
+  /** Removes every cached size. */
+  @Synchronized
+  fun clear() {
+    entries.clear()
+  }
+
+  private fun getOrCreateEntry(potentials: List<AdSize>): Entry {
+    // Compare the instances first, which is all it takes for lists kept in constants.
+    for (index in entries.indices) {
+      if (entries[index].potentials === potentials) {
+        return entries[index]
+      }
+    }
+    for (index in entries.indices) {
+      if (entries[index].potentials == potentials) {
+        return entries[index]
+      }
+    }
+    if (entries.size == MAX_ENTRIES) {
+      entries.removeAt(0)
+    }
+    // Copy the list so that a caller mutating it afterwards doesn't corrupt the entry.
+    return Entry(ArrayList(potentials)).also { entries.add(it) }
+  }
+
+  companion object {
+    /**
+     * Maximum number of lists of supported sizes to cache sizes for. Most adapters use a single
+     * constant list, while others compare the requested size with the size of the loaded ad.
+     */
+    private const val MAX_ENTRIES = 16
+
+    /** Dimensions are packed in 16 bits each. No banner is anywhere near that large. */
+    private const val MAX_CACHED_DIMENSION_DP = 0xFFFF
+
+    private val NO_CLOSEST_SIZE = Any()
+
+    @Volatile private var instance: BannerSizeCache? = null
+
+    /** Returns the banner size cache shared by all adapters in the process. */
+    @JvmStatic
+    fun getInstance(): BannerSizeCache =
+      instance
+        ?: synchronized(this) {
+          instance
+            ?: BannerSizeCache { context, adSize, potentials ->
+                MediationUtils.findClosestSize(context, adSize, potentials)
+              }
+              .also { instance = it }
+        }
+
+    private fun isCacheable(dimensionDp: Int): Boolean = dimensionDp in 1..MAX_CACHED_DIMENSION_DP
+
+    private fun cacheKey(adSize: AdSize, density: Float): Long =
+      (adSize.width.toLong() shl 48) or
+        (adSize.height.toLong() shl 32) or
+        (density.toRawBits().toLong() and 0xFFFFFFFFL)
+  }
+}
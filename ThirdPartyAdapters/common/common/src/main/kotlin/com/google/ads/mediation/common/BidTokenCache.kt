@@ -0,0 +1,160 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.content.Context
+import android.os.SystemClock
+import android.preference.PreferenceManager
+import androidx.annotation.VisibleForTesting
+import com.google.android.gms.ads.AdFormat
+import com.google.android.gms.ads.MobileAds
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * An opt-in, in-memory cache of bid tokens, keyed by network and ad format. Networks whose tokens
+ * also depend on the placement or ad size add a qualifier to the key.
+ *
+ * Caching is disabled for every network until a time-to-live is set with [setTimeToLive]. Cached
+ * tokens are served by [SignalCollector.collectCachedSignals] and refreshed in the background once
+ * they are older than half of their time-to-live. A token is never served if the consent strings
+ * written by the CMP, the child-directed and under-age-of-consent tags or the age restricted
+ * treatment of the Google Mobile Ads SDK have changed since it was generated. Call [invalidate]
+ * after changing privacy settings through a third-party SDK's own API.
+ *
+ * Use [getInstance] to get the cache shared by all adapters in the process.
+ */
+class BidTokenCache
+@VisibleForTesting
+internal constructor(private val elapsedRealtimeMillis: () -> Long) {
+
+  /** A cached bid token. */
+  internal class Entry(val token: String, val createdAtMillis: Long, val privacyState: Int)
+
+  private data class Key(val network: String, val adFormat: AdFormat, val qualifier: String?)
+
+  private val timeToLiveMillis = ConcurrentHashMap<String, Long>()
+
+  private val entries = ConcurrentHashMap<Key, Entry>()
+
+  /**
+   * Sets how long the bid tokens of [network] are served from the cache. A non-positive value
+   * disables caching for [network], which is the default.
+   *
+   * @param network the network name, as shown in the adapter's changelog (e.g. "AppLovin").
+   */
+  fun setTimeToLive(network: String, timeToLiveMillis: Long) {
+    if (timeToLiveMillis > 0) {
+      this.timeToLiveMillis[network] = timeToLiveMillis
+    } else {
+      this.timeToLiveMillis.remove(network)
+      invalidate(network)
+    }
+  }
+
+  /** Returns the time-to-live of the bid tokens of [network], or 0 if caching is disabled. */
+  fun getTimeToLive(network: String): Long = timeToLiveMillis[network] ?: 0
+
+  /** Removes every cached bid token. */
+  fun invalidate() {
+    entries.clear()
+  }
+
+  /** Removes the cached bid tokens of [network]. */
+  fun invalidate(network: String) {
+    entries.keys.removeAll { it.network == network }
+  }
+
+  /**
+   * Returns the token cached for [network], [adFormat] and [qualifier] if it has not expired and
+   * was generated under [privacyState], or null otherwise.
+   */
+  internal fun get(
+    network: String,
+    adFormat: AdFormat,
+    privacyState: Int,
+    qualifier: String? = null,
+  ): Entry? {
+    val key = Key(network, adFormat, qualifier)
+    val entry = entries[key] ?: return null
+    if (entry.privacyState != privacyState || ageMillis(entry) >= getTimeToLive(network)) {
+      entries.remove(key, entry)
+      return null
+    }
+    return entry
+  }
+
+  internal fun put(
+    network: String,
+    adFormat: AdFormat,
+    token: String,
+    privacyState: Int,
+    qualifier: String? = null,
+  ) {
+    if (getTimeToLive(network) > 0) {
+      entries[Key(network, adFormat, qualifier)] =
+        Entry(token, elapsedRealtimeMillis(), privacyState)
+    }
+  }
+
+  /** Returns true if [entry] is old enough to be refreshed in the background. */
+  internal fun shouldRefresh(network: String, entry: Entry): Boolean =
+    ageMillis(entry) >= getTimeToLive(network) / 2
+
+  private fun ageMillis(entry: Entry) = elapsedRealtimeMillis() - entry.createdAtMillis
+
+  companion object {
+    /** Keys of the consent strings written by the CMP, per the IAB specifications. */
+    private val CONSENT_KEYS =
+      listOf(
+        "IABTCF_gdprApplies",
+        "IABTCF_TCString",
+        "IABTCF_AddtlConsent",
+        "IABUSPrivacy_String",
+        "IABGPP_HDR_GppString",
+        "IABGPP_GppSID",
+      )
+
+    @Volatile private var instance: BidTokenCache? = null
+
+    /** Returns the bid token cache shared by all adapters in the process. */
+    @JvmStatic
+    fun getInstance(): BidTokenCache =
+      instance
+        ?: synchronized(this) {
+          instance ?: BidTokenCache { SystemClock.elapsedRealtime() }.also { instance = it }
+        }
+
+    /**
+     * Returns a value that changes whenever the consent or child-directed state that bid tokens
+     * depend on changes.
+     */
+    @JvmStatic
+    internal fun getPrivacyState(context: Context): Int {
+      // The CMP may store a key as a string or an int, so values are hashed whatever their type.
+      val consentValues = PreferenceManager.getDefaultSharedPreferences(context).all
+      var privacyState = 1
+      for (key in CONSENT_KEYS) {
+        privacyState = 31 * privacyState + consentValues[key].hashCode()
+      }
+      val requestConfiguration = MobileAds.getRequestConfiguration()
+      privacyState = 31 * privacyState + requestConfiguration.tagForChildDirectedTreatment
+      privacyState = 31 * privacyState + requestConfiguration.tagForUnderAgeOfConsent
+      if (AgeRestrictedTreatmentUtils.runtimeGmaSdkSupportsChildAgeRestrictedTreatment()) {
+        privacyState = 31 * privacyState + requestConfiguration.ageRestrictedTreatment.hashCode()
+      }
+      return privacyState
+    }
+  }
+}
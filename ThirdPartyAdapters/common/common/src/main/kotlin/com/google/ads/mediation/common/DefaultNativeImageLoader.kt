@@ -0,0 +1,316 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.content.ContentResolver
+import android.content.Context
+import android.content.res.Resources
+import android.graphics.BitmapFactory
+import android.graphics.drawable.BitmapDrawable
+import android.graphics.drawable.Drawable
+import android.net.Uri
+import android.os.Handler
+import android.os.Looper
+import android.util.DisplayMetrics
+import android.util.Log
+import android.util.LruCache
+import androidx.annotation.VisibleForTesting
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.io.File
+import java.io.FileInputStream
+import java.io.IOException
+import java.io.InputStream
+import java.net.URL
+import java.util.concurrent.Executor
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * The default [NativeImageLoader].
+ *
+ * Images are looked up in the [memoryCache] first. Network images are then looked up in the
+ * [diskAssetCache], and are only downloaded if neither has them. Decoding first reads the image
+ * bounds only, so that the bitmap is allocated at its downsampled size. Local images are decoded
+ * straight from their stream, while network images are buffered so that they can be cached, up to
+ * [MAX_DOWNLOAD_SIZE_BYTES].
+ *
+ * Each load delivers its own drawable, sharing the bitmap of the cached one, because the bounds,
+ * callback and alpha of a drawable belong to the one view displaying it.
+ */
+class DefaultNativeImageLoader
+@JvmOverloads
+constructor(
+  context: Context,
+  private val memoryCache: NativeImageLoader.MemoryCache? = DrawableLruCache(),
+  private val diskAssetCache: DiskAssetCache? = DiskAssetCache.getInstance(context),
+  private val executor: Executor = sharedExecutor,
+) : NativeImageLoader {
+
+  private val contentResolver = context.applicationContext.contentResolver
+
+  private val mainHandler = Handler(Looper.getMainLooper())
+
+  override fun load(
+    uri: Uri,
+    maxWidth: Int,
+    maxHeight: Int,
+    callback: NativeImageLoader.Callback,
+  ): NativeImageLoader.Request {
+    val request = LoadRequest(callback)
+    val memoryCacheKey = "$uri@${maxWidth}x$maxHeight"
+    val cachedDrawable = memoryCache?.get(memoryCacheKey)
+    if (cachedDrawable != null) {
+      request.deliver(newInstance(cachedDrawable))
+      return request
+    }
+
+    try {
+      executor.execute {
+        if (request.isCancelled) {
+          return@execute
+        }
+        val drawable =
+          try {
+            loadDrawable(uri, maxWidth, maxHeight)
+          } catch (exception: IOException) {
+            Log.w(TAG, "Failed to load native ad image: $uri", exception)
+            null
+          } catch (exception: RuntimeException) {
+            Log.w(TAG, "Failed to load native ad image: $uri", exception)
+            null
+          }
+        drawable?.let { memoryCache?.put(memoryCacheKey, it) }
+        request.deliver(drawable?.let { newInstance(it) })
+      }
+    } catch (exception: RejectedExecutionException) {
+      Log.w(TAG, "Failed to schedule native ad image load.", exception)
+      request.deliver(null)
+    }
+    return request
+  }
+
+  private fun loadDrawable(uri: Uri, maxWidth: Int, maxHeight: Int): Drawable {
+    if (!isNetworkUri(uri)) {
+      // Local images can be opened twice, so they are never fully buffered in memory.
+      return decodeDrawable({ openLocalInputStream(uri) }, maxWidth, maxHeight)
+    }
+
+    val diskCacheKey = uri.toString()
+    diskAssetCache?.get(diskCacheKey)?.let { buffer ->
+      val cachedBytes = ByteArray(buffer.remaining()).also { buffer.get(it) }
+      try {
+        return decodeDrawable({ ByteArrayInputStream(cachedBytes) }, maxWidth, maxHeight)
+      } catch (exception: IOException) {
+        // The cached entry is corrupted. Drop it and download the image again.
+        diskAssetCache.remove(diskCacheKey)
+      }
+    }
+    val bytes = download(uri)
+    val drawable = decodeDrawable({ ByteArrayInputStream(bytes) }, maxWidth, maxHeight)
+    diskAssetCache?.put(diskCacheKey, bytes)
+    return drawable
+  }
+
+  /** Downloads the image at [uri], failing if it is larger than [MAX_DOWNLOAD_SIZE_BYTES]. */
+  private fun download(uri: Uri): ByteArray {
+    val connection = URL(uri.toString()).openConnection()
+    // Don't let a stalled connection hold on to one of the shared threads.
+    connection.connectTimeout = NETWORK_TIMEOUT_MILLIS
+    connection.readTimeout = NETWORK_TIMEOUT_MILLIS
+    if (connection.contentLength > MAX_DOWNLOAD_SIZE_BYTES) {
+      throw IOException("Image of ${connection.contentLength} bytes exceeds the download limit.")
+    }
+    return connection.getInputStream().use { readAtMost(it, MAX_DOWNLOAD_SIZE_BYTES) }
+  }
+
+  private fun openLocalInputStream(uri: Uri): InputStream =
+    when {
+      uri.scheme == ContentResolver.SCHEME_CONTENT ||
+        uri.scheme == ContentResolver.SCHEME_ANDROID_RESOURCE ->
+        contentResolver.openInputStream(uri) ?: throw IOException("Failed to open: $uri")
+      // A file URI or a plain file path.
+      else -> FileInputStream(File(uri.path ?: uri.toString()))
+    }
+
+  /** A [NativeImageLoader.Request] delivering its result on the main thread. */
+  private inner class LoadRequest(private val callback: NativeImageLoader.Callback) :
+    NativeImageLoader.Request {
+
+    @Volatile var isCancelled = false
+
+    /** Invokes the callback on the main thread, unless the request is cancelled first. */
+    fun deliver(drawable: Drawable?) {
+      mainHandler.post {
+        if (!isCancelled) {
+          callback.onImageLoaded(drawable)
+        }
+      }
+    }
+
+    override fun cancel() {
+      isCancelled = true
+    }
+  }
+
+  /** A [NativeImageLoader.MemoryCache] capped by the byte size of the cached bitmaps. */
+  private class DrawableLruCache : NativeImageLoader.MemoryCache {
+
+    private val cache =
+      object : LruCache<String, Drawable>(maxMemoryCacheSizeBytes()) {
+        override fun sizeOf(key: String, value: Drawable): Int =
+          (value as? BitmapDrawable)?.bitmap?.byteCount ?: 1
+      }
+
+    override fun get(key: String): Drawable? = cache.get(key)
+
+    override fun put(key: String, drawable: Drawable) {
+      cache.put(key, drawable)
+    }
+
+    private companion object {
+      /** Uses 1/32nd of the heap, shared by the images of every network. */
+      fun maxMemoryCacheSizeBytes(): Int =
+        (Runtime.getRuntime().maxMemory() / 32).coerceAtMost(Int.MAX_VALUE.toLong()).toInt()
+    }
+  }
+
+  private class DaemonThreadFactory : ThreadFactory {
+    private val threadCount = AtomicInteger()
+
+    override fun newThread(runnable: Runnable): Thread =
+      Thread(runnable, "$TAG-${threadCount.incrementAndGet()}").apply { isDaemon = true }
+  }
+
+  companion object {
+    private const val TAG = "NativeImageLoader"
+
+    private const val NETWORK_TIMEOUT_MILLIS = 10_000
+
+    /**
+     * Maximum size of a downloaded image in bytes. Larger images fail to load, so that a large or
+     * hostile creative URL can neither exhaust the memory nor fill the [DiskAssetCache].
+     */
+    const val MAX_DOWNLOAD_SIZE_BYTES = 5 * 1024 * 1024
+
+    private const val DOWNLOAD_BUFFER_SIZE = 8 * 1024
+
+    /** Maximum number of images loaded at the same time. */
+    private const val MAX_PARALLELISM = 2
+
+    private val sharedExecutor: Executor by lazy {
+      ThreadPoolExecutor(
+          MAX_PARALLELISM,
+          MAX_PARALLELISM,
+          /* keepAliveTime= */ 30,
+          TimeUnit.SECONDS,
+          LinkedBlockingQueue(),
+          DaemonThreadFactory(),
+        )
+        .apply { allowCoreThreadTimeOut(true) }
+    }
+
+    @Volatile private var instance: DefaultNativeImageLoader? = null
+
+    /** Returns the image loader shared by all adapters in the process. */
+    @JvmStatic
+    fun getInstance(context: Context): DefaultNativeImageLoader =
+      instance
+        ?: synchronized(this) {
+          instance
+            ?: DefaultNativeImageLoader(context.applicationContext).also { instance = it }
+        }
+
+    private fun isNetworkUri(uri: Uri): Boolean = uri.scheme == "http" || uri.scheme == "https"
+
+    /**
+     * Returns a new drawable sharing the bitmap of [drawable], or [drawable] itself if it can't be
+     * copied.
+     */
+    private fun newInstance(drawable: Drawable): Drawable =
+      drawable.constantState?.newDrawable() ?: drawable
+
+    /**
+     * Reads [inputStream] to the end.
+     *
+     * @throws IOException if it holds more than [maxBytes] bytes, without reading past the limit.
+     */
+    @VisibleForTesting
+    @Throws(IOException::class)
+    internal fun readAtMost(inputStream: InputStream, maxBytes: Int): ByteArray {
+      val outputStream = ByteArrayOutputStream()
+      val buffer = ByteArray(DOWNLOAD_BUFFER_SIZE)
+      while (true) {
+        val count = inputStream.read(buffer)
+        if (count == -1) {
+          return outputStream.toByteArray()
+        }
+        if (outputStream.size() + count > maxBytes) {
+          throw IOException("Image exceeds the download limit of $maxBytes bytes.")
+        }
+        outputStream.write(buffer, 0, count)
+      }
+    }
+
+    /**
+     * Decodes the image read from [openStream] into a drawable downsampled to at most [maxWidth] x
+     * [maxHeight] pixels. [openStream] is called twice: once to read the bounds of the image, and
+     * once to decode it.
+     */
+    @Throws(IOException::class)
+    private fun decodeDrawable(
+      openStream: () -> InputStream,
+      maxWidth: Int,
+      maxHeight: Int,
+    ): Drawable {
+      val options = BitmapFactory.Options().apply { inJustDecodeBounds = true }
+      openStream().use { BitmapFactory.decodeStream(it, /* outPadding= */ null, options) }
+
+      options.inSampleSize = calculateInSampleSize(options, maxWidth, maxHeight)
+      options.inJustDecodeBounds = false
+      val bitmap =
+        openStream().use { BitmapFactory.decodeStream(it, /* outPadding= */ null, options) }
+      if (bitmap == null) {
+        throw IOException("Failed to decode native ad image.")
+      }
+      // Defaulting to a scale of 1.
+      bitmap.density = DisplayMetrics.DENSITY_DEFAULT
+      return BitmapDrawable(Resources.getSystem(), bitmap)
+    }
+
+    /**
+     * Returns the largest power of 2 sample size that keeps both dimensions of the image at least
+     * as large as the requested bounds.
+     */
+    @VisibleForTesting
+    internal fun calculateInSampleSize(
+      options: BitmapFactory.Options,
+      maxWidth: Int,
+      maxHeight: Int,
+    ): Int {
+      val width = options.outWidth
+      val height = options.outHeight
+      if (maxWidth <= 0 || maxHeight <= 0 || width <= 0 || height <= 0) {
+        return 1
+      }
+      val minRatio = minOf(width / maxWidth, height / maxHeight)
+      return maxOf(1, Integer.highestOneBit(minRatio))
+    }
+  }
+}
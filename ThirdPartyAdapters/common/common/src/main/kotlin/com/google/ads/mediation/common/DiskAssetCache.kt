@@ -0,0 +1,241 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.content.Context
+import android.util.Log
+import androidx.annotation.VisibleForTesting
+import java.io.File
+import java.io.FileOutputStream
+import java.io.IOException
+import java.io.InputStream
+import java.io.RandomAccessFile
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.security.MessageDigest
+
+/**
+ * A size-capped, LRU disk cache for native ad assets (e.g. icon images) that survives process
+ * restarts.
+ *
+ * Entries are stored in the app's cache directory under a file name derived from the SHA-256 hash
+ * of their key, so any key (typically the asset URL) maps to a stable, file-system safe name. Reads
+ * are memory-mapped to avoid copying the asset bytes onto the Java heap. When the total size of the
+ * entries exceeds [maxSizeBytes], the least recently used entries are deleted.
+ *
+ * Use [getInstance] to get the cache shared by all adapters in the process.
+ */
+class DiskAssetCache
+@VisibleForTesting
+internal constructor(private val directory: File, private val maxSizeBytes: Long) {
+
+  /** File name to entry size, in least recently used order. Lazily loaded from [directory]. */
+  private val entries = LinkedHashMap<String, Long>(16, 0.75f, /* accessOrder= */ true)
+
+  private var isIndexLoaded = false
+
+  private var size = 0L
+
+  /**
+   * Returns a read-only, memory-mapped buffer with the contents cached for [key], or null if there
+   * is no such entry.
+   */
+  fun get(key: String): ByteBuffer? {
+    val fileName = fileNameFor(key)
+    val file = File(directory, fileName)
+    synchronized(this) {
+      loadIndexIfNeeded()
+      if (entries[fileName] == null) {
+        return null
+      }
+      // Persist the access time so that the LRU order survives process restarts.
+      file.setLastModified(System.currentTimeMillis())
+    }
+    return try {
+      RandomAccessFile(file, "r").use { randomAccessFile ->
+        randomAccessFile.channel.use { channel ->
+          channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+        }
+      }
+    } catch (exception: IOException) {
+      Log.w(TAG, "Failed to read cached asset.", exception)
+      remove(key)
+      null
+    }
+  }
+
+  /**
+   * Returns an [InputStream] over the contents cached for [key], or null if there is no such entry.
+   * The returned stream supports [InputStream.mark] and [InputStream.reset].
+   */
+  fun getInputStream(key: String): InputStream? = get(key)?.let { ByteBufferInputStream(it) }
+
+  /** Stores [bytes] for [key], replacing any existing entry. */
+  fun put(key: String, bytes: ByteArray) {
+    if (bytes.size > maxSizeBytes) {
+      return
+    }
+    val fileName = fileNameFor(key)
+    synchronized(this) {
+      loadIndexIfNeeded()
+      if (!directory.exists() && !directory.mkdirs()) {
+        Log.w(TAG, "Failed to create the asset cache directory.")
+        return
+      }
+      // Write to a temporary file first so that readers never observe a partially written entry.
+      val temporaryFile = File(directory, fileName + TEMPORARY_FILE_SUFFIX)
+      try {
+        FileOutputStream(temporaryFile).use { it.write(bytes) }
+      } catch (exception: IOException) {
+        Log.w(TAG, "Failed to write asset to the cache.", exception)
+        temporaryFile.delete()
+        return
+      }
+      val file = File(directory, fileName)
+      if (!temporaryFile.renameTo(file)) {
+        temporaryFile.delete()
+        return
+      }
+      entries.put(fileName, bytes.size.toLong())?.let { size -= it }
+      size += bytes.size
+      trimToSize()
+    }
+  }
+
+  /** Removes the entry for [key], if any. */
+  fun remove(key: String) {
+    val fileName = fileNameFor(key)
+    synchronized(this) {
+      loadIndexIfNeeded()
+      entries.remove(fileName)?.let { size -= it }
+      File(directory, fileName).delete()
+    }
+  }
+
+  /** Removes all entries. */
+  @Synchronized
+  fun clear() {
+    directory.listFiles()?.forEach { it.delete() }
+    entries.clear()
+    size = 0
+    isIndexLoaded = true
+  }
+
+  /** Returns the total size in bytes of the cached entries. */
+  @Synchronized
+  fun size(): Long {
+    loadIndexIfNeeded()
+    return size
+  }
+
+  private fun loadIndexIfNeeded() {
+    if (isIndexLoaded) {
+      return
+    }
+    isIndexLoaded = true
+    val files = directory.listFiles() ?: return
+    files.sortBy { it.lastModified() }
+    for (file in files) {
+      if (file.name.endsWith(TEMPORARY_FILE_SUFFIX)) {
+        // Left over from a write that was interrupted by the process being killed.
+        file.delete()
+        continue
+      }
+      entries[file.name] = file.length()
+      size += file.length()
+    }
+    trimToSize()
+  }
+
+  private fun trimToSize() {
+    val iterator = entries.entries.iterator()
+    while (size > maxSizeBytes && iterator.hasNext()) {
+      val entry = iterator.next()
+      File(directory, entry.key).delete()
+      size -= entry.value
+      iterator.remove()
+    }
+  }
+
+  /** An [InputStream] that reads from a [ByteBuffer] without copying it. */
+  private class ByteBufferInputStream(private val buffer: ByteBuffer) : InputStream() {
+
+    override fun read(): Int = if (buffer.hasRemaining()) buffer.get().toInt() and 0xFF else -1
+
+    override fun read(bytes: ByteArray, offset: Int, length: Int): Int {
+      if (length == 0) {
+        return 0
+      }
+      if (!buffer.hasRemaining()) {
+        return -1
+      }
+      val count = minOf(length, buffer.remaining())
+      buffer.get(bytes, offset, count)
+      return count
+    }
+
+    override fun available(): Int = buffer.remaining()
+
+    override fun markSupported(): Boolean = true
+
+    override fun mark(readLimit: Int) {
+      buffer.mark()
+    }
+
+    override fun reset() {
+      buffer.reset()
+    }
+  }
+
+  companion object {
+    /** Default maximum size of the shared cache. */
+    const val DEFAULT_MAX_SIZE_BYTES = 20L * 1024 * 1024
+
+    private const val TAG = "DiskAssetCache"
+
+    private const val DIRECTORY_NAME = "com.google.ads.mediation.asset_cache"
+
+    private const val TEMPORARY_FILE_SUFFIX = ".tmp"
+
+    @Volatile private var instance: DiskAssetCache? = null
+
+    /** Returns the disk cache shared by all adapters in the process. */
+    @JvmStatic
+    fun getInstance(context: Context): DiskAssetCache =
+      instance
+        ?: synchronized(this) {
+          instance
+            ?: DiskAssetCache(
+                File(context.applicationContext.cacheDir, DIRECTORY_NAME),
+                DEFAULT_MAX_SIZE_BYTES,
+              )
+              .also { instance = it }
+        }
+
+    /** Returns the name of the file storing the entry for [key]. */
+    @VisibleForTesting
+    internal fun fileNameFor(key: String): String {
+      val digest = MessageDigest.getInstance("SHA-256").digest(key.toByteArray(Charsets.UTF_8))
+      val hex = StringBuilder(digest.size * 2)
+      for (byte in digest) {
+        val value = byte.toInt() and 0xFF
+        hex.append(HEX_DIGITS[value ushr 4]).append(HEX_DIGITS[value and 0x0F])
+      }
+      return hex.toString()
+    }
+
+    private val HEX_DIGITS = "0123456789abcdef".toCharArray()
+  }
+}
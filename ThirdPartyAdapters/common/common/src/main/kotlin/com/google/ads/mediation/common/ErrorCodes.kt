@@ -35,6 +35,12 @@ object ErrorCodes {
    */
   const val ERROR_CODE_AGE_RESTRICTED = 132
 
+  /** The 3P SDK did not generate a bid token before the signal collection deadline. */
+  const val ERROR_CODE_SIGNAL_COLLECTION_TIMEOUT = 133
+
+  /** The 3P SDK threw an exception while generating a bid token. */
+  const val ERROR_CODE_SIGNAL_COLLECTION_FAILED = 134
+
   /** The domain for error codes defined in the common library. */
   const val COMMON_MEDIATION_ERROR_DOMAIN = "com.google.ads.mediation.common"
 }
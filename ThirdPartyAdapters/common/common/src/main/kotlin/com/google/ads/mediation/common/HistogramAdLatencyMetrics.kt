@@ -0,0 +1,68 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.android.gms.ads.AdFormat
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentMap
+
+/**
+ * [AdLatencyMetrics] that record the latencies of every network, ad format and stage in a
+ * [LatencyHistogram].
+ *
+ * The histograms of a network are created the first time one of its stages is recorded. Recording
+ * a stage doesn't allocate after that.
+ */
+class HistogramAdLatencyMetrics : AdLatencyMetrics {
+
+  /** Histograms of each network, indexed by [histogramIndex]. */
+  private val histograms: ConcurrentMap<String, Array<LatencyHistogram>> = ConcurrentHashMap()
+
+  override fun recordStage(
+    network: String,
+    adFormat: AdFormat,
+    stage: Stage,
+    durationMillis: Long,
+  ) {
+    val networkHistograms =
+      histograms[network]
+        ?: histograms.getOrPut(network) {
+          Array(AD_FORMATS.size * STAGES.size) { LatencyHistogram() }
+        }
+    networkHistograms[histogramIndex(adFormat, stage)].record(durationMillis)
+  }
+
+  /**
+   * Returns the latencies of [stage] for ads of [adFormat] from [network], or null if no stage of
+   * [network] has been recorded.
+   */
+  fun getHistogram(network: String, adFormat: AdFormat, stage: Stage): LatencyHistogram? =
+    histograms[network]?.get(histogramIndex(adFormat, stage))
+
+  /** Removes every recorded latency. */
+  fun reset() {
+    histograms.clear()
+  }
+
+  private companion object {
+    val AD_FORMATS = AdFormat.values()
+
+    val STAGES = Stage.values()
+
+    fun histogramIndex(adFormat: AdFormat, stage: Stage): Int =
+      adFormat.ordinal * STAGES.size + stage.ordinal
+  }
+}
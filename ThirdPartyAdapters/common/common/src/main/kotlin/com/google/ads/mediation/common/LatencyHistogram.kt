@@ -0,0 +1,141 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import java.util.Arrays
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicLongArray
+import kotlin.math.ceil
+
+/**
+ * A histogram of latencies with fixed buckets, which records values without allocating or locking.
+ *
+ * The bucket bounds grow roughly exponentially from 1 ms to 1 minute, so percentiles are
+ * approximate: [getPercentileMillis] returns the upper bound of the bucket that the percentile
+ * falls into, capped by the largest recorded latency.
+ */
+class LatencyHistogram {
+
+  /** Counts per bucket. The last bucket counts the latencies above the largest bound. */
+  private val bucketCounts = AtomicLongArray(BUCKET_UPPER_BOUNDS_MILLIS.size + 1)
+
+  private val totalMillis = AtomicLong()
+
+  private val maxMillis = AtomicLong()
+
+  /** Records a latency of [durationMillis]. Negative latencies are recorded as 0. */
+  fun record(durationMillis: Long) {
+    val value = durationMillis.coerceAtLeast(0)
+    bucketCounts.incrementAndGet(bucketIndex(value))
+    totalMillis.addAndGet(value)
+    var max = maxMillis.get()
+    while (value > max && !maxMillis.compareAndSet(max, value)) {
+      max = maxMillis.get()
+    }
+  }
+
+  /** Returns the number of recorded latencies. */
+  fun getCount(): Long {
+    var count = 0L
+    for (index in 0 until bucketCounts.length()) {
+      count += bucketCounts.get(index)
+    }
+    return count
+  }
+
+  /** Returns the mean of the recorded latencies, or 0 if none was recorded. */
+  fun getMeanMillis(): Long {
+    val count = getCount()
+    return if (count == 0L) 0 else totalMillis.get() / count
+  }
+
+  /** Returns the largest recorded latency, or 0 if none was recorded. */
+  fun getMaxMillis(): Long = maxMillis.get()
+
+  /**
+   * Returns an upper bound of the [percentile]th percentile of the recorded latencies, or 0 if none
+   * was recorded.
+   *
+   * @param percentile the percentile, between 0 and 100 (e.g. 99 for the p99 latency).
+   */
+  fun getPercentileMillis(percentile: Double): Long {
+    require(percentile in 0.0..100.0) { "Invalid percentile: $percentile" }
+    val count = getCount()
+    if (count == 0L) {
+      return 0
+    }
+
+    val rank = ceil(percentile / 100 * count).toLong().coerceAtLeast(1)
+    var cumulativeCount = 0L
+    for (index in 0 until bucketCounts.length()) {
+      cumulativeCount += bucketCounts.get(index)
+      if (cumulativeCount >= rank) {
+        val upperBoundMillis =
+          if (index < BUCKET_UPPER_BOUNDS_MILLIS.size) BUCKET_UPPER_BOUNDS_MILLIS[index]
+          else Long.MAX_VALUE
+        return minOf(upperBoundMillis, maxMillis.get())
+      }
+    }
+    // Latencies recorded concurrently with this call may be counted in some buckets only.
+    return maxMillis.get()
+  }
+
+  /** Removes every recorded latency. */
+  fun reset() {
+    for (index in 0 until bucketCounts.length()) {
+      bucketCounts.set(index, 0)
+    }
+    totalMillis.set(0)
+    maxMillis.set(0)
+  }
+
+  internal companion object {
+    /** Inclusive upper bounds of the buckets, in milliseconds. */
+    private val BUCKET_UPPER_BOUNDS_MILLIS =
+      longArrayOf(
+        1,
+        2,
+        5,
+        10,
+        25,
+        50,
+        75,
+        100,
+        150,
+        200,
+        300,
+        400,
+        500,
+        750,
+        1_000,
+        1_500,
+        2_000,
+        3_000,
+        5_000,
+        7_500,
+        10_000,
+        15_000,
+        30_000,
+        60_000,
+      )
+
+    /** Returns the index of the bucket of [durationMillis], which must not be negative. */
+    internal fun bucketIndex(durationMillis: Long): Int {
+      val index = Arrays.binarySearch(BUCKET_UPPER_BOUNDS_MILLIS, durationMillis)
+      // A latency between two bounds falls into the bucket of the upper one.
+      return if (index >= 0) index else -(index + 1)
+    }
+  }
+}
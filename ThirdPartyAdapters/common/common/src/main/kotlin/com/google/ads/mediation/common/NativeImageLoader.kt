@@ -0,0 +1,77 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.content.Context
+import android.graphics.drawable.Drawable
+import android.net.Uri
+import com.google.android.gms.ads.nativead.NativeAdOptions
+
+/**
+ * Loads the drawables of native ad image assets for adapters' native ad mappers.
+ *
+ * Images are only decoded when a mapper asks for them, off the main thread, and downsampled to the
+ * requested bounds. Mappers must not load images when the publisher asked for image URLs only, as
+ * those images would never be displayed: check [shouldLoadImages] first and map the image URIs
+ * instead.
+ *
+ * Use [getInstance] to get the loader shared by all adapters in the process.
+ */
+fun interface NativeImageLoader {
+
+  /** Receives the result of a [load] call. */
+  fun interface Callback {
+    /** Called on the main thread with the loaded image, or null if it could not be loaded. */
+    fun onImageLoaded(drawable: Drawable?)
+  }
+
+  /** An image load started by [load]. */
+  fun interface Request {
+    /** Cancels the load. The callback won't be invoked after this method returns. */
+    fun cancel()
+  }
+
+  /** A memory cache of decoded images, keyed by image URI and bounds. */
+  interface MemoryCache {
+    fun get(key: String): Drawable?
+
+    fun put(key: String, drawable: Drawable)
+  }
+
+  /**
+   * Loads the image at [uri], which may be a network URL, a content URI or a file, downsampled so
+   * that it is not needlessly larger than [maxWidth] x [maxHeight] pixels. [callback] is invoked at
+   * most once.
+   */
+  fun load(uri: Uri, maxWidth: Int, maxHeight: Int, callback: Callback): Request
+
+  companion object {
+    /**
+     * Default bounds of native ad images, in pixels. Large enough for high density displays while
+     * keeping decoded bitmaps from exhausting the heap.
+     */
+    const val DEFAULT_MAX_IMAGE_SIZE_PX = 1024
+
+    /** Returns whether native ad mappers should load image drawables for [nativeAdOptions]. */
+    @JvmStatic
+    fun shouldLoadImages(nativeAdOptions: NativeAdOptions?): Boolean =
+      nativeAdOptions?.shouldReturnUrlsForImageAssets() != true
+
+    /** Returns the image loader shared by all adapters in the process. */
+    @JvmStatic
+    fun getInstance(context: Context): NativeImageLoader =
+      DefaultNativeImageLoader.getInstance(context)
+  }
+}
@@ -0,0 +1,47 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import com.google.android.gms.ads.MobileAds
+import com.google.android.gms.ads.VersionInfo
+
+/**
+ * Checks [predicate] against the runtime GMA SDK version, and reuses the result for as long as
+ * [getVersion] returns the same [VersionInfo] instance.
+ *
+ * The result is keyed by identity rather than memoized once per process, so that a different
+ * version returned by [getVersion], e.g. in tests, is checked again.
+ */
+internal class RuntimeGmaVersionCheck(
+  private val getVersion: () -> VersionInfo = MobileAds::getVersion,
+  private val predicate: (VersionInfo) -> Boolean,
+) {
+
+  private class Result(val version: VersionInfo, val value: Boolean)
+
+  @Volatile private var lastResult: Result? = null
+
+  fun get(): Boolean {
+    val version = getVersion()
+    lastResult?.let {
+      if (it.version === version) {
+        return it.value
+      }
+    }
+    val value = predicate(version)
+    lastResult = Result(version, value)
+    return value
+  }
+}
@@ -0,0 +1,322 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.content.Context
+import android.util.Log
+import androidx.annotation.VisibleForTesting
+import com.google.ads.mediation.common.ErrorCodes.COMMON_MEDIATION_ERROR_DOMAIN
+import com.google.ads.mediation.common.ErrorCodes.ERROR_CODE_SIGNAL_COLLECTION_FAILED
+import com.google.ads.mediation.common.ErrorCodes.ERROR_CODE_SIGNAL_COLLECTION_TIMEOUT
+import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
+import com.google.android.gms.ads.mediation.rtb.SignalCallbacks
+import java.util.Collections
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executor
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.ScheduledThreadPoolExecutor
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Runs the bid token generation of adapters off the calling thread, with a deadline per network.
+ *
+ * Every [collectSignals] call runs its [SignalGenerator] on a shared background pool, so that
+ * adapters whose third-party SDK generates tokens synchronously no longer block the thread
+ * collecting signals, and the signals of several networks are generated in parallel. If the
+ * generator does not report a result before the deadline, the callbacks fail with
+ * [ERROR_CODE_SIGNAL_COLLECTION_TIMEOUT] and any later result from the SDK is dropped.
+ *
+ * Each adapter passes a deadline suited to how its third-party SDK generates tokens. Apps can
+ * override the deadline of a network with [setTimeout].
+ *
+ * Use [getInstance] to get the collector shared by all adapters in the process.
+ */
+class SignalCollector
+@VisibleForTesting
+@JvmOverloads
+constructor(
+  private val executor: Executor,
+  private val scheduledExecutor: ScheduledExecutorService,
+  private val bidTokenCache: BidTokenCache = BidTokenCache.getInstance(),
+) {
+
+  /** Keys of the cached bid tokens being refreshed in the background. */
+  private val refreshingKeys: MutableSet<String> = Collections.newSetFromMap(ConcurrentHashMap())
+
+  /** Deadlines set with [setTimeout], keyed by network. */
+  private val timeoutMillisOverrides = ConcurrentHashMap<String, Long>()
+
+  /** Generates the bid token of a network and reports it to the given [SignalCallbacks]. */
+  fun interface SignalGenerator {
+    fun generateSignal(signalCallbacks: SignalCallbacks)
+  }
+
+  /**
+   * Overrides the deadline that [network] has to generate its signals. A non-positive value
+   * restores the deadline passed by the adapter, which is the default.
+   *
+   * @param network the network name, as shown in the adapter's changelog (e.g. "AppLovin").
+   */
+  fun setTimeout(network: String, timeoutMillis: Long) {
+    if (timeoutMillis > 0) {
+      timeoutMillisOverrides[network] = timeoutMillis
+    } else {
+      timeoutMillisOverrides.remove(network)
+    }
+  }
+
+  /**
+   * Returns the deadline that [network] has to generate its signals: the one set with [setTimeout]
+   * if any, or else [adapterTimeoutMillis].
+   */
+  fun getTimeout(network: String, adapterTimeoutMillis: Long): Long =
+    timeoutMillisOverrides[network] ?: adapterTimeoutMillis
+
+  /**
+   * Runs [signalGenerator] on a background thread and reports its result to [signalCallbacks]
+   * exactly once: either the result of the generator or a timeout error after the deadline of
+   * [network].
+   *
+   * @param network the name of the network, used in logs and error messages.
+   * @param timeoutMillis the adapter's deadline for [network], unless overridden with [setTimeout].
+   */
+  @JvmOverloads
+  fun collectSignals(
+    network: String,
+    signalCallbacks: SignalCallbacks,
+    timeoutMillis: Long = DEFAULT_TIMEOUT_MILLIS,
+    signalGenerator: SignalGenerator,
+  ) {
+    val deadlineMillis = getTimeout(network, timeoutMillis)
+    val deadlineCallbacks = DeadlineSignalCallbacks(network, signalCallbacks)
+    deadlineCallbacks.timeoutFuture =
+      scheduledExecutor.schedule(
+        { deadlineCallbacks.onTimeout(deadlineMillis) },
+        deadlineMillis,
+        TimeUnit.MILLISECONDS,
+      )
+    try {
+      executor.execute { generateSignal(network, signalGenerator, deadlineCallbacks) }
+    } catch (exception: RejectedExecutionException) {
+      // Fall back to the calling thread rather than failing the bid.
+      generateSignal(network, signalGenerator, deadlineCallbacks)
+    }
+  }
+
+  /**
+   * Like [collectSignals], but serves the bid token from the [BidTokenCache] when caching is
+   * enabled for [network] and a valid token was cached for [adFormat]. Tokens generated by
+   * [signalGenerator] are added to the cache, and a cached token that is past half of its
+   * time-to-live is refreshed in the background after being served. Caching is skipped if
+   * [adFormat] is null.
+   *
+   * @param qualifier distinguishes tokens of the same network and ad format that depend on other
+   *   request data, such as the placement or the banner size.
+   */
+  @JvmOverloads
+  fun collectCachedSignals(
+    context: Context,
+    network: String,
+    adFormat: AdFormat?,
+    qualifier: String? = null,
+    signalCallbacks: SignalCallbacks,
+    timeoutMillis: Long = DEFAULT_TIMEOUT_MILLIS,
+    signalGenerator: SignalGenerator,
+  ) {
+    if (adFormat == null || bidTokenCache.getTimeToLive(network) <= 0) {
+      collectSignals(network, signalCallbacks, timeoutMillis, signalGenerator)
+      return
+    }
+    val privacyState = BidTokenCache.getPrivacyState(context)
+    val entry = bidTokenCache.get(network, adFormat, privacyState, qualifier)
+    if (entry == null) {
+      collectSignals(
+        network,
+        CachingSignalCallbacks(network, adFormat, qualifier, privacyState, signalCallbacks),
+        timeoutMillis,
+        signalGenerator,
+      )
+      return
+    }
+    signalCallbacks.onSuccess(entry.token)
+    val refreshKey = "$network/$adFormat/$qualifier"
+    if (bidTokenCache.shouldRefresh(network, entry) && refreshingKeys.add(refreshKey)) {
+      collectSignals(
+        network,
+        CachingSignalCallbacks(network, adFormat, qualifier, privacyState, delegate = null) {
+          refreshingKeys.remove(refreshKey)
+        },
+        timeoutMillis,
+        signalGenerator,
+      )
+    }
+  }
+
+  private fun generateSignal(
+    network: String,
+    signalGenerator: SignalGenerator,
+    deadlineCallbacks: DeadlineSignalCallbacks,
+  ) {
+    try {
+      signalGenerator.generateSignal(deadlineCallbacks)
+    } catch (exception: RuntimeException) {
+      Log.w(TAG, "$network failed to generate signals.", exception)
+      deadlineCallbacks.onFailure(
+        AdError(
+          ERROR_CODE_SIGNAL_COLLECTION_FAILED,
+          "$network failed to generate signals: $exception",
+          COMMON_MEDIATION_ERROR_DOMAIN,
+        )
+      )
+    }
+  }
+
+  /** Adds generated tokens to the [BidTokenCache] before forwarding results to [delegate]. */
+  private inner class CachingSignalCallbacks(
+    private val network: String,
+    private val adFormat: AdFormat,
+    private val qualifier: String?,
+    private val privacyState: Int,
+    private val delegate: SignalCallbacks?,
+    private val onComplete: () -> Unit = {},
+  ) : SignalCallbacks {
+
+    override fun onSuccess(signals: String) {
+      bidTokenCache.put(network, adFormat, signals, privacyState, qualifier)
+      onComplete()
+      delegate?.onSuccess(signals)
+    }
+
+    override fun onFailure(adError: AdError) {
+      onComplete()
+      delegate?.onFailure(adError)
+    }
+
+    @Deprecated("Use onFailure(AdError) instead.")
+    override fun onFailure(errorMessage: String) {
+      onComplete()
+      @Suppress("DEPRECATION") delegate?.onFailure(errorMessage)
+    }
+  }
+
+  /** Forwards the first result, or a timeout error, to [delegate] and drops every later one. */
+  private class DeadlineSignalCallbacks(
+    private val network: String,
+    private val delegate: SignalCallbacks,
+  ) : SignalCallbacks {
+
+    private val isComplete = AtomicBoolean()
+
+    @Volatile var timeoutFuture: ScheduledFuture<*>? = null
+
+    override fun onSuccess(signals: String) {
+      if (complete()) {
+        delegate.onSuccess(signals)
+      }
+    }
+
+    override fun onFailure(adError: AdError) {
+      if (complete()) {
+        delegate.onFailure(adError)
+      }
+    }
+
+    @Deprecated("Use onFailure(AdError) instead.")
+    override fun onFailure(errorMessage: String) {
+      if (complete()) {
+        @Suppress("DEPRECATION") delegate.onFailure(errorMessage)
+      }
+    }
+
+    fun onTimeout(timeoutMillis: Long) {
+      if (isComplete.compareAndSet(false, true)) {
+        val adError =
+          AdError(
+            ERROR_CODE_SIGNAL_COLLECTION_TIMEOUT,
+            "$network did not generate signals within $timeoutMillis ms.",
+            COMMON_MEDIATION_ERROR_DOMAIN,
+          )
+        Log.w(TAG, adError.message)
+        delegate.onFailure(adError)
+      }
+    }
+
+    private fun complete(): Boolean {
+      if (!isComplete.compareAndSet(false, true)) {
+        return false
+      }
+      timeoutFuture?.cancel(/* mayInterruptIfRunning= */ false)
+      return true
+    }
+  }
+
+  companion object {
+    /** Default deadline for a network to generate its signals, if its adapter doesn't pass one. */
+    const val DEFAULT_TIMEOUT_MILLIS = 1000L
+
+    private const val TAG = "SignalCollector"
+
+    /** Maximum number of networks generating signals at the same time. */
+    private const val MAX_PARALLELISM = 4
+
+    @Volatile private var instance: SignalCollector? = null
+
+    /** Returns the signal collector shared by all adapters in the process. */
+    @JvmStatic
+    fun getInstance(): SignalCollector =
+      instance ?: synchronized(this) { instance ?: createSignalCollector().also { instance = it } }
+
+    /** Replaces the shared signal collector. Pass null to restore the default one. */
+    @VisibleForTesting
+    @JvmStatic
+    fun setInstanceForTesting(signalCollector: SignalCollector?) {
+      instance = signalCollector
+    }
+
+    private fun createSignalCollector(): SignalCollector {
+      val threadFactory = DaemonThreadFactory()
+      val executor =
+        ThreadPoolExecutor(
+            MAX_PARALLELISM,
+            MAX_PARALLELISM,
+            /* keepAliveTime= */ 30,
+            TimeUnit.SECONDS,
+            LinkedBlockingQueue(),
+            threadFactory,
+          )
+          .apply { allowCoreThreadTimeOut(true) }
+      val scheduledExecutor =
+        ScheduledThreadPoolExecutor(/* corePoolSize= */ 1, threadFactory).apply {
+          removeOnCancelPolicy = true
+        }
+      return SignalCollector(executor, scheduledExecutor)
+    }
+  }
+
+  private class DaemonThreadFactory : ThreadFactory {
+    private val threadCount = AtomicInteger()
+
+    override fun newThread(runnable: Runnable): Thread =
+      Thread(runnable, "$TAG-${threadCount.incrementAndGet()}").apply { isDaemon = true }
+  }
+}
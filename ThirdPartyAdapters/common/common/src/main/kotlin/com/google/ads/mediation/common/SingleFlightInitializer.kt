@@ -0,0 +1,143 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * A lock-free state machine that tracks the initialization of a third-party SDK and the listeners
+ * waiting for it.
+ *
+ * Concurrent [addListener] calls coalesce into a single initialization: exactly one caller is told
+ * to [AddListenerResult.START_INITIALIZATION] and every other caller either joins the pending
+ * initialization or, once initialized, is told so without any locking. Each listener is returned
+ * exactly once, by whichever of [completeWithSuccess] or [completeWithFailure] ends the
+ * initialization it joined.
+ *
+ * The listener type is left to the adapter so that each adapter keeps its own listener interface
+ * and error mapping. Adapters are responsible for invoking the returned listeners.
+ *
+ * @param L the type of the listeners waiting for initialization.
+ */
+class SingleFlightInitializer<L : Any> {
+
+  /** The outcome of [addListener]. */
+  enum class AddListenerResult {
+    /**
+     * The SDK is already initialized. The listener was not added and should be notified
+     * immediately.
+     */
+    ALREADY_INITIALIZED,
+
+    /**
+     * The listener was added and the caller must now start initializing the SDK, then call
+     * [completeWithSuccess] or [completeWithFailure].
+     */
+    START_INITIALIZATION,
+
+    /** The listener was added to an initialization that is already in progress. */
+    JOINED_PENDING_INITIALIZATION,
+  }
+
+  /** The initialization status. */
+  enum class Status {
+    UNINITIALIZED,
+    INITIALIZING,
+    INITIALIZED,
+  }
+
+  /**
+   * An immutable snapshot of the state. Pending listeners are kept in a singly linked list, newest
+   * first, so that adding a listener is a single compare-and-set.
+   */
+  private class State<L>(val status: Status, val pendingListeners: Node<L>?)
+
+  private class Node<L>(val listener: L, val next: Node<L>?)
+
+  private val state = AtomicReference(State<L>(Status.UNINITIALIZED, pendingListeners = null))
+
+  /** Returns the current initialization status. */
+  val status: Status
+    get() = state.get().status
+
+  /** Returns true iff the SDK finished initializing successfully. */
+  val isInitialized: Boolean
+    get() = state.get().status == Status.INITIALIZED
+
+  /** Returns the listeners waiting for the pending initialization, in the order they were added. */
+  val pendingListeners: List<L>
+    get() = toList(state.get().pendingListeners)
+
+  /** Registers [listener] for the result of the SDK initialization. See [AddListenerResult]. */
+  fun addListener(listener: L): AddListenerResult {
+    while (true) {
+      val current = state.get()
+      when (current.status) {
+        Status.INITIALIZED -> return AddListenerResult.ALREADY_INITIALIZED
+        Status.UNINITIALIZED -> {
+          val next = State(Status.INITIALIZING, Node(listener, next = null))
+          if (state.compareAndSet(current, next)) {
+            return AddListenerResult.START_INITIALIZATION
+          }
+        }
+        Status.INITIALIZING -> {
+          val next = State(Status.INITIALIZING, Node(listener, current.pendingListeners))
+          if (state.compareAndSet(current, next)) {
+            return AddListenerResult.JOINED_PENDING_INITIALIZATION
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Marks the SDK as initialized.
+   *
+   * @return the listeners that were waiting for the initialization, in the order they were added.
+   */
+  fun completeWithSuccess(): List<L> = complete(Status.INITIALIZED)
+
+  /**
+   * Marks the SDK as uninitialized so that the next [addListener] call starts a new initialization.
+   *
+   * @return the listeners that were waiting for the initialization, in the order they were added.
+   */
+  fun completeWithFailure(): List<L> = complete(Status.UNINITIALIZED)
+
+  /**
+   * Moves back to [Status.UNINITIALIZED] if the SDK was marked as initialized. For adapters whose
+   * third-party SDK is the source of truth for its initialization status.
+   */
+  fun resetIfInitialized() {
+    val current = state.get()
+    if (current.status == Status.INITIALIZED) {
+      state.compareAndSet(current, State(Status.UNINITIALIZED, pendingListeners = null))
+    }
+  }
+
+  private fun complete(status: Status): List<L> =
+    toList(state.getAndSet(State(status, pendingListeners = null)).pendingListeners)
+
+  private fun toList(head: Node<L>?): List<L> {
+    val listeners = ArrayList<L>()
+    var node = head
+    while (node != null) {
+      listeners.add(node.listener)
+      node = node.next
+    }
+    listeners.reverse()
+    return listeners
+  }
+}
@@ -0,0 +1,130 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import com.google.android.gms.ads.VersionInfo
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Parses dot-separated version strings into instances of [VersionInfo], and caches them by
+ * version string.
+ *
+ * The first two components of a version string are the major and minor versions. The third to
+ * [maxComponents]th components are folded into the micro version, two decimal digits each, so that
+ * for example "13.6.4.1" parses to 13.6.401 when [maxComponents] is 4. Components after the
+ * [maxComponents]th are ignored.
+ *
+ * Adapters report their versions to the Google Mobile Ads SDK frequently, so keep one parser per
+ * version format in a constant and parse the version on every call: the version string is only
+ * parsed the first time.
+ *
+ * @param minComponents the number of components below which a version string is malformed.
+ * @param maxComponents the number of components parsed from a version string.
+ */
+class VersionInfoParser(private val minComponents: Int, private val maxComponents: Int) {
+
+  init {
+    require(minComponents in 1..maxComponents) { "Invalid number of version components." }
+  }
+
+  private val versionInfos = ConcurrentHashMap<String, VersionInfo>()
+
+  /**
+   * Returns the [VersionInfo] of [version], or null if [version] has fewer than [minComponents]
+   * components.
+   *
+   * @throws NumberFormatException if one of the parsed components is not a number.
+   */
+  fun parse(version: String): VersionInfo? {
+    versionInfos[version]?.let {
+      return it
+    }
+    val versionInfo = parseUncached(version) ?: return null
+    if (versionInfos.size < MAX_CACHED_VERSIONS) {
+      versionInfos[version] = versionInfo
+    }
+    return versionInfo
+  }
+
+  private fun parseUncached(version: String): VersionInfo? {
+    val componentCount = countComponents(version)
+    if (componentCount < minComponents) {
+      return null
+    }
+
+    var major = 0
+    var minor = 0
+    var micro = 0
+    var componentIndex = 0
+    var componentStart = 0
+    while (componentIndex < minOf(componentCount, maxComponents)) {
+      var componentEnd = version.indexOf('.', componentStart)
+      if (componentEnd < 0) {
+        componentEnd = version.length
+      }
+      val component = parseComponent(version, componentStart, componentEnd)
+      when (componentIndex) {
+        0 -> major = component
+        1 -> minor = component
+        2 -> micro = component
+        else -> micro = micro * 100 + component
+      }
+      componentIndex++
+      componentStart = componentEnd + 1
+    }
+    return VersionInfo(major, minor, micro)
+  }
+
+  private companion object {
+    /** Enough for the adapter and SDK versions of an adapter, plus the ones set by tests. */
+    const val MAX_CACHED_VERSIONS = 16
+
+    /** Returns the number of components of [version], like `version.split(".").size` would. */
+    fun countComponents(version: String): Int {
+      // Trailing empty components are dropped, like String.split does.
+      var end = version.length
+      while (end > 0 && version[end - 1] == '.') {
+        end--
+      }
+      if (end == 0) {
+        // An empty string splits into one empty component, and a string of dots into none.
+        return if (version.isEmpty()) 1 else 0
+      }
+      var count = 1
+      for (index in 0 until end) {
+        if (version[index] == '.') {
+          count++
+        }
+      }
+      return count
+    }
+
+    /** Parses the decimal number of [version] between [start] and [end] without allocating. */
+    fun parseComponent(version: String, start: Int, end: Int): Int {
+      if (start >= end) {
+        throw NumberFormatException("Empty version component in: $version")
+      }
+      var value = 0
+      for (index in start until end) {
+        val digit = version[index] - '0'
+        if (digit !in 0..9 || value > (Int.MAX_VALUE - digit) / 10) {
+          throw NumberFormatException("Invalid version component in: $version")
+        }
+        value = value * 10 + digit
+      }
+      return value
+    }
+  }
+}
@@ -0,0 +1,240 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.os.Handler
+import android.os.SystemClock
+import android.util.Log
+import androidx.annotation.VisibleForTesting
+import java.lang.ref.ReferenceQueue
+import java.lang.ref.WeakReference
+
+/**
+ * Grants each slot of a third-party SDK, e.g. a placement that loads one ad at a time, to one ad at
+ * a time, and queues the ad requests made for a slot that is owned by another ad.
+ *
+ * An ad owns its slot from the time it is admitted until it [release]s it or is garbage collected,
+ * so that an ad the publisher dropped without showing does not hold its slot forever. Requests made
+ * for an owned slot wait in FIFO order, at most [maxWaitingPerSlot] per slot and for at most
+ * [maxWaitMillis], and the next one is loaded on [handler] as soon as the slot is released. Keep
+ * [maxWaitMillis] well below the mediation timeout of the Google Mobile Ads SDK, so that a request
+ * is never loaded after its callback was abandoned.
+ *
+ * @param K the type of the slot keys.
+ * @param T the type of the ads owning the slots.
+ * @param slotName names the slots in log messages, e.g. "IronSource instance ID".
+ */
+class WeakOwnerSlotQueue<K : Any, T : Any>
+@JvmOverloads
+constructor(
+  private val handler: Handler,
+  private val slotName: String,
+  val maxWaitingPerSlot: Int = DEFAULT_MAX_WAITING_PER_SLOT,
+  val maxWaitMillis: Long = DEFAULT_MAX_WAIT_MILLIS,
+) {
+
+  /** The result of [acquire]. */
+  enum class Admission {
+    /** The ad owns the slot and should be loaded now. */
+    PROCEED,
+    /** The slot is owned by another ad. The ad will be loaded once the slot is released. */
+    WAIT,
+    /** The slot is owned by another ad and too many ad requests are waiting for it. */
+    REJECT,
+  }
+
+  private class OwnerReference<K, T>(val key: K, owner: T, queue: ReferenceQueue<in T>) :
+    WeakReference<T>(owner, queue)
+
+  /** An ad request waiting for its slot. Runs its timeout when posted to [handler]. */
+  private inner class WaitingRequest(
+    val key: K,
+    val owner: T,
+    val load: Runnable,
+    val failure: Runnable,
+  ) : Runnable {
+
+    /** The [SystemClock.uptimeMillis] after which this request fails. */
+    val deadlineMillis = SystemClock.uptimeMillis() + maxWaitMillis
+
+    override fun run() {
+      synchronized(this@WeakOwnerSlotQueue) {
+        val slot = slots[key]
+        if (slot == null || !slot.waitingRequests.remove(this)) {
+          return
+        }
+        removeIfUnused(key, slot)
+      }
+      Log.w(TAG, "$slotName $key was not released before the ad request deadline.")
+      failure.run()
+    }
+  }
+
+  private inner class Slot {
+    var owner: OwnerReference<K, T>? = null
+    val waitingRequests = ArrayDeque<WaitingRequest>()
+  }
+
+  private val referenceQueue = ReferenceQueue<T>()
+
+  private val slots = HashMap<K, Slot>()
+
+  /**
+   * Requests the slot [key] for [owner], which owns it if [Admission.PROCEED] is returned.
+   *
+   * @param load loads [owner] on [handler] once it owns the slot. Only used if [Admission.WAIT] is
+   *   returned.
+   * @param failure fails the request if the slot is not released in time or is removed. Only used
+   *   if [Admission.WAIT] is returned.
+   */
+  @Synchronized
+  fun acquire(key: K, owner: T, load: Runnable, failure: Runnable): Admission {
+    reapCollectedOwners()
+    var slot = slots[key]
+    if (slot != null && slot.owner != null && slot.owner?.get() == null) {
+      // The owner is collected but its reference is not enqueued yet. Serve the waiting requests
+      // first.
+      releaseOwner(key, slot)
+      slot = slots[key]
+    }
+    if (slot == null) {
+      slot = Slot()
+      slots[key] = slot
+    }
+    if (slot.owner == null) {
+      slot.owner = OwnerReference(key, owner, referenceQueue)
+      return Admission.PROCEED
+    }
+    if (slot.waitingRequests.size >= maxWaitingPerSlot) {
+      return Admission.REJECT
+    }
+    val waitingRequest = WaitingRequest(key, owner, load, failure)
+    slot.waitingRequests.addLast(waitingRequest)
+    handler.postAtTime(waitingRequest, waitingRequest.deadlineMillis)
+    return Admission.WAIT
+  }
+
+  /**
+   * Makes [owner] the owner of the slot [key], even if it is owned by another ad, e.g. for an ad
+   * whose bid was won while the slot was free.
+   */
+  @Synchronized
+  fun register(key: K, owner: T) {
+    reapCollectedOwners()
+    slots.getOrPut(key) { Slot() }.owner = OwnerReference(key, owner, referenceQueue)
+  }
+
+  /** Returns the ad owning the slot [key], or null if the slot is not owned. */
+  @Synchronized
+  fun getOwner(key: K): T? {
+    reapCollectedOwners()
+    return slots[key]?.owner?.get()
+  }
+
+  /**
+   * Releases the slot [key] if it is owned by [owner], and loads the next request waiting for it.
+   */
+  @Synchronized
+  fun release(key: K, owner: T) {
+    reapCollectedOwners()
+    val slot = slots[key] ?: return
+    if (slot.owner?.get() !== owner) {
+      return
+    }
+    releaseOwner(key, slot)
+  }
+
+  /** Releases the slot [key] and fails the requests waiting for it. */
+  @Synchronized
+  fun remove(key: K) {
+    val slot = slots.remove(key) ?: return
+    failWaitingRequests(slot)
+  }
+
+  /** Releases every slot and fails the requests waiting for them. */
+  @Synchronized
+  fun clear() {
+    slots.values.forEach { failWaitingRequests(it) }
+    slots.clear()
+  }
+
+  /** Returns the number of requests waiting for the slot [key]. */
+  @VisibleForTesting
+  @Synchronized
+  fun getWaitingCount(key: K): Int = slots[key]?.waitingRequests?.size ?: 0
+
+  /** Clears and enqueues the reference to the owner of the slot [key], as the GC would. */
+  @VisibleForTesting
+  @Synchronized
+  fun collectOwner(key: K) {
+    slots[key]?.owner?.let {
+      it.clear()
+      it.enqueue()
+    }
+  }
+
+  /** Releases the slots whose owner was garbage collected. */
+  private fun reapCollectedOwners() {
+    while (true) {
+      @Suppress("UNCHECKED_CAST")
+      val reference = referenceQueue.poll() as OwnerReference<K, T>? ?: return
+      val slot = slots[reference.key]
+      if (slot != null && slot.owner === reference) {
+        Log.d(TAG, "Releasing $slotName ${reference.key} owned by a garbage collected ad.")
+        releaseOwner(reference.key, slot)
+      }
+    }
+  }
+
+  /** Loads the next request waiting for [slot], failing the ones whose deadline already passed. */
+  private fun releaseOwner(key: K, slot: Slot) {
+    slot.owner = null
+    while (slot.owner == null) {
+      val nextRequest = slot.waitingRequests.removeFirstOrNull() ?: break
+      handler.removeCallbacks(nextRequest)
+      if (SystemClock.uptimeMillis() >= nextRequest.deadlineMillis) {
+        handler.post(nextRequest.failure)
+        continue
+      }
+      slot.owner = OwnerReference(key, nextRequest.owner, referenceQueue)
+      handler.post(nextRequest.load)
+    }
+    removeIfUnused(key, slot)
+  }
+
+  private fun failWaitingRequests(slot: Slot) {
+    for (waitingRequest in slot.waitingRequests) {
+      handler.removeCallbacks(waitingRequest)
+      handler.post(waitingRequest.failure)
+    }
+    slot.waitingRequests.clear()
+  }
+
+  private fun removeIfUnused(key: K, slot: Slot) {
+    if (slot.owner == null && slot.waitingRequests.isEmpty()) {
+      slots.remove(key)
+    }
+  }
+
+  companion object {
+    private const val TAG = "WeakOwnerSlotQueue"
+
+    /** Default maximum number of ad requests waiting for a slot. */
+    const val DEFAULT_MAX_WAITING_PER_SLOT = 2
+
+    /** Default maximum time an ad request waits for its slot before it fails. */
+    const val DEFAULT_MAX_WAIT_MILLIS = 5_000L
+  }
+}
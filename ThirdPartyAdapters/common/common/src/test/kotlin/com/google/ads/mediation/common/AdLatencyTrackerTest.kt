@@ -0,0 +1,133 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.android.gms.ads.AdFormat
+import com.google.common.truth.Truth.assertThat
+import java.time.Duration
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.shadows.ShadowSystemClock
+
+/** Tests for [AdLatencyTracker] and [HistogramAdLatencyMetrics]. */
+@RunWith(AndroidJUnit4::class)
+class AdLatencyTrackerTest {
+
+  private val metrics = HistogramAdLatencyMetrics()
+
+  @Before
+  fun setUp() {
+    AdLatencyMetrics.setInstance(metrics)
+  }
+
+  @After
+  fun tearDown() {
+    AdLatencyMetrics.setInstance(null)
+  }
+
+  @Test
+  fun endStage_recordsStageDurationPerNetworkAndFormat() {
+    val tracker = AdLatencyTracker(NETWORK, AdFormat.BANNER)
+
+    tracker.startStage(Stage.TIME_TO_FILL)
+    tracker.startStage(Stage.SDK_LOAD)
+    ShadowSystemClock.advanceBy(Duration.ofMillis(300))
+    tracker.endStage(Stage.SDK_LOAD)
+    ShadowSystemClock.advanceBy(Duration.ofMillis(20))
+    tracker.endStage(Stage.TIME_TO_FILL)
+
+    assertThat(getHistogram(AdFormat.BANNER, Stage.SDK_LOAD).getMaxMillis()).isEqualTo(300)
+    assertThat(getHistogram(AdFormat.BANNER, Stage.TIME_TO_FILL).getMaxMillis()).isEqualTo(320)
+    assertThat(getHistogram(AdFormat.INTERSTITIAL, Stage.SDK_LOAD).getCount()).isEqualTo(0)
+    assertThat(metrics.getHistogram("OtherNetwork", AdFormat.BANNER, Stage.SDK_LOAD)).isNull()
+  }
+
+  @Test
+  fun endStage_stageNotStarted_recordsNothing() {
+    val tracker = AdLatencyTracker(NETWORK, AdFormat.BANNER)
+
+    tracker.endStage(Stage.TIME_TO_FILL)
+
+    assertThat(metrics.getHistogram(NETWORK, AdFormat.BANNER, Stage.TIME_TO_FILL)).isNull()
+  }
+
+  @Test
+  fun endStage_calledTwice_recordsStageOnce() {
+    val tracker = AdLatencyTracker(NETWORK, AdFormat.REWARDED)
+    tracker.startStage(Stage.SHOW)
+
+    tracker.endStage(Stage.SHOW)
+    tracker.endStage(Stage.SHOW)
+
+    assertThat(getHistogram(AdFormat.REWARDED, Stage.SHOW).getCount()).isEqualTo(1)
+  }
+
+  @Test
+  fun endStage_metricsSetAfterTrackerCreated_recordsNothing() {
+    AdLatencyMetrics.setInstance(null)
+    val tracker = AdLatencyTracker(NETWORK, AdFormat.NATIVE)
+    AdLatencyMetrics.setInstance(metrics)
+
+    tracker.startStage(Stage.ASSET_MAPPING)
+    tracker.endStage(Stage.ASSET_MAPPING)
+
+    assertThat(metrics.getHistogram(NETWORK, AdFormat.NATIVE, Stage.ASSET_MAPPING)).isNull()
+  }
+
+  @Test
+  fun recordStage_recordsEachDuration() {
+    val tracker = AdLatencyTracker(NETWORK, AdFormat.NATIVE)
+
+    tracker.recordStage(Stage.IMAGE_LOAD, 40)
+    tracker.recordStage(Stage.IMAGE_LOAD, 70)
+
+    val histogram = getHistogram(AdFormat.NATIVE, Stage.IMAGE_LOAD)
+    assertThat(histogram.getCount()).isEqualTo(2)
+    assertThat(histogram.getMaxMillis()).isEqualTo(70)
+  }
+
+  @Test
+  fun recordStage_metricsSetAfterTrackerCreated_recordsNothing() {
+    AdLatencyMetrics.setInstance(null)
+    val tracker = AdLatencyTracker(NETWORK, AdFormat.NATIVE)
+    AdLatencyMetrics.setInstance(metrics)
+
+    tracker.recordStage(Stage.IMAGE_LOAD, 40)
+
+    assertThat(metrics.getHistogram(NETWORK, AdFormat.NATIVE, Stage.IMAGE_LOAD)).isNull()
+  }
+
+  @Test
+  fun reset_removesRecordedLatencies() {
+    val tracker = AdLatencyTracker(NETWORK, AdFormat.BANNER)
+    tracker.startStage(Stage.SDK_LOAD)
+    tracker.endStage(Stage.SDK_LOAD)
+
+    metrics.reset()
+
+    assertThat(metrics.getHistogram(NETWORK, AdFormat.BANNER, Stage.SDK_LOAD)).isNull()
+  }
+
+  private fun getHistogram(adFormat: AdFormat, stage: Stage): LatencyHistogram =
+    metrics.getHistogram(NETWORK, adFormat, stage)!!
+
+  private companion object {
+    const val NETWORK = "TestNetwork"
+  }
+}
@@ -0,0 +1,211 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.content.Context
+import android.os.Bundle
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.common.AdapterWarmUp.WarmUpRequest
+import com.google.ads.mediation.common.AdapterWarmUp.WarmUpResult
+import com.google.android.gms.ads.VersionInfo
+import com.google.android.gms.ads.mediation.Adapter
+import com.google.android.gms.ads.mediation.InitializationCompleteCallback
+import com.google.android.gms.ads.mediation.MediationConfiguration
+import com.google.common.truth.Truth.assertThat
+import java.util.concurrent.Executor
+import java.util.concurrent.TimeUnit
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/** Tests for [AdapterWarmUp]. */
+@RunWith(AndroidJUnit4::class)
+class AdapterWarmUpTest {
+
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+  private val inlineExecutor = Executor { it.run() }
+  private var warmUpResults: List<WarmUpResult>? = null
+
+  @Before
+  fun setUp() {
+    AdapterWarmUp.reset()
+  }
+
+  @Test
+  fun warmUp_initializesEveryAdapterAndNotifiesListenerOnce() {
+    val firstAdapter = FirstAdapter()
+    val secondAdapter = SecondAdapter()
+    warmUp(WarmUpRequest(firstAdapter, Bundle()), WarmUpRequest(secondAdapter, Bundle()))
+    firstAdapter.callback!!.onInitializationSucceeded()
+    assertThat(warmUpResults).isNull()
+    secondAdapter.callback!!.onInitializationSucceeded()
+
+    assertThat(firstAdapter.initializeCount).isEqualTo(1)
+    assertThat(secondAdapter.initializeCount).isEqualTo(1)
+    assertThat(warmUpResults!!.map { it.network })
+      .containsExactly(FirstAdapter::class.java.name, SecondAdapter::class.java.name)
+      .inOrder()
+    assertThat(warmUpResults!!.all { it.isSuccess }).isTrue()
+  }
+
+  @Test
+  fun warmUp_passesServerParametersToAdapter() {
+    val adapter = FirstAdapter()
+    val serverParameters = Bundle().apply { putString("key", "value") }
+
+    warmUp(WarmUpRequest(adapter, serverParameters))
+
+    assertThat(adapter.configurations.single().serverParameters.getString("key"))
+      .isEqualTo("value")
+  }
+
+  @Test
+  fun warmUp_emptyRequests_notifiesListenerWithEmptyResults() {
+    warmUp()
+
+    assertThat(warmUpResults).isEmpty()
+  }
+
+  @Test
+  fun warmUp_sameAdapterTwice_initializesOnceAndReportsSharedResult() {
+    val adapter = FirstAdapter()
+    warmUp(WarmUpRequest(adapter, Bundle()))
+    adapter.callback!!.onInitializationSucceeded()
+
+    warmUp(WarmUpRequest(FirstAdapter(), Bundle()))
+
+    assertThat(adapter.initializeCount).isEqualTo(1)
+    assertThat(warmUpResults!!.single())
+      .isSameInstanceAs(AdapterWarmUp.getResult(FirstAdapter::class.java.name))
+  }
+
+  @Test
+  fun warmUp_callsInitializeOnMainExecutor() {
+    val adapter = FirstAdapter()
+    val mainTasks = mutableListOf<Runnable>()
+
+    AdapterWarmUp.warmUp(
+      context,
+      listOf(WarmUpRequest(adapter, Bundle())),
+      { warmUpResults = it },
+      { mainTasks.add(it) },
+    )
+
+    assertThat(adapter.initializeCount).isEqualTo(0)
+    mainTasks.single().run()
+    assertThat(adapter.initializeCount).isEqualTo(1)
+  }
+
+  @Test
+  fun warmUp_sameAdapterWhileInFlight_reportsResultWithoutInitializingAgain() {
+    val adapter = FirstAdapter()
+    warmUp(WarmUpRequest(adapter, Bundle()))
+    var duplicateResults: List<WarmUpResult>? = null
+    var executedTaskCount = 0
+    val countingExecutor = Executor {
+      executedTaskCount++
+      it.run()
+    }
+
+    AdapterWarmUp.warmUp(
+      context,
+      listOf(WarmUpRequest(FirstAdapter(), Bundle())),
+      { duplicateResults = it },
+      countingExecutor,
+    )
+    assertThat(duplicateResults).isNull()
+    adapter.callback!!.onInitializationSucceeded()
+
+    assertThat(executedTaskCount).isEqualTo(0)
+    assertThat(adapter.initializeCount).isEqualTo(1)
+    assertThat(duplicateResults!!.single()).isSameInstanceAs(warmUpResults!!.single())
+  }
+
+  @Test
+  fun warmUp_afterFailure_allowsRetry() {
+    val failingAdapter = FirstAdapter()
+    warmUp(WarmUpRequest(failingAdapter, Bundle()))
+    failingAdapter.callback!!.onInitializationFailed("Init failed.")
+    assertThat(warmUpResults!!.single().errorMessage).isEqualTo("Init failed.")
+
+    val retriedAdapter = FirstAdapter()
+    warmUp(WarmUpRequest(retriedAdapter, Bundle()))
+
+    assertThat(retriedAdapter.initializeCount).isEqualTo(1)
+  }
+
+  @Test
+  fun warmUp_adapterThrows_reportsFailure() {
+    val adapter = FirstAdapter(exception = IllegalStateException("Boom"))
+
+    warmUp(WarmUpRequest(adapter, Bundle()))
+
+    assertThat(warmUpResults!!.single().isSuccess).isFalse()
+  }
+
+  @Test
+  fun awaitWarmUp_completedWarmUp_returnsResult() {
+    val adapter = FirstAdapter()
+    warmUp(WarmUpRequest(adapter, Bundle()))
+    adapter.callback!!.onInitializationSucceeded()
+
+    val result = AdapterWarmUp.awaitWarmUp(FirstAdapter::class.java.name, 1, TimeUnit.SECONDS)
+
+    assertThat(result!!.isSuccess).isTrue()
+  }
+
+  @Test
+  fun awaitWarmUp_pendingWarmUp_returnsNullAfterTimeout() {
+    warmUp(WarmUpRequest(FirstAdapter(), Bundle()))
+
+    assertThat(AdapterWarmUp.awaitWarmUp(FirstAdapter::class.java.name, 1, TimeUnit.MILLISECONDS))
+      .isNull()
+    assertThat(AdapterWarmUp.awaitWarmUp("unknown", 1, TimeUnit.MILLISECONDS)).isNull()
+  }
+
+  private fun warmUp(vararg requests: WarmUpRequest) {
+    AdapterWarmUp.warmUp(
+      context,
+      requests.toList(),
+      { warmUpResults = it },
+      inlineExecutor,
+    )
+  }
+
+  /** An adapter that records its initialization calls. */
+  private open class FirstAdapter(private val exception: RuntimeException? = null) : Adapter() {
+    var initializeCount = 0
+    var callback: InitializationCompleteCallback? = null
+    var configurations: List<MediationConfiguration> = emptyList()
+
+    override fun initialize(
+      context: Context,
+      callback: InitializationCompleteCallback,
+      configurations: List<MediationConfiguration>,
+    ) {
+      initializeCount++
+      this.callback = callback
+      this.configurations = configurations
+      exception?.let { throw it }
+    }
+
+    override fun getVersionInfo() = VersionInfo(1, 0, 0)
+
+    override fun getSDKVersionInfo() = VersionInfo(1, 0, 0)
+  }
+
+  private class SecondAdapter : FirstAdapter()
+}
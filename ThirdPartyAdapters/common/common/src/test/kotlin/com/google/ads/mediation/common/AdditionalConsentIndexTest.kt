@@ -0,0 +1,145 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.content.Context
+import android.content.SharedPreferences
+import android.preference.PreferenceManager
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.common.AdditionalConsentIndex.ConsentResult
+import com.google.common.truth.Truth.assertThat
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/** Tests for [AdditionalConsentIndex]. */
+@RunWith(AndroidJUnit4::class)
+class AdditionalConsentIndexTest {
+
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+  private val sharedPreferences: SharedPreferences =
+    PreferenceManager.getDefaultSharedPreferences(context)
+  private val additionalConsentIndex = AdditionalConsentIndex()
+
+  @Before
+  fun setUp() {
+    sharedPreferences.edit().clear().commit()
+  }
+
+  @Test
+  fun getConsentResult_gdprDoesNotApply_returnsUnknown() {
+    writeConsent(gdprApplies = 0, additionalConsent = "2~$VENDOR_ID~dv.")
+
+    assertThat(getConsentResult()).isEqualTo(ConsentResult.UNKNOWN)
+  }
+
+  @Test
+  fun getConsentResult_versionOneWithVendorConsented_returnsTrue() {
+    writeConsent(gdprApplies = 1, additionalConsent = "1~1.$VENDOR_ID")
+
+    assertThat(getConsentResult()).isEqualTo(ConsentResult.TRUE)
+  }
+
+  @Test
+  fun getConsentResult_versionTwoWithVendorConsented_returnsTrue() {
+    writeConsent(gdprApplies = 1, additionalConsent = "2~1.$VENDOR_ID.3~dv.4.5")
+
+    assertThat(getConsentResult()).isEqualTo(ConsentResult.TRUE)
+  }
+
+  @Test
+  fun getConsentResult_versionTwoWithVendorDisclosed_returnsFalse() {
+    writeConsent(gdprApplies = 1, additionalConsent = "2~1.3~dv.4.$VENDOR_ID")
+
+    assertThat(getConsentResult()).isEqualTo(ConsentResult.FALSE)
+  }
+
+  @Test
+  fun getConsentResult_versionTwoWithVendorMissing_returnsUnknown() {
+    writeConsent(gdprApplies = 1, additionalConsent = "2~1.3~dv.4.5")
+
+    assertThat(getConsentResult()).isEqualTo(ConsentResult.UNKNOWN)
+  }
+
+  @Test
+  fun getConsentResult_versionTwoWithoutDisclosedMarker_returnsUnknown() {
+    writeConsent(gdprApplies = 1, additionalConsent = "2~$VENDOR_ID~4.5")
+
+    assertThat(getConsentResult()).isEqualTo(ConsentResult.UNKNOWN)
+  }
+
+  @Test
+  fun getConsentResult_afterCmpRewritesConsent_returnsUpdatedResult() {
+    writeConsent(gdprApplies = 1, additionalConsent = "2~$VENDOR_ID~dv.")
+    assertThat(getConsentResult()).isEqualTo(ConsentResult.TRUE)
+
+    sharedPreferences.edit().putString("IABTCF_AddtlConsent", "2~~dv.$VENDOR_ID").commit()
+
+    assertThat(getConsentResult()).isEqualTo(ConsentResult.FALSE)
+  }
+
+  @Test
+  fun getConsentResult_afterCmpRewritesGdprApplies_returnsUpdatedResult() {
+    writeConsent(gdprApplies = 1, additionalConsent = "2~$VENDOR_ID~dv.")
+    assertThat(getConsentResult()).isEqualTo(ConsentResult.TRUE)
+
+    sharedPreferences.edit().putInt("IABTCF_gdprApplies", 0).commit()
+
+    assertThat(getConsentResult()).isEqualTo(ConsentResult.UNKNOWN)
+  }
+
+  @Test
+  fun getConsentResult_calledRepeatedly_readsConsentStringOnce() {
+    writeConsent(gdprApplies = 1, additionalConsent = "2~$VENDOR_ID~dv.")
+    var readCount = 0
+    val countingSharedPreferences =
+      object : SharedPreferences by sharedPreferences {
+        override fun getString(key: String?, defValue: String?): String? {
+          readCount++
+          return sharedPreferences.getString(key, defValue)
+        }
+      }
+
+    repeat(3) {
+      assertThat(additionalConsentIndex.getConsentResult(countingSharedPreferences, VENDOR_ID))
+        .isEqualTo(ConsentResult.TRUE)
+    }
+
+    assertThat(readCount).isEqualTo(1)
+  }
+
+  @Test
+  fun parseVendorIds_returnsSortedCanonicalIds() {
+    val vendorIds = AdditionalConsentIndex.parseVendorIds("dv.42.7..007.x1.1000", startIndex = 3)
+
+    assertThat(vendorIds.toList()).containsExactly(7, 42, 1000).inOrder()
+  }
+
+  private fun writeConsent(gdprApplies: Int, additionalConsent: String) {
+    sharedPreferences
+      .edit()
+      .putInt("IABTCF_gdprApplies", gdprApplies)
+      .putString("IABTCF_AddtlConsent", additionalConsent)
+      .commit()
+  }
+
+  private fun getConsentResult() =
+    additionalConsentIndex.getConsentResult(sharedPreferences, VENDOR_ID)
+
+  private companion object {
+    const val VENDOR_ID = 2898
+  }
+}
@@ -0,0 +1,112 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.content.Context
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.android.gms.ads.AdSize
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/** Tests for [BannerSizeCache]. */
+@RunWith(AndroidJUnit4::class)
+class BannerSizeCacheTest {
+
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+  private var closestSize: AdSize? = AdSize.BANNER
+  private var findClosestSizeCount = 0
+  private val bannerSizeCache = BannerSizeCache { _, _, _ ->
+    findClosestSizeCount++
+    closestSize
+  }
+
+  @Test
+  fun findClosestSize_sameRequest_resolvesSizeOnce() {
+    repeat(3) {
+      assertThat(bannerSizeCache.findClosestSize(context, AdSize(320, 50), POTENTIALS))
+        .isEqualTo(AdSize.BANNER)
+    }
+
+    assertThat(findClosestSizeCount).isEqualTo(1)
+  }
+
+  @Test
+  fun findClosestSize_equalListOfSupportedSizes_usesCachedSize() {
+    bannerSizeCache.findClosestSize(context, AdSize(320, 50), POTENTIALS)
+
+    bannerSizeCache.findClosestSize(context, AdSize(320, 50), ArrayList(POTENTIALS))
+
+    assertThat(findClosestSizeCount).isEqualTo(1)
+  }
+
+  @Test
+  fun findClosestSize_noClosestSize_cachesNull() {
+    closestSize = null
+
+    assertThat(bannerSizeCache.findClosestSize(context, AdSize(10, 10), POTENTIALS)).isNull()
+    assertThat(bannerSizeCache.findClosestSize(context, AdSize(10, 10), POTENTIALS)).isNull()
+    assertThat(findClosestSizeCount).isEqualTo(1)
+  }
+
+  @Test
+  fun findClosestSize_differentRequestedSizeOrSupportedSizes_resolvesSizeAgain() {
+    bannerSizeCache.findClosestSize(context, AdSize(320, 50), POTENTIALS)
+
+    bannerSizeCache.findClosestSize(context, AdSize(300, 250), POTENTIALS)
+    bannerSizeCache.findClosestSize(context, AdSize(320, 50), listOf(AdSize.BANNER))
+
+    assertThat(findClosestSizeCount).isEqualTo(3)
+  }
+
+  @Test
+  fun findClosestSize_differentDensity_resolvesSizeAgain() {
+    bannerSizeCache.findClosestSize(context, AdSize(320, 50), POTENTIALS)
+    context.resources.displayMetrics.density *= 2
+
+    try {
+      bannerSizeCache.findClosestSize(context, AdSize(320, 50), POTENTIALS)
+    } finally {
+      context.resources.displayMetrics.density /= 2
+    }
+
+    assertThat(findClosestSizeCount).isEqualTo(2)
+  }
+
+  @Test
+  fun findClosestSize_fullWidthSize_isNotCached() {
+    val fullWidthSize = AdSize(AdSize.FULL_WIDTH, 50)
+
+    bannerSizeCache.findClosestSize(context, fullWidthSize, POTENTIALS)
+    bannerSizeCache.findClosestSize(context, fullWidthSize, POTENTIALS)
+
+    assertThat(findClosestSizeCount).isEqualTo(2)
+  }
+
+  @Test
+  fun clear_removesCachedSizes() {
+    bannerSizeCache.findClosestSize(context, AdSize(320, 50), POTENTIALS)
+
+    bannerSizeCache.clear()
+    bannerSizeCache.findClosestSize(context, AdSize(320, 50), POTENTIALS)
+
+    assertThat(findClosestSizeCount).isEqualTo(2)
+  }
+
+  private companion object {
+    val POTENTIALS = listOf(AdSize.BANNER, AdSize.MEDIUM_RECTANGLE, AdSize.LEADERBOARD)
+  }
+}
@@ -0,0 +1,167 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.content.Context
+import android.preference.PreferenceManager
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.android.gms.ads.AdFormat
+import com.google.android.gms.ads.AgeRestrictedTreatment
+import com.google.android.gms.ads.MobileAds
+import com.google.android.gms.ads.RequestConfiguration
+import com.google.common.truth.Truth.assertThat
+import org.junit.After
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/** Tests for [BidTokenCache]. */
+@RunWith(AndroidJUnit4::class)
+class BidTokenCacheTest {
+
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+  private var nowMillis = 0L
+  private val bidTokenCache = BidTokenCache { nowMillis }
+
+  @After
+  fun tearDown() {
+    PreferenceManager.getDefaultSharedPreferences(context).edit().clear().commit()
+    MobileAds.setRequestConfiguration(RequestConfiguration.Builder().build())
+  }
+
+  @Test
+  fun put_cachingDisabled_doesNotCacheToken() {
+    bidTokenCache.put(NETWORK, AdFormat.BANNER, TOKEN, PRIVACY_STATE)
+
+    assertThat(bidTokenCache.get(NETWORK, AdFormat.BANNER, PRIVACY_STATE)).isNull()
+  }
+
+  @Test
+  fun get_withinTimeToLive_returnsCachedToken() {
+    bidTokenCache.setTimeToLive(NETWORK, 1000)
+    bidTokenCache.put(NETWORK, AdFormat.BANNER, TOKEN, PRIVACY_STATE)
+    nowMillis = 999
+
+    assertThat(bidTokenCache.get(NETWORK, AdFormat.BANNER, PRIVACY_STATE)!!.token).isEqualTo(TOKEN)
+    assertThat(bidTokenCache.get(NETWORK, AdFormat.INTERSTITIAL, PRIVACY_STATE)).isNull()
+  }
+
+  @Test
+  fun get_afterTimeToLive_returnsNull() {
+    bidTokenCache.setTimeToLive(NETWORK, 1000)
+    bidTokenCache.put(NETWORK, AdFormat.BANNER, TOKEN, PRIVACY_STATE)
+    nowMillis = 1000
+
+    assertThat(bidTokenCache.get(NETWORK, AdFormat.BANNER, PRIVACY_STATE)).isNull()
+  }
+
+  @Test
+  fun get_privacyStateChanged_returnsNull() {
+    bidTokenCache.setTimeToLive(NETWORK, 1000)
+    bidTokenCache.put(NETWORK, AdFormat.BANNER, TOKEN, PRIVACY_STATE)
+
+    assertThat(bidTokenCache.get(NETWORK, AdFormat.BANNER, PRIVACY_STATE + 1)).isNull()
+  }
+
+  @Test
+  fun shouldRefresh_pastHalfOfTimeToLive_returnsTrue() {
+    bidTokenCache.setTimeToLive(NETWORK, 1000)
+    bidTokenCache.put(NETWORK, AdFormat.BANNER, TOKEN, PRIVACY_STATE)
+    val entry = bidTokenCache.get(NETWORK, AdFormat.BANNER, PRIVACY_STATE)!!
+
+    nowMillis = 499
+    assertThat(bidTokenCache.shouldRefresh(NETWORK, entry)).isFalse()
+    nowMillis = 500
+    assertThat(bidTokenCache.shouldRefresh(NETWORK, entry)).isTrue()
+  }
+
+  @Test
+  fun invalidate_network_removesOnlyThatNetwork() {
+    bidTokenCache.setTimeToLive(NETWORK, 1000)
+    bidTokenCache.setTimeToLive(OTHER_NETWORK, 1000)
+    bidTokenCache.put(NETWORK, AdFormat.BANNER, TOKEN, PRIVACY_STATE)
+    bidTokenCache.put(OTHER_NETWORK, AdFormat.BANNER, TOKEN, PRIVACY_STATE)
+
+    bidTokenCache.invalidate(NETWORK)
+
+    assertThat(bidTokenCache.get(NETWORK, AdFormat.BANNER, PRIVACY_STATE)).isNull()
+    assertThat(bidTokenCache.get(OTHER_NETWORK, AdFormat.BANNER, PRIVACY_STATE)).isNotNull()
+  }
+
+  @Test
+  fun setTimeToLive_zero_disablesCachingAndRemovesTokens() {
+    bidTokenCache.setTimeToLive(NETWORK, 1000)
+    bidTokenCache.put(NETWORK, AdFormat.BANNER, TOKEN, PRIVACY_STATE)
+
+    bidTokenCache.setTimeToLive(NETWORK, 0)
+
+    assertThat(bidTokenCache.getTimeToLive(NETWORK)).isEqualTo(0)
+    assertThat(bidTokenCache.get(NETWORK, AdFormat.BANNER, PRIVACY_STATE)).isNull()
+  }
+
+  @Test
+  fun getPrivacyState_changesWithConsentString() {
+    val initialPrivacyState = BidTokenCache.getPrivacyState(context)
+
+    PreferenceManager.getDefaultSharedPreferences(context)
+      .edit()
+      .putString("IABTCF_TCString", "CPXxRfAPXxRfAAfKABENB-CgAAAAAAAAAAYgAAAAAAAA")
+      .commit()
+
+    assertThat(BidTokenCache.getPrivacyState(context)).isNotEqualTo(initialPrivacyState)
+  }
+
+  @Test
+  fun getPrivacyState_changesWithChildDirectedTag() {
+    val initialPrivacyState = BidTokenCache.getPrivacyState(context)
+
+    MobileAds.setRequestConfiguration(
+      RequestConfiguration.Builder()
+        .setTagForChildDirectedTreatment(RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_TRUE)
+        .build()
+    )
+
+    assertThat(BidTokenCache.getPrivacyState(context)).isNotEqualTo(initialPrivacyState)
+  }
+
+  @Test
+  fun getPrivacyState_changesWithAgeRestrictedTreatment() {
+    val initialPrivacyState = BidTokenCache.getPrivacyState(context)
+
+    MobileAds.setRequestConfiguration(
+      RequestConfiguration.Builder().setAgeRestrictedTreatment(AgeRestrictedTreatment.CHILD).build()
+    )
+
+    assertThat(BidTokenCache.getPrivacyState(context)).isNotEqualTo(initialPrivacyState)
+  }
+
+  @Test
+  fun getPrivacyState_changesWithIntConsentValue() {
+    val preferences = PreferenceManager.getDefaultSharedPreferences(context)
+    preferences.edit().putInt("IABTCF_gdprApplies", 0).commit()
+    val initialPrivacyState = BidTokenCache.getPrivacyState(context)
+
+    preferences.edit().putInt("IABTCF_gdprApplies", 1).commit()
+
+    assertThat(BidTokenCache.getPrivacyState(context)).isNotEqualTo(initialPrivacyState)
+  }
+
+  private companion object {
+    const val NETWORK = "Network"
+    const val OTHER_NETWORK = "OtherNetwork"
+    const val TOKEN = "token"
+    const val PRIVACY_STATE = 1
+  }
+}
@@ -0,0 +1,184 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.content.Context
+import android.graphics.Bitmap
+import android.graphics.BitmapFactory
+import android.graphics.drawable.BitmapDrawable
+import android.graphics.drawable.Drawable
+import android.net.Uri
+import android.os.Looper
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.android.gms.ads.nativead.NativeAdOptions
+import com.google.common.truth.Truth.assertThat
+import java.io.ByteArrayInputStream
+import java.io.File
+import java.io.FileOutputStream
+import java.io.IOException
+import java.util.concurrent.Executor
+import org.junit.Assert.assertThrows
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Shadows.shadowOf
+
+/** Tests for [DefaultNativeImageLoader]. */
+@RunWith(AndroidJUnit4::class)
+class DefaultNativeImageLoaderTest {
+
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+  private val memoryCache = FakeMemoryCache()
+  private var executedTaskCount = 0
+  private val executor = Executor {
+    executedTaskCount++
+    it.run()
+  }
+  private val loadedDrawables = mutableListOf<Drawable?>()
+  private lateinit var imageLoader: DefaultNativeImageLoader
+  private lateinit var imageFile: File
+
+  @Before
+  fun setUp() {
+    imageLoader =
+      DefaultNativeImageLoader(context, memoryCache, /* diskAssetCache= */ null, executor)
+    imageFile = File(context.cacheDir, "native_image_loader_test.png")
+    val bitmap = Bitmap.createBitmap(4, 4, Bitmap.Config.ARGB_8888)
+    FileOutputStream(imageFile).use { bitmap.compress(Bitmap.CompressFormat.PNG, 100, it) }
+  }
+
+  @Test
+  fun load_fileUri_deliversDrawableOnMainThread() {
+    imageLoader.load(Uri.fromFile(imageFile), MAX_SIZE, MAX_SIZE) { loadedDrawables.add(it) }
+
+    assertThat(loadedDrawables).isEmpty()
+    shadowOf(Looper.getMainLooper()).idle()
+    assertThat(loadedDrawables.single()).isNotNull()
+  }
+
+  @Test
+  fun load_filePath_deliversDrawable() {
+    imageLoader.load(Uri.parse(imageFile.path), MAX_SIZE, MAX_SIZE) { loadedDrawables.add(it) }
+    shadowOf(Looper.getMainLooper()).idle()
+
+    assertThat(loadedDrawables.single()).isNotNull()
+  }
+
+  @Test
+  fun load_missingFile_deliversNull() {
+    val missingFile = File(context.cacheDir, "missing.png")
+
+    imageLoader.load(Uri.fromFile(missingFile), MAX_SIZE, MAX_SIZE) { loadedDrawables.add(it) }
+    shadowOf(Looper.getMainLooper()).idle()
+
+    assertThat(loadedDrawables).containsExactly(null)
+  }
+
+  @Test
+  fun load_imageInMemoryCache_doesNotDecodeImageAgain() {
+    val uri = Uri.fromFile(imageFile)
+    imageLoader.load(uri, MAX_SIZE, MAX_SIZE) { loadedDrawables.add(it) }
+    shadowOf(Looper.getMainLooper()).idle()
+
+    imageLoader.load(uri, MAX_SIZE, MAX_SIZE) { loadedDrawables.add(it) }
+    shadowOf(Looper.getMainLooper()).idle()
+
+    assertThat(executedTaskCount).isEqualTo(1)
+    assertThat(loadedDrawables).hasSize(2)
+  }
+
+  @Test
+  fun load_imageInMemoryCache_deliversNewDrawableSharingTheBitmap() {
+    val uri = Uri.fromFile(imageFile)
+    imageLoader.load(uri, MAX_SIZE, MAX_SIZE) { loadedDrawables.add(it) }
+    shadowOf(Looper.getMainLooper()).idle()
+
+    imageLoader.load(uri, MAX_SIZE, MAX_SIZE) { loadedDrawables.add(it) }
+    shadowOf(Looper.getMainLooper()).idle()
+
+    val firstDrawable = loadedDrawables[0] as BitmapDrawable
+    val secondDrawable = loadedDrawables[1] as BitmapDrawable
+    val cachedDrawable = memoryCache.get("$uri@${MAX_SIZE}x$MAX_SIZE") as BitmapDrawable
+    assertThat(secondDrawable).isNotSameInstanceAs(firstDrawable)
+    assertThat(firstDrawable).isNotSameInstanceAs(cachedDrawable)
+    assertThat(secondDrawable.bitmap).isSameInstanceAs(firstDrawable.bitmap)
+  }
+
+  @Test
+  fun cancel_beforeDelivery_doesNotInvokeCallback() {
+    val request =
+      imageLoader.load(Uri.fromFile(imageFile), MAX_SIZE, MAX_SIZE) { loadedDrawables.add(it) }
+
+    request.cancel()
+    shadowOf(Looper.getMainLooper()).idle()
+
+    assertThat(loadedDrawables).isEmpty()
+  }
+
+  @Test
+  fun calculateInSampleSize_downsamplesByLargestPowerOfTwo() {
+    val options =
+      BitmapFactory.Options().apply {
+        outWidth = 4000
+        outHeight = 3000
+      }
+
+    assertThat(DefaultNativeImageLoader.calculateInSampleSize(options, 1024, 1024)).isEqualTo(2)
+    assertThat(DefaultNativeImageLoader.calculateInSampleSize(options, 500, 500)).isEqualTo(4)
+    assertThat(DefaultNativeImageLoader.calculateInSampleSize(options, 8000, 8000)).isEqualTo(1)
+    assertThat(DefaultNativeImageLoader.calculateInSampleSize(options, 0, 0)).isEqualTo(1)
+  }
+
+  @Test
+  fun readAtMost_streamWithinLimit_returnsAllBytes() {
+    val bytes = ByteArray(100) { it.toByte() }
+
+    assertThat(DefaultNativeImageLoader.readAtMost(ByteArrayInputStream(bytes), 100))
+      .isEqualTo(bytes)
+  }
+
+  @Test
+  fun readAtMost_streamOverLimit_throwsIOException() {
+    val bytes = ByteArray(101)
+
+    assertThrows(IOException::class.java) {
+      DefaultNativeImageLoader.readAtMost(ByteArrayInputStream(bytes), 100)
+    }
+  }
+
+  @Test
+  fun shouldLoadImages_returnsFalseOnlyWhenUrlsAreRequested() {
+    val urlsOnlyOptions = NativeAdOptions.Builder().setReturnUrlsForImageAssets(true).build()
+
+    assertThat(NativeImageLoader.shouldLoadImages(urlsOnlyOptions)).isFalse()
+    assertThat(NativeImageLoader.shouldLoadImages(NativeAdOptions.Builder().build())).isTrue()
+    assertThat(NativeImageLoader.shouldLoadImages(null)).isTrue()
+  }
+
+  private class FakeMemoryCache : NativeImageLoader.MemoryCache {
+    private val drawables = mutableMapOf<String, Drawable>()
+
+    override fun get(key: String): Drawable? = drawables[key]
+
+    override fun put(key: String, drawable: Drawable) {
+      drawables[key] = drawable
+    }
+  }
+
+  private companion object {
+    const val MAX_SIZE = 1024
+  }
+}
@@ -0,0 +1,113 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.content.Context
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import java.io.File
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/** Tests for [DiskAssetCache]. */
+@RunWith(AndroidJUnit4::class)
+class DiskAssetCacheTest {
+
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+  private lateinit var directory: File
+  private lateinit var diskAssetCache: DiskAssetCache
+
+  @Before
+  fun setUp() {
+    directory = File(context.cacheDir, "disk_asset_cache_test")
+    directory.deleteRecursively()
+    diskAssetCache = DiskAssetCache(directory, /* maxSizeBytes= */ 10)
+  }
+
+  @Test
+  fun get_afterPut_returnsStoredBytes() {
+    diskAssetCache.put(KEY_1, byteArrayOf(1, 2, 3))
+
+    val buffer = diskAssetCache.get(KEY_1)
+
+    assertThat(buffer).isNotNull()
+    val bytes = ByteArray(buffer!!.remaining())
+    buffer.get(bytes)
+    assertThat(bytes).isEqualTo(byteArrayOf(1, 2, 3))
+  }
+
+  @Test
+  fun get_missingKey_returnsNull() {
+    assertThat(diskAssetCache.get(KEY_1)).isNull()
+  }
+
+  @Test
+  fun put_sizeExceeded_evictsLeastRecentlyUsedEntry() {
+    diskAssetCache.put(KEY_1, ByteArray(4))
+    diskAssetCache.put(KEY_2, ByteArray(4))
+    // Access the first entry so that the second one becomes the least recently used.
+    diskAssetCache.get(KEY_1)
+
+    diskAssetCache.put(KEY_3, ByteArray(4))
+
+    assertThat(diskAssetCache.get(KEY_1)).isNotNull()
+    assertThat(diskAssetCache.get(KEY_2)).isNull()
+    assertThat(diskAssetCache.get(KEY_3)).isNotNull()
+    assertThat(diskAssetCache.size()).isEqualTo(8)
+  }
+
+  @Test
+  fun put_entryLargerThanMaxSize_isNotStored() {
+    diskAssetCache.put(KEY_1, ByteArray(11))
+
+    assertThat(diskAssetCache.get(KEY_1)).isNull()
+  }
+
+  @Test
+  fun get_newCacheInstanceOnSameDirectory_returnsPersistedEntry() {
+    diskAssetCache.put(KEY_1, byteArrayOf(1, 2, 3))
+
+    val newDiskAssetCache = DiskAssetCache(directory, /* maxSizeBytes= */ 10)
+
+    assertThat(newDiskAssetCache.get(KEY_1)).isNotNull()
+    assertThat(newDiskAssetCache.size()).isEqualTo(3)
+  }
+
+  @Test
+  fun getInputStream_supportsMarkAndReset() {
+    diskAssetCache.put(KEY_1, byteArrayOf(1, 2, 3))
+    val inputStream = diskAssetCache.getInputStream(KEY_1)!!
+
+    inputStream.mark(/* readlimit= */ 3)
+    assertThat(inputStream.read()).isEqualTo(1)
+    inputStream.reset()
+
+    assertThat(inputStream.readBytes()).isEqualTo(byteArrayOf(1, 2, 3))
+  }
+
+  @Test
+  fun fileNameFor_returnsStableHexName() {
+    assertThat(DiskAssetCache.fileNameFor(KEY_1)).isEqualTo(DiskAssetCache.fileNameFor(KEY_1))
+    assertThat(DiskAssetCache.fileNameFor(KEY_1)).matches("[0-9a-f]{64}")
+  }
+
+  private companion object {
+    const val KEY_1 = "https://example.com/icon1.png"
+    const val KEY_2 = "https://example.com/icon2.png"
+    const val KEY_3 = "https://example.com/icon3.png"
+  }
+}
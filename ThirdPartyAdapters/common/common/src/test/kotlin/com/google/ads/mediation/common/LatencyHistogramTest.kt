@@ -0,0 +1,85 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import org.junit.Assert.assertThrows
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/** Tests for [LatencyHistogram]. */
+@RunWith(AndroidJUnit4::class)
+class LatencyHistogramTest {
+
+  private val histogram = LatencyHistogram()
+
+  @Test
+  fun bucketIndex_boundIsInclusive() {
+    assertThat(LatencyHistogram.bucketIndex(0)).isEqualTo(0)
+    assertThat(LatencyHistogram.bucketIndex(1)).isEqualTo(0)
+    assertThat(LatencyHistogram.bucketIndex(2)).isEqualTo(1)
+    assertThat(LatencyHistogram.bucketIndex(3)).isEqualTo(2)
+  }
+
+  @Test
+  fun getPercentileMillis_returnsUpperBoundOfPercentileBucket() {
+    repeat(98) { histogram.record(40) }
+    histogram.record(120)
+    histogram.record(2_500)
+
+    assertThat(histogram.getPercentileMillis(50.0)).isEqualTo(50)
+    assertThat(histogram.getPercentileMillis(99.0)).isEqualTo(150)
+    assertThat(histogram.getPercentileMillis(100.0)).isEqualTo(2_500)
+  }
+
+  @Test
+  fun getPercentileMillis_aboveLargestBound_returnsMaxLatency() {
+    histogram.record(90_000)
+
+    assertThat(histogram.getPercentileMillis(99.0)).isEqualTo(90_000)
+  }
+
+  @Test
+  fun getPercentileMillis_noLatency_returnsZero() {
+    assertThat(histogram.getPercentileMillis(99.0)).isEqualTo(0)
+  }
+
+  @Test
+  fun getPercentileMillis_invalidPercentile_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException::class.java) { histogram.getPercentileMillis(101.0) }
+  }
+
+  @Test
+  fun record_updatesCountMeanAndMax() {
+    histogram.record(10)
+    histogram.record(30)
+    histogram.record(-5)
+
+    assertThat(histogram.getCount()).isEqualTo(3)
+    assertThat(histogram.getMeanMillis()).isEqualTo(13)
+    assertThat(histogram.getMaxMillis()).isEqualTo(30)
+  }
+
+  @Test
+  fun reset_removesRecordedLatencies() {
+    histogram.record(10)
+
+    histogram.reset()
+
+    assertThat(histogram.getCount()).isEqualTo(0)
+    assertThat(histogram.getMaxMillis()).isEqualTo(0)
+  }
+}
@@ -0,0 +1,52 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.android.gms.ads.VersionInfo
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/** Tests for [RuntimeGmaVersionCheck]. */
+@RunWith(AndroidJUnit4::class)
+class RuntimeGmaVersionCheckTest {
+
+  private var version = VersionInfo(24, 4, 0)
+  private var predicateCalls = 0
+  private val versionCheck =
+    RuntimeGmaVersionCheck({ version }) {
+      predicateCalls++
+      it.majorVersion >= 24
+    }
+
+  @Test
+  fun get_sameVersionInstance_reusesResult() {
+    assertThat(versionCheck.get()).isTrue()
+    assertThat(versionCheck.get()).isTrue()
+
+    assertThat(predicateCalls).isEqualTo(1)
+  }
+
+  @Test
+  fun get_differentVersionInstance_checksAgain() {
+    assertThat(versionCheck.get()).isTrue()
+
+    version = VersionInfo(6, 4, 0)
+
+    assertThat(versionCheck.get()).isFalse()
+    assertThat(predicateCalls).isEqualTo(2)
+  }
+}
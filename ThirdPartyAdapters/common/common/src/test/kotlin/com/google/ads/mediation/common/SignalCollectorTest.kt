@@ -0,0 +1,260 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.content.Context
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.common.ErrorCodes.COMMON_MEDIATION_ERROR_DOMAIN
+import com.google.ads.mediation.common.ErrorCodes.ERROR_CODE_SIGNAL_COLLECTION_FAILED
+import com.google.ads.mediation.common.ErrorCodes.ERROR_CODE_SIGNAL_COLLECTION_TIMEOUT
+import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
+import com.google.android.gms.ads.mediation.rtb.SignalCallbacks
+import com.google.common.truth.Truth.assertThat
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import org.junit.After
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/** Tests for [SignalCollector]. */
+@RunWith(AndroidJUnit4::class)
+class SignalCollectorTest {
+
+  private val inlineExecutor = Executor { it.run() }
+  private val scheduledExecutor = ScheduledThreadPoolExecutor(1)
+  private val signalCallbacks = RecordingSignalCallbacks()
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+  private var nowMillis = 0L
+  private val bidTokenCache = BidTokenCache { nowMillis }
+
+  @After
+  fun tearDown() {
+    scheduledExecutor.shutdownNow()
+  }
+
+  @Test
+  fun collectSignals_generatorSucceeds_forwardsSignalsAndCancelsDeadline() {
+    val signalCollector = SignalCollector(inlineExecutor, scheduledExecutor)
+
+    signalCollector.collectSignals(NETWORK, signalCallbacks) { it.onSuccess("token") }
+
+    assertThat(signalCallbacks.signals).containsExactly("token")
+    assertThat(signalCallbacks.adErrors).isEmpty()
+    assertThat(scheduledExecutor.queue).isEmpty()
+  }
+
+  @Test
+  fun collectSignals_generatorFails_forwardsError() {
+    val signalCollector = SignalCollector(inlineExecutor, scheduledExecutor)
+    val adError = AdError(1, "Error", "domain")
+
+    signalCollector.collectSignals(NETWORK, signalCallbacks) { it.onFailure(adError) }
+
+    assertThat(signalCallbacks.adErrors).containsExactly(adError)
+  }
+
+  @Test
+  fun collectSignals_generatorThrows_failsWithSignalCollectionFailedError() {
+    val signalCollector = SignalCollector(inlineExecutor, scheduledExecutor)
+
+    signalCollector.collectSignals(NETWORK, signalCallbacks) { throw IllegalStateException() }
+
+    val adError = signalCallbacks.adErrors.single()
+    assertThat(adError.code).isEqualTo(ERROR_CODE_SIGNAL_COLLECTION_FAILED)
+    assertThat(adError.domain).isEqualTo(COMMON_MEDIATION_ERROR_DOMAIN)
+  }
+
+  @Test
+  fun collectSignals_generatorMissesDeadline_failsWithTimeoutAndDropsLateResult() {
+    val signalCollector = SignalCollector(inlineExecutor, scheduledExecutor)
+    var generatorCallbacks: SignalCallbacks? = null
+
+    signalCollector.collectSignals(NETWORK, signalCallbacks, /* timeoutMillis= */ 10) {
+      generatorCallbacks = it
+    }
+    assertThat(signalCallbacks.latch.await(1, TimeUnit.SECONDS)).isTrue()
+    generatorCallbacks!!.onSuccess("late token")
+
+    assertThat(signalCallbacks.adErrors.single().code)
+      .isEqualTo(ERROR_CODE_SIGNAL_COLLECTION_TIMEOUT)
+    assertThat(signalCallbacks.signals).isEmpty()
+  }
+
+  @Test
+  fun collectSignals_timeoutOverridden_usesOverriddenDeadline() {
+    val signalCollector = SignalCollector(inlineExecutor, scheduledExecutor)
+    signalCollector.setTimeout(NETWORK, 10)
+
+    signalCollector.collectSignals(NETWORK, signalCallbacks, /* timeoutMillis= */ 60_000) {}
+
+    assertThat(signalCallbacks.latch.await(1, TimeUnit.SECONDS)).isTrue()
+    assertThat(signalCallbacks.adErrors.single().code)
+      .isEqualTo(ERROR_CODE_SIGNAL_COLLECTION_TIMEOUT)
+  }
+
+  @Test
+  fun getTimeout_overrideCleared_returnsAdapterTimeout() {
+    val signalCollector = SignalCollector(inlineExecutor, scheduledExecutor)
+    signalCollector.setTimeout(NETWORK, 10)
+
+    signalCollector.setTimeout(NETWORK, 0)
+
+    assertThat(signalCollector.getTimeout(NETWORK, 500)).isEqualTo(500)
+  }
+
+  @Test
+  fun collectSignals_runsGeneratorOffCallingThread() {
+    val executor = Executors.newSingleThreadExecutor()
+    val signalCollector = SignalCollector(executor, scheduledExecutor)
+    val callingThread = Thread.currentThread()
+    var generatorThread: Thread? = null
+
+    signalCollector.collectSignals(NETWORK, signalCallbacks) {
+      generatorThread = Thread.currentThread()
+      it.onSuccess("token")
+    }
+    assertThat(signalCallbacks.latch.await(1, TimeUnit.SECONDS)).isTrue()
+    executor.shutdown()
+
+    assertThat(generatorThread).isNotSameInstanceAs(callingThread)
+    assertThat(signalCallbacks.signals).containsExactly("token")
+  }
+
+  @Test
+  fun collectCachedSignals_cachingDisabled_generatesEveryTime() {
+    val signalCollector = SignalCollector(inlineExecutor, scheduledExecutor, bidTokenCache)
+    var generateCount = 0
+
+    repeat(2) {
+      signalCollector.collectCachedSignals(context, NETWORK, AdFormat.BANNER, signalCallbacks) {
+        generateCount++
+        it.onSuccess("token$generateCount")
+      }
+    }
+
+    assertThat(generateCount).isEqualTo(2)
+    assertThat(signalCallbacks.signals).containsExactly("token1", "token2").inOrder()
+  }
+
+  @Test
+  fun collectCachedSignals_validCachedToken_servesCachedToken() {
+    bidTokenCache.setTimeToLive(NETWORK, 1000)
+    val signalCollector = SignalCollector(inlineExecutor, scheduledExecutor, bidTokenCache)
+    var generateCount = 0
+
+    repeat(2) {
+      signalCollector.collectCachedSignals(context, NETWORK, AdFormat.BANNER, signalCallbacks) {
+        generateCount++
+        it.onSuccess("token$generateCount")
+      }
+    }
+
+    assertThat(generateCount).isEqualTo(1)
+    assertThat(signalCallbacks.signals).containsExactly("token1", "token1").inOrder()
+  }
+
+  @Test
+  fun collectCachedSignals_cachedTokenPastHalfOfTimeToLive_servesItAndRefreshesInBackground() {
+    bidTokenCache.setTimeToLive(NETWORK, 1000)
+    val signalCollector = SignalCollector(inlineExecutor, scheduledExecutor, bidTokenCache)
+    var generateCount = 0
+    val signalGenerator =
+      SignalCollector.SignalGenerator {
+        generateCount++
+        it.onSuccess("token$generateCount")
+      }
+    signalCollector.collectCachedSignals(
+      context,
+      NETWORK,
+      AdFormat.BANNER,
+      signalCallbacks,
+      signalGenerator = signalGenerator,
+    )
+    nowMillis = 500
+
+    signalCollector.collectCachedSignals(
+      context,
+      NETWORK,
+      AdFormat.BANNER,
+      signalCallbacks,
+      signalGenerator = signalGenerator,
+    )
+    signalCollector.collectCachedSignals(
+      context,
+      NETWORK,
+      AdFormat.BANNER,
+      signalCallbacks,
+      signalGenerator = signalGenerator,
+    )
+
+    assertThat(generateCount).isEqualTo(2)
+    assertThat(signalCallbacks.signals).containsExactly("token1", "token1", "token2").inOrder()
+  }
+
+  @Test
+  fun collectCachedSignals_generatorFails_doesNotCacheFailure() {
+    bidTokenCache.setTimeToLive(NETWORK, 1000)
+    val signalCollector = SignalCollector(inlineExecutor, scheduledExecutor, bidTokenCache)
+    val adError = AdError(1, "Error", "domain")
+
+    signalCollector.collectCachedSignals(context, NETWORK, AdFormat.BANNER, signalCallbacks) {
+      it.onFailure(adError)
+    }
+
+    assertThat(signalCallbacks.adErrors).containsExactly(adError)
+    val privacyState = BidTokenCache.getPrivacyState(context)
+    assertThat(bidTokenCache.get(NETWORK, AdFormat.BANNER, privacyState)).isNull()
+  }
+
+  @Test
+  fun getInstance_returnsSameInstanceUntilReplaced() {
+    val signalCollector = SignalCollector(inlineExecutor, scheduledExecutor)
+    assertThat(SignalCollector.getInstance()).isSameInstanceAs(SignalCollector.getInstance())
+
+    SignalCollector.setInstanceForTesting(signalCollector)
+
+    assertThat(SignalCollector.getInstance()).isSameInstanceAs(signalCollector)
+    SignalCollector.setInstanceForTesting(null)
+  }
+
+  /** Records every result reported to it. */
+  private class RecordingSignalCallbacks : SignalCallbacks {
+    val signals = mutableListOf<String>()
+    val adErrors = mutableListOf<AdError>()
+    val latch = CountDownLatch(1)
+
+    override fun onSuccess(signals: String) {
+      this.signals.add(signals)
+      latch.countDown()
+    }
+
+    override fun onFailure(adError: AdError) {
+      adErrors.add(adError)
+      latch.countDown()
+    }
+
+    @Deprecated("Use onFailure(AdError) instead.")
+    override fun onFailure(errorMessage: String) {}
+  }
+
+  private companion object {
+    const val NETWORK = "TestNetwork"
+  }
+}
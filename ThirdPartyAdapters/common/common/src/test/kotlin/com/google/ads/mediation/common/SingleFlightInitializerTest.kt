@@ -0,0 +1,137 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.common.SingleFlightInitializer.AddListenerResult
+import com.google.ads.mediation.common.SingleFlightInitializer.Status
+import com.google.common.truth.Truth.assertThat
+import java.util.Collections
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/** Tests for [SingleFlightInitializer]. */
+@RunWith(AndroidJUnit4::class)
+class SingleFlightInitializerTest {
+
+  private val initializer = SingleFlightInitializer<String>()
+
+  @Test
+  fun addListener_whenUninitialized_returnsStartInitialization() {
+    assertThat(initializer.addListener("listener1"))
+      .isEqualTo(AddListenerResult.START_INITIALIZATION)
+    assertThat(initializer.status).isEqualTo(Status.INITIALIZING)
+  }
+
+  @Test
+  fun addListener_whenInitializing_returnsJoinedPendingInitialization() {
+    initializer.addListener("listener1")
+
+    assertThat(initializer.addListener("listener2"))
+      .isEqualTo(AddListenerResult.JOINED_PENDING_INITIALIZATION)
+    assertThat(initializer.pendingListeners).containsExactly("listener1", "listener2").inOrder()
+  }
+
+  @Test
+  fun addListener_whenInitialized_returnsAlreadyInitialized() {
+    initializer.completeWithSuccess()
+
+    assertThat(initializer.addListener("listener1"))
+      .isEqualTo(AddListenerResult.ALREADY_INITIALIZED)
+    assertThat(initializer.pendingListeners).isEmpty()
+  }
+
+  @Test
+  fun completeWithSuccess_returnsPendingListenersInOrderAndMarksInitialized() {
+    initializer.addListener("listener1")
+    initializer.addListener("listener2")
+
+    assertThat(initializer.completeWithSuccess())
+      .containsExactly("listener1", "listener2")
+      .inOrder()
+    assertThat(initializer.isInitialized).isTrue()
+    assertThat(initializer.completeWithSuccess()).isEmpty()
+  }
+
+  @Test
+  fun completeWithFailure_returnsPendingListenersAndAllowsRetry() {
+    initializer.addListener("listener1")
+
+    assertThat(initializer.completeWithFailure()).containsExactly("listener1")
+    assertThat(initializer.status).isEqualTo(Status.UNINITIALIZED)
+    assertThat(initializer.addListener("listener2"))
+      .isEqualTo(AddListenerResult.START_INITIALIZATION)
+  }
+
+  @Test
+  fun resetIfInitialized_whenInitialized_marksUninitialized() {
+    initializer.completeWithSuccess()
+
+    initializer.resetIfInitialized()
+
+    assertThat(initializer.status).isEqualTo(Status.UNINITIALIZED)
+  }
+
+  @Test
+  fun resetIfInitialized_whenInitializing_keepsPendingListeners() {
+    initializer.addListener("listener1")
+
+    initializer.resetIfInitialized()
+
+    assertThat(initializer.status).isEqualTo(Status.INITIALIZING)
+    assertThat(initializer.pendingListeners).containsExactly("listener1")
+  }
+
+  @Test
+  fun addListener_calledConcurrently_startsInitializationOnceAndReturnsEveryListenerOnce() {
+    val threadCount = 16
+    val listenersPerThread = 100
+    val executor = Executors.newFixedThreadPool(threadCount)
+    val startLatch = CountDownLatch(1)
+    val doneLatch = CountDownLatch(threadCount)
+    val startCount = AtomicInteger()
+    val notifiedListeners = Collections.synchronizedList(ArrayList<String>())
+
+    repeat(threadCount) { thread ->
+      executor.execute {
+        startLatch.await()
+        repeat(listenersPerThread) { index ->
+          val listener = "$thread-$index"
+          when (initializer.addListener(listener)) {
+            AddListenerResult.START_INITIALIZATION -> startCount.incrementAndGet()
+            AddListenerResult.ALREADY_INITIALIZED -> notifiedListeners.add(listener)
+            AddListenerResult.JOINED_PENDING_INITIALIZATION -> {}
+          }
+          if (index == listenersPerThread / 2) {
+            notifiedListeners.addAll(initializer.completeWithSuccess())
+          }
+        }
+        doneLatch.countDown()
+      }
+    }
+    startLatch.countDown()
+    assertThat(doneLatch.await(10, TimeUnit.SECONDS)).isTrue()
+    executor.shutdown()
+    notifiedListeners.addAll(initializer.completeWithSuccess())
+
+    assertThat(startCount.get()).isEqualTo(1)
+    assertThat(notifiedListeners).hasSize(threadCount * listenersPerThread)
+    assertThat(notifiedListeners).containsNoDuplicates()
+  }
+}
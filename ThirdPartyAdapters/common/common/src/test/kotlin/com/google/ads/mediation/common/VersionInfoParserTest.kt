@@ -0,0 +1,79 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.android.gms.ads.VersionInfo
+import com.google.common.truth.Truth.assertThat
+import org.junit.Assert.assertThrows
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/** Tests for [VersionInfoParser]. */
+@RunWith(AndroidJUnit4::class)
+class VersionInfoParserTest {
+
+  private val adapterVersionParser = VersionInfoParser(4, 5)
+  private val sdkVersionParser = VersionInfoParser(3, 3)
+
+  @Test
+  fun parse_adapterVersion_foldsPatchIntoMicroVersion() {
+    assertVersion(adapterVersionParser.parse("13.6.4.1"), 13, 6, 401)
+  }
+
+  @Test
+  fun parse_adapterVersionWithBuild_foldsPatchAndBuildIntoMicroVersion() {
+    assertVersion(adapterVersionParser.parse("9.6.0.0.1"), 9, 6, 1)
+    assertVersion(adapterVersionParser.parse("9.6.2.3.4"), 9, 6, 20304)
+  }
+
+  @Test
+  fun parse_moreComponentsThanParsed_ignoresExtraComponents() {
+    assertVersion(sdkVersionParser.parse("7.3.2.beta"), 7, 3, 2)
+  }
+
+  @Test
+  fun parse_trailingDot_ignoresEmptyComponent() {
+    assertVersion(sdkVersionParser.parse("7.3.2."), 7, 3, 2)
+  }
+
+  @Test
+  fun parse_fewerComponentsThanRequired_returnsNull() {
+    assertThat(adapterVersionParser.parse("1.2.3")).isNull()
+    assertThat(sdkVersionParser.parse("3.2")).isNull()
+    assertThat(sdkVersionParser.parse("")).isNull()
+  }
+
+  @Test
+  fun parse_invalidComponent_throwsNumberFormatException() {
+    assertThrows(NumberFormatException::class.java) { sdkVersionParser.parse("INVALID-1.2.3") }
+    assertThrows(NumberFormatException::class.java) { sdkVersionParser.parse("1..2.3") }
+    assertThrows(NumberFormatException::class.java) { sdkVersionParser.parse("1.2.99999999999") }
+  }
+
+  @Test
+  fun parse_sameVersion_returnsCachedVersionInfo() {
+    val versionInfo = sdkVersionParser.parse("8.3.2")
+
+    assertThat(sdkVersionParser.parse("8.3.2")).isSameInstanceAs(versionInfo)
+  }
+
+  private fun assertVersion(versionInfo: VersionInfo?, major: Int, minor: Int, micro: Int) {
+    assertThat(versionInfo).isNotNull()
+    assertThat(versionInfo!!.majorVersion).isEqualTo(major)
+    assertThat(versionInfo.minorVersion).isEqualTo(minor)
+    assertThat(versionInfo.microVersion).isEqualTo(micro)
+  }
+}
@@ -0,0 +1,187 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.os.Handler
+import android.os.Looper
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.common.WeakOwnerSlotQueue.Admission
+import com.google.common.truth.Truth.assertThat
+import java.time.Duration
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Shadows.shadowOf
+import org.robolectric.shadows.ShadowSystemClock
+
+/** Tests for [WeakOwnerSlotQueue]. */
+@RunWith(AndroidJUnit4::class)
+class WeakOwnerSlotQueueTest {
+
+  private val slotQueue =
+    WeakOwnerSlotQueue<String, String>(Handler(Looper.getMainLooper()), slotName = "Slot")
+  private val events = mutableListOf<String>()
+
+  @Test
+  fun acquire_freeSlots_returnsProceedAndGrantsOwnership() {
+    assertThat(acquire("banner")).isEqualTo(Admission.PROCEED)
+    assertThat(acquire("interstitial", OTHER_SLOT)).isEqualTo(Admission.PROCEED)
+
+    assertThat(slotQueue.getOwner(SLOT)).isEqualTo("banner")
+    assertThat(slotQueue.getOwner(OTHER_SLOT)).isEqualTo("interstitial")
+  }
+
+  @Test
+  fun release_loadsWaitingRequestsOneAtATimeInOrder() {
+    acquire("first")
+    assertThat(acquire("second")).isEqualTo(Admission.WAIT)
+    assertThat(acquire("third")).isEqualTo(Admission.WAIT)
+
+    slotQueue.release(SLOT, "first")
+    idleMainLooper()
+    assertThat(events).containsExactly("load second")
+    assertThat(slotQueue.getOwner(SLOT)).isEqualTo("second")
+
+    slotQueue.release(SLOT, "second")
+    idleMainLooper()
+    assertThat(events).containsExactly("load second", "load third").inOrder()
+    assertThat(slotQueue.getOwner(SLOT)).isEqualTo("third")
+  }
+
+  @Test
+  fun release_byNonOwner_keepsOwner() {
+    acquire("first")
+    acquire("second")
+
+    slotQueue.release(SLOT, "second")
+    idleMainLooper()
+
+    assertThat(events).isEmpty()
+    assertThat(slotQueue.getOwner(SLOT)).isEqualTo("first")
+  }
+
+  @Test
+  fun release_withoutWaitingRequests_freesSlot() {
+    acquire("first")
+
+    slotQueue.release(SLOT, "first")
+
+    assertThat(slotQueue.getOwner(SLOT)).isNull()
+    assertThat(acquire("second")).isEqualTo(Admission.PROCEED)
+  }
+
+  @Test
+  fun acquire_whenWaitQueueIsFull_returnsReject() {
+    acquire("owner")
+    repeat(slotQueue.maxWaitingPerSlot) {
+      assertThat(acquire("waiting $it")).isEqualTo(Admission.WAIT)
+    }
+
+    assertThat(acquire("rejected")).isEqualTo(Admission.REJECT)
+    assertThat(slotQueue.getWaitingCount(SLOT)).isEqualTo(slotQueue.maxWaitingPerSlot)
+  }
+
+  @Test
+  fun register_replacesOwner() {
+    acquire("waterfall")
+
+    slotQueue.register(SLOT, "bidding")
+    slotQueue.release(SLOT, "waterfall")
+
+    assertThat(slotQueue.getOwner(SLOT)).isEqualTo("bidding")
+  }
+
+  @Test
+  fun deadline_failsWaitingRequest() {
+    acquire("first")
+    acquire("second")
+
+    idleMainLooperFor(slotQueue.maxWaitMillis)
+    slotQueue.release(SLOT, "first")
+    idleMainLooper()
+
+    assertThat(events).containsExactly("fail second")
+    assertThat(slotQueue.getWaitingCount(SLOT)).isEqualTo(0)
+  }
+
+  @Test
+  fun release_afterDeadlinePassedBeforeTimeoutRan_failsWaitingRequest() {
+    acquire("first")
+    acquire("second")
+
+    ShadowSystemClock.advanceBy(Duration.ofMillis(slotQueue.maxWaitMillis))
+    slotQueue.release(SLOT, "first")
+    idleMainLooper()
+
+    assertThat(events).containsExactly("fail second")
+    assertThat(slotQueue.getOwner(SLOT)).isNull()
+  }
+
+  @Test
+  fun collectedOwner_loadsWaitingRequest() {
+    acquire("first")
+    acquire("second")
+
+    slotQueue.collectOwner(SLOT)
+    val owner = slotQueue.getOwner(SLOT)
+    idleMainLooper()
+
+    assertThat(owner).isEqualTo("second")
+    assertThat(events).containsExactly("load second")
+  }
+
+  @Test
+  fun remove_failsWaitingRequestsOnce() {
+    acquire("first")
+    acquire("second")
+    acquire("third")
+
+    slotQueue.remove(SLOT)
+    idleMainLooperFor(slotQueue.maxWaitMillis)
+
+    assertThat(events).containsExactly("fail second", "fail third").inOrder()
+    assertThat(slotQueue.getOwner(SLOT)).isNull()
+    assertThat(slotQueue.getWaitingCount(SLOT)).isEqualTo(0)
+  }
+
+  @Test
+  fun clear_releasesEverySlotAndFailsWaitingRequests() {
+    acquire("first")
+    acquire("second")
+    acquire("other", OTHER_SLOT)
+
+    slotQueue.clear()
+    idleMainLooper()
+
+    assertThat(events).containsExactly("fail second")
+    assertThat(slotQueue.getOwner(SLOT)).isNull()
+    assertThat(slotQueue.getOwner(OTHER_SLOT)).isNull()
+  }
+
+  private fun acquire(ad: String, slot: String = SLOT) =
+    slotQueue.acquire(slot, ad, { events.add("load $ad") }, { events.add("fail $ad") })
+
+  private fun idleMainLooper() {
+    shadowOf(Looper.getMainLooper()).idle()
+  }
+
+  private fun idleMainLooperFor(millis: Long) {
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(millis))
+  }
+
+  private companion object {
+    const val SLOT = "slot"
+    const val OTHER_SLOT = "other slot"
+  }
+}
@@ -30,9 +30,9 @@ import com.fyber.inneractive.sdk.external.InneractiveErrorCode
 import com.fyber.inneractive.sdk.external.InneractiveUnitController
 import com.fyber.inneractive.sdk.external.OnFyberMarketplaceInitializedListener
 import com.fyber.inneractive.sdk.external.OnFyberMarketplaceInitializedListener.FyberInitStatus
+import com.google.ads.mediation.common.BannerSizeCache
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.AdSize
-import com.google.android.gms.ads.MediationUtils
 import com.google.android.gms.ads.MobileAds
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationBannerAd
@@ -162,9 +162,9 @@ class DTExchangeWaterfallBannerAd(
     val fyberAdWidth = (controller.getAdContentWidth() / density).roundToInt()
     val fyberAdHeight = (controller.getAdContentHeight() / density).roundToInt()
 
-    val potentials = ArrayList<AdSize>()
-    potentials.add(AdSize(fyberAdWidth, fyberAdHeight))
-    val supportedAdSize = MediationUtils.findClosestSize(context, requestedAdSize, potentials)
+    val supportedAdSize =
+      BannerSizeCache.getInstance()
+        .findClosestSize(context, requestedAdSize, listOf(AdSize(fyberAdWidth, fyberAdHeight)))
     if (supportedAdSize == null) {
       val requestedAdWidth = (requestedAdSize.getWidthInPixels(context) / density).roundToInt()
       val requestedAdHeight = (requestedAdSize.getHeightInPixels(context) / density).roundToInt()
@@ -27,6 +27,7 @@ import com.fyber.inneractive.sdk.external.InneractiveAdManager;
 import com.fyber.inneractive.sdk.external.InneractiveMediationName;
 import com.fyber.inneractive.sdk.external.OnFyberMarketplaceInitializedListener;
 import com.google.ads.mediation.common.AgeRestrictedTreatmentUtils;
+import com.google.ads.mediation.common.VersionInfoParser;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AgeRestrictedTreatment;
 import com.google.android.gms.ads.MobileAds;
@@ -62,6 +63,12 @@ import java.util.Set;
  */
 public class FyberMediationAdapter extends RtbAdapter {
 
+  /** Parses and caches the adapter version. */
+  private static final VersionInfoParser ADAPTER_VERSION_PARSER = new VersionInfoParser(4, 4);
+
+  /** Parses and caches the SDK version. */
+  private static final VersionInfoParser SDK_VERSION_PARSER = new VersionInfoParser(3, 3);
+
   /** Adapter class name for logging. */
   static final String TAG = FyberMediationAdapter.class.getSimpleName();
 
@@ -203,13 +210,9 @@ public class FyberMediationAdapter extends RtbAdapter {
   @NonNull
   public VersionInfo getVersionInfo() {
     String versionString = FyberAdapterUtils.getAdapterVersion();
-    String[] splits = versionString.split("\\.");
-
-    if (splits.length >= 4) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int micro = Integer.parseInt(splits[2]) * 100 + Integer.parseInt(splits[3]);
-      return new VersionInfo(major, minor, micro);
+    VersionInfo versionInfo = ADAPTER_VERSION_PARSER.parse(versionString);
+    if (versionInfo != null) {
+      return versionInfo;
     }
 
     String logMessage =
@@ -223,13 +226,9 @@ public class FyberMediationAdapter extends RtbAdapter {
   @NonNull
   public VersionInfo getSDKVersionInfo() {
     String sdkVersion = FyberAdapterUtils.getSdkVersion();
-    String[] splits = sdkVersion.split("\\.");
-
-    if (splits.length >= 3) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int micro = Integer.parseInt(splits[2]);
-      return new VersionInfo(major, minor, micro);
+    VersionInfo versionInfo = SDK_VERSION_PARSER.parse(sdkVersion);
+    if (versionInfo != null) {
+      return versionInfo;
     }
 
     String logMessage =
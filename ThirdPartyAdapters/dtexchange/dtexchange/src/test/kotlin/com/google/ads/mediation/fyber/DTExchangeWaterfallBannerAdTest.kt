@@ -30,6 +30,7 @@ import com.google.ads.mediation.adaptertestkit.FakeMediationAdLoadCallback
 import com.google.ads.mediation.adaptertestkit.FakeMediationBannerAdCallback
 import com.google.ads.mediation.adaptertestkit.assertThat
 import com.google.ads.mediation.adaptertestkit.createMediationBannerAdConfiguration
+import com.google.ads.mediation.common.BannerSizeCache
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.AdSize
 import com.google.android.gms.ads.MediationUtils
@@ -78,6 +79,8 @@ class DTExchangeWaterfallBannerAdTest {
     dtExchangeWaterfallBannerAd = DTExchangeWaterfallBannerAd(bannerAdLoadCallback)
     mockInneractiveAdManager = mockStatic(InneractiveAdManager::class.java)
     mockMediationUtils = mockStatic(MediationUtils::class.java)
+    // Resolved banner sizes are cached across tests otherwise.
+    BannerSizeCache.getInstance().clear()
   }
 
   @After
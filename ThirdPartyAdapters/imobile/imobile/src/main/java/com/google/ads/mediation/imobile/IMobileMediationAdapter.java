@@ -19,6 +19,7 @@ import android.util.Log;
 import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.VersionInfoParser;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.VersionInfo;
 import com.google.android.gms.ads.mediation.Adapter;
@@ -42,6 +43,9 @@ import java.util.List;
 /** i-mobile mediation adapter. */
 public class IMobileMediationAdapter extends Adapter {
 
+  /** Parses and caches the adapter version. */
+  private static final VersionInfoParser ADAPTER_VERSION_PARSER = new VersionInfoParser(4, 4);
+
   // region - Fields for log.
   /** Tag for log. */
   static final String TAG = IMobileMediationAdapter.class.getSimpleName();
@@ -127,13 +131,9 @@ public class IMobileMediationAdapter extends Adapter {
   @Override
   public VersionInfo getVersionInfo() {
     String versionString = AdapterHelper.getAdapterVersion();
-    String[] splits = versionString.split("\\.");
-
-    if (splits.length >= 4) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int micro = Integer.parseInt(splits[2]) * 100 + Integer.parseInt(splits[3]);
-      return new VersionInfo(major, minor, micro);
+    VersionInfo versionInfo = ADAPTER_VERSION_PARSER.parse(versionString);
+    if (versionInfo != null) {
+      return versionInfo;
     }
 
     String logMessage =
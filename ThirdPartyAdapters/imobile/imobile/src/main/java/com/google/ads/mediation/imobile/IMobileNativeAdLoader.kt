@@ -15,6 +15,8 @@
 package com.google.ads.mediation.imobile
 
 import android.app.Activity
+import android.graphics.drawable.BitmapDrawable
+import android.graphics.drawable.Drawable
 import android.util.Log
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
@@ -23,7 +25,9 @@ import com.google.android.gms.ads.mediation.MediationNativeAdConfiguration
 import com.google.android.gms.ads.mediation.NativeAdMapper
 
 /** I-Mobile native ad loader. */
-class IMobileNativeAdLoader {
+class IMobileNativeAdLoader
+@JvmOverloads
+constructor(private val nativeAdPool: IMobileNativeAdPool = IMobileNativeAdPool.getInstance()) {
 
   fun loadAd(
     mediationNativeAdConfig: MediationNativeAdConfiguration,
@@ -54,10 +58,19 @@ class IMobileNativeAdLoader {
     // Call i-mobile SDK.
     iMobileSdkWrapper.registerSpotInline(activity, publisherId, mediaId, spotId)
     iMobileSdkWrapper.start(spotId)
+
+    // Serve an ad that was returned with an earlier request for the same spot, if any.
+    val pooledAd = spotId?.let { nativeAdPool.poll(it, activity) }
+    if (pooledAd != null) {
+      val drawable: Drawable = BitmapDrawable(activity.resources, pooledAd.image)
+      adLoadCallback.onSuccess(IMobileNativeAdMapper(pooledAd.adData, drawable))
+      return
+    }
+
     iMobileSdkWrapper.getNativeAdData(
       activity,
       spotId,
-      NativeAdDataListener(adLoadCallback, activity),
+      NativeAdDataListener(adLoadCallback, activity, spotId, nativeAdPool),
     )
   }
 }
@@ -0,0 +1,226 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.imobile
+
+import android.app.Activity
+import android.app.Application
+import android.content.ComponentCallbacks2
+import android.content.res.Configuration
+import android.graphics.Bitmap
+import android.os.Bundle
+import android.os.SystemClock
+import android.util.Log
+import androidx.annotation.VisibleForTesting
+import java.util.concurrent.atomic.AtomicBoolean
+import jp.co.imobile.sdkads.android.ImobileSdkAdsNativeAdData
+
+/**
+ * A per-spot pool of the native ads that i-mobile returned in addition to the one that was
+ * requested, so that later native ad requests for the same spot can be served without a network
+ * round trip. Pooled ads are stored with their already downloaded image and expire after
+ * [TIME_TO_LIVE_MILLIS].
+ *
+ * i-mobile loads native ads with an `Activity`, so a pooled ad is only served to requests made with
+ * the activity it was loaded with, and is dropped when that activity is destroyed. The pool holds
+ * at most [MAX_ADS_PER_SPOT] ads per spot and [MAX_POOL_SIZE_BYTES] bytes of images overall, and is
+ * cleared when the system asks the app to trim its memory.
+ */
+class IMobileNativeAdPool
+@VisibleForTesting
+internal constructor(private val elapsedRealtimeMillis: () -> Long) :
+  ComponentCallbacks2, Application.ActivityLifecycleCallbacks {
+
+  /** A native ad whose image was already downloaded. */
+  class PooledAd(val adData: ImobileSdkAdsNativeAdData, val image: Bitmap?) {
+    internal var activity: Activity? = null
+    internal var expiresAtMillis = 0L
+
+    internal val sizeBytes: Int
+      get() = image?.byteCount ?: 0
+  }
+
+  /** Spot ID to pooled ads, oldest first. */
+  private val pooledAds = HashMap<String, ArrayDeque<PooledAd>>()
+
+  /** Total size of the images of the pooled ads. */
+  private var pooledBytes = 0L
+
+  private val isRegisteredForCallbacks = AtomicBoolean()
+
+  /** Returns how many more ads can be pooled for [spotId]. */
+  @Synchronized
+  fun remainingCapacity(spotId: String): Int {
+    if (pooledBytes >= MAX_POOL_SIZE_BYTES) {
+      return 0
+    }
+    val ads = pooledAds[spotId] ?: return MAX_ADS_PER_SPOT
+    removeExpiredAds(ads)
+    return MAX_ADS_PER_SPOT - ads.size
+  }
+
+  /**
+   * Adds [pooledAd], loaded with [activity], to the pool of [spotId].
+   *
+   * @return false if [activity] is finishing or the pool is full, and [pooledAd] was dropped.
+   */
+  @Synchronized
+  fun offer(spotId: String, activity: Activity, pooledAd: PooledAd): Boolean {
+    if (activity.isFinishing || activity.isDestroyed) {
+      return false
+    }
+    registerForCallbacks(activity)
+    val ads = pooledAds.getOrPut(spotId) { ArrayDeque() }
+    removeExpiredAds(ads)
+    if (ads.size >= MAX_ADS_PER_SPOT || pooledBytes + pooledAd.sizeBytes > MAX_POOL_SIZE_BYTES) {
+      removeIfEmpty(spotId, ads)
+      return false
+    }
+    pooledAd.activity = activity
+    pooledAd.expiresAtMillis = elapsedRealtimeMillis() + TIME_TO_LIVE_MILLIS
+    ads.addLast(pooledAd)
+    pooledBytes += pooledAd.sizeBytes
+    return true
+  }
+
+  /**
+   * Removes and returns the oldest unexpired ad pooled for [spotId] with [activity], or null if
+   * there is none.
+   */
+  @Synchronized
+  fun poll(spotId: String, activity: Activity): PooledAd? {
+    val ads = pooledAds[spotId] ?: return null
+    removeExpiredAds(ads)
+    val pooledAd = ads.firstOrNull { it.activity === activity }
+    if (pooledAd != null) {
+      ads.remove(pooledAd)
+      pooledBytes -= pooledAd.sizeBytes
+      pooledAd.activity = null
+    }
+    removeIfEmpty(spotId, ads)
+    return pooledAd
+  }
+
+  /** Returns the total size of the images of the pooled ads. */
+  @VisibleForTesting
+  @Synchronized
+  internal fun getPooledBytes(): Long = pooledBytes
+
+  /** Removes every pooled ad. */
+  @Synchronized
+  fun clear() {
+    pooledAds.clear()
+    pooledBytes = 0
+  }
+
+  override fun onTrimMemory(level: Int) {
+    if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+      Log.d(IMobileMediationAdapter.TAG, "Clearing pooled native ads on trim memory: $level")
+      clear()
+    }
+  }
+
+  override fun onLowMemory() {
+    clear()
+  }
+
+  override fun onConfigurationChanged(newConfig: Configuration) {
+    // No-op.
+  }
+
+  @Synchronized
+  override fun onActivityDestroyed(activity: Activity) {
+    val iterator = pooledAds.values.iterator()
+    while (iterator.hasNext()) {
+      val ads = iterator.next()
+      val destroyedActivityAds = ads.filter { it.activity === activity }
+      ads.removeAll(destroyedActivityAds)
+      destroyedActivityAds.forEach { pooledBytes -= it.sizeBytes }
+      if (ads.isEmpty()) {
+        iterator.remove()
+      }
+    }
+  }
+
+  override fun onActivityCreated(activity: Activity, savedInstanceState: Bundle?) {
+    // No-op.
+  }
+
+  override fun onActivityStarted(activity: Activity) {
+    // No-op.
+  }
+
+  override fun onActivityResumed(activity: Activity) {
+    // No-op.
+  }
+
+  override fun onActivityPaused(activity: Activity) {
+    // No-op.
+  }
+
+  override fun onActivityStopped(activity: Activity) {
+    // No-op.
+  }
+
+  override fun onActivitySaveInstanceState(activity: Activity, outState: Bundle) {
+    // No-op.
+  }
+
+  private fun removeExpiredAds(ads: ArrayDeque<PooledAd>) {
+    val nowMillis = elapsedRealtimeMillis()
+    while (ads.isNotEmpty() && ads.first().expiresAtMillis <= nowMillis) {
+      pooledBytes -= ads.removeFirst().sizeBytes
+    }
+  }
+
+  private fun removeIfEmpty(spotId: String, ads: ArrayDeque<PooledAd>) {
+    if (ads.isEmpty()) {
+      pooledAds.remove(spotId)
+    }
+  }
+
+  /**
+   * Registers this pool for trim memory and activity lifecycle callbacks. Subsequent calls have no
+   * effect.
+   */
+  private fun registerForCallbacks(activity: Activity) {
+    val application = activity.application
+    if (application == null || !isRegisteredForCallbacks.compareAndSet(false, true)) {
+      return
+    }
+    application.registerComponentCallbacks(this)
+    application.registerActivityLifecycleCallbacks(this)
+  }
+
+  companion object {
+    /** Maximum number of ads pooled per spot. */
+    const val MAX_ADS_PER_SPOT = 5
+
+    /** Maximum total size of the images of the pooled ads, across all spots. */
+    const val MAX_POOL_SIZE_BYTES = 2L * 1024 * 1024
+
+    /** How long a pooled ad can be served after it was loaded. */
+    const val TIME_TO_LIVE_MILLIS = 30L * 60 * 1000
+
+    @Volatile private var instance: IMobileNativeAdPool? = null
+
+    /** Returns the pool shared by all native ad requests in the process. */
+    @JvmStatic
+    fun getInstance(): IMobileNativeAdPool =
+      instance
+        ?: synchronized(this) {
+          instance ?: IMobileNativeAdPool { SystemClock.elapsedRealtime() }.also { instance = it }
+        }
+  }
+}
@@ -15,6 +15,7 @@
 package com.google.ads.mediation.imobile
 
 import android.app.Activity
+import android.graphics.Bitmap
 import android.util.Log
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
@@ -28,6 +29,8 @@ import jp.co.imobile.sdkads.android.ImobileSdkAdsNativeAdData
 class NativeAdDataListener(
   private val adLoadCallback: MediationAdLoadCallback<NativeAdMapper, MediationNativeAdCallback>,
   private val activity: Activity,
+  private val spotId: String?,
+  private val nativeAdPool: IMobileNativeAdPool,
 ) : ImobileSdkAdListener() {
 
   override fun onNativeAdDataReciveCompleted(adDataList: MutableList<ImobileSdkAdsNativeAdData>?) {
@@ -45,6 +48,27 @@ class NativeAdDataListener(
 
     val adData = adDataList[0]
     adData.getAdImage(activity, NativeAdImageListener(adLoadCallback, activity, adData))
+    prefetchExtraAds(adDataList)
+  }
+
+  /**
+   * Downloads the images of the ads that were returned in addition to the requested one and pools
+   * them for later requests for the same spot.
+   */
+  private fun prefetchExtraAds(adDataList: List<ImobileSdkAdsNativeAdData>) {
+    if (spotId == null) {
+      return
+    }
+    for (extraAdData in adDataList.drop(1).take(nativeAdPool.remainingCapacity(spotId))) {
+      extraAdData.getAdImage(
+        activity,
+        object : ImobileSdkAdListener() {
+          override fun onNativeAdImageReciveCompleted(image: Bitmap?) {
+            nativeAdPool.offer(spotId, activity, IMobileNativeAdPool.PooledAd(extraAdData, image))
+          }
+        },
+      )
+    }
   }
 
   override fun onFailed(reason: FailNotificationReason) {
@@ -46,6 +46,7 @@ import com.google.android.gms.ads.mediation.MediationNativeAdCallback
 import com.google.android.gms.ads.mediation.MediationNativeAdConfiguration
 import com.google.android.gms.ads.mediation.NativeAdMapper
 import kotlin.test.assertIs
+import org.junit.After
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -98,6 +99,11 @@ class IMobileMediationAdapterTest {
     adapter = IMobileMediationAdapter(iMobileSdkWrapper, mediationUtils)
   }
 
+  @After
+  fun tearDown() {
+    IMobileNativeAdPool.getInstance().clear()
+  }
+
   @Test
   fun instanceOfIMobileMediationAdapter_returnsAnInstanceOfAdapter() {
     assertIs<Adapter>(adapter)
@@ -476,6 +482,23 @@ class IMobileMediationAdapterTest {
     verify(iMobileSdkWrapper).getNativeAdData(eq(activity), eq(SPOT_ID), any())
   }
 
+  @Test
+  fun loadNativeAdMapper_withPooledAd_servesPooledAdWithoutLoading() {
+    whenever(mediationNativeAdConfig.context) doReturn activity
+    val serverParams =
+      bundleOf(KEY_PUBLISHER_ID to PUBLISHER_ID, KEY_MEDIA_ID to MEDIA_ID, KEY_SPOT_ID to SPOT_ID)
+    whenever(mediationNativeAdConfig.serverParameters) doReturn serverParams
+    IMobileNativeAdPool.getInstance()
+      .offer(SPOT_ID, activity, IMobileNativeAdPool.PooledAd(mock(), image = null))
+
+    adapter.loadNativeAdMapper(mediationNativeAdConfig, nativeAdLoadCallback)
+
+    assertThat(nativeAdLoadCallback).hasSucceeded()
+    verify(iMobileSdkWrapper).registerSpotInline(activity, PUBLISHER_ID, MEDIA_ID, SPOT_ID)
+    verify(iMobileSdkWrapper).start(SPOT_ID)
+    verify(iMobileSdkWrapper, never()).getNativeAdData(any(), any(), any())
+  }
+
   private companion object {
     const val PUBLISHER_ID = "a_publisher_id"
     const val MEDIA_ID = "a_media_id"
@@ -0,0 +1,96 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.imobile
+
+import android.app.Activity
+import android.graphics.Bitmap
+import androidx.core.os.bundleOf
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.adaptertestkit.FakeMediationAdLoadCallback
+import com.google.ads.mediation.adaptertestkit.FakeMediationNativeAdCallback
+import com.google.ads.mediation.adaptertestkit.assertNoRetentionAfterLoadDestroyCycles
+import com.google.ads.mediation.adaptertestkit.assertThat
+import com.google.ads.mediation.adaptertestkit.createMediationNativeAdConfiguration
+import com.google.android.gms.ads.mediation.MediationNativeAdCallback
+import com.google.android.gms.ads.mediation.NativeAdMapper
+import jp.co.imobile.sdkads.android.ImobileSdkAdListener
+import jp.co.imobile.sdkads.android.ImobileSdkAdsNativeAdData
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.kotlin.argumentCaptor
+import org.mockito.kotlin.eq
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.verify
+import org.robolectric.Robolectric
+
+/** Tests for [IMobileNativeAdLoader]. */
+@RunWith(AndroidJUnit4::class)
+class IMobileNativeAdLoaderTest {
+
+  private val nativeAdPool = IMobileNativeAdPool { 0L }
+  private val nativeAdLoader = IMobileNativeAdLoader(nativeAdPool)
+
+  @Test
+  fun loadAd_repeatedlyWithNewActivities_doesNotRetainActivitiesOrImages() {
+    assertNoRetentionAfterLoadDestroyCycles { _, probe ->
+      val cycleActivityController = Robolectric.buildActivity(Activity::class.java).create()
+      val cycleActivity = cycleActivityController.get()
+      val iMobileSdkWrapper = mock<IMobileSdkWrapper>()
+      val loadCallback =
+        FakeMediationAdLoadCallback<NativeAdMapper, MediationNativeAdCallback>(
+          FakeMediationNativeAdCallback()
+        )
+      val adData = mock<ImobileSdkAdsNativeAdData>()
+      val extraAdData = mock<ImobileSdkAdsNativeAdData>()
+      val image = createImage()
+      val extraImage = createImage()
+
+      nativeAdLoader.loadAd(
+        createMediationNativeAdConfiguration(
+          cycleActivity,
+          serverParameters = bundleOf(Constants.KEY_SPOT_ID to SPOT_ID),
+        ),
+        loadCallback,
+        iMobileSdkWrapper,
+      )
+      val adDataListenerCaptor = argumentCaptor<NativeAdDataListener>()
+      verify(iMobileSdkWrapper)
+        .getNativeAdData(eq(cycleActivity), eq(SPOT_ID), adDataListenerCaptor.capture())
+      adDataListenerCaptor.firstValue.onNativeAdDataReciveCompleted(
+        mutableListOf(adData, extraAdData)
+      )
+      val imageListenerCaptor = argumentCaptor<ImobileSdkAdListener>()
+      verify(adData).getAdImage(eq(cycleActivity), imageListenerCaptor.capture())
+      imageListenerCaptor.firstValue.onNativeAdImageReciveCompleted(image)
+      val extraImageListenerCaptor = argumentCaptor<ImobileSdkAdListener>()
+      verify(extraAdData).getAdImage(eq(cycleActivity), extraImageListenerCaptor.capture())
+      extraImageListenerCaptor.firstValue.onNativeAdImageReciveCompleted(extraImage)
+      assertThat(loadCallback).hasSucceeded()
+
+      // The extra ad stays pooled until the activity it was loaded with is destroyed.
+      cycleActivityController.destroy()
+      probe.watch(cycleActivity, "Activity")
+      probe.watch(loadCallback.loadedAd!!, "IMobileNativeAdMapper")
+      probe.watch(image, "Native ad image")
+      probe.watch(extraImage, "Pooled ad image")
+    }
+  }
+
+  private fun createImage(): Bitmap = Bitmap.createBitmap(512, 512, Bitmap.Config.ARGB_8888)
+
+  private companion object {
+    const val SPOT_ID = "a_spot_id"
+  }
+}
@@ -0,0 +1,145 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.imobile
+
+import android.app.Activity
+import android.graphics.Bitmap
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.adaptertestkit.assertNoRetentionAfterLoadDestroyCycles
+import com.google.ads.mediation.imobile.IMobileNativeAdPool.Companion.MAX_ADS_PER_SPOT
+import com.google.ads.mediation.imobile.IMobileNativeAdPool.Companion.MAX_POOL_SIZE_BYTES
+import com.google.ads.mediation.imobile.IMobileNativeAdPool.Companion.TIME_TO_LIVE_MILLIS
+import com.google.ads.mediation.imobile.IMobileNativeAdPool.PooledAd
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.kotlin.mock
+import org.robolectric.Robolectric
+
+/** Tests for [IMobileNativeAdPool]. */
+@RunWith(AndroidJUnit4::class)
+class IMobileNativeAdPoolTest {
+
+  private var nowMillis = 0L
+  private val nativeAdPool = IMobileNativeAdPool { nowMillis }
+  private val activityController = Robolectric.buildActivity(Activity::class.java).create()
+  private val activity = activityController.get()
+
+  @Test
+  fun poll_returnsPooledAdsOfTheSpotOldestFirst() {
+    val firstAd = PooledAd(mock(), image = null)
+    val secondAd = PooledAd(mock(), image = null)
+    nativeAdPool.offer(SPOT_ID, activity, firstAd)
+    nativeAdPool.offer(SPOT_ID, activity, secondAd)
+
+    assertThat(nativeAdPool.poll(OTHER_SPOT_ID, activity)).isNull()
+    assertThat(nativeAdPool.poll(SPOT_ID, activity)).isSameInstanceAs(firstAd)
+    assertThat(nativeAdPool.poll(SPOT_ID, activity)).isSameInstanceAs(secondAd)
+    assertThat(nativeAdPool.poll(SPOT_ID, activity)).isNull()
+  }
+
+  @Test
+  fun poll_withAnotherActivity_returnsNull() {
+    nativeAdPool.offer(SPOT_ID, activity, PooledAd(mock(), image = null))
+    val otherActivity = Robolectric.buildActivity(Activity::class.java).create().get()
+
+    assertThat(nativeAdPool.poll(SPOT_ID, otherActivity)).isNull()
+    assertThat(nativeAdPool.poll(SPOT_ID, activity)).isNotNull()
+  }
+
+  @Test
+  fun poll_afterTimeToLive_returnsNull() {
+    nativeAdPool.offer(SPOT_ID, activity, PooledAd(mock(), image = null))
+
+    nowMillis += TIME_TO_LIVE_MILLIS
+
+    assertThat(nativeAdPool.poll(SPOT_ID, activity)).isNull()
+  }
+
+  @Test
+  fun offer_whenPoolIsFull_dropsAd() {
+    repeat(MAX_ADS_PER_SPOT) {
+      assertThat(nativeAdPool.offer(SPOT_ID, activity, PooledAd(mock(), image = null))).isTrue()
+    }
+
+    assertThat(nativeAdPool.offer(SPOT_ID, activity, PooledAd(mock(), image = null))).isFalse()
+    assertThat(nativeAdPool.remainingCapacity(SPOT_ID)).isEqualTo(0)
+    assertThat(nativeAdPool.remainingCapacity(OTHER_SPOT_ID)).isEqualTo(MAX_ADS_PER_SPOT)
+  }
+
+  @Test
+  fun offer_beyondMaxPoolSizeBytes_dropsAd() {
+    // 512 x 512 ARGB_8888 pixels take 1 MiB.
+    val imageCount = (MAX_POOL_SIZE_BYTES / (512 * 512 * 4)).toInt()
+    repeat(imageCount) {
+      assertThat(nativeAdPool.offer(SPOT_ID + it, activity, PooledAd(mock(), createImage())))
+        .isTrue()
+    }
+
+    assertThat(nativeAdPool.offer(OTHER_SPOT_ID, activity, PooledAd(mock(), createImage())))
+      .isFalse()
+    assertThat(nativeAdPool.getPooledBytes()).isEqualTo(MAX_POOL_SIZE_BYTES)
+    assertThat(nativeAdPool.remainingCapacity(OTHER_SPOT_ID)).isEqualTo(0)
+  }
+
+  @Test
+  fun offer_withFinishingActivity_dropsAd() {
+    activity.finish()
+
+    assertThat(nativeAdPool.offer(SPOT_ID, activity, PooledAd(mock(), image = null))).isFalse()
+  }
+
+  @Test
+  fun onActivityDestroyed_dropsAdsPooledWithTheActivity() {
+    nativeAdPool.offer(SPOT_ID, activity, PooledAd(mock(), createImage()))
+
+    activityController.destroy()
+
+    assertThat(nativeAdPool.getPooledBytes()).isEqualTo(0)
+    assertThat(nativeAdPool.remainingCapacity(SPOT_ID)).isEqualTo(MAX_ADS_PER_SPOT)
+  }
+
+  @Test
+  fun remainingCapacity_afterTimeToLive_countsExpiredAdsAsFree() {
+    repeat(MAX_ADS_PER_SPOT) {
+      nativeAdPool.offer(SPOT_ID, activity, PooledAd(mock(), image = null))
+    }
+
+    nowMillis += TIME_TO_LIVE_MILLIS
+
+    assertThat(nativeAdPool.remainingCapacity(SPOT_ID)).isEqualTo(MAX_ADS_PER_SPOT)
+  }
+
+  @Test
+  fun pooledAds_ofDestroyedActivities_areNotRetained() {
+    assertNoRetentionAfterLoadDestroyCycles { _, probe ->
+      val cycleActivityController = Robolectric.buildActivity(Activity::class.java).create()
+      val cycleActivity = cycleActivityController.get()
+      val image = createImage()
+      nativeAdPool.offer(SPOT_ID, cycleActivity, PooledAd(mock(), image))
+
+      cycleActivityController.destroy()
+      probe.watch(cycleActivity, "Activity")
+      probe.watch(image, "Pooled ad image")
+    }
+  }
+
+  private fun createImage(): Bitmap = Bitmap.createBitmap(512, 512, Bitmap.Config.ARGB_8888)
+
+  private companion object {
+    const val SPOT_ID = "a_spot_id"
+    const val OTHER_SPOT_ID = "another_spot_id"
+  }
+}
@@ -15,6 +15,7 @@
 package com.google.ads.mediation.imobile
 
 import android.app.Activity
+import android.graphics.Bitmap
 import androidx.test.ext.junit.runners.AndroidJUnit4
 import com.google.ads.mediation.adaptertestkit.FakeMediationAdLoadCallback
 import com.google.ads.mediation.adaptertestkit.FakeMediationNativeAdCallback
@@ -24,12 +25,15 @@ import com.google.android.gms.ads.mediation.MediationNativeAdCallback
 import com.google.android.gms.ads.mediation.NativeAdMapper
 import com.google.common.truth.Truth.assertThat
 import jp.co.imobile.sdkads.android.FailNotificationReason
+import jp.co.imobile.sdkads.android.ImobileSdkAdListener
 import jp.co.imobile.sdkads.android.ImobileSdkAdsNativeAdData
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.kotlin.any
+import org.mockito.kotlin.argumentCaptor
 import org.mockito.kotlin.eq
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
 import org.mockito.kotlin.verify
 import org.robolectric.Robolectric
 
@@ -41,7 +45,9 @@ class NativeAdDataListenerTest {
   private val adLoadCallback =
     FakeMediationAdLoadCallback<NativeAdMapper, MediationNativeAdCallback>(nativeAdCallback)
   private val activity: Activity = Robolectric.buildActivity(Activity::class.java).get()
-  private val nativeAdDataListener = NativeAdDataListener(adLoadCallback, activity)
+  private val nativeAdPool = IMobileNativeAdPool { 0L }
+  private val nativeAdDataListener =
+    NativeAdDataListener(adLoadCallback, activity, SPOT_ID, nativeAdPool)
 
   @Test
   fun onNativeAdDataReciveCompleted_ifAdDataListIsNull_invokesLoadFailure() {
@@ -68,6 +74,35 @@ class NativeAdDataListenerTest {
     verify(adData).getAdImage(eq(activity), any())
   }
 
+  @Test
+  fun onNativeAdDataReciveCompleted_withExtraAds_poolsExtraAdsOnceTheirImagesAreLoaded() {
+    val adData: ImobileSdkAdsNativeAdData = mock()
+    val extraAdData: ImobileSdkAdsNativeAdData = mock()
+    val image: Bitmap = mock()
+
+    nativeAdDataListener.onNativeAdDataReciveCompleted(mutableListOf(adData, extraAdData))
+
+    assertThat(nativeAdPool.poll(SPOT_ID, activity)).isNull()
+    val imageListenerCaptor = argumentCaptor<ImobileSdkAdListener>()
+    verify(extraAdData).getAdImage(eq(activity), imageListenerCaptor.capture())
+    imageListenerCaptor.firstValue.onNativeAdImageReciveCompleted(image)
+    val pooledAd = nativeAdPool.poll(SPOT_ID, activity)
+    assertThat(pooledAd!!.adData).isSameInstanceAs(extraAdData)
+    assertThat(pooledAd.image).isSameInstanceAs(image)
+  }
+
+  @Test
+  fun onNativeAdDataReciveCompleted_withPoolFull_doesNotPrefetchExtraAds() {
+    repeat(IMobileNativeAdPool.MAX_ADS_PER_SPOT) {
+      nativeAdPool.offer(SPOT_ID, activity, IMobileNativeAdPool.PooledAd(mock(), image = null))
+    }
+    val extraAdData: ImobileSdkAdsNativeAdData = mock()
+
+    nativeAdDataListener.onNativeAdDataReciveCompleted(mutableListOf(mock(), extraAdData))
+
+    verify(extraAdData, never()).getAdImage(any(), any())
+  }
+
   @Test
   fun onFailed_invokesLoadFailure() {
     val expectedError = AdapterHelper.getAdError(FailNotificationReason.RESPONSE)
@@ -76,4 +111,8 @@ class NativeAdDataListenerTest {
 
     assertThat(adLoadCallback).hasFailedWith(expectedError)
   }
+
+  private companion object {
+    const val SPOT_ID = "a_spot_id"
+  }
 }
@@ -0,0 +1,350 @@
+// Copyright 2017 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.inmobi;
+
+import static com.google.ads.mediation.inmobi.InMobiMediationAdapter.TAG;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.DisplayMetrics;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.DiskAssetCache;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.HashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Loads images for InMobi native adapter on the shared {@link InMobiImageDownloadExecutor}.
+ *
+ * <p>Images are looked up in the shared {@link InMobiMemoryCache} first, then in the {@link
+ * DiskAssetCache}, and are only downloaded if neither has them.
+ *
+ * <p>Each instance performs a single download. Results are delivered to the {@link
+ * DrawableDownloadListener} on the main thread, at most once, unless {@link #cancel()} is called
+ * first.
+ */
+class ImageDownloader {
+
+  static final String KEY_IMAGE = "image_key";
+
+  static final String KEY_ICON = "icon_key";
+
+  /**
+   * Maximum image width in pixels (px). 1024px is chosen as a reasonable upper bound for native ad
+   * image assets to ensure high quality on high-density displays while preventing excessive memory
+   * consumption (OutOfMemoryError) when decoding large images.
+   */
+  @VisibleForTesting static final int MAX_IMAGE_WIDTH = 1024;
+
+  /**
+   * Maximum image height in pixels (px). 1024px is chosen as a reasonable upper bound for native ad
+   * image assets to ensure high quality on high-density displays while preventing excessive memory
+   * consumption (OutOfMemoryError) when decoding large images.
+   */
+  @VisibleForTesting static final int MAX_IMAGE_HEIGHT = 1024;
+
+  @VisibleForTesting static final int STREAM_BUFFER_SIZE = MAX_IMAGE_WIDTH * MAX_IMAGE_HEIGHT;
+
+  /**
+   * Maximum size of a downloaded image in bytes. Larger images are not downloaded, so that a large
+   * or hostile creative URL can neither exhaust the memory nor fill the {@link DiskAssetCache}.
+   */
+  @VisibleForTesting static final int MAX_DOWNLOAD_SIZE_BYTES = 5 * 1024 * 1024;
+
+  private static final int DOWNLOAD_BUFFER_SIZE = 8 * 1024;
+
+  private final long downloadTimeoutSeconds;
+
+  private final DrawableDownloadListener listener;
+
+  private final InMobiImageDownloadExecutor executor;
+
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+  @VisibleForTesting
+  final InMobiMemoryCache memoryCache;
+
+  @Nullable private final DiskAssetCache diskAssetCache;
+
+  /** Set once a result has been handed off to the main thread, or the download was cancelled. */
+  private final AtomicBoolean isFinished = new AtomicBoolean();
+
+  private volatile boolean isCancelled;
+
+  private Future<?> downloadFuture;
+
+  private final Runnable timeoutRunnable =
+      new Runnable() {
+        @Override
+        public void run() {
+          if (!isFinished.compareAndSet(false, true)) {
+            return;
+          }
+          Log.w(TAG, "Timed out while downloading the InMobi native ad image assets.");
+          cancelDownloadFuture();
+          listener.onDownloadFailure();
+        }
+      };
+
+  public ImageDownloader(@NonNull Context context, DrawableDownloadListener listener) {
+    this(
+        listener,
+        /* timeout= */ 10L,
+        InMobiImageDownloadExecutor.getInstance(),
+        InMobiMemoryCache.getInstance(),
+        DiskAssetCache.getInstance(context));
+  }
+
+  @VisibleForTesting
+  ImageDownloader(
+      DrawableDownloadListener listener,
+      Long timeout,
+      InMobiImageDownloadExecutor executor,
+      InMobiMemoryCache memoryCache,
+      @Nullable DiskAssetCache diskAssetCache) {
+    this.listener = listener;
+    this.downloadTimeoutSeconds = timeout;
+    this.executor = executor;
+    this.memoryCache = memoryCache;
+    this.diskAssetCache = diskAssetCache;
+  }
+
+  /**
+   * Starts downloading the images in the given map. Must be called at most once per instance.
+   *
+   * @param urlsMap a map with the URL to download for each of {@link #KEY_ICON}.
+   */
+  void download(@NonNull HashMap<String, URL> urlsMap) {
+    final URL iconUrl = urlsMap.get(KEY_ICON);
+    final String cacheKey = String.valueOf(iconUrl);
+
+    Drawable cachedDrawable = memoryCache.get(cacheKey);
+    if (cachedDrawable != null) {
+      deliverSuccess(cachedDrawable);
+      return;
+    }
+
+    try {
+      downloadFuture =
+          executor.submit(
+              new Runnable() {
+                @Override
+                public void run() {
+                  if (isFinished.get()) {
+                    // Timed out or cancelled while waiting in the queue.
+                    return;
+                  }
+                  try {
+                    Drawable iconDrawable = loadDrawable(iconUrl, cacheKey);
+                    memoryCache.put(cacheKey, iconDrawable);
+                    deliverSuccess(iconDrawable);
+                  } catch (IOException | RuntimeException exception) {
+                    Log.w(TAG, "Failed to download InMobi native ad image asset.", exception);
+                    deliverFailure();
+                  }
+                }
+              });
+    } catch (RejectedExecutionException exception) {
+      Log.w(TAG, exception.getMessage());
+      deliverFailure();
+      return;
+    }
+    mainHandler.postDelayed(timeoutRunnable, TimeUnit.SECONDS.toMillis(downloadTimeoutSeconds));
+  }
+
+  /**
+   * Cancels the download. The listener won't be invoked after this method returns on the main
+   * thread.
+   */
+  void cancel() {
+    isCancelled = true;
+    if (isFinished.compareAndSet(false, true)) {
+      mainHandler.removeCallbacks(timeoutRunnable);
+      cancelDownloadFuture();
+    }
+  }
+
+  private void cancelDownloadFuture() {
+    Future<?> future = downloadFuture;
+    if (future != null) {
+      future.cancel(/* mayInterruptIfRunning= */ true);
+    }
+  }
+
+  private void deliverSuccess(Drawable iconDrawable) {
+    if (!isFinished.compareAndSet(false, true)) {
+      return;
+    }
+    final HashMap<String, Drawable> drawableHashMap = new HashMap<>();
+    drawableHashMap.put(KEY_ICON, iconDrawable);
+    mainHandler.removeCallbacks(timeoutRunnable);
+    mainHandler.post(
+        new Runnable() {
+          @Override
+          public void run() {
+            if (!isCancelled) {
+              // Image download successful, send on success callback.
+              listener.onDownloadSuccess(drawableHashMap);
+            }
+          }
+        });
+  }
+
+  private void deliverFailure() {
+    if (!isFinished.compareAndSet(false, true)) {
+      return;
+    }
+    mainHandler.removeCallbacks(timeoutRunnable);
+    mainHandler.post(
+        new Runnable() {
+          @Override
+          public void run() {
+            if (!isCancelled) {
+              listener.onDownloadFailure();
+            }
+          }
+        });
+  }
+
+  private Drawable loadDrawable(URL url, String cacheKey) throws IOException {
+    if (diskAssetCache != null) {
+      InputStream cachedInputStream = diskAssetCache.getInputStream(cacheKey);
+      if (cachedInputStream != null) {
+        try {
+          return decodeDrawable(cachedInputStream, url);
+        } catch (IOException exception) {
+          // The cached entry is corrupted. Drop it and download the image again.
+          diskAssetCache.remove(cacheKey);
+        }
+      }
+    }
+
+    byte[] imageBytes = downloadBytes(url);
+    Drawable drawable = decodeDrawable(new ByteArrayInputStream(imageBytes), url);
+    if (diskAssetCache != null) {
+      diskAssetCache.put(cacheKey, imageBytes);
+    }
+    return drawable;
+  }
+
+  private byte[] downloadBytes(URL url) throws IOException {
+    URLConnection urlConnection = url.openConnection();
+    int timeoutMillis = (int) TimeUnit.SECONDS.toMillis(downloadTimeoutSeconds);
+    if (timeoutMillis > 0) {
+      // Don't let a stalled connection hold on to one of the shared download threads.
+      urlConnection.setConnectTimeout(timeoutMillis);
+      urlConnection.setReadTimeout(timeoutMillis);
+    }
+
+    int contentLength = urlConnection.getContentLength();
+    if (contentLength > MAX_DOWNLOAD_SIZE_BYTES) {
+      throw new IOException(
+          String.format("Image of %d bytes exceeds the download limit: %s", contentLength, url));
+    }
+
+    try (InputStream inputStream = urlConnection.getInputStream()) {
+      var outputStream = new ByteArrayOutputStream();
+      byte[] buffer = new byte[DOWNLOAD_BUFFER_SIZE];
+      int count;
+      while ((count = inputStream.read(buffer)) != -1) {
+        // The content length may be missing or wrong, so also stop reading at the limit.
+        if (outputStream.size() + count > MAX_DOWNLOAD_SIZE_BYTES) {
+          throw new IOException("Image exceeds the download limit: " + url);
+        }
+        outputStream.write(buffer, 0, count);
+      }
+      return outputStream.toByteArray();
+    }
+  }
+
+  /**
+   * Decodes a downsampled {@link Drawable} from the given stream, which must support {@link
+   * InputStream#mark(int)}.
+   */
+  private static Drawable decodeDrawable(InputStream inputStream, URL url) throws IOException {
+    try (inputStream) {
+      inputStream.mark(STREAM_BUFFER_SIZE);
+
+      // 1. Decode bounds first to check dimensions without allocating memory for pixels.
+      var options = new BitmapFactory.Options();
+      options.inJustDecodeBounds = true;
+      BitmapFactory.decodeStream(inputStream, /* outPadding= */ null, options);
+
+      // 2. Reset stream to the beginning and calculate inSampleSize.
+      inputStream.reset();
+      options.inSampleSize = calculateInSampleSize(options, MAX_IMAGE_WIDTH, MAX_IMAGE_HEIGHT);
+
+      // 3. Decode the actual bitmap with inSampleSize set.
+      options.inJustDecodeBounds = false;
+      Bitmap bitmap = BitmapFactory.decodeStream(inputStream, /* outPadding= */ null, options);
+
+      if (bitmap == null) {
+        throw new IOException("Failed to decode bitmap from URL: " + url);
+      }
+
+      // Defaulting to a scale of 1.
+      bitmap.setDensity(DisplayMetrics.DENSITY_DEFAULT);
+      return new BitmapDrawable(Resources.getSystem(), bitmap);
+    }
+  }
+
+  /**
+   * Calculates the inSampleSize value to downsample the image if it exceeds the requested bounds.
+   */
+  @VisibleForTesting
+  static int calculateInSampleSize(BitmapFactory.Options options, int reqWidth, int reqHeight) {
+    final int height = options.outHeight;
+    final int width = options.outWidth;
+
+    if (reqWidth <= 0 || reqHeight <= 0 || height <= 0 || width <= 0) {
+      return 1;
+    }
+
+    final int heightRatio = height / reqHeight;
+    final int widthRatio = width / reqWidth;
+
+    // Find the smallest ratio to ensure both dimensions stay larger than requested.
+    final int minRatio = Math.min(heightRatio, widthRatio);
+
+    // Round down to the nearest power of 2 (returns 1 if minRatio < 1).
+    return Math.max(1, Integer.highestOneBit(minRatio));
+  }
+
+  interface DrawableDownloadListener {
+
+    // A success callback.
+    void onDownloadSuccess(HashMap<String, Drawable> drawableMap);
+
+    // A failure callback.
+    void onDownloadFailure();
+  }
+}
@@ -0,0 +1,201 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.inmobi;
+
+import android.os.Process;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A process-wide, bounded executor used to download and decode InMobi native ad image assets.
+ *
+ * <p>At most {@link #getMaxParallelism()} downloads run at the same time and at most {@link
+ * #getMaxQueueDepth()} further downloads may wait for a free thread. Submissions beyond that are
+ * rejected so that a burst of native ad loads cannot pile up unbounded work. Idle threads are
+ * released after {@link #KEEP_ALIVE_SECONDS} seconds.
+ */
+public final class InMobiImageDownloadExecutor {
+
+  /** Default number of image downloads that may run concurrently. */
+  @VisibleForTesting static final int DEFAULT_MAX_PARALLELISM = 4;
+
+  /** Default number of image downloads that may wait for a free thread. */
+  @VisibleForTesting static final int DEFAULT_MAX_QUEUE_DEPTH = 32;
+
+  /** Time after which an idle download thread is released. */
+  private static final long KEEP_ALIVE_SECONDS = 30;
+
+  private static final String THREAD_NAME_PREFIX = "InMobiImageDownloader-";
+
+  private static final InMobiImageDownloadExecutor instance =
+      new InMobiImageDownloadExecutor(
+          createThreadPoolExecutor(DEFAULT_MAX_PARALLELISM),
+          DEFAULT_MAX_PARALLELISM,
+          DEFAULT_MAX_QUEUE_DEPTH);
+
+  private final Executor executor;
+
+  /** Number of downloads that were submitted and whose download thread has not finished yet. */
+  private final AtomicInteger pendingTaskCount = new AtomicInteger();
+
+  private volatile int maxParallelism;
+
+  private volatile int maxQueueDepth;
+
+  @VisibleForTesting
+  InMobiImageDownloadExecutor(@NonNull Executor executor, int maxParallelism, int maxQueueDepth) {
+    this.executor = executor;
+    this.maxParallelism = maxParallelism;
+    this.maxQueueDepth = maxQueueDepth;
+  }
+
+  @NonNull
+  static InMobiImageDownloadExecutor getInstance() {
+    return instance;
+  }
+
+  /**
+   * Sets the maximum number of InMobi native ad images that may be downloaded concurrently.
+   *
+   * @param maxParallelism a value greater than zero.
+   */
+  public static void setMaxParallelism(int maxParallelism) {
+    if (maxParallelism <= 0) {
+      throw new IllegalArgumentException("maxParallelism must be greater than zero.");
+    }
+    instance.updateMaxParallelism(maxParallelism);
+  }
+
+  /**
+   * Sets the maximum number of InMobi native ad image downloads that may wait for a free download
+   * thread. Downloads requested beyond this limit fail immediately.
+   *
+   * @param maxQueueDepth a value greater than or equal to zero.
+   */
+  public static void setMaxQueueDepth(int maxQueueDepth) {
+    if (maxQueueDepth < 0) {
+      throw new IllegalArgumentException("maxQueueDepth must not be negative.");
+    }
+    instance.maxQueueDepth = maxQueueDepth;
+  }
+
+  int getMaxParallelism() {
+    return maxParallelism;
+  }
+
+  int getMaxQueueDepth() {
+    return maxQueueDepth;
+  }
+
+  @VisibleForTesting
+  int getPendingTaskCount() {
+    return pendingTaskCount.get();
+  }
+
+  /**
+   * Submits a download task.
+   *
+   * @return a {@link Future} that can be used to cancel the task.
+   * @throws RejectedExecutionException if the download queue is full.
+   */
+  @NonNull
+  Future<?> submit(@NonNull Runnable task) {
+    int capacity = maxParallelism + maxQueueDepth;
+    if (pendingTaskCount.incrementAndGet() > capacity) {
+      pendingTaskCount.decrementAndGet();
+      throw new RejectedExecutionException(
+          "InMobi image download queue is full (capacity: " + capacity + ").");
+    }
+
+    final FutureTask<Void> futureTask = new FutureTask<>(task, /* result= */ null);
+    try {
+      executor.execute(
+          new Runnable() {
+            @Override
+            public void run() {
+              // Cancelling the future doesn't stop a download that is already running, so the
+              // slot is only released once the download thread is done with the task. A task
+              // cancelled while queued returns immediately here.
+              try {
+                futureTask.run();
+              } finally {
+                pendingTaskCount.decrementAndGet();
+              }
+            }
+          });
+    } catch (RejectedExecutionException exception) {
+      pendingTaskCount.decrementAndGet();
+      throw exception;
+    }
+    return futureTask;
+  }
+
+  private synchronized void updateMaxParallelism(int maxParallelism) {
+    if (executor instanceof ThreadPoolExecutor) {
+      ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) executor;
+      // The maximum pool size may never be lower than the core pool size, so the order of the
+      // updates depends on whether the pool grows or shrinks.
+      if (maxParallelism > threadPoolExecutor.getMaximumPoolSize()) {
+        threadPoolExecutor.setMaximumPoolSize(maxParallelism);
+        threadPoolExecutor.setCorePoolSize(maxParallelism);
+      } else {
+        threadPoolExecutor.setCorePoolSize(maxParallelism);
+        threadPoolExecutor.setMaximumPoolSize(maxParallelism);
+      }
+    }
+    this.maxParallelism = maxParallelism;
+  }
+
+  private static ThreadPoolExecutor createThreadPoolExecutor(int maxParallelism) {
+    // Admission control is done in submit(), so the work queue itself is unbounded.
+    ThreadPoolExecutor threadPoolExecutor =
+        new ThreadPoolExecutor(
+            maxParallelism,
+            maxParallelism,
+            KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<Runnable>(),
+            new ThreadFactory() {
+              private final AtomicInteger threadCount = new AtomicInteger();
+
+              @Override
+              public Thread newThread(@NonNull final Runnable runnable) {
+                Thread thread =
+                    new Thread(
+                        new Runnable() {
+                          @Override
+                          public void run() {
+                            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                            runnable.run();
+                          }
+                        },
+                        THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+              }
+            });
+    threadPoolExecutor.allowCoreThreadTimeOut(true);
+    return threadPoolExecutor;
+  }
+}
@@ -24,15 +24,16 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.Size;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.SingleFlightInitializer;
 import com.google.android.gms.ads.AdError;
 import com.inmobi.sdk.SdkInitializationListener;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
-import java.util.ArrayList;
+import java.util.List;
 
 public class InMobiInitializer implements SdkInitializationListener {
 
-  private static InMobiInitializer instance;
+  private static final InMobiInitializer instance = new InMobiInitializer();
 
   @Retention(RetentionPolicy.SOURCE)
   @IntDef(value = {
@@ -58,50 +59,53 @@ public class InMobiInitializer implements SdkInitializationListener {
    */
   public static final int INITIALIZED = 2;
 
-  @VisibleForTesting
-  @InitializationStatus
-  int initializationStatus;
-
-
-  @VisibleForTesting
-  final ArrayList<Listener> listeners = new ArrayList<>();
+  private final SingleFlightInitializer<Listener> initializer = new SingleFlightInitializer<>();
 
   private final InMobiSdkWrapper inMobiSdkWrapper;
 
   private InMobiInitializer() {
-    this.initializationStatus = UNINITIALIZED;
     this.inMobiSdkWrapper = new InMobiSdkWrapper();
   }
 
   public static InMobiInitializer getInstance() {
-    if (instance == null) {
-      instance = new InMobiInitializer();
-    }
     return instance;
   }
 
   @VisibleForTesting
   InMobiInitializer(InMobiSdkWrapper inMobiSdkWrapper) {
-    this.initializationStatus = UNINITIALIZED;
     this.inMobiSdkWrapper = inMobiSdkWrapper;
   }
 
-  public void init(@NonNull final Context context,
-      @NonNull @Size(min = 32, max = 36) String accountID, @NonNull final Listener listener) {
-
-    if (initializationStatus == INITIALIZED) {
-      listener.onInitializeSuccess();
-      return;
-    }
-
-    listeners.add(listener);
-    if (initializationStatus == INITIALIZING) {
-      return;
+  @VisibleForTesting
+  @InitializationStatus
+  int getInitializationStatus() {
+    switch (initializer.getStatus()) {
+      case INITIALIZED:
+        return INITIALIZED;
+      case INITIALIZING:
+        return INITIALIZING;
+      default:
+        return UNINITIALIZED;
     }
+  }
 
-    initializationStatus = INITIALIZING;
+  @VisibleForTesting
+  List<Listener> getListeners() {
+    return initializer.getPendingListeners();
+  }
 
-    inMobiSdkWrapper.init(context, accountID, InMobiConsent.getConsentObj(), this);
+  public void init(@NonNull final Context context,
+      @NonNull @Size(min = 32, max = 36) String accountID, @NonNull final Listener listener) {
+    switch (initializer.addListener(listener)) {
+      case ALREADY_INITIALIZED:
+        listener.onInitializeSuccess();
+        break;
+      case START_INITIALIZATION:
+        inMobiSdkWrapper.init(context, accountID, InMobiConsent.getConsentObj(), this);
+        break;
+      case JOINED_PENDING_INITIALIZATION:
+        break;
+    }
   }
 
   @Override
@@ -109,21 +113,17 @@ public class InMobiInitializer implements SdkInitializationListener {
     if (error == null) {
       Log.d(TAG, "InMobi SDK initialized.");
 
-      initializationStatus = INITIALIZED;
-      for (Listener initListener : listeners) {
+      for (Listener initListener : initializer.completeWithSuccess()) {
         initListener.onInitializeSuccess();
       }
     } else {
-      initializationStatus = UNINITIALIZED;
-
       AdError initializationError =
           InMobiConstants.createAdapterError(
               ERROR_INMOBI_FAILED_INITIALIZATION, error.getLocalizedMessage());
-      for (Listener initListener : listeners) {
+      for (Listener initListener : initializer.completeWithFailure()) {
         initListener.onInitializeError(initializationError);
       }
     }
-    listeners.clear();
   }
 
   public interface Listener {
@@ -20,6 +20,7 @@ import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.VersionInfoParser;
 import com.google.ads.mediation.inmobi.InMobiInitializer.Listener;
 import com.google.ads.mediation.inmobi.rtb.InMobiRtbBannerAd;
 import com.google.ads.mediation.inmobi.rtb.InMobiRtbInterstitialAd;
@@ -59,6 +60,12 @@ import java.util.List;
  */
 public class InMobiMediationAdapter extends RtbAdapter {
 
+  /** Parses and caches the adapter version. */
+  private static final VersionInfoParser ADAPTER_VERSION_PARSER = new VersionInfoParser(4, 4);
+
+  /** Parses and caches the SDK version. */
+  private static final VersionInfoParser SDK_VERSION_PARSER = new VersionInfoParser(3, 3);
+
   @VisibleForTesting
   public static final String ERROR_MESSAGE_FOR_INVALID_ACCOUNTID =
       "Missing or invalid Account ID, configured for this ad source instance in the AdMob or Ad"
@@ -66,6 +73,9 @@ public class InMobiMediationAdapter extends RtbAdapter {
 
   public static final String TAG = InMobiMediationAdapter.class.getSimpleName();
 
+  /** The network name reported to the ad latency metrics. */
+  public static final String NETWORK_NAME = "InMobi";
+
   private InMobiWaterfallRewardedAd inMobiWaterfallRewardedInterstitialAd;
 
   private InMobiRtbRewardedAd inMobiRtbRewardedInterstitialAd;
@@ -124,13 +134,9 @@ public class InMobiMediationAdapter extends RtbAdapter {
   @VisibleForTesting
   @NonNull
   VersionInfo getVersionInfo(String versionString) {
-    String[] splits = versionString.split("\\.");
-
-    if (splits.length >= 4) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int micro = Integer.parseInt(splits[2]) * 100 + Integer.parseInt(splits[3]);
-      return new VersionInfo(major, minor, micro);
+    VersionInfo versionInfo = ADAPTER_VERSION_PARSER.parse(versionString);
+    if (versionInfo != null) {
+      return versionInfo;
     }
 
     String logMessage = String.format(
@@ -144,13 +150,9 @@ public class InMobiMediationAdapter extends RtbAdapter {
   @Override
   public VersionInfo getSDKVersionInfo() {
     String versionString = inMobiSdkWrapper.getVersion();
-    String[] splits = versionString.split("\\.");
-
-    if (splits.length >= 3) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int micro = Integer.parseInt(splits[2]);
-      return new VersionInfo(major, minor, micro);
+    VersionInfo versionInfo = SDK_VERSION_PARSER.parse(versionString);
+    if (versionInfo != null) {
+      return versionInfo;
     }
     String logMessage =
         String.format(
@@ -14,106 +14,180 @@
 
 package com.google.ads.mediation.inmobi;
 
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
 import android.graphics.Bitmap;
 import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * This class is used to cache images loaded/shown by InMobi adapter.
+ * A process-wide LRU cache of images loaded/shown by InMobi adapter, keyed by image URL.
+ *
+ * <p>The cache is bounded by the number of bytes allocated for the cached bitmaps. All reads and
+ * writes of the entries and of the size accounting happen under the same lock.
  */
-public class InMobiMemoryCache {
+public class InMobiMemoryCache implements ComponentCallbacks2 {
 
   private static final String TAG = "MemoryCache";
-  // Last argument true for LRU
-  private final Map<String, Drawable> cache = Collections.synchronizedMap(
-      new LinkedHashMap<String, Drawable>(10, 1.5f, true));
-  // ordering.
-  @VisibleForTesting
-  long size = 0; // Current allocated size.
-  private long limit = 1000000; // Max memory in bytes.
 
-  InMobiMemoryCache() {
-    // Use 25% of available heap size.
-    setLimit(Runtime.getRuntime().maxMemory() / 4);
-  }
+  /** Fraction of the max heap size the shared cache may use. */
+  private static final int HEAP_FRACTION_DIVISOR = 32;
+
+  /** Upper bound for the shared cache, regardless of the heap size. */
+  @VisibleForTesting static final long MAX_CACHE_SIZE_BYTES = 8L * 1024 * 1024;
+
+  private static final InMobiMemoryCache instance =
+      new InMobiMemoryCache(
+          Math.min(Runtime.getRuntime().maxMemory() / HEAP_FRACTION_DIVISOR, MAX_CACHE_SIZE_BYTES));
+
+  // Last argument true for LRU ordering.
+  private final LinkedHashMap<String, Drawable> cache =
+      new LinkedHashMap<String, Drawable>(10, 0.75f, true);
+
+  private final long limit; // Max memory in bytes.
+
+  private long size = 0; // Current allocated size, guarded by this.
+
+  private final AtomicLong hitCount = new AtomicLong();
+
+  private final AtomicLong missCount = new AtomicLong();
+
+  private final AtomicLong evictionCount = new AtomicLong();
+
+  private final AtomicBoolean isRegisteredForTrimMemory = new AtomicBoolean();
 
   @VisibleForTesting
-  InMobiMemoryCache(@NonNull Long limit) {
-    setLimit(limit);
+  InMobiMemoryCache(long limit) {
+    this.limit = limit;
+    Log.i(TAG, "MemoryCache will use up to " + limit / 1024. / 1024. + "MB");
   }
 
-  private void setLimit(long new_limit) {
-    limit = new_limit;
-    Log.i(TAG, "MemoryCache will use up to " + limit / 1024. / 1024. + "MB");
+  /** Returns the cache shared by all InMobi native ads. */
+  @NonNull
+  public static InMobiMemoryCache getInstance() {
+    return instance;
   }
 
-  public Drawable get(String id) {
-    try {
-      if (!cache.containsKey(id)) {
-        return null;
-      }
-      // NullPointerException sometimes happen here
-      // http://code.google.com/p/osmdroid/issues/detail?id=78
-      return cache.get(id);
-    } catch (NullPointerException ex) {
-      ex.printStackTrace();
-      return null;
+  /**
+   * Registers this cache for {@link ComponentCallbacks2#onTrimMemory(int)} callbacks so that it
+   * releases memory when the system asks for it. Subsequent calls have no effect.
+   */
+  void registerForTrimMemory(@NonNull Context context) {
+    if (isRegisteredForTrimMemory.compareAndSet(false, true)) {
+      context.getApplicationContext().registerComponentCallbacks(this);
     }
   }
 
-  void put(String id, Drawable drawable) {
-    try {
-      if (cache.containsKey(id)) {
-        size -= getSizeInBytes(((BitmapDrawable) cache.get(id)).getBitmap());
+  @Nullable
+  public Drawable get(@Nullable String url) {
+    Drawable drawable;
+    synchronized (this) {
+      drawable = cache.get(url);
+    }
+    if (drawable != null) {
+      hitCount.incrementAndGet();
+    } else {
+      missCount.incrementAndGet();
+    }
+    return drawable;
+  }
+
+  void put(@Nullable String url, @Nullable Drawable drawable) {
+    if (url == null || drawable == null) {
+      return;
+    }
+    synchronized (this) {
+      Drawable previous = cache.put(url, drawable);
+      if (previous != null) {
+        size -= getSizeInBytes(previous);
       }
-      cache.put(id, drawable);
-      size += getSizeInBytes(((BitmapDrawable) drawable).getBitmap());
-      checkSize();
-      Log.d(TAG, "Drawable used from cache");
-    } catch (Throwable th) {
-      th.printStackTrace();
+      size += getSizeInBytes(drawable);
+      trimToSize(limit);
     }
   }
 
-  private void checkSize() {
-    Log.i(TAG, "cache size=" + size + " length=" + cache.size());
-    if (size > limit) {
-      Iterator<Map.Entry<String, Drawable>> iter = cache.entrySet().iterator();//least
-      // recently accessed item will be the first one iterated
-      while (iter.hasNext()) {
-        Map.Entry<String, Drawable> entry = iter.next();
-        size -= getSizeInBytes(((BitmapDrawable) entry.getValue()).getBitmap());
-        iter.remove();
-        if (size <= limit) {
-          break;
-        }
+  public synchronized void clear() {
+    cache.clear();
+    size = 0;
+  }
+
+  /** Returns the number of bytes currently allocated by the cached bitmaps. */
+  public synchronized long getSize() {
+    return size;
+  }
+
+  public long getLimit() {
+    return limit;
+  }
+
+  /** Returns the number of {@link #get(String)} calls that returned a cached image. */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /** Returns the number of {@link #get(String)} calls that did not find a cached image. */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /** Returns the number of images removed to keep the cache within its size limits. */
+  public long getEvictionCount() {
+    return evictionCount.get();
+  }
+
+  @Override
+  public void onTrimMemory(int level) {
+    if (level >= TRIM_MEMORY_BACKGROUND) {
+      Log.d(TAG, "Clearing cache on trim memory level " + level);
+      clear();
+    } else if (level >= TRIM_MEMORY_RUNNING_LOW) {
+      Log.d(TAG, "Trimming cache on trim memory level " + level);
+      synchronized (this) {
+        trimToSize(limit / 2);
       }
-      Log.i(TAG, "Clean cache. New size " + cache.size());
     }
   }
 
-  public void clear() {
-    try {
-      // NullPointerException sometimes happen here
-      // http://code.google.com/p/osmdroid/issues/detail?id=78
-      cache.clear();
-      size = 0;
-    } catch (NullPointerException ex) {
-      ex.printStackTrace();
+  @Override
+  public void onLowMemory() {
+    clear();
+  }
+
+  @Override
+  public void onConfigurationChanged(@NonNull Configuration newConfig) {
+    // No-op.
+  }
+
+  /** Evicts least recently used entries until the cache fits in {@code maxSize}. */
+  private void trimToSize(long maxSize) {
+    // Least recently accessed item will be the first one iterated.
+    Iterator<Map.Entry<String, Drawable>> iterator = cache.entrySet().iterator();
+    while (size > maxSize && iterator.hasNext()) {
+      Map.Entry<String, Drawable> entry = iterator.next();
+      size -= getSizeInBytes(entry.getValue());
+      iterator.remove();
+      evictionCount.incrementAndGet();
     }
   }
 
-  private long getSizeInBytes(Bitmap bitmap) {
+  private static long getSizeInBytes(Drawable drawable) {
+    if (!(drawable instanceof BitmapDrawable)) {
+      return 0;
+    }
+    Bitmap bitmap = ((BitmapDrawable) drawable).getBitmap();
     if (bitmap == null) {
       return 0;
     }
-    return bitmap.getRowBytes() * bitmap.getHeight();
+    return bitmap.getAllocationByteCount();
   }
 }
@@ -28,6 +28,7 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.ImageView;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import com.google.ads.mediation.inmobi.renderers.InMobiNativeAd;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.formats.NativeAd;
@@ -66,6 +67,12 @@ public class InMobiUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
 
   private final InMobiNativeAd inMobiNativeAd;
 
+  /**
+   * Downloads the icon image asset. Held so that the download can be cancelled when this mapper is
+   * destroyed.
+   */
+  @Nullable private ImageDownloader imageDownloader;
+
   public InMobiUnifiedNativeAdMapper(@NonNull InMobiNativeWrapper inMobiNativeWrapper, Boolean isOnlyURL,
       MediationAdLoadCallback<UnifiedNativeAdMapper, MediationNativeAdCallback>
           mediationAdLoadCallback, InMobiNativeAd inMobiNativeAd) {
@@ -122,7 +129,7 @@ public class InMobiUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
       HashMap<String, URL> map = new HashMap<>();
 
       if (!this.isOnlyURL) {
-        map.put(ImageDownloaderAsyncTask.KEY_ICON, iconURL);
+        map.put(ImageDownloader.KEY_ICON, iconURL);
       } else {
         setIcon(new InMobiNativeMappedImage(null, iconUri, iconScale));
         List<NativeAd.Image> imagesList = new ArrayList<>();
@@ -133,11 +140,14 @@ public class InMobiUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
 
       // Download drawables.
       if (!this.isOnlyURL) {
-        new ImageDownloaderAsyncTask(
-                new ImageDownloaderAsyncTask.DrawableDownloadListener() {
+        InMobiMemoryCache.getInstance().registerForTrimMemory(context);
+        imageDownloader =
+            new ImageDownloader(
+                context,
+                new ImageDownloader.DrawableDownloadListener() {
                   @Override
                   public void onDownloadSuccess(HashMap<String, Drawable> drawableMap) {
-                    Drawable iconDrawable = drawableMap.get(ImageDownloaderAsyncTask.KEY_ICON);
+                    Drawable iconDrawable = drawableMap.get(ImageDownloader.KEY_ICON);
                     setIcon(new InMobiNativeMappedImage(iconDrawable, iconUri, iconScale));
 
                     List<NativeAd.Image> imagesList = new ArrayList<>();
@@ -168,8 +178,8 @@ public class InMobiUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
                     Log.w(TAG, error.toString());
                     mediationAdLoadCallback.onFailure(error);
                   }
-                })
-            .execute(map);
+                });
+        imageDownloader.download(map);
       } else {
         if (mediationAdLoadCallback != null) {
           inMobiNativeAd.mediationNativeAdCallback =
@@ -181,6 +191,15 @@ public class InMobiUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
   }
 
 
+  @Override
+  public void destroy() {
+    super.destroy();
+    if (imageDownloader != null) {
+      imageDownloader.cancel();
+      imageDownloader = null;
+    }
+  }
+
   @Override
   public void untrackView(View view) {
     inMobiNativeWrapper.unTrackViews();
@@ -15,6 +15,7 @@
 package com.google.ads.mediation.inmobi.renderers;
 
 import static com.google.ads.mediation.inmobi.InMobiConstants.WATERMARK_ALPHA;
+import static com.google.ads.mediation.inmobi.InMobiMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.inmobi.InMobiMediationAdapter.TAG;
 
 import android.content.Context;
@@ -32,7 +33,10 @@ import com.google.ads.mediation.inmobi.InMobiBannerWrapper;
 import com.google.ads.mediation.inmobi.InMobiConstants;
 import com.google.ads.mediation.inmobi.InMobiInitializer;
 import com.google.ads.mediation.inmobi.MediationUtilsWrapper;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationBannerAd;
@@ -54,6 +58,10 @@ public abstract class InMobiBannerAd extends BannerAdEventListener implements Me
   private InMobiAdViewHolder inMobiAdViewHolder;
   private InMobiAdFactory inMobiAdFactory;
 
+  /** Times the stages of the load and show of this ad. */
+  protected final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.BANNER);
+
   public InMobiBannerAd(
       @NonNull
           MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback>
@@ -116,6 +124,7 @@ public abstract class InMobiBannerAd extends BannerAdEventListener implements Me
             mediationBannerSize.getHeightInPixels(context)));
     inMobiAdViewHolder.addView(inMobiBannerWrapper);
 
+    latencyTracker.startStage(Stage.SDK_LOAD);
     internalLoadAd(inMobiBannerWrapper, mediationBannerAdConfiguration);
   }
 
@@ -138,7 +147,11 @@ public abstract class InMobiBannerAd extends BannerAdEventListener implements Me
   @Override
   public void onAdLoadSucceeded(
       @NonNull InMobiBanner inMobiBanner, @NonNull AdMetaInfo adMetaInfo) {
+    latencyTracker.endStage(Stage.SDK_LOAD);
+    latencyTracker.endStage(Stage.TIME_TO_FILL);
+    latencyTracker.startStage(Stage.LOAD_CALLBACK);
     mediationBannerAdCallback = mediationAdLoadCallback.onSuccess(this);
+    latencyTracker.endStage(Stage.LOAD_CALLBACK);
   }
 
   @Override
@@ -17,6 +17,7 @@ package com.google.ads.mediation.inmobi.renderers;
 import static com.google.ads.mediation.inmobi.InMobiConstants.ERROR_AD_DISPLAY_FAILED;
 import static com.google.ads.mediation.inmobi.InMobiConstants.ERROR_AD_NOT_READY;
 import static com.google.ads.mediation.inmobi.InMobiConstants.WATERMARK_ALPHA;
+import static com.google.ads.mediation.inmobi.InMobiMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.inmobi.InMobiMediationAdapter.TAG;
 
 import android.content.Context;
@@ -29,7 +30,10 @@ import com.google.ads.mediation.inmobi.InMobiAdapterUtils;
 import com.google.ads.mediation.inmobi.InMobiConstants;
 import com.google.ads.mediation.inmobi.InMobiInitializer;
 import com.google.ads.mediation.inmobi.InMobiInterstitialWrapper;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAd;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback;
@@ -52,6 +56,10 @@ public abstract class InMobiInterstitialAd extends InterstitialAdEventListener
 
   private InMobiAdFactory inMobiAdFactory;
 
+  /** Times the stages of the load and show of this ad. */
+  protected final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.INTERSTITIAL);
+
   public InMobiInterstitialAd(
       @NonNull MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>
           mediationAdLoadCallback,
@@ -89,6 +97,7 @@ public abstract class InMobiInterstitialAd extends InterstitialAdEventListener
       inMobiInterstitialWrapper.setWatermarkData(new WatermarkData(watermark, WATERMARK_ALPHA));
     }
 
+    latencyTracker.startStage(Stage.SDK_LOAD);
     internalLoadAd(inMobiInterstitialWrapper, mediationInterstitialAdConfiguration);
   }
 
@@ -104,6 +113,7 @@ public abstract class InMobiInterstitialAd extends InterstitialAdEventListener
       return;
     }
 
+    latencyTracker.startStage(Stage.SHOW);
     inMobiInterstitialWrapper.show();
   }
 
@@ -143,7 +153,11 @@ public abstract class InMobiInterstitialAd extends InterstitialAdEventListener
       @NonNull AdMetaInfo adMetaInfo) {
     Log.d(TAG, "InMobi interstitial ad has been loaded.");
     if (mediationAdLoadCallback != null) {
+      latencyTracker.endStage(Stage.SDK_LOAD);
+      latencyTracker.endStage(Stage.TIME_TO_FILL);
+      latencyTracker.startStage(Stage.LOAD_CALLBACK);
       interstitialAdCallback = mediationAdLoadCallback.onSuccess(InMobiInterstitialAd.this);
+      latencyTracker.endStage(Stage.LOAD_CALLBACK);
     }
   }
 
@@ -170,6 +184,7 @@ public abstract class InMobiInterstitialAd extends InterstitialAdEventListener
   public void onAdDisplayed(@NonNull InMobiInterstitial inMobiInterstitial,
       @NonNull AdMetaInfo adMetaInfo) {
     Log.d(TAG, "InMobi interstitial ad has been shown.");
+    latencyTracker.endStage(Stage.SHOW);
     if (interstitialAdCallback != null) {
       interstitialAdCallback.onAdOpened();
     }
@@ -14,6 +14,7 @@
 
 package com.google.ads.mediation.inmobi.renderers;
 
+import static com.google.ads.mediation.inmobi.InMobiMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.inmobi.InMobiMediationAdapter.TAG;
 
 import android.content.Context;
@@ -26,7 +27,10 @@ import com.google.ads.mediation.inmobi.InMobiConstants;
 import com.google.ads.mediation.inmobi.InMobiInitializer;
 import com.google.ads.mediation.inmobi.InMobiNativeWrapper;
 import com.google.ads.mediation.inmobi.InMobiUnifiedNativeAdMapper;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationNativeAdCallback;
 import com.google.android.gms.ads.mediation.MediationNativeAdConfiguration;
@@ -51,6 +55,10 @@ public abstract class InMobiNativeAd extends NativeAdEventListener {
   @VisibleForTesting
   public InMobiUnifiedNativeAdMapper inMobiUnifiedNativeAdMapper;
 
+  /** Times the stages of the load of this ad. */
+  protected final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.NATIVE);
+
   public InMobiNativeAd(@NonNull MediationNativeAdConfiguration mediationNativeAdConfiguration,
       @NonNull MediationAdLoadCallback<UnifiedNativeAdMapper, MediationNativeAdCallback> mediationAdLoadCallback,
       @NonNull InMobiInitializer inMobiInitializer,
@@ -92,6 +100,7 @@ public abstract class InMobiNativeAd extends NativeAdEventListener {
 
     InMobiAdapterUtils.configureGlobalTargeting(
         mediationNativeAdConfiguration.getMediationExtras());
+    latencyTracker.startStage(Stage.SDK_LOAD);
     internalLoadAd(inMobiNativeWrapper);
   }
 
@@ -99,6 +108,8 @@ public abstract class InMobiNativeAd extends NativeAdEventListener {
   public void onAdLoadSucceeded(@NonNull final InMobiNative imNativeAd,
       @NonNull AdMetaInfo adMetaInfo) {
     Log.d(TAG, "InMobi native ad has been loaded.");
+    latencyTracker.endStage(Stage.SDK_LOAD);
+    latencyTracker.endStage(Stage.TIME_TO_FILL);
 
     NativeAdOptions nativeAdOptions = mediationNativeAdConfiguration.getNativeAdOptions();
     boolean isOnlyUrl = false;
@@ -110,7 +121,9 @@ public abstract class InMobiNativeAd extends NativeAdEventListener {
     InMobiNativeWrapper wrappedInMobiNativeAd = inMobiAdFactory.createInMobiNativeWrapper(imNativeAd);
     inMobiUnifiedNativeAdMapper = new InMobiUnifiedNativeAdMapper(
         wrappedInMobiNativeAd, isOnlyUrl, mediationAdLoadCallback, this);
+    latencyTracker.startStage(Stage.ASSET_MAPPING);
     inMobiUnifiedNativeAdMapper.mapUnifiedNativeAd(mediationNativeAdConfiguration.getContext());
+    latencyTracker.endStage(Stage.ASSET_MAPPING);
   }
 
   @Override
@@ -17,6 +17,7 @@ package com.google.ads.mediation.inmobi.renderers;
 import static com.google.ads.mediation.inmobi.InMobiConstants.ERROR_AD_DISPLAY_FAILED;
 import static com.google.ads.mediation.inmobi.InMobiConstants.ERROR_AD_NOT_READY;
 import static com.google.ads.mediation.inmobi.InMobiConstants.WATERMARK_ALPHA;
+import static com.google.ads.mediation.inmobi.InMobiMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.inmobi.InMobiMediationAdapter.TAG;
 
 import android.content.Context;
@@ -29,7 +30,10 @@ import com.google.ads.mediation.inmobi.InMobiAdapterUtils;
 import com.google.ads.mediation.inmobi.InMobiConstants;
 import com.google.ads.mediation.inmobi.InMobiInitializer;
 import com.google.ads.mediation.inmobi.InMobiInterstitialWrapper;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAd;
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback;
@@ -52,6 +56,10 @@ public abstract class InMobiRewardedAd extends InterstitialAdEventListener
   private MediationRewardedAdCallback rewardedAdCallback;
   private InMobiAdFactory inMobiAdFactory;
 
+  /** Times the stages of the load and show of this ad. */
+  protected final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.REWARDED);
+
   public InMobiRewardedAd(
       @NonNull MediationAdLoadCallback<MediationRewardedAd,
           MediationRewardedAdCallback> mediationAdLoadCallback,
@@ -84,6 +92,7 @@ public abstract class InMobiRewardedAd extends InterstitialAdEventListener
       return;
     }
 
+    latencyTracker.startStage(Stage.SHOW);
     inMobiRewardedAdWrapper.show();
   }
 
@@ -108,6 +117,7 @@ public abstract class InMobiRewardedAd extends InterstitialAdEventListener
       inMobiRewardedAdWrapper.setWatermarkData(new WatermarkData(watermark, WATERMARK_ALPHA));
     }
 
+    latencyTracker.startStage(Stage.SDK_LOAD);
     internalLoadAd(inMobiRewardedAdWrapper, mediationRewardedAdConfiguration);
   }
   // endregion
@@ -121,6 +131,7 @@ public abstract class InMobiRewardedAd extends InterstitialAdEventListener
   public void onAdDisplayed(@NonNull InMobiInterstitial inMobiInterstitial,
       @NonNull AdMetaInfo adMetaInfo) {
     Log.d(TAG, "InMobi rewarded ad has been shown.");
+    latencyTracker.endStage(Stage.SHOW);
     if (rewardedAdCallback != null) {
       rewardedAdCallback.onAdOpened();
       rewardedAdCallback.onVideoStart();
@@ -211,8 +222,12 @@ public abstract class InMobiRewardedAd extends InterstitialAdEventListener
       @NonNull AdMetaInfo adMetaInfo) {
     Log.d(TAG, "InMobi rewarded ad has been loaded.");
     if (mediationAdLoadCallback != null) {
+      latencyTracker.endStage(Stage.SDK_LOAD);
+      latencyTracker.endStage(Stage.TIME_TO_FILL);
+      latencyTracker.startStage(Stage.LOAD_CALLBACK);
       rewardedAdCallback =
           mediationAdLoadCallback.onSuccess(InMobiRewardedAd.this);
+      latencyTracker.endStage(Stage.LOAD_CALLBACK);
     }
   }
 }
@@ -2,6 +2,7 @@ package com.google.ads.mediation.inmobi.rtb;
 
 import android.content.Context;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
 import com.google.ads.mediation.inmobi.InMobiAdFactory;
 import com.google.ads.mediation.inmobi.InMobiAdapterUtils;
 import com.google.ads.mediation.inmobi.InMobiBannerWrapper;
@@ -34,6 +35,7 @@ public class InMobiRtbBannerAd extends InMobiBannerAd {
   public void loadAd(
       @NonNull MediationBannerAdConfiguration mediationBannerAdConfiguration,
       MediationUtilsWrapper mediationUtils) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     final Context context = mediationBannerAdConfiguration.getContext();
 
     // Try to find the closest banner size that is one of the standard banner sizes supported by
@@ -2,6 +2,7 @@ package com.google.ads.mediation.inmobi.rtb;
 
 import android.content.Context;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
 import com.google.ads.mediation.inmobi.InMobiAdFactory;
 import com.google.ads.mediation.inmobi.InMobiAdapterUtils;
 import com.google.ads.mediation.inmobi.InMobiExtras;
@@ -31,6 +32,7 @@ public class InMobiRtbInterstitialAd extends InMobiInterstitialAd {
   @Override
   public void loadAd(
       @NonNull MediationInterstitialAdConfiguration mediationInterstitialAdConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     final Context context = mediationInterstitialAdConfiguration.getContext();
     createAndLoadInterstitialAd(context, mediationInterstitialAdConfiguration);
   }
@@ -3,6 +3,7 @@ package com.google.ads.mediation.inmobi.rtb;
 import android.content.Context;
 import android.os.Bundle;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
 import com.google.ads.mediation.inmobi.InMobiAdFactory;
 import com.google.ads.mediation.inmobi.InMobiAdapterUtils;
 import com.google.ads.mediation.inmobi.InMobiExtras;
@@ -33,6 +34,7 @@ public class InMobiRtbNativeAd extends InMobiNativeAd {
 
   @Override
   public void loadAd() {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     final Context context = mediationNativeAdConfiguration.getContext();
     Bundle serverParameters = mediationNativeAdConfiguration.getServerParameters();
 
@@ -2,6 +2,7 @@ package com.google.ads.mediation.inmobi.rtb;
 
 import android.content.Context;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
 import com.google.ads.mediation.inmobi.InMobiAdFactory;
 import com.google.ads.mediation.inmobi.InMobiAdapterUtils;
 import com.google.ads.mediation.inmobi.InMobiExtras;
@@ -30,6 +31,7 @@ public class InMobiRtbRewardedAd extends InMobiRewardedAd {
 
   @Override
   public void loadAd(@NonNull MediationRewardedAdConfiguration mediationRewardedAdConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     final Context context = mediationRewardedAdConfiguration.getContext();
     createAndLoadRewardAd(context, mediationRewardedAdConfiguration);
   }
@@ -7,6 +7,7 @@ import android.content.Context;
 import android.os.Bundle;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
 import com.google.ads.mediation.inmobi.InMobiAdFactory;
 import com.google.ads.mediation.inmobi.InMobiAdapterUtils;
 import com.google.ads.mediation.inmobi.InMobiBannerWrapper;
@@ -41,6 +42,7 @@ public class InMobiWaterfallBannerAd extends InMobiBannerAd {
   public void loadAd(
       @NonNull MediationBannerAdConfiguration mediationBannerAdConfiguration,
       MediationUtilsWrapper mediationUtils) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     final Context context = mediationBannerAdConfiguration.getContext();
     final AdSize closestBannerSize =
         InMobiAdapterUtils.findClosestBannerSize(
@@ -66,12 +68,14 @@ public class InMobiWaterfallBannerAd extends InMobiBannerAd {
       return;
     }
 
+    latencyTracker.startStage(Stage.INITIALIZATION);
     inMobiInitializer.init(
         context,
         accountId,
         new InMobiInitializer.Listener() {
           @Override
           public void onInitializeSuccess() {
+            latencyTracker.endStage(Stage.INITIALIZATION);
             createAndLoadBannerAd(context, closestBannerSize, mediationBannerAdConfiguration);
           }
 
@@ -6,6 +6,7 @@ import android.content.Context;
 import android.os.Bundle;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
 import com.google.ads.mediation.inmobi.InMobiAdFactory;
 import com.google.ads.mediation.inmobi.InMobiAdapterUtils;
 import com.google.ads.mediation.inmobi.InMobiExtras;
@@ -36,6 +37,7 @@ public class InMobiWaterfallInterstitialAd extends InMobiInterstitialAd {
   @Override
   public void loadAd(
       @NonNull MediationInterstitialAdConfiguration mediationInterstitialAdConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     final Context context = mediationInterstitialAdConfiguration.getContext();
     final Bundle serverParameters = mediationInterstitialAdConfiguration.getServerParameters();
 
@@ -47,12 +49,14 @@ public class InMobiWaterfallInterstitialAd extends InMobiInterstitialAd {
       return;
     }
 
+    latencyTracker.startStage(Stage.INITIALIZATION);
     inMobiInitializer.init(
         context,
         accountID,
         new InMobiInitializer.Listener() {
           @Override
           public void onInitializeSuccess() {
+            latencyTracker.endStage(Stage.INITIALIZATION);
             createAndLoadInterstitialAd(context, mediationInterstitialAdConfiguration);
           }
 
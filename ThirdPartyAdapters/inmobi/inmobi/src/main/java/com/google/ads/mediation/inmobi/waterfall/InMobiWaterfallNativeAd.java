@@ -6,6 +6,7 @@ import android.content.Context;
 import android.os.Bundle;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
 import com.google.ads.mediation.inmobi.InMobiAdFactory;
 import com.google.ads.mediation.inmobi.InMobiAdapterUtils;
 import com.google.ads.mediation.inmobi.InMobiExtras;
@@ -37,6 +38,7 @@ public class InMobiWaterfallNativeAd extends InMobiNativeAd {
 
   @Override
   public void loadAd() {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     final Context context = mediationNativeAdConfiguration.getContext();
     Bundle serverParameters = mediationNativeAdConfiguration.getServerParameters();
 
@@ -48,12 +50,14 @@ public class InMobiWaterfallNativeAd extends InMobiNativeAd {
       return;
     }
 
+    latencyTracker.startStage(Stage.INITIALIZATION);
     inMobiInitializer.init(
         context,
         accountID,
         new InMobiInitializer.Listener() {
           @Override
           public void onInitializeSuccess() {
+            latencyTracker.endStage(Stage.INITIALIZATION);
             createAndLoadNativeAd(context, placementId);
           }
 
@@ -0,0 +1,256 @@
+package com.google.ads.mediation.inmobi
+
+import android.content.Context
+import android.graphics.Bitmap
+import android.graphics.BitmapFactory
+import android.graphics.drawable.BitmapDrawable
+import android.os.Looper
+import androidx.test.core.app.ApplicationProvider
+import com.google.ads.mediation.common.DiskAssetCache
+import com.google.ads.mediation.inmobi.ImageDownloader.DrawableDownloadListener
+import com.google.common.truth.Truth.assertThat
+import com.google.testing.junit.testparameterinjector.TestParameter
+import java.io.ByteArrayOutputStream
+import java.io.File
+import java.io.FileOutputStream
+import java.net.URL
+import java.util.concurrent.Executor
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.kotlin.any
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
+import org.mockito.kotlin.verify
+import org.mockito.kotlin.verifyNoInteractions
+import org.robolectric.RobolectricTestParameterInjector
+import org.robolectric.Shadows.shadowOf
+import org.robolectric.android.util.concurrent.InlineExecutorService
+import org.robolectric.shadows.ShadowBitmapFactory
+
+@RunWith(RobolectricTestParameterInjector::class)
+class ImageDownloaderTest {
+
+  private val drawableDownloadListener = mock<DrawableDownloadListener>()
+  private val inlineExecutor =
+    InMobiImageDownloadExecutor(
+      InlineExecutorService(),
+      /* maxParallelism= */ 1,
+      /* maxQueueDepth= */ 0,
+    )
+  // An executor that never runs its tasks, to simulate downloads that don't complete in time.
+  private val stalledExecutor =
+    InMobiImageDownloadExecutor(
+      Executor {},
+      /* maxParallelism= */ 1,
+      /* maxQueueDepth= */ 0,
+    )
+  private val memoryCache = InMobiMemoryCache(/* limit= */ 1_000_000)
+  private val imageDownloader = createImageDownloader(timeout = 0, executor = stalledExecutor)
+
+  @Before fun setUp() {}
+
+  @Test
+  fun onIconKeyFoundInCache_invokesOnDownloadSuccessCallback() {
+    val mockDrawable = mock<BitmapDrawable>()
+    // pre-populate the cache
+    imageDownloader.memoryCache.put("http://www.google.com", mockDrawable)
+
+    imageDownloader.download(urlMap)
+    shadowOf(Looper.getMainLooper()).idle()
+
+    verify(drawableDownloadListener).onDownloadSuccess(any())
+  }
+
+  @Test
+  fun onIconKeyNotFound_drawableFutureTimedOut_invokesOnDownloadFailureCallback() {
+    // on empty cache...
+    imageDownloader.memoryCache.clear()
+
+    // and the download is started
+    imageDownloader.download(urlMap)
+    shadowOf(Looper.getMainLooper()).idle()
+
+    // ...drawable future timed out because of '0' timeout seconds
+    verify(drawableDownloadListener).onDownloadFailure()
+  }
+
+  enum class InSampleSizeTestCase(
+    val width: Int,
+    val height: Int,
+    val reqWidth: Int = 1024,
+    val reqHeight: Int = 1024,
+    val expectedInSampleSize: Int,
+  ) {
+    IMAGE_SMALLER_THAN_REQUESTED(width = 500, height = 500, expectedInSampleSize = 1),
+    IMAGE_SAME_AS_REQUESTED(width = 1024, height = 1024, expectedInSampleSize = 1),
+    IMAGE_TWICE_AS_LARGE(width = 2048, height = 2048, expectedInSampleSize = 2),
+    IMAGE_FOUR_TIMES_AS_LARGE(width = 4096, height = 4096, expectedInSampleSize = 4),
+    ONLY_HEIGHT_LARGER(width = 500, height = 2048, expectedInSampleSize = 1),
+    ONLY_WIDTH_LARGER(width = 2048, height = 500, expectedInSampleSize = 1),
+    NEGATIVE_OR_ZERO_DIMENSIONS(width = -1, height = -1, expectedInSampleSize = 1),
+  }
+
+  @Test
+  fun calculateInSampleSize_returnsExpectedSampleSize(
+    @TestParameter testCase: InSampleSizeTestCase
+  ) {
+    val options =
+      BitmapFactory.Options().apply {
+        outWidth = testCase.width
+        outHeight = testCase.height
+      }
+
+    val inSampleSize =
+      ImageDownloader.calculateInSampleSize(
+        options,
+        /* reqWidth= */ testCase.reqWidth,
+        /* reqHeight= */ testCase.reqHeight,
+      )
+
+    assertThat(inSampleSize).isEqualTo(testCase.expectedInSampleSize)
+  }
+
+  @Test
+  fun onIconKeyNotFound_imageDownloadedSuccessfully_invokesOnDownloadSuccessCallback() {
+    ShadowBitmapFactory.setAllowInvalidImageData(true)
+    val bitmap = Bitmap.createBitmap(/* width= */ 10, /* height= */ 10, Bitmap.Config.ARGB_8888)
+    val context = ApplicationProvider.getApplicationContext<Context>()
+    val tempFile = File.createTempFile("test_icon", ".png", context.cacheDir)
+    tempFile.deleteOnExit()
+    FileOutputStream(tempFile).use { out ->
+      bitmap.compress(Bitmap.CompressFormat.PNG, /* quality= */ 100, out)
+    }
+    val fileUrl = tempFile.toURI().toURL()
+
+    val downloader = createImageDownloader(timeout = 10, executor = inlineExecutor)
+    downloader.download(hashMapOf(ImageDownloader.KEY_ICON to fileUrl))
+    shadowOf(Looper.getMainLooper()).idle()
+
+    verify(drawableDownloadListener).onDownloadSuccess(any())
+  }
+
+  @Test
+  fun onIconKeyNotFound_failedToDecodeBitmap_invokesOnDownloadFailureCallback() {
+    ShadowBitmapFactory.setAllowInvalidImageData(false)
+    val context = ApplicationProvider.getApplicationContext<Context>()
+    val tempFile = File.createTempFile("invalid_icon", ".png", context.cacheDir)
+    tempFile.deleteOnExit()
+    tempFile.writeText("invalid image bytes")
+    val fileUrl = tempFile.toURI().toURL()
+
+    val downloader = createImageDownloader(timeout = 10, executor = inlineExecutor)
+    downloader.download(hashMapOf(ImageDownloader.KEY_ICON to fileUrl))
+    shadowOf(Looper.getMainLooper()).idle()
+
+    verify(drawableDownloadListener).onDownloadFailure()
+  }
+
+  @Test
+  fun onIconKeyNotFound_imageExceedsDownloadLimit_invokesOnDownloadFailureCallbackWithoutCaching() {
+    ShadowBitmapFactory.setAllowInvalidImageData(true)
+    val context = ApplicationProvider.getApplicationContext<Context>()
+    val tempFile = File.createTempFile("large_icon", ".png", context.cacheDir)
+    tempFile.deleteOnExit()
+    tempFile.writeBytes(ByteArray(ImageDownloader.MAX_DOWNLOAD_SIZE_BYTES + 1))
+    val fileUrl = tempFile.toURI().toURL()
+    val diskAssetCache = DiskAssetCache.getInstance(context)
+    diskAssetCache.clear()
+
+    createImageDownloader(timeout = 10, executor = inlineExecutor, diskAssetCache = diskAssetCache)
+      .download(hashMapOf(ImageDownloader.KEY_ICON to fileUrl))
+    shadowOf(Looper.getMainLooper()).idle()
+
+    verify(drawableDownloadListener).onDownloadFailure()
+    assertThat(diskAssetCache.getInputStream(fileUrl.toString())).isNull()
+    diskAssetCache.clear()
+  }
+
+  @Test
+  fun onDownloadQueueFull_invokesOnDownloadFailureCallback() {
+    // Occupy the only slot of the stalled executor.
+    createImageDownloader(timeout = 10, executor = stalledExecutor, listener = mock())
+      .download(urlMap)
+
+    createImageDownloader(timeout = 10, executor = stalledExecutor).download(urlMap)
+    shadowOf(Looper.getMainLooper()).idle()
+
+    verify(drawableDownloadListener).onDownloadFailure()
+  }
+
+  @Test
+  fun cancel_beforeDownloadCompletes_doesNotInvokeListener() {
+    imageDownloader.download(urlMap)
+
+    imageDownloader.cancel()
+    shadowOf(Looper.getMainLooper()).idle()
+
+    verifyNoInteractions(drawableDownloadListener)
+  }
+
+  @Test
+  fun cancel_keepsDownloadSlotUntilDownloadThreadFinishes() {
+    val queuedTasks = mutableListOf<Runnable>()
+    val queuedExecutor =
+      InMobiImageDownloadExecutor(
+        Executor { queuedTasks.add(it) },
+        /* maxParallelism= */ 1,
+        /* maxQueueDepth= */ 0,
+      )
+    val downloader = createImageDownloader(timeout = 10, executor = queuedExecutor)
+    downloader.download(urlMap)
+
+    downloader.cancel()
+    assertThat(queuedExecutor.pendingTaskCount).isEqualTo(1)
+
+    queuedTasks.forEach { it.run() }
+    shadowOf(Looper.getMainLooper()).idle()
+
+    assertThat(queuedExecutor.pendingTaskCount).isEqualTo(0)
+    verifyNoInteractions(drawableDownloadListener)
+  }
+
+  @Test
+  fun cancel_afterResultIsPosted_doesNotInvokeListener() {
+    val mockDrawable = mock<BitmapDrawable>()
+    imageDownloader.memoryCache.put("http://www.google.com", mockDrawable)
+    imageDownloader.download(urlMap)
+
+    imageDownloader.cancel()
+    shadowOf(Looper.getMainLooper()).idle()
+
+    verify(drawableDownloadListener, never()).onDownloadSuccess(any())
+  }
+
+  @Test
+  fun onIconKeyFoundInDiskCache_invokesOnDownloadSuccessCallbackAndPopulatesMemoryCache() {
+    ShadowBitmapFactory.setAllowInvalidImageData(true)
+    val bitmap = Bitmap.createBitmap(/* width= */ 10, /* height= */ 10, Bitmap.Config.ARGB_8888)
+    val imageBytes = ByteArrayOutputStream()
+    bitmap.compress(Bitmap.CompressFormat.PNG, /* quality= */ 100, imageBytes)
+    val context = ApplicationProvider.getApplicationContext<Context>()
+    val diskAssetCache = DiskAssetCache.getInstance(context)
+    diskAssetCache.clear()
+    // The URL is unreachable, so a success can only come from the disk cache.
+    diskAssetCache.put("http://www.google.com", imageBytes.toByteArray())
+
+    createImageDownloader(timeout = 10, executor = inlineExecutor, diskAssetCache = diskAssetCache)
+      .download(urlMap)
+    shadowOf(Looper.getMainLooper()).idle()
+
+    verify(drawableDownloadListener).onDownloadSuccess(any())
+    assertThat(memoryCache.get("http://www.google.com")).isNotNull()
+    diskAssetCache.clear()
+  }
+
+  private fun createImageDownloader(
+    timeout: Long,
+    executor: InMobiImageDownloadExecutor,
+    listener: DrawableDownloadListener = drawableDownloadListener,
+    diskAssetCache: DiskAssetCache? = null,
+  ) = ImageDownloader(listener, timeout, executor, memoryCache, diskAssetCache)
+
+  companion object {
+    private val urlMap = hashMapOf(ImageDownloader.KEY_ICON to URL("http://www.google.com"))
+  }
+}
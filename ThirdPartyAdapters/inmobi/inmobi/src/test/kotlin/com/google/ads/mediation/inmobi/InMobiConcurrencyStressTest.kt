@@ -0,0 +1,120 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.inmobi
+
+import android.content.Context
+import android.os.Bundle
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.adaptertestkit.ConcurrencyStressCallNames
+import com.google.ads.mediation.adaptertestkit.DEFAULT_STRESS_CALL_COUNT
+import com.google.ads.mediation.adaptertestkit.createMediationConfiguration
+import com.google.ads.mediation.adaptertestkit.runConcurrencyStress
+import com.google.android.gms.ads.mediation.rtb.RtbSignalData
+import com.google.common.truth.Truth.assertThat
+import com.inmobi.sdk.SdkInitializationListener
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import org.junit.After
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.kotlin.any
+import org.mockito.kotlin.anyOrNull
+import org.mockito.kotlin.doAnswer
+import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.mock
+
+/**
+ * Races [InMobiMediationAdapter.initialize] and [InMobiMediationAdapter.collectSignals] from many
+ * threads against a fake InMobi SDK that completes its initialization on a background thread.
+ */
+@RunWith(AndroidJUnit4::class)
+class InMobiConcurrencyStressTest {
+
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+  private val sdkExecutor = Executors.newSingleThreadScheduledExecutor()
+  private val mediationConfigurations =
+    listOf(
+      createMediationConfiguration(
+        serverParameters =
+          Bundle().apply { putString(InMobiAdapterUtils.KEY_ACCOUNT_ID, ACCOUNT_ID) }
+      )
+    )
+  private val rtbSignalData = mock<RtbSignalData> { on { context } doReturn context }
+
+  @After
+  fun tearDown() {
+    sdkExecutor.shutdownNow()
+  }
+
+  @Test
+  fun initializeAndCollectSignals_sdkInitializationSucceeds_invokesEveryCallbackOnce() {
+    val adapter = createAdapter(initializationError = null)
+
+    val report =
+      adapter.runConcurrencyStress(
+        context,
+        mediationConfigurations = mediationConfigurations,
+        rtbSignalData = rtbSignalData,
+      )
+
+    report.assertExactlyOnceCallbacks()
+    assertThat(report.getResult(ConcurrencyStressCallNames.COLLECT_SIGNALS).callCount)
+      .isEqualTo(DEFAULT_STRESS_CALL_COUNT)
+  }
+
+  @Test
+  fun initialize_sdkInitializationFails_invokesEveryCallbackOnce() {
+    val adapter = createAdapter(initializationError = Error("Initialization failed."))
+
+    val report =
+      adapter.runConcurrencyStress(context, mediationConfigurations = mediationConfigurations)
+
+    report.assertExactlyOnceCallbacks()
+  }
+
+  /**
+   * Returns an adapter using a fake InMobi SDK that completes each initialization after a short
+   * delay, with [initializationError].
+   */
+  private fun createAdapter(initializationError: Error?): InMobiMediationAdapter {
+    val inMobiSdkWrapper =
+      mock<InMobiSdkWrapper> {
+        on { getToken(any(), any()) } doReturn TOKEN
+        on { init(any(), any(), anyOrNull(), any()) } doAnswer
+          { invocation ->
+            val listener = invocation.getArgument<SdkInitializationListener>(3)
+            sdkExecutor.schedule(
+              Runnable { listener.onInitializationComplete(initializationError) },
+              SDK_INITIALIZATION_DELAY_MILLIS,
+              TimeUnit.MILLISECONDS,
+            )
+            Unit
+          }
+      }
+    return InMobiMediationAdapter(
+      InMobiInitializer(inMobiSdkWrapper),
+      mock(),
+      inMobiSdkWrapper,
+      mock(),
+    )
+  }
+
+  private companion object {
+    const val ACCOUNT_ID = "12345"
+    const val TOKEN = "token"
+    const val SDK_INITIALIZATION_DELAY_MILLIS = 5L
+  }
+}
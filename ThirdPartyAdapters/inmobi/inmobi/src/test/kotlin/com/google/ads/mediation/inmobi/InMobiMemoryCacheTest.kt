@@ -1,5 +1,6 @@
 package com.google.ads.mediation.inmobi
 
+import android.content.ComponentCallbacks2
 import android.graphics.Bitmap
 import android.graphics.drawable.BitmapDrawable
 import androidx.test.ext.junit.runners.AndroidJUnit4
@@ -69,4 +70,64 @@ class InMobiMemoryCacheTest {
     assertThat(inMobiMemoryCache.get("id1")).isEqualTo(drawable2)
     assertThat(inMobiMemoryCache.size).isEqualTo(height * width)
   }
+
+  @Test
+  fun get_updatesHitAndMissCounts() {
+    val drawable = mock<BitmapDrawable>()
+    whenever(drawable.bitmap).thenReturn(Bitmap.createBitmap(10, 10, Bitmap.Config.ALPHA_8))
+    inMobiMemoryCache.put("id1", drawable)
+
+    inMobiMemoryCache.get("id1")
+    inMobiMemoryCache.get("id1")
+    inMobiMemoryCache.get("id2")
+
+    assertThat(inMobiMemoryCache.hitCount).isEqualTo(2)
+    assertThat(inMobiMemoryCache.missCount).isEqualTo(1)
+  }
+
+  @Test
+  fun put_sizeExceeded_incrementsEvictionCount() {
+    val drawable1 = mock<BitmapDrawable>()
+    whenever(drawable1.bitmap).thenReturn(Bitmap.createBitmap(30, 30, Bitmap.Config.ALPHA_8))
+    val drawable2 = mock<BitmapDrawable>()
+    whenever(drawable2.bitmap).thenReturn(Bitmap.createBitmap(20, 20, Bitmap.Config.ALPHA_8))
+
+    inMobiMemoryCache.put("id1", drawable1)
+    inMobiMemoryCache.put("id2", drawable2)
+
+    assertThat(inMobiMemoryCache.evictionCount).isEqualTo(1)
+    assertThat(inMobiMemoryCache.size).isEqualTo(20 * 20)
+  }
+
+  @Test
+  fun onTrimMemory_backgroundLevel_clearsCache() {
+    val drawable = mock<BitmapDrawable>()
+    whenever(drawable.bitmap).thenReturn(Bitmap.createBitmap(10, 10, Bitmap.Config.ALPHA_8))
+    inMobiMemoryCache.put("id1", drawable)
+
+    inMobiMemoryCache.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_BACKGROUND)
+
+    assertThat(inMobiMemoryCache.get("id1")).isNull()
+    assertThat(inMobiMemoryCache.size).isEqualTo(0)
+  }
+
+  @Test
+  fun onTrimMemory_runningLowLevel_trimsCacheToHalfOfLimit() {
+    val drawable1 = mock<BitmapDrawable>()
+    whenever(drawable1.bitmap).thenReturn(Bitmap.createBitmap(20, 20, Bitmap.Config.ALPHA_8))
+    val drawable2 = mock<BitmapDrawable>()
+    whenever(drawable2.bitmap).thenReturn(Bitmap.createBitmap(20, 20, Bitmap.Config.ALPHA_8))
+    inMobiMemoryCache.put("id1", drawable1)
+    inMobiMemoryCache.put("id2", drawable2)
+
+    inMobiMemoryCache.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW)
+
+    assertThat(inMobiMemoryCache.get("id1")).isNull()
+    assertThat(inMobiMemoryCache.get("id2")).isNotNull()
+  }
+
+  @Test
+  fun getInstance_returnsSameInstance() {
+    assertThat(InMobiMemoryCache.getInstance()).isSameInstanceAs(InMobiMemoryCache.getInstance())
+  }
 }
@@ -7,6 +7,9 @@ import androidx.test.ext.junit.runners.AndroidJUnit4
 import com.google.ads.mediation.adaptertestkit.FakeMediationAdLoadCallback
 import com.google.ads.mediation.adaptertestkit.FakeMediationInterstitialAdCallback
 import com.google.ads.mediation.adaptertestkit.assertThat
+import com.google.ads.mediation.common.AdLatencyMetrics
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.HistogramAdLatencyMetrics
 import com.google.ads.mediation.inmobi.InMobiAdFactory
 import com.google.ads.mediation.inmobi.InMobiAdapterUtils
 import com.google.ads.mediation.inmobi.InMobiAdapterUtils.KEY_ACCOUNT_ID
@@ -14,6 +17,7 @@ import com.google.ads.mediation.inmobi.InMobiAdapterUtils.KEY_PLACEMENT_ID
 import com.google.ads.mediation.inmobi.InMobiConstants
 import com.google.ads.mediation.inmobi.InMobiInitializer
 import com.google.ads.mediation.inmobi.InMobiInterstitialWrapper
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.mediation.MediationInterstitialAd
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback
 import com.google.android.gms.ads.mediation.MediationInterstitialAdConfiguration
@@ -128,6 +132,43 @@ class InMobiWaterfallInterstitialAdTest {
     assertThat(mediationAdLoadCallback).hasSucceededWith(waterfallInterstitialAd)
   }
 
+  @Test
+  fun onAdDisplayed_withLatencyMetrics_recordsLoadAndShowStages() {
+    val latencyMetrics = HistogramAdLatencyMetrics()
+    AdLatencyMetrics.setInstance(latencyMetrics)
+    try {
+      waterfallInterstitialAd =
+        InMobiWaterfallInterstitialAd(mediationAdLoadCallback, inMobiInitializer, inMobiAdFactory)
+      val initializerListenerCaptor = argumentCaptor<InMobiInitializer.Listener>()
+      whenever(inMobiAdFactory.createInMobiInterstitialWrapper(any(), any(), any()))
+        .thenReturn(inMobiInterstitialWrapper)
+      whenever(inMobiInterstitialWrapper.isReady).thenReturn(true)
+      whenever(interstitialAdConfiguration.serverParameters) doReturn
+        bundleOf(KEY_ACCOUNT_ID to "accountTest", KEY_PLACEMENT_ID to "67890")
+      waterfallInterstitialAd.loadAd(interstitialAdConfiguration)
+      verify(inMobiInitializer)
+        .init(eq(context), eq("accountTest"), initializerListenerCaptor.capture())
+      initializerListenerCaptor.firstValue.onInitializeSuccess()
+      waterfallInterstitialAd.onAdLoadSucceeded(
+        inMobiInterstitialWrapper.inMobiInterstitial,
+        adMetaInfo,
+      )
+
+      waterfallInterstitialAd.showAd(context)
+      waterfallInterstitialAd.onAdDisplayed(
+        inMobiInterstitialWrapper.inMobiInterstitial,
+        adMetaInfo,
+      )
+    } finally {
+      AdLatencyMetrics.setInstance(null)
+    }
+
+    for (stage in Stage.values().filter { it != Stage.ASSET_MAPPING && it != Stage.IMAGE_LOAD }) {
+      assertThat(latencyMetrics.getHistogram("InMobi", AdFormat.INTERSTITIAL, stage)!!.getCount())
+        .isEqualTo(1)
+    }
+  }
+
   @Test
   fun onAdLoadFailed_invokesOnFailureCallback() {
     val inMobiAdRequestStatus =
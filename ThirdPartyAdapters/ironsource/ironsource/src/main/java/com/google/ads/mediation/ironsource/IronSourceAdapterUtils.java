@@ -29,8 +29,9 @@ import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.MobileAds;
 import com.ironsource.mediationsdk.ISBannerSize;
 import java.lang.ref.WeakReference;
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -39,15 +40,23 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class IronSourceAdapterUtils {
 
+  /**
+   * Banner sizes supported by the IronSource SDK. Kept in constants so that resolving the banner
+   * size of a refreshing banner doesn't allocate.
+   */
+  private static final List<AdSize> IS_BANNER_SIZES =
+      Collections.unmodifiableList(
+          Arrays.asList(AdSize.BANNER, AdSize.MEDIUM_RECTANGLE, AdSize.LARGE_BANNER));
+
+  private static final List<AdSize> BANNER_SIZES =
+      Collections.unmodifiableList(
+          Arrays.asList(
+              AdSize.BANNER, AdSize.MEDIUM_RECTANGLE, AdSize.LARGE_BANNER, AdSize.LEADERBOARD));
+
   @Nullable
   public static ISBannerSize getISBannerSizeFromGoogleAdSize(
       @NonNull Context context, @NonNull AdSize adSize, MediationUtilsWrapper mediationUtils) {
-    ArrayList<AdSize> potentials = new ArrayList<>();
-    potentials.add(AdSize.BANNER);
-    potentials.add(AdSize.MEDIUM_RECTANGLE);
-    potentials.add(AdSize.LARGE_BANNER);
-
-    AdSize closestSize = mediationUtils.findClosestSize(context, adSize, potentials);
+    AdSize closestSize = mediationUtils.findClosestSize(context, adSize, IS_BANNER_SIZES);
     if (closestSize == null) {
       return null;
     }
@@ -68,12 +77,7 @@ public class IronSourceAdapterUtils {
   @NonNull
   public static com.unity3d.ironsourceads.AdSize getAdSizeFromGoogleAdSize(
       @NonNull Context context, @NonNull AdSize adSize, MediationUtilsWrapper mediationUtils) {
-    ArrayList<AdSize> potentials =
-        new ArrayList<>(
-            Arrays.asList(
-                AdSize.BANNER, AdSize.MEDIUM_RECTANGLE, AdSize.LARGE_BANNER, AdSize.LEADERBOARD));
-
-    AdSize closestSize = mediationUtils.findClosestSize(context, adSize, potentials);
+    AdSize closestSize = mediationUtils.findClosestSize(context, adSize, BANNER_SIZES);
     if (closestSize == null) {
       return com.unity3d.ironsourceads.AdSize.banner();
     }
@@ -16,6 +16,7 @@ package com.google.ads.mediation.ironsource;
 
 import static com.google.ads.mediation.ironsource.IronSourceConstants.DEFAULT_NON_RTB_INSTANCE_ID;
 import static com.google.ads.mediation.ironsource.IronSourceConstants.KEY_INSTANCE_ID;
+import static com.google.ads.mediation.ironsource.IronSourceConstants.NETWORK_NAME;
 import static com.google.ads.mediation.ironsource.IronSourceConstants.TAG;
 import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.ADAPTER_ERROR_DOMAIN;
 import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.ERROR_AD_ALREADY_LOADED;
@@ -29,7 +30,10 @@ import android.view.View;
 import android.widget.FrameLayout;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationBannerAd;
@@ -61,6 +65,9 @@ public class IronSourceBannerAd implements MediationBannerAd {
 
   private ISBannerSize bannerSizeIronSource;
 
+  private final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.BANNER);
+
   public IronSourceBannerAd(
       @NonNull
           MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback>
@@ -89,6 +96,10 @@ public class IronSourceBannerAd implements MediationBannerAd {
     return ironSourceAdView;
   }
 
+  AdLatencyTracker getLatencyTracker() {
+    return latencyTracker;
+  }
+
   /** Instance map access. */
   static IronSourceBannerAd getFromAvailableInstances(@NonNull String instanceId) {
     return availableBannerInstances.containsKey(instanceId)
@@ -119,6 +130,7 @@ public class IronSourceBannerAd implements MediationBannerAd {
   public void loadAd(
       @NonNull MediationBannerAdConfiguration adConfiguration,
       MediationUtilsWrapper mediationUtils) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     if (!isParamsValid(adConfiguration, mediationUtils)) {
       return;
     }
@@ -133,6 +145,7 @@ public class IronSourceBannerAd implements MediationBannerAd {
     ironSourceBannerLayout = IronSource.createBannerForDemandOnly(activity, bannerSizeIronSource);
     ironSourceBannerLayout.setBannerDemandOnlyListener(ironSourceBannerListener);
     Log.d(TAG, String.format("Loading IronSource banner ad with instance ID: %s", instanceID));
+    latencyTracker.startStage(Stage.SDK_LOAD);
     IronSource.loadISDemandOnlyBanner(activity, ironSourceBannerLayout, instanceID);
   }
 
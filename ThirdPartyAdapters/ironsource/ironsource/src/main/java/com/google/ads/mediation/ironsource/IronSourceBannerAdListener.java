@@ -21,6 +21,8 @@ import static com.ironsource.mediationsdk.logger.IronSourceError.ERROR_DO_IS_LOA
 
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationBannerAdCallback;
@@ -38,13 +40,18 @@ public class IronSourceBannerAdListener implements ISDemandOnlyBannerListener {
       return;
     }
 
+    AdLatencyTracker latencyTracker = ironSourceBannerAd.getLatencyTracker();
+    latencyTracker.endStage(Stage.SDK_LOAD);
     ironSourceBannerAd
         .getIronSourceAdView()
         .addView(ironSourceBannerAd.getIronSourceBannerLayout());
 
     if (ironSourceBannerAd.getAdLoadCallback() != null) {
+      latencyTracker.endStage(Stage.TIME_TO_FILL);
+      latencyTracker.startStage(Stage.LOAD_CALLBACK);
       ironSourceBannerAd.setBannerAdCallback(
           ironSourceBannerAd.getAdLoadCallback().onSuccess(ironSourceBannerAd));
+      latencyTracker.endStage(Stage.LOAD_CALLBACK);
     }
   }
 
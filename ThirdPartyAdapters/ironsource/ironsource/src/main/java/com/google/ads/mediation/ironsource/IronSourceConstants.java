@@ -5,6 +5,9 @@ public class IronSourceConstants {
   /** Adapter class name for logging. */
   static final String TAG = IronSourceMediationAdapter.class.getSimpleName();
 
+  /** Network name reported to the ad latency metrics. */
+  static final String NETWORK_NAME = "IronSource";
+
   /** Key to obtain App Key, required for initializing IronSource SDK. */
   static final String KEY_APP_KEY = "appKey";
 
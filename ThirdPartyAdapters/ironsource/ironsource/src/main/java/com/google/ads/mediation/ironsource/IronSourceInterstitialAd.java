@@ -16,30 +16,39 @@ package com.google.ads.mediation.ironsource;
 
 import static com.google.ads.mediation.ironsource.IronSourceConstants.DEFAULT_NON_RTB_INSTANCE_ID;
 import static com.google.ads.mediation.ironsource.IronSourceConstants.KEY_INSTANCE_ID;
+import static com.google.ads.mediation.ironsource.IronSourceConstants.NETWORK_NAME;
 import static com.google.ads.mediation.ironsource.IronSourceConstants.TAG;
 import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.ADAPTER_ERROR_DOMAIN;
 import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.ERROR_AD_ALREADY_LOADED;
+import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.ERROR_REQUIRES_ACTIVITY_CONTEXT;
 
 import android.app.Activity;
 import android.content.Context;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
+import com.google.ads.mediation.common.WeakOwnerSlotQueue;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAd;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdConfiguration;
 import com.ironsource.mediationsdk.IronSource;
 import java.lang.ref.WeakReference;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class IronSourceInterstitialAd implements MediationInterstitialAd {
 
   @VisibleForTesting
-  static final ConcurrentHashMap<String, WeakReference<IronSourceInterstitialAd>>
-      availableInterstitialInstances = new ConcurrentHashMap<>();
+  static final WeakOwnerSlotQueue<String, IronSourceInterstitialAd> interstitialSlots =
+      new WeakOwnerSlotQueue<>(
+          new Handler(Looper.getMainLooper()), "IronSource interstitial instance ID");
 
   private static final IronSourceInterstitialAdListener ironSourceInterstitialListener =
       new IronSourceInterstitialAdListener();
@@ -49,6 +58,9 @@ public class IronSourceInterstitialAd implements MediationInterstitialAd {
   private final MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>
       mediationAdLoadCallback;
 
+  private final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.INTERSTITIAL);
+
   private final String instanceID;
 
   public IronSourceInterstitialAd(
@@ -64,13 +76,20 @@ public class IronSourceInterstitialAd implements MediationInterstitialAd {
 
   /** Getters and Setters. */
   static IronSourceInterstitialAd getFromAvailableInstances(@NonNull String instanceId) {
-    return availableInterstitialInstances.containsKey(instanceId)
-        ? availableInterstitialInstances.get(instanceId).get()
-        : null;
+    return interstitialSlots.getOwner(instanceId);
   }
 
   static void removeFromAvailableInstances(@NonNull String instanceId) {
-    availableInterstitialInstances.remove(instanceId);
+    interstitialSlots.remove(instanceId);
+  }
+
+  /** Releases the instance ID of this ad so that the next ad request waiting for it can load. */
+  void releaseInstance() {
+    interstitialSlots.release(instanceID, this);
+  }
+
+  AdLatencyTracker getLatencyTracker() {
+    return latencyTracker;
   }
 
   static IronSourceInterstitialAdListener getIronSourceInterstitialListener() {
@@ -92,50 +111,67 @@ public class IronSourceInterstitialAd implements MediationInterstitialAd {
 
   /** Attempts to load an @{link IronSource} interstitial ad. */
   public void loadWaterfallAd(@NonNull MediationInterstitialAdConfiguration adConfiguration) {
-    if (!loadValidConfig(adConfiguration)) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
+    Context context = adConfiguration.getContext();
+    AdError loadError = IronSourceAdapterUtils.validateIronSourceAdLoadParams(context, instanceID);
+    if (loadError != null) {
+      onAdFailedToLoad(loadError);
       return;
     }
 
-    Activity activity = (Activity) adConfiguration.getContext();
-    IronSource.loadISDemandOnlyInterstitial(activity, instanceID);
+    // Only one ad can be loaded per instance ID. Wait for the instance if another ad owns it.
+    Activity activity = (Activity) context;
+    WeakReference<Activity> activityReference = new WeakReference<>(activity);
+    WeakOwnerSlotQueue.Admission admission =
+        interstitialSlots.acquire(
+            instanceID,
+            this,
+            () -> loadAd(activityReference.get()),
+            () -> onAdFailedToLoad(createAlreadyLoadingError()));
+    switch (admission) {
+      case PROCEED:
+        loadAd(activity);
+        break;
+      case WAIT:
+        Log.d(
+            TAG,
+            String.format(
+                "Waiting for IronSource interstitial instance ID %s to be released.", instanceID));
+        break;
+      case REJECT:
+        onAdFailedToLoad(createAlreadyLoadingError());
+        break;
+    }
   }
 
-  /** Returns true if all the parameters needed to load an ad are valid. */
-  private boolean loadValidConfig(@NonNull MediationInterstitialAdConfiguration adConfiguration) {
-    if (!isParamsValid(adConfiguration.getContext())) {
-      return false;
+  private void loadAd(@Nullable Activity activity) {
+    if (activity == null) {
+      releaseInstance();
+      onAdFailedToLoad(
+          new AdError(
+              ERROR_REQUIRES_ACTIVITY_CONTEXT,
+              "The Activity was destroyed before the IronSource instance was released.",
+              ADAPTER_ERROR_DOMAIN));
+      return;
     }
 
-    availableInterstitialInstances.put(instanceID, new WeakReference<>(this));
     Log.d(
         TAG, String.format("Loading IronSource interstitial ad with instance ID: %s", instanceID));
-    return true;
+    latencyTracker.startStage(Stage.SDK_LOAD);
+    IronSource.loadISDemandOnlyInterstitial(activity, instanceID);
   }
 
-  private boolean isParamsValid(@NonNull Context context) {
-    AdError loadError = IronSourceAdapterUtils.validateIronSourceAdLoadParams(context, instanceID);
-    if (loadError != null) {
-      onAdFailedToLoad(loadError);
-      return false;
-    }
-
-    // Check that an Ad for this instance ID is not already loading.
-    if (!IronSourceAdapterUtils.canLoadIronSourceAdInstance(
-        instanceID, availableInterstitialInstances)) {
-      String errorMessage =
-          String.format(
-              "An IronSource interstitial ad is already loading for instance ID: %s", instanceID);
-      AdError concurrentError =
-          new AdError(ERROR_AD_ALREADY_LOADED, errorMessage, ADAPTER_ERROR_DOMAIN);
-      onAdFailedToLoad(concurrentError);
-      return false;
-    }
-
-    return true;
+  @NonNull
+  private AdError createAlreadyLoadingError() {
+    String errorMessage =
+        String.format(
+            "An IronSource interstitial ad is already loading for instance ID: %s", instanceID);
+    return new AdError(ERROR_AD_ALREADY_LOADED, errorMessage, ADAPTER_ERROR_DOMAIN);
   }
 
   @Override
   public void showAd(@NonNull Context context) {
+    latencyTracker.startStage(Stage.SHOW);
     IronSource.showISDemandOnlyInterstitial(instanceID);
   }
 
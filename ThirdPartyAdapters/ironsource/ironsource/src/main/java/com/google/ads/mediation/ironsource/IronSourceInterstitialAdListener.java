@@ -19,6 +19,8 @@ import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.IRO
 
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback;
 import com.ironsource.mediationsdk.demandOnly.ISDemandOnlyInterstitialListener;
@@ -34,11 +36,16 @@ public class IronSourceInterstitialAdListener implements ISDemandOnlyInterstitia
         IronSourceInterstitialAd.getFromAvailableInstances(instanceId);
 
     if (ironSourceInterstitialAd != null) {
+      AdLatencyTracker latencyTracker = ironSourceInterstitialAd.getLatencyTracker();
+      latencyTracker.endStage(Stage.SDK_LOAD);
       if (ironSourceInterstitialAd.getMediationAdLoadCallback() != null) {
+        latencyTracker.endStage(Stage.TIME_TO_FILL);
+        latencyTracker.startStage(Stage.LOAD_CALLBACK);
         ironSourceInterstitialAd.setInterstitialAdCallback(
             ironSourceInterstitialAd
                 .getMediationAdLoadCallback()
                 .onSuccess(ironSourceInterstitialAd));
+        latencyTracker.endStage(Stage.LOAD_CALLBACK);
       }
     }
   }
@@ -59,9 +66,8 @@ public class IronSourceInterstitialAdListener implements ISDemandOnlyInterstitia
       if (ironSourceInterstitialAd.getMediationAdLoadCallback() != null) {
         ironSourceInterstitialAd.getMediationAdLoadCallback().onFailure(loadError);
       }
+      ironSourceInterstitialAd.releaseInstance();
     }
-
-    IronSourceInterstitialAd.removeFromAvailableInstances(instanceId);
   }
 
   @Override
@@ -71,6 +77,7 @@ public class IronSourceInterstitialAdListener implements ISDemandOnlyInterstitia
         IronSourceInterstitialAd.getFromAvailableInstances(instanceId);
 
     if (ironSourceInterstitialAd != null) {
+      ironSourceInterstitialAd.getLatencyTracker().endStage(Stage.SHOW);
       MediationInterstitialAdCallback adCallback =
           ironSourceInterstitialAd.getInterstitialAdCallback();
       if (adCallback != null) {
@@ -92,9 +99,8 @@ public class IronSourceInterstitialAdListener implements ISDemandOnlyInterstitia
       if (adCallback != null) {
         adCallback.onAdClosed();
       }
+      ironSourceInterstitialAd.releaseInstance();
     }
-
-    IronSourceInterstitialAd.removeFromAvailableInstances(instanceId);
   }
 
   @Override
@@ -115,9 +121,8 @@ public class IronSourceInterstitialAdListener implements ISDemandOnlyInterstitia
       if (adCallback != null) {
         adCallback.onAdFailedToShow(showError);
       }
+      ironSourceInterstitialAd.releaseInstance();
     }
-
-    IronSourceInterstitialAd.removeFromAvailableInstances(instanceId);
   }
 
   @Override
@@ -30,6 +30,7 @@ import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
 import com.google.ads.mediation.common.AgeRestrictedTreatmentUtils;
+import com.google.ads.mediation.common.VersionInfoParser;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AgeRestrictedTreatment;
 import com.google.android.gms.ads.MobileAds;
@@ -70,6 +71,12 @@ import java.util.concurrent.atomic.AtomicBoolean;
  */
 public class IronSourceMediationAdapter extends RtbAdapter {
 
+  /** Parses and caches the adapter version. */
+  private static final VersionInfoParser ADAPTER_VERSION_PARSER = new VersionInfoParser(4, 5);
+
+  /** Parses and caches the SDK version. */
+  private static final VersionInfoParser SDK_VERSION_PARSER = new VersionInfoParser(3, 4);
+
   private static final AtomicBoolean isInitialized = new AtomicBoolean(false);
 
   // region Error codes
@@ -125,17 +132,9 @@ public class IronSourceMediationAdapter extends RtbAdapter {
   @Override
   public VersionInfo getSDKVersionInfo() {
     String versionString = IronSourceAds.getSdkVersion();
-    String[] splits = versionString.split("\\.");
-
-    if (splits.length >= 3) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int micro = Integer.parseInt(splits[2]);
-      if (splits.length >= 4) {
-        micro = micro * 100 + Integer.parseInt(splits[3]);
-      }
-
-      return new VersionInfo(major, minor, micro);
+    VersionInfo versionInfo = SDK_VERSION_PARSER.parse(versionString);
+    if (versionInfo != null) {
+      return versionInfo;
     }
 
     String logMessage =
@@ -149,17 +148,9 @@ public class IronSourceMediationAdapter extends RtbAdapter {
   @Override
   public VersionInfo getVersionInfo() {
     String versionString = IronSourceAdapterUtils.getAdapterVersion();
-    String[] splits = versionString.split("\\.");
-
-    if (splits.length >= 4) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int micro = Integer.parseInt(splits[2]) * 100 + Integer.parseInt(splits[3]);
-      if (splits.length >= 5) {
-        micro = micro * 100 + Integer.parseInt(splits[4]);
-      }
-
-      return new VersionInfo(major, minor, micro);
+    VersionInfo versionInfo = ADAPTER_VERSION_PARSER.parse(versionString);
+    if (versionInfo != null) {
+      return versionInfo;
     }
 
     String logMessage =
@@ -234,6 +225,7 @@ public class IronSourceMediationAdapter extends RtbAdapter {
     InitRequest initRequest =
         new InitRequest.Builder(appKey).withLegacyAdFormats(adFormatsToInitialize).build();
 
+    IronSourcePendingLoadQueue.getInstance().onInitializationStarted();
     IronSourceAds.init(
         context,
         initRequest,
@@ -242,12 +234,14 @@ public class IronSourceMediationAdapter extends RtbAdapter {
           public void onInitSuccess() {
             isInitialized.set(true);
             initializationCompleteCallback.onInitializationSucceeded();
+            IronSourcePendingLoadQueue.getInstance().onInitializationSucceeded();
           }
 
           @Override
           public void onInitFailed(@NonNull final IronSourceError ironSourceError) {
             initializationCompleteCallback.onInitializationFailed(
                 ironSourceError.getErrorMessage());
+            IronSourcePendingLoadQueue.getInstance().onInitializationFailed();
           }
         });
 
@@ -275,6 +269,13 @@ public class IronSourceMediationAdapter extends RtbAdapter {
               ERROR_SDK_NOT_INITIALIZED,
               "Failed to load IronSource rewarded ad since IronSource SDK is not initialized.",
               ADAPTER_ERROR_DOMAIN);
+      // Wait for the initialization in flight, if any, instead of failing right away.
+      if (IronSourcePendingLoadQueue.getInstance()
+          .enqueue(
+              () -> loadRewardedAd(adConfiguration, mediationAdLoadCallback),
+              () -> mediationAdLoadCallback.onFailure(adError))) {
+        return;
+      }
 
       Log.w(TAG, adError.getMessage());
       mediationAdLoadCallback.onFailure(adError);
@@ -322,6 +323,13 @@ public class IronSourceMediationAdapter extends RtbAdapter {
               "Failed to load IronSource interstitial ad since IronSource SDK is not "
                   + "initialized.",
               IRONSOURCE_SDK_ERROR_DOMAIN);
+      // Wait for the initialization in flight, if any, instead of failing right away.
+      if (IronSourcePendingLoadQueue.getInstance()
+          .enqueue(
+              () -> loadInterstitialAd(adConfiguration, mediationAdLoadCallback),
+              () -> mediationAdLoadCallback.onFailure(loadError))) {
+        return;
+      }
       Log.w(TAG, loadError.getMessage());
       mediationAdLoadCallback.onFailure(loadError);
       return;
@@ -366,6 +374,13 @@ public class IronSourceMediationAdapter extends RtbAdapter {
               ERROR_SDK_NOT_INITIALIZED,
               "Failed to load IronSource banner ad since IronSource SDK is not initialized.",
               IRONSOURCE_SDK_ERROR_DOMAIN);
+      // Wait for the initialization in flight, if any, instead of failing right away.
+      if (IronSourcePendingLoadQueue.getInstance()
+          .enqueue(
+              () -> loadBannerAd(adConfiguration, mediationAdLoadCallback),
+              () -> mediationAdLoadCallback.onFailure(loadError))) {
+        return;
+      }
       Log.w(TAG, loadError.getMessage());
       mediationAdLoadCallback.onFailure(loadError);
       return;
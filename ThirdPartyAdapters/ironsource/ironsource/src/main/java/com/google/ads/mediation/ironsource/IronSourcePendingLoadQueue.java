@@ -0,0 +1,208 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.ironsource;
+
+import static com.google.ads.mediation.ironsource.IronSourceConstants.TAG;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A bounded queue of the waterfall ad load requests received while the IronSource SDK is
+ * initializing.
+ *
+ * <p>Instead of failing with {@link IronSourceMediationAdapter#ERROR_SDK_NOT_INITIALIZED}, requests
+ * made while {@code IronSourceAds.init} is in flight wait until the SDK finishes initializing, for
+ * at most {@link #MAX_WAIT_MILLIS}. They are failed when the deadline expires, when initialization
+ * fails or when the queue is full.
+ */
+public final class IronSourcePendingLoadQueue {
+
+  /** Maximum number of requests waiting for initialization. */
+  @VisibleForTesting static final int MAX_PENDING_REQUESTS = 10;
+
+  /** Maximum time a request waits for initialization before it fails. */
+  @VisibleForTesting static final long MAX_WAIT_MILLIS = 5000;
+
+  private static IronSourcePendingLoadQueue instance;
+
+  /** A load request waiting for initialization. */
+  private final class PendingLoad implements Runnable {
+
+    private final Runnable load;
+    private final Runnable failure;
+    private final long enqueuedAtMillis = SystemClock.elapsedRealtime();
+
+    PendingLoad(@NonNull Runnable load, @NonNull Runnable failure) {
+      this.load = load;
+      this.failure = failure;
+    }
+
+    /** Called when the deadline of this request expires. */
+    @Override
+    public void run() {
+      synchronized (IronSourcePendingLoadQueue.this) {
+        if (!pendingLoads.remove(this)) {
+          return;
+        }
+        expiredRequestCount++;
+      }
+      Log.w(TAG, "IronSource SDK did not finish initializing before the ad request deadline.");
+      failure.run();
+    }
+  }
+
+  private final Handler handler;
+
+  private final ArrayDeque<PendingLoad> pendingLoads = new ArrayDeque<>();
+
+  private boolean isInitializing;
+
+  private int savedRequestCount;
+
+  private int expiredRequestCount;
+
+  private int rejectedRequestCount;
+
+  private long totalWaitMillis;
+
+  private long maxWaitMillis;
+
+  @VisibleForTesting
+  IronSourcePendingLoadQueue(@NonNull Handler handler) {
+    this.handler = handler;
+  }
+
+  /** Returns the queue shared by all IronSource waterfall ad requests. */
+  @NonNull
+  public static synchronized IronSourcePendingLoadQueue getInstance() {
+    if (instance == null) {
+      instance = new IronSourcePendingLoadQueue(new Handler(Looper.getMainLooper()));
+    }
+    return instance;
+  }
+
+  /** Marks the IronSource SDK initialization as in flight. */
+  synchronized void onInitializationStarted() {
+    isInitializing = true;
+  }
+
+  /** Runs every pending request on the main thread. */
+  void onInitializationSucceeded() {
+    List<PendingLoad> drainedLoads = drain();
+    long nowMillis = SystemClock.elapsedRealtime();
+    for (PendingLoad pendingLoad : drainedLoads) {
+      long waitMillis = nowMillis - pendingLoad.enqueuedAtMillis;
+      synchronized (this) {
+        savedRequestCount++;
+        totalWaitMillis += waitMillis;
+        maxWaitMillis = Math.max(maxWaitMillis, waitMillis);
+      }
+      handler.post(pendingLoad.load);
+    }
+    if (!drainedLoads.isEmpty()) {
+      Log.d(
+          TAG,
+          String.format(
+              "Resumed %d IronSource ad request(s) after initialization.", drainedLoads.size()));
+    }
+  }
+
+  /** Fails every pending request on the main thread. */
+  void onInitializationFailed() {
+    for (PendingLoad pendingLoad : drain()) {
+      handler.post(pendingLoad.failure);
+    }
+  }
+
+  /**
+   * Queues a load request until the IronSource SDK finishes initializing.
+   *
+   * @param load loads the ad once the SDK is initialized
+   * @param failure fails the request if the SDK does not initialize in time
+   * @return false if the request was not queued, because no initialization is in flight or the
+   *     queue is full. The caller should then fail the request immediately.
+   */
+  synchronized boolean enqueue(@NonNull Runnable load, @NonNull Runnable failure) {
+    if (!isInitializing) {
+      return false;
+    }
+    if (pendingLoads.size() >= MAX_PENDING_REQUESTS) {
+      rejectedRequestCount++;
+      return false;
+    }
+    PendingLoad pendingLoad = new PendingLoad(load, failure);
+    pendingLoads.add(pendingLoad);
+    handler.postDelayed(pendingLoad, MAX_WAIT_MILLIS);
+    return true;
+  }
+
+  /** Returns the number of requests that were loaded after waiting for initialization. */
+  public synchronized int getSavedRequestCount() {
+    return savedRequestCount;
+  }
+
+  /** Returns the number of requests that failed because initialization did not finish in time. */
+  public synchronized int getExpiredRequestCount() {
+    return expiredRequestCount;
+  }
+
+  /** Returns the number of requests that failed immediately because the queue was full. */
+  public synchronized int getRejectedRequestCount() {
+    return rejectedRequestCount;
+  }
+
+  /** Returns the average time the saved requests waited for initialization. */
+  public synchronized long getAverageWaitMillis() {
+    return savedRequestCount == 0 ? 0 : totalWaitMillis / savedRequestCount;
+  }
+
+  /** Returns the longest time a saved request waited for initialization. */
+  public synchronized long getMaxWaitMillis() {
+    return maxWaitMillis;
+  }
+
+  /** Drops the pending requests and clears the metrics. */
+  @VisibleForTesting
+  synchronized void reset() {
+    for (PendingLoad pendingLoad : pendingLoads) {
+      handler.removeCallbacks(pendingLoad);
+    }
+    pendingLoads.clear();
+    isInitializing = false;
+    savedRequestCount = 0;
+    expiredRequestCount = 0;
+    rejectedRequestCount = 0;
+    totalWaitMillis = 0;
+    maxWaitMillis = 0;
+  }
+
+  private synchronized List<PendingLoad> drain() {
+    isInitializing = false;
+    List<PendingLoad> drainedLoads = new ArrayList<>(pendingLoads);
+    for (PendingLoad pendingLoad : drainedLoads) {
+      handler.removeCallbacks(pendingLoad);
+    }
+    pendingLoads.clear();
+    return drainedLoads;
+  }
+}
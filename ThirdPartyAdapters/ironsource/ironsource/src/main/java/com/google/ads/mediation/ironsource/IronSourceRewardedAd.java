@@ -16,30 +16,39 @@ package com.google.ads.mediation.ironsource;
 
 import static com.google.ads.mediation.ironsource.IronSourceConstants.DEFAULT_NON_RTB_INSTANCE_ID;
 import static com.google.ads.mediation.ironsource.IronSourceConstants.KEY_INSTANCE_ID;
+import static com.google.ads.mediation.ironsource.IronSourceConstants.NETWORK_NAME;
 import static com.google.ads.mediation.ironsource.IronSourceConstants.TAG;
 import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.ADAPTER_ERROR_DOMAIN;
 import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.ERROR_AD_ALREADY_LOADED;
+import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.ERROR_REQUIRES_ACTIVITY_CONTEXT;
 
 import android.app.Activity;
 import android.content.Context;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
+import com.google.ads.mediation.common.WeakOwnerSlotQueue;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAd;
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAdConfiguration;
 import com.ironsource.mediationsdk.IronSource;
 import java.lang.ref.WeakReference;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class IronSourceRewardedAd implements MediationRewardedAd {
 
   @VisibleForTesting
-  static final ConcurrentHashMap<String, WeakReference<IronSourceRewardedAd>> availableInstances =
-      new ConcurrentHashMap<>();
+  static final WeakOwnerSlotQueue<String, IronSourceRewardedAd> rewardedSlots =
+      new WeakOwnerSlotQueue<>(
+          new Handler(Looper.getMainLooper()), "IronSource rewarded instance ID");
 
   private static final IronSourceRewardedAdListener ironSourceRewardedListener =
       new IronSourceRewardedAdListener();
@@ -49,6 +58,9 @@ public class IronSourceRewardedAd implements MediationRewardedAd {
   private final MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>
       mediationAdLoadCallback;
 
+  private final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.REWARDED);
+
   private final String instanceID;
 
   public IronSourceRewardedAd(
@@ -64,13 +76,20 @@ public class IronSourceRewardedAd implements MediationRewardedAd {
 
   /** Getters and Setters. */
   static IronSourceRewardedAd getFromAvailableInstances(@NonNull String instanceId) {
-    return availableInstances.containsKey(instanceId)
-        ? availableInstances.get(instanceId).get()
-        : null;
+    return rewardedSlots.getOwner(instanceId);
   }
 
   static void removeFromAvailableInstances(@NonNull String instanceId) {
-    availableInstances.remove(instanceId);
+    rewardedSlots.remove(instanceId);
+  }
+
+  /** Releases the instance ID of this ad so that the next ad request waiting for it can load. */
+  void releaseInstance() {
+    rewardedSlots.release(instanceID, this);
+  }
+
+  AdLatencyTracker getLatencyTracker() {
+    return latencyTracker;
   }
 
   static IronSourceRewardedAdListener getIronSourceRewardedListener() {
@@ -90,51 +109,70 @@ public class IronSourceRewardedAd implements MediationRewardedAd {
     return mediationAdLoadCallback;
   }
 
-  private boolean loadValidConfig(@NonNull MediationRewardedAdConfiguration adConfiguration) {
-    if (!isParamsValid(adConfiguration.getContext())) {
-      return false;
+  public void loadWaterfallAd(@NonNull MediationRewardedAdConfiguration adConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
+    Context context = adConfiguration.getContext();
+    // Check that the context is an Activity and that the instance ID is valid.
+    AdError loadError = IronSourceAdapterUtils.validateIronSourceAdLoadParams(context, instanceID);
+    if (loadError != null) {
+      onAdFailedToLoad(loadError);
+      return;
     }
 
-    availableInstances.put(instanceID, new WeakReference<>(this));
-    Log.d(TAG, String.format("Loading IronSource rewarded ad with instance ID: %s", instanceID));
-    return true;
+    // Only one ad can be loaded per instance ID. Wait for the instance if another ad owns it.
+    Activity activity = (Activity) context;
+    WeakReference<Activity> activityReference = new WeakReference<>(activity);
+    WeakOwnerSlotQueue.Admission admission =
+        rewardedSlots.acquire(
+            instanceID,
+            this,
+            () -> loadAd(activityReference.get()),
+            () -> onAdFailedToLoad(createAlreadyLoadingError()));
+    switch (admission) {
+      case PROCEED:
+        loadAd(activity);
+        break;
+      case WAIT:
+        Log.d(
+            TAG,
+            String.format(
+                "Waiting for IronSource rewarded instance ID %s to be released.", instanceID));
+        break;
+      case REJECT:
+        onAdFailedToLoad(createAlreadyLoadingError());
+        break;
+    }
   }
 
-  public void loadWaterfallAd(@NonNull MediationRewardedAdConfiguration adConfiguration) {
-    if (!loadValidConfig(adConfiguration)) {
+  private void loadAd(@Nullable Activity activity) {
+    if (activity == null) {
+      releaseInstance();
+      onAdFailedToLoad(
+          new AdError(
+              ERROR_REQUIRES_ACTIVITY_CONTEXT,
+              "The Activity was destroyed before the IronSource instance was released.",
+              ADAPTER_ERROR_DOMAIN));
       return;
     }
 
-    Activity activity = (Activity) adConfiguration.getContext();
+    Log.d(TAG, String.format("Loading IronSource rewarded ad with instance ID: %s", instanceID));
+    latencyTracker.startStage(Stage.SDK_LOAD);
     IronSource.loadISDemandOnlyRewardedVideo(activity, instanceID);
   }
 
-  private boolean isParamsValid(@NonNull Context context) {
-    // Check that the context is an Activity and that the instance ID is valid.
-    AdError loadError = IronSourceAdapterUtils.validateIronSourceAdLoadParams(context, instanceID);
-    if (loadError != null) {
-      onAdFailedToLoad(loadError);
-      return false;
-    }
-
-    // Check that an Ad for this instance ID is not already loading.
-    if (!IronSourceAdapterUtils.canLoadIronSourceAdInstance(instanceID, availableInstances)) {
-      String errorMessage =
-          String.format(
-              "An IronSource Rewarded ad is already loading for instance ID: %s", instanceID);
-      AdError concurrentError =
-          new AdError(ERROR_AD_ALREADY_LOADED, errorMessage, ADAPTER_ERROR_DOMAIN);
-      onAdFailedToLoad(concurrentError);
-      return false;
-    }
-
-    return true;
+  @NonNull
+  private AdError createAlreadyLoadingError() {
+    String errorMessage =
+        String.format(
+            "An IronSource Rewarded ad is already loading for instance ID: %s", instanceID);
+    return new AdError(ERROR_AD_ALREADY_LOADED, errorMessage, ADAPTER_ERROR_DOMAIN);
   }
 
   @Override
   public void showAd(@NonNull Context context) {
     Log.d(
         TAG, String.format("Showing IronSource rewarded ad for instance ID: %s", this.instanceID));
+    latencyTracker.startStage(Stage.SHOW);
     IronSource.showISDemandOnlyRewardedVideo(this.instanceID);
   }
 
@@ -19,6 +19,8 @@ import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.IRO
 
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback;
 import com.ironsource.mediationsdk.demandOnly.ISDemandOnlyRewardedVideoListener;
@@ -33,9 +35,14 @@ public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoLi
         IronSourceRewardedAd.getFromAvailableInstances(instanceId);
 
     if (ironSourceRewardedAd != null) {
+      AdLatencyTracker latencyTracker = ironSourceRewardedAd.getLatencyTracker();
+      latencyTracker.endStage(Stage.SDK_LOAD);
       if (ironSourceRewardedAd.getMediationAdLoadCallback() != null) {
+        latencyTracker.endStage(Stage.TIME_TO_FILL);
+        latencyTracker.startStage(Stage.LOAD_CALLBACK);
         ironSourceRewardedAd.setRewardedAdCallback(
             ironSourceRewardedAd.getMediationAdLoadCallback().onSuccess(ironSourceRewardedAd));
+        latencyTracker.endStage(Stage.LOAD_CALLBACK);
       }
     }
   }
@@ -56,9 +63,8 @@ public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoLi
       if (ironSourceRewardedAd.getMediationAdLoadCallback() != null) {
         ironSourceRewardedAd.getMediationAdLoadCallback().onFailure(loadError);
       }
+      ironSourceRewardedAd.releaseInstance();
     }
-
-    IronSourceRewardedAd.removeFromAvailableInstances(instanceId);
   }
 
   @Override
@@ -68,6 +74,7 @@ public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoLi
         IronSourceRewardedAd.getFromAvailableInstances(instanceId);
 
     if (ironSourceRewardedAd != null) {
+      ironSourceRewardedAd.getLatencyTracker().endStage(Stage.SHOW);
       MediationRewardedAdCallback adCallBack = ironSourceRewardedAd.getRewardedAdCallback();
       if (adCallBack != null) {
         adCallBack.onAdOpened();
@@ -88,9 +95,8 @@ public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoLi
       if (adCallBack != null) {
         adCallBack.onAdClosed();
       }
+      ironSourceRewardedAd.releaseInstance();
     }
-
-    IronSourceRewardedAd.removeFromAvailableInstances(instanceId);
   }
 
   @Override
@@ -128,9 +134,8 @@ public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoLi
       if (adCallBack != null) {
         adCallBack.onAdFailedToShow(showError);
       }
+      ironSourceRewardedAd.releaseInstance();
     }
-
-    IronSourceRewardedAd.removeFromAvailableInstances(instanceId);
   }
 
   @Override
@@ -15,6 +15,7 @@
 package com.google.ads.mediation.ironsource;
 
 import static com.google.ads.mediation.ironsource.IronSourceConstants.KEY_INSTANCE_ID;
+import static com.google.ads.mediation.ironsource.IronSourceConstants.NETWORK_NAME;
 import static com.google.ads.mediation.ironsource.IronSourceConstants.TAG;
 import static com.google.ads.mediation.ironsource.IronSourceConstants.WATERMARK;
 import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.ERROR_CALL_SHOW_BEFORE_LOADED_SUCCESS;
@@ -28,7 +29,10 @@ import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAd;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback;
@@ -54,6 +58,9 @@ public class IronSourceRtbInterstitialAd
 
   private InterstitialAd ad = null;
 
+  private final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.INTERSTITIAL);
+
   public IronSourceRtbInterstitialAd(
       @NonNull
           MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>
@@ -63,6 +70,7 @@ public class IronSourceRtbInterstitialAd
 
   /** Attempts to load an ironSource @{link InterstitialAd} using a Bid token. */
   public void loadRtbAd(@NonNull MediationInterstitialAdConfiguration adConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     Bundle serverParameters = adConfiguration.getServerParameters();
     String instanceID = serverParameters.getString(KEY_INSTANCE_ID, "");
     if (TextUtils.isEmpty(instanceID)) {
@@ -82,6 +90,7 @@ public class IronSourceRtbInterstitialAd
         new InterstitialAdRequest.Builder(instanceID, bidToken)
             .withExtraParams(watermarkBundle)
             .build();
+    latencyTracker.startStage(Stage.SDK_LOAD);
     InterstitialAdLoader.loadAd(adRequest, this);
   }
 
@@ -100,6 +109,7 @@ public class IronSourceRtbInterstitialAd
       Log.d(TAG, "Showing IronSource interstitial ad");
       Activity activity = (Activity) context;
       ad.setListener(this);
+      latencyTracker.startStage(Stage.SHOW);
       ad.show(activity);
     } catch (ClassCastException e) {
       AdError contextError =
@@ -144,6 +154,7 @@ public class IronSourceRtbInterstitialAd
 
   @Override
   public void onInterstitialAdShown(@NonNull final InterstitialAd interstitialAd) {
+    latencyTracker.endStage(Stage.SHOW);
     if (interstitialAdCallback == null) {
       return;
     }
@@ -163,7 +174,11 @@ public class IronSourceRtbInterstitialAd
 
   @Override
   public void onInterstitialAdLoaded(@NonNull InterstitialAd interstitialAd) {
+    latencyTracker.endStage(Stage.SDK_LOAD);
+    latencyTracker.endStage(Stage.TIME_TO_FILL);
     ad = interstitialAd;
+    latencyTracker.startStage(Stage.LOAD_CALLBACK);
     interstitialAdCallback = mediationAdLoadCallback.onSuccess(this);
+    latencyTracker.endStage(Stage.LOAD_CALLBACK);
   }
 }
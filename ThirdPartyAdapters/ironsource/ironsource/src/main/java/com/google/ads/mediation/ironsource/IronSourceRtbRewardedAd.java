@@ -15,6 +15,7 @@
 package com.google.ads.mediation.ironsource;
 
 import static com.google.ads.mediation.ironsource.IronSourceConstants.KEY_INSTANCE_ID;
+import static com.google.ads.mediation.ironsource.IronSourceConstants.NETWORK_NAME;
 import static com.google.ads.mediation.ironsource.IronSourceConstants.TAG;
 import static com.google.ads.mediation.ironsource.IronSourceConstants.WATERMARK;
 import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.ERROR_CALL_SHOW_BEFORE_LOADED_SUCCESS;
@@ -28,7 +29,10 @@ import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAd;
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback;
@@ -53,6 +57,9 @@ public class IronSourceRtbRewardedAd
 
   private RewardedAd ad = null;
 
+  private final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.REWARDED);
+
   public IronSourceRtbRewardedAd(
       @NonNull
           MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>
@@ -62,6 +69,7 @@ public class IronSourceRtbRewardedAd
 
   /** Attempts to load an ironSource @{link RewardedAd} using a Bid token. */
   public void loadRtbAd(@NonNull MediationRewardedAdConfiguration adConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     Bundle serverParameters = adConfiguration.getServerParameters();
     String instanceID = serverParameters.getString(KEY_INSTANCE_ID, "");
     if (TextUtils.isEmpty(instanceID)) {
@@ -82,6 +90,7 @@ public class IronSourceRtbRewardedAd
             .withExtraParams(watermarkBundle)
             .build();
 
+    latencyTracker.startStage(Stage.SDK_LOAD);
     RewardedAdLoader.loadAd(adRequest, this);
   }
 
@@ -100,6 +109,7 @@ public class IronSourceRtbRewardedAd
       Log.d(TAG, "Showing IronSource rewarded ad");
       Activity activity = (Activity) context;
       ad.setListener(this);
+      latencyTracker.startStage(Stage.SHOW);
       ad.show(activity);
     } catch (ClassCastException e) {
       AdError contextError =
@@ -135,8 +145,12 @@ public class IronSourceRtbRewardedAd
 
   @Override
   public void onRewardedAdLoaded(@NonNull RewardedAd rewardedAd) {
+    latencyTracker.endStage(Stage.SDK_LOAD);
+    latencyTracker.endStage(Stage.TIME_TO_FILL);
     ad = rewardedAd;
+    latencyTracker.startStage(Stage.LOAD_CALLBACK);
     mediationRewardedAdCallback = mediationAdLoadCallback.onSuccess(this);
+    latencyTracker.endStage(Stage.LOAD_CALLBACK);
   }
 
   @Override
@@ -158,6 +172,7 @@ public class IronSourceRtbRewardedAd
 
   @Override
   public void onRewardedAdShown(@NonNull RewardedAd rewardedAd) {
+    latencyTracker.endStage(Stage.SHOW);
     if (mediationRewardedAdCallback == null) {
       return;
     }
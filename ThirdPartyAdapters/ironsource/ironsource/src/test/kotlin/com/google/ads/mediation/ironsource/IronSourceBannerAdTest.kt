@@ -5,6 +5,7 @@ import androidx.core.view.size
 import androidx.test.ext.junit.runners.AndroidJUnit4
 import com.google.ads.mediation.adaptertestkit.FakeMediationAdLoadCallback
 import com.google.ads.mediation.adaptertestkit.FakeMediationBannerAdCallback
+import com.google.ads.mediation.adaptertestkit.assertNoRetentionAfterLoadDestroyCycles
 import com.google.ads.mediation.adaptertestkit.assertThat
 import com.google.ads.mediation.adaptertestkit.createMediationBannerAdConfiguration
 import com.google.ads.mediation.ironsource.IronSourceBannerAd.getFromAvailableInstances
@@ -214,6 +215,33 @@ class IronSourceBannerAdTest {
     }
   }
 
+  @Test
+  fun loadAd_repeatedlyWithNewActivities_doesNotRetainActivitiesOrViews() {
+    assertNoRetentionAfterLoadDestroyCycles { _, probe ->
+      val cycleActivity = Robolectric.buildActivity(Activity::class.java).get()
+      val cycleMediationUtils = mock<MediationUtilsWrapper>()
+      whenever(cycleMediationUtils.findClosestSize(any(), any(), any())) doReturn AdSize.BANNER
+      val loadCallback =
+        FakeMediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback>(
+          FakeMediationBannerAdCallback()
+        )
+      val bannerAd = IronSourceBannerAd(loadCallback)
+      mockStatic(IronSource::class.java).use {
+        whenever(createBannerForDemandOnly(any(), any())) doReturn
+          mock<ISDemandOnlyBannerLayout>()
+        bannerAd.loadAd(createMediationBannerAdConfiguration(cycleActivity), cycleMediationUtils)
+        IronSourceBannerAdListener().onBannerAdLoaded(/* instanceId= */ "0")
+      }
+      assertThat(loadCallback).hasSucceededWith(bannerAd)
+
+      // Destroy the banner, as the next load for another instance ID does.
+      IronSourceBannerAd.removeFromAvailableInstances(/* instanceId= */ "0")
+      probe.watch(bannerAd, "IronSourceBannerAd")
+      probe.watch(cycleActivity, "Activity")
+      probe.watchViewHierarchy(bannerAd.view, "Banner view")
+    }
+  }
+
   private fun loadBannerAd(): IronSourceBannerAdListener {
     val mediationAdConfiguration = createMediationBannerAdConfiguration(activity)
     whenever(mediationUtils.findClosestSize(eq(activity), eq(AdSize.BANNER), any())) doReturn
@@ -1,9 +1,11 @@
 package com.google.ads.mediation.ironsource
 
 import android.app.Activity
+import android.os.Looper
 import androidx.test.ext.junit.runners.AndroidJUnit4
 import com.google.ads.mediation.adaptertestkit.FakeMediationAdLoadCallback
 import com.google.ads.mediation.adaptertestkit.FakeMediationInterstitialAdCallback
+import com.google.ads.mediation.adaptertestkit.assertNoRetentionAfterLoadDestroyCycles
 import com.google.ads.mediation.adaptertestkit.assertThat
 import com.google.ads.mediation.adaptertestkit.createMediationInterstitialAdConfiguration
 import com.google.ads.mediation.ironsource.IronSourceInterstitialAd.getFromAvailableInstances
@@ -20,6 +22,7 @@ import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.Mockito.mockStatic
 import org.robolectric.Robolectric
+import org.robolectric.Shadows.shadowOf
 
 /** Tests for [IronSourceInterstitialAd]. */
 @RunWith(AndroidJUnit4::class)
@@ -226,6 +229,41 @@ class IronSourceInterstitialAdTest {
     assertThat(interstitialAdCallback.isClosed).isFalse()
   }
 
+  @Test
+  fun loadWaterfallAd_repeatedlyWithWaitingRequests_doesNotRetainActivitiesOrAds() {
+    assertNoRetentionAfterLoadDestroyCycles { _, probe ->
+      val cycleActivity = Robolectric.buildActivity(Activity::class.java).get()
+      val mediationAdConfiguration = createMediationInterstitialAdConfiguration(cycleActivity)
+      val firstLoadCallback =
+        FakeMediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>(
+          FakeMediationInterstitialAdCallback()
+        )
+      val secondLoadCallback =
+        FakeMediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>(
+          FakeMediationInterstitialAdCallback()
+        )
+      val firstAd = IronSourceInterstitialAd(mediationAdConfiguration, firstLoadCallback)
+      val secondAd = IronSourceInterstitialAd(mediationAdConfiguration, secondLoadCallback)
+      val listener = IronSourceInterstitialAd.getIronSourceInterstitialListener()
+      mockStatic(IronSource::class.java).use {
+        firstAd.loadWaterfallAd(mediationAdConfiguration)
+        // The second request waits for the first ad to release the instance ID.
+        secondAd.loadWaterfallAd(mediationAdConfiguration)
+        listener.onInterstitialAdReady(/* instanceId= */ "0")
+        listener.onInterstitialAdClosed(/* instanceId= */ "0")
+        shadowOf(Looper.getMainLooper()).idle()
+        listener.onInterstitialAdReady(/* instanceId= */ "0")
+        listener.onInterstitialAdClosed(/* instanceId= */ "0")
+      }
+      assertThat(firstLoadCallback).hasSucceededWith(firstAd)
+      assertThat(secondLoadCallback).hasSucceededWith(secondAd)
+
+      probe.watch(firstAd, "IronSourceInterstitialAd owning the instance ID")
+      probe.watch(secondAd, "IronSourceInterstitialAd waiting for the instance ID")
+      probe.watch(cycleActivity, "Activity")
+    }
+  }
+
   private fun loadInterstitialAd() {
     val mediationAdConfiguration = createMediationInterstitialAdConfiguration(activity)
     ironSourceInterstitialAd =
@@ -3,6 +3,7 @@ package com.google.ads.mediation.ironsource
 import android.app.Activity
 import android.content.Context
 import android.os.Bundle
+import android.os.Looper
 import androidx.core.os.bundleOf
 import androidx.test.core.app.ApplicationProvider
 import androidx.test.ext.junit.runners.AndroidJUnit4
@@ -16,6 +17,7 @@ import com.google.ads.mediation.adaptertestkit.assertThat
 import com.google.ads.mediation.adaptertestkit.createMediationBannerAdConfiguration
 import com.google.ads.mediation.adaptertestkit.createMediationInterstitialAdConfiguration
 import com.google.ads.mediation.adaptertestkit.createMediationRewardedAdConfiguration
+import com.google.ads.mediation.common.WeakOwnerSlotQueue
 import com.google.ads.mediation.ironsource.IronSourceAdapterUtils.getAdapterVersion
 import com.google.ads.mediation.ironsource.IronSourceConstants.KEY_APP_KEY
 import com.google.ads.mediation.ironsource.IronSourceMediationAdapter.ADAPTER_ERROR_DOMAIN
@@ -43,6 +45,8 @@ import com.google.common.truth.Truth.assertThat
 import com.ironsource.mediationsdk.IronSource
 import com.ironsource.mediationsdk.IronSource.createBannerForDemandOnly
 import com.ironsource.mediationsdk.demandOnly.ISDemandOnlyBannerLayout
+import com.ironsource.mediationsdk.logger.IronSourceError
+import com.ironsource.mediationsdk.logger.IronSourceError.ERROR_CODE_DECRYPT_FAILED
 import com.unity3d.ironsourceads.InitListener
 import com.unity3d.ironsourceads.IronSourceAds
 import com.unity3d.ironsourceads.IronSourceAds.getSdkVersion
@@ -58,8 +62,10 @@ import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.eq
 import org.mockito.kotlin.mock
 import org.mockito.kotlin.never
+import org.mockito.kotlin.times
 import org.mockito.kotlin.whenever
 import org.robolectric.Robolectric
+import org.robolectric.Shadows.shadowOf
 
 /** Tests for [IronSourceMediationAdapter]. */
 @RunWith(AndroidJUnit4::class)
@@ -502,7 +508,7 @@ class IronSourceMediationAdapterTest {
     whenever(mediationUtils.findClosestSize(eq(activity), eq(AdSize.BANNER), any())) doReturn
       AdSize.BANNER
     adapter.loadBannerAd(mediationAdConfiguration, bannerAdLoadCallback)
-    // Clear the ad reference's reference to the ad object.
+    // Simulate the garbage collection of the previously loaded ad.
     IronSourceBannerAd.availableBannerInstances["0"]?.clear()
     mockStatic(IronSource::class.java).use {
       val mockISBannerLayout = mock<ISDemandOnlyBannerLayout>()
@@ -530,6 +536,73 @@ class IronSourceMediationAdapterTest {
     assertThat(interstitialAdLoadCallback).hasFailedWith(expectedError)
   }
 
+  @Test
+  fun loadInterstitialAd_whileInitializing_loadsAdOnceInitialized() {
+    mockStatic(IronSourceAds::class.java).use {
+      var initListener: InitListener? = null
+      whenever(IronSourceAds.init(any(), any(), any())).thenAnswer { invocation ->
+        initListener = invocation.getArgument<InitListener>(2)
+        null
+      }
+      adapter.initialize(
+        context,
+        initializationCompleteCallback,
+        listOf(
+          createMediationConfiguration(
+            AdFormat.INTERSTITIAL,
+            serverParameters = bundleOf(KEY_APP_KEY to TEST_APP_ID_1),
+          )
+        ),
+      )
+      // The load continues past the initialization check once initialized, and then fails on the
+      // non-Activity context.
+      val mediationAdConfiguration = createMediationInterstitialAdConfiguration(context)
+      val expectedError =
+        AdError(ERROR_REQUIRES_ACTIVITY_CONTEXT, INVALID_CONTEXT_MESSAGE, ADAPTER_ERROR_DOMAIN)
+
+      adapter.loadInterstitialAd(mediationAdConfiguration, interstitialAdLoadCallback)
+      initListener!!.onInitSuccess()
+      shadowOf(Looper.getMainLooper()).idle()
+
+      assertThat(interstitialAdLoadCallback).hasFailedWith(expectedError)
+      assertThat(IronSourcePendingLoadQueue.getInstance().savedRequestCount).isEqualTo(1)
+    }
+  }
+
+  @Test
+  fun loadRewardedAd_whileInitializationFails_expectOnFailureCallbackWithAdError() {
+    mockStatic(IronSourceAds::class.java).use {
+      var initListener: InitListener? = null
+      whenever(IronSourceAds.init(any(), any(), any())).thenAnswer { invocation ->
+        initListener = invocation.getArgument<InitListener>(2)
+        null
+      }
+      adapter.initialize(
+        context,
+        initializationCompleteCallback,
+        listOf(
+          createMediationConfiguration(
+            AdFormat.REWARDED,
+            serverParameters = bundleOf(KEY_APP_KEY to TEST_APP_ID_1),
+          )
+        ),
+      )
+      val mediationAdConfiguration = createMediationRewardedAdConfiguration(context)
+      val expectedError =
+        AdError(
+          ERROR_SDK_NOT_INITIALIZED,
+          getUninitializedErrorMessage(adFormat = "rewarded"),
+          ADAPTER_ERROR_DOMAIN,
+        )
+
+      adapter.loadRewardedAd(mediationAdConfiguration, rewardedAdLoadCallback)
+      initListener!!.onInitFailed(IronSourceError(/* errorCode= */ 1, "init failed"))
+      shadowOf(Looper.getMainLooper()).idle()
+
+      assertThat(rewardedAdLoadCallback).hasFailedWith(expectedError)
+    }
+  }
+
   @Test
   fun loadInterstitialAd_invalidContext_expectOnFailureCallbackWithAdError() {
     adapter.setIsInitialized(true)
@@ -587,12 +660,38 @@ class IronSourceMediationAdapterTest {
   }
 
   @Test
-  fun loadInterstitialAd_alreadyLoadedInstanceId_expectOnFailureCallbackWithAdError() {
+  fun loadInterstitialAd_alreadyLoadingInstanceId_loadsAfterInstanceIsReleased() {
+    mockStatic(IronSource::class.java).use {
+      adapter.setIsInitialized(true)
+      val mediationAdConfiguration = createMediationInterstitialAdConfiguration(activity)
+      adapter.loadInterstitialAd(mediationAdConfiguration, interstitialAdLoadCallback)
+      val secondInterstitialAdLoadCallback =
+        FakeMediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>()
+
+      adapter.loadInterstitialAd(mediationAdConfiguration, secondInterstitialAdLoadCallback)
+      shadowOf(Looper.getMainLooper()).idle()
+
+      it.verify({ IronSource.loadISDemandOnlyInterstitial(activity, "0") }, times(1))
+      assertThat(secondInterstitialAdLoadCallback).hasNoFailure()
+      val ironSourceError = IronSourceError(ERROR_CODE_DECRYPT_FAILED, "Decrypt failed.")
+      IronSourceInterstitialAd.getIronSourceInterstitialListener()
+        .onInterstitialAdLoadFailed(/* instanceId= */ "0", ironSourceError)
+      shadowOf(Looper.getMainLooper()).idle()
+      it.verify({ IronSource.loadISDemandOnlyInterstitial(activity, "0") }, times(2))
+      assertThat(secondInterstitialAdLoadCallback).hasNoFailure()
+    }
+  }
+
+  @Test
+  fun loadInterstitialAd_waitQueueFull_expectOnFailureCallbackWithAdError() {
     adapter.setIsInitialized(true)
     val mediationAdConfiguration = createMediationInterstitialAdConfiguration(activity)
     adapter.loadInterstitialAd(mediationAdConfiguration, interstitialAdLoadCallback)
+    repeat(WeakOwnerSlotQueue.DEFAULT_MAX_WAITING_PER_SLOT) {
+      adapter.loadInterstitialAd(mediationAdConfiguration, FakeMediationAdLoadCallback())
+    }
 
-    val secondInterstitialAdLoadCallback =
+    val rejectedInterstitialAdLoadCallback =
       FakeMediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>()
     val expectedError =
       AdError(
@@ -601,9 +700,9 @@ class IronSourceMediationAdapterTest {
         ADAPTER_ERROR_DOMAIN,
       )
 
-    adapter.loadInterstitialAd(mediationAdConfiguration, secondInterstitialAdLoadCallback)
+    adapter.loadInterstitialAd(mediationAdConfiguration, rejectedInterstitialAdLoadCallback)
 
-    assertThat(secondInterstitialAdLoadCallback).hasFailedWith(expectedError)
+    assertThat(rejectedInterstitialAdLoadCallback).hasFailedWith(expectedError)
   }
 
   @Test
@@ -611,8 +710,8 @@ class IronSourceMediationAdapterTest {
     adapter.setIsInitialized(true)
     val mediationAdConfiguration = createMediationInterstitialAdConfiguration(activity)
     adapter.loadInterstitialAd(mediationAdConfiguration, interstitialAdLoadCallback)
-    // Clear the ad reference's reference to the ad object.
-    IronSourceInterstitialAd.availableInterstitialInstances["0"]?.clear()
+    // Simulate the garbage collection of the previously loaded ad.
+    IronSourceInterstitialAd.interstitialSlots.collectOwner("0")
 
     mockStatic(IronSource::class.java).use {
       // Reload an ad for the same instance ID (i.e. "0") as above.
@@ -694,12 +793,38 @@ class IronSourceMediationAdapterTest {
   }
 
   @Test
-  fun loadRewardedAd_alreadyLoadedInstanceId_expectOnFailureCallbackWithAdError() {
+  fun loadRewardedAd_alreadyLoadingInstanceId_loadsAfterInstanceIsReleased() {
+    mockStatic(IronSource::class.java).use {
+      adapter.setIsInitialized(true)
+      val mediationAdConfiguration = createMediationRewardedAdConfiguration(activity)
+      adapter.loadRewardedAd(mediationAdConfiguration, rewardedAdLoadCallback)
+      val secondRewardedAdLoadCallback =
+        FakeMediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>()
+
+      adapter.loadRewardedAd(mediationAdConfiguration, secondRewardedAdLoadCallback)
+      shadowOf(Looper.getMainLooper()).idle()
+
+      it.verify({ IronSource.loadISDemandOnlyRewardedVideo(activity, "0") }, times(1))
+      assertThat(secondRewardedAdLoadCallback).hasNoFailure()
+      val ironSourceError = IronSourceError(ERROR_CODE_DECRYPT_FAILED, "Decrypt failed.")
+      IronSourceRewardedAd.getIronSourceRewardedListener()
+        .onRewardedVideoAdLoadFailed(/* instanceId= */ "0", ironSourceError)
+      shadowOf(Looper.getMainLooper()).idle()
+      it.verify({ IronSource.loadISDemandOnlyRewardedVideo(activity, "0") }, times(2))
+      assertThat(secondRewardedAdLoadCallback).hasNoFailure()
+    }
+  }
+
+  @Test
+  fun loadRewardedAd_waitQueueFull_expectOnFailureCallbackWithAdError() {
     adapter.setIsInitialized(true)
     val mediationAdConfiguration = createMediationRewardedAdConfiguration(activity)
     adapter.loadRewardedAd(mediationAdConfiguration, rewardedAdLoadCallback)
+    repeat(WeakOwnerSlotQueue.DEFAULT_MAX_WAITING_PER_SLOT) {
+      adapter.loadRewardedAd(mediationAdConfiguration, FakeMediationAdLoadCallback())
+    }
 
-    val secondRewardedAdLoadCallback =
+    val rejectedRewardedAdLoadCallback =
       FakeMediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>()
     val expectedError =
       AdError(
@@ -708,9 +833,9 @@ class IronSourceMediationAdapterTest {
         ADAPTER_ERROR_DOMAIN,
       )
 
-    adapter.loadRewardedAd(mediationAdConfiguration, secondRewardedAdLoadCallback)
+    adapter.loadRewardedAd(mediationAdConfiguration, rejectedRewardedAdLoadCallback)
 
-    assertThat(secondRewardedAdLoadCallback).hasFailedWith(expectedError)
+    assertThat(rejectedRewardedAdLoadCallback).hasFailedWith(expectedError)
   }
 
   @Test
@@ -718,8 +843,8 @@ class IronSourceMediationAdapterTest {
     adapter.setIsInitialized(true)
     val mediationAdConfiguration = createMediationRewardedAdConfiguration(activity)
     adapter.loadRewardedAd(mediationAdConfiguration, rewardedAdLoadCallback)
-    // Clear the ad reference's reference to the ad object.
-    IronSourceRewardedAd.availableInstances["0"]?.clear()
+    // Simulate the garbage collection of the previously loaded ad.
+    IronSourceRewardedAd.rewardedSlots.collectOwner("0")
 
     mockStatic(IronSource::class.java).use {
       // Reload an ad for the same instance ID (i.e. "0") as above.
@@ -785,12 +910,15 @@ class IronSourceMediationAdapterTest {
   }
 
   @Test
-  fun loadRewardedInterstitialAd_alreadyLoadedInstanceId_expectOnFailureCallbackWithAdError() {
+  fun loadRewardedInterstitialAd_waitQueueFull_expectOnFailureCallbackWithAdError() {
     adapter.setIsInitialized(true)
     val mediationAdConfiguration = createMediationRewardedAdConfiguration(activity)
     adapter.loadRewardedInterstitialAd(mediationAdConfiguration, rewardedAdLoadCallback)
+    repeat(WeakOwnerSlotQueue.DEFAULT_MAX_WAITING_PER_SLOT) {
+      adapter.loadRewardedInterstitialAd(mediationAdConfiguration, FakeMediationAdLoadCallback())
+    }
 
-    val secondRewardedAdLoadCallback =
+    val rejectedRewardedAdLoadCallback =
       FakeMediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>()
     val expectedError =
       AdError(
@@ -799,9 +927,9 @@ class IronSourceMediationAdapterTest {
         ADAPTER_ERROR_DOMAIN,
       )
 
-    adapter.loadRewardedInterstitialAd(mediationAdConfiguration, secondRewardedAdLoadCallback)
+    adapter.loadRewardedInterstitialAd(mediationAdConfiguration, rejectedRewardedAdLoadCallback)
 
-    assertThat(secondRewardedAdLoadCallback).hasFailedWith(expectedError)
+    assertThat(rejectedRewardedAdLoadCallback).hasFailedWith(expectedError)
   }
 
   @Test
@@ -809,8 +937,8 @@ class IronSourceMediationAdapterTest {
     adapter.setIsInitialized(true)
     val mediationAdConfiguration = createMediationRewardedAdConfiguration(activity)
     adapter.loadRewardedInterstitialAd(mediationAdConfiguration, rewardedAdLoadCallback)
-    // Clear the ad reference's reference to the ad object.
-    IronSourceRewardedAd.availableInstances["0"]?.clear()
+    // Simulate the garbage collection of the previously loaded ad.
+    IronSourceRewardedAd.rewardedSlots.collectOwner("0")
 
     mockStatic(IronSource::class.java).use {
       // Reload an ad for the same instance ID (i.e. "0") as above.
@@ -823,6 +951,7 @@ class IronSourceMediationAdapterTest {
   @After
   fun tearDown() {
     adapter.setIsInitialized(false)
+    IronSourcePendingLoadQueue.getInstance().reset()
     IronSourceBannerAd.removeFromAvailableInstances(/* instanceId= */ "0")
     IronSourceInterstitialAd.removeFromAvailableInstances(/* instanceId= */ "0")
     IronSourceRewardedAd.removeFromAvailableInstances(/* instanceId= */ "0")
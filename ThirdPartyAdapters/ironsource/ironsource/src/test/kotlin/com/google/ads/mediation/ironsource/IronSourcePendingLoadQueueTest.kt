@@ -0,0 +1,105 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.ironsource
+
+import android.os.Handler
+import android.os.Looper
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.ironsource.IronSourcePendingLoadQueue.MAX_PENDING_REQUESTS
+import com.google.ads.mediation.ironsource.IronSourcePendingLoadQueue.MAX_WAIT_MILLIS
+import com.google.common.truth.Truth.assertThat
+import java.time.Duration
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Shadows.shadowOf
+
+/** Tests for [IronSourcePendingLoadQueue]. */
+@RunWith(AndroidJUnit4::class)
+class IronSourcePendingLoadQueueTest {
+
+  private val pendingLoadQueue = IronSourcePendingLoadQueue(Handler(Looper.getMainLooper()))
+  private val events = mutableListOf<String>()
+
+  @Test
+  fun enqueue_withoutInitializationInFlight_returnsFalse() {
+    assertThat(enqueue("request")).isFalse()
+  }
+
+  @Test
+  fun onInitializationSucceeded_loadsPendingRequestsInOrderAndRecordsMetrics() {
+    pendingLoadQueue.onInitializationStarted()
+    assertThat(enqueue("request1")).isTrue()
+    assertThat(enqueue("request2")).isTrue()
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(100))
+
+    pendingLoadQueue.onInitializationSucceeded()
+    shadowOf(Looper.getMainLooper()).idle()
+
+    assertThat(events).containsExactly("load request1", "load request2").inOrder()
+    assertThat(pendingLoadQueue.savedRequestCount).isEqualTo(2)
+    assertThat(pendingLoadQueue.maxWaitMillis).isAtLeast(100)
+    assertThat(pendingLoadQueue.averageWaitMillis).isAtLeast(100)
+  }
+
+  @Test
+  fun onInitializationSucceeded_doesNotFailRequestsAfterTheirDeadline() {
+    pendingLoadQueue.onInitializationStarted()
+    enqueue("request")
+    pendingLoadQueue.onInitializationSucceeded()
+
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(MAX_WAIT_MILLIS))
+
+    assertThat(events).containsExactly("load request")
+  }
+
+  @Test
+  fun onInitializationFailed_failsPendingRequests() {
+    pendingLoadQueue.onInitializationStarted()
+    enqueue("request")
+
+    pendingLoadQueue.onInitializationFailed()
+    shadowOf(Looper.getMainLooper()).idle()
+
+    assertThat(events).containsExactly("fail request")
+    assertThat(pendingLoadQueue.savedRequestCount).isEqualTo(0)
+    assertThat(enqueue("request after failure")).isFalse()
+  }
+
+  @Test
+  fun deadlineExpired_failsRequest() {
+    pendingLoadQueue.onInitializationStarted()
+    enqueue("request")
+
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(MAX_WAIT_MILLIS))
+    pendingLoadQueue.onInitializationSucceeded()
+    shadowOf(Looper.getMainLooper()).idle()
+
+    assertThat(events).containsExactly("fail request")
+    assertThat(pendingLoadQueue.expiredRequestCount).isEqualTo(1)
+    assertThat(pendingLoadQueue.savedRequestCount).isEqualTo(0)
+  }
+
+  @Test
+  fun enqueue_whenQueueIsFull_returnsFalse() {
+    pendingLoadQueue.onInitializationStarted()
+    repeat(MAX_PENDING_REQUESTS) { assertThat(enqueue("request$it")).isTrue() }
+
+    assertThat(enqueue("one request too many")).isFalse()
+    assertThat(pendingLoadQueue.rejectedRequestCount).isEqualTo(1)
+  }
+
+  private fun enqueue(name: String) =
+    pendingLoadQueue.enqueue({ events.add("load $name") }, { events.add("fail $name") })
+}
@@ -1,9 +1,11 @@
 package com.google.ads.mediation.ironsource
 
 import android.app.Activity
+import android.os.Looper
 import androidx.test.ext.junit.runners.AndroidJUnit4
 import com.google.ads.mediation.adaptertestkit.FakeMediationAdLoadCallback
 import com.google.ads.mediation.adaptertestkit.FakeMediationRewardedAdCallback
+import com.google.ads.mediation.adaptertestkit.assertNoRetentionAfterLoadDestroyCycles
 import com.google.ads.mediation.adaptertestkit.assertThat
 import com.google.ads.mediation.adaptertestkit.createMediationRewardedAdConfiguration
 import com.google.ads.mediation.ironsource.IronSourceMediationAdapter.IRONSOURCE_SDK_ERROR_DOMAIN
@@ -20,6 +22,7 @@ import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.Mockito.mockStatic
 import org.robolectric.Robolectric
+import org.robolectric.Shadows.shadowOf
 
 /** Tests for [IronSourceRewardedAd]. */
 @RunWith(AndroidJUnit4::class)
@@ -223,6 +226,41 @@ class IronSourceRewardedAdTest {
     assertThat(rewardedAdCallback.isClosed).isFalse()
   }
 
+  @Test
+  fun loadWaterfallAd_repeatedlyWithWaitingRequests_doesNotRetainActivitiesOrAds() {
+    assertNoRetentionAfterLoadDestroyCycles { _, probe ->
+      val cycleActivity = Robolectric.buildActivity(Activity::class.java).get()
+      val mediationAdConfiguration = createMediationRewardedAdConfiguration(cycleActivity)
+      val firstLoadCallback =
+        FakeMediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>(
+          FakeMediationRewardedAdCallback()
+        )
+      val secondLoadCallback =
+        FakeMediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>(
+          FakeMediationRewardedAdCallback()
+        )
+      val firstAd = IronSourceRewardedAd(mediationAdConfiguration, firstLoadCallback)
+      val secondAd = IronSourceRewardedAd(mediationAdConfiguration, secondLoadCallback)
+      val listener = IronSourceRewardedAd.getIronSourceRewardedListener()
+      mockStatic(IronSource::class.java).use {
+        firstAd.loadWaterfallAd(mediationAdConfiguration)
+        // The second request waits for the first ad to release the instance ID.
+        secondAd.loadWaterfallAd(mediationAdConfiguration)
+        listener.onRewardedVideoAdLoadSuccess(/* instanceId= */ "0")
+        listener.onRewardedVideoAdClosed(/* instanceId= */ "0")
+        shadowOf(Looper.getMainLooper()).idle()
+        listener.onRewardedVideoAdLoadSuccess(/* instanceId= */ "0")
+        listener.onRewardedVideoAdClosed(/* instanceId= */ "0")
+      }
+      assertThat(firstLoadCallback).hasSucceededWith(firstAd)
+      assertThat(secondLoadCallback).hasSucceededWith(secondAd)
+
+      probe.watch(firstAd, "IronSourceRewardedAd owning the instance ID")
+      probe.watch(secondAd, "IronSourceRewardedAd waiting for the instance ID")
+      probe.watch(cycleActivity, "Activity")
+    }
+  }
+
   private fun loadRewardedAd() {
     val mediationAdConfiguration = createMediationRewardedAdConfiguration(activity)
     ironSourceRewardedAd = IronSourceRewardedAd(mediationAdConfiguration, rewardedAdLoadCallback)
@@ -10,7 +10,11 @@ import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_WATE
 import com.google.ads.mediation.adaptertestkit.FakeMediationAdLoadCallback
 import com.google.ads.mediation.adaptertestkit.FakeMediationInterstitialAdCallback
 import com.google.ads.mediation.adaptertestkit.assertThat
+import com.google.ads.mediation.common.AdLatencyMetrics
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.HistogramAdLatencyMetrics
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.mediation.MediationInterstitialAd
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback
 import com.google.android.gms.ads.mediation.MediationInterstitialAdConfiguration
@@ -174,6 +178,30 @@ class IronSourceRtbInterstitialAdTest {
     assertThat(interstitialAdCallback.isImpressionReported).isTrue()
   }
 
+  @Test
+  fun onInterstitialAdShown_withLatencyMetrics_recordsLoadAndShowStages() {
+    val activity = Robolectric.buildActivity(Activity::class.java).get()
+    val latencyMetrics = HistogramAdLatencyMetrics()
+    AdLatencyMetrics.setInstance(latencyMetrics)
+    try {
+      ironSourceRtbInterstitialAd = IronSourceRtbInterstitialAd(interstitialAdLoadCallback)
+      ironSourceRtbInterstitialAd.loadRtbAd(mockInterstitialAdConfig)
+      ironSourceRtbInterstitialAd.onInterstitialAdLoaded(mockInterstitialAd)
+
+      ironSourceRtbInterstitialAd.showAd(activity)
+      ironSourceRtbInterstitialAd.onInterstitialAdShown(mockInterstitialAd)
+    } finally {
+      AdLatencyMetrics.setInstance(null)
+    }
+
+    for (stage in listOf(Stage.SDK_LOAD, Stage.LOAD_CALLBACK, Stage.TIME_TO_FILL, Stage.SHOW)) {
+      assertThat(
+          latencyMetrics.getHistogram("IronSource", AdFormat.INTERSTITIAL, stage)!!.getCount()
+        )
+        .isEqualTo(1)
+    }
+  }
+
   @Test
   fun onInterstitialAdClosed_verifyOnAdClosedCallback() {
     // given
@@ -17,6 +17,7 @@ package com.google.ads.mediation.vungle;
 import android.content.Context;
 import androidx.annotation.NonNull;
 import com.google.ads.mediation.common.AgeRestrictedTreatmentUtils;
+import com.google.ads.mediation.common.SingleFlightInitializer;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AgeRestrictedTreatment;
 import com.google.android.gms.ads.MobileAds;
@@ -25,14 +26,12 @@ import com.vungle.ads.InitializationListener;
 import com.vungle.ads.VungleAds;
 import com.vungle.ads.VungleError;
 import com.vungle.ads.VunglePrivacySettings;
-import java.util.ArrayList;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 public class VungleInitializer implements InitializationListener {
 
   private static final VungleInitializer instance = new VungleInitializer();
-  private final AtomicBoolean isInitializing = new AtomicBoolean(false);
-  private final ArrayList<VungleInitializationListener> initListeners;
+  private final SingleFlightInitializer<VungleInitializationListener> initializer =
+      new SingleFlightInitializer<>();
 
   @NonNull
   public static VungleInitializer getInstance() {
@@ -40,7 +39,6 @@ public class VungleInitializer implements InitializationListener {
   }
 
   private VungleInitializer() {
-    initListeners = new ArrayList<>();
     VungleAds.setIntegrationName(
         "admob", com.vungle.mediation.BuildConfig.ADAPTER_VERSION.replace('.', '_'));
   }
@@ -55,34 +53,36 @@ public class VungleInitializer implements InitializationListener {
       return;
     }
 
-    if (isInitializing.getAndSet(true)) {
-      initListeners.add(listener);
-      return;
+    // Liftoff Monetize SDK is the source of truth for whether it is initialized.
+    initializer.resetIfInitialized();
+    switch (initializer.addListener(listener)) {
+      case ALREADY_INITIALIZED:
+        listener.onInitializeSuccess();
+        return;
+      case JOINED_PENDING_INITIALIZATION:
+        return;
+      case START_INITIALIZATION:
+        break;
     }
 
     updateCoppaAndUnderageConsentStatus(MobileAds.getRequestConfiguration());
 
     VungleSdkWrapper.delegate.init(context, appId, VungleInitializer.this);
-    initListeners.add(listener);
   }
 
   @Override
   public void onSuccess() {
-    for (VungleInitializationListener listener : initListeners) {
+    for (VungleInitializationListener listener : initializer.completeWithSuccess()) {
       listener.onInitializeSuccess();
     }
-    initListeners.clear();
-    isInitializing.set(false);
   }
 
   @Override
   public void onError(@NonNull final VungleError vungleError) {
     final AdError error = VungleMediationAdapter.getAdError(vungleError);
-    for (VungleInitializationListener listener : initListeners) {
+    for (VungleInitializationListener listener : initializer.completeWithFailure()) {
       listener.onInitializeError(error);
     }
-    initListeners.clear();
-    isInitializing.set(false);
   }
 
   public void updateCoppaAndUnderageConsentStatus(RequestConfiguration configuration) {
@@ -26,6 +26,10 @@ import android.util.Log;
 import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
+import com.google.ads.mediation.common.SignalCollector;
+import com.google.ads.mediation.common.VersionInfoParser;
 import com.google.ads.mediation.vungle.VungleInitializer.VungleInitializationListener;
 import com.google.ads.mediation.vungle.rtb.VungleRtbAppOpenAd;
 import com.google.ads.mediation.vungle.rtb.VungleRtbBannerAd;
@@ -36,6 +40,7 @@ import com.google.ads.mediation.vungle.waterfall.VungleWaterfallAppOpenAd;
 import com.google.ads.mediation.vungle.waterfall.VungleWaterfallBannerAd;
 import com.google.ads.mediation.vungle.waterfall.VungleWaterfallInterstitialAd;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.VersionInfo;
 import com.google.android.gms.ads.mediation.InitializationCompleteCallback;
@@ -76,8 +81,20 @@ import java.util.List;
 public class VungleMediationAdapter extends RtbAdapter
     implements MediationRewardedAd, RewardedAdListener {
 
+  /** Parses and caches the adapter version. */
+  private static final VersionInfoParser ADAPTER_VERSION_PARSER = new VersionInfoParser(4, 4);
+
+  /** Parses and caches the SDK version. */
+  private static final VersionInfoParser SDK_VERSION_PARSER = new VersionInfoParser(3, 3);
+
+  /** Deadline for Liftoff Monetize SDK to generate its bid token, which it does asynchronously. */
+  private static final long SIGNAL_TIMEOUT_MILLIS = 1000;
+
   public static final String TAG = VungleMediationAdapter.class.getSimpleName();
 
+  /** The network name reported to the bid token cache and the ad latency metrics. */
+  public static final String NETWORK_NAME = "Liftoff Monetize";
+
   private VungleWaterfallAppOpenAd waterfallAppOpenAd;
   private VungleWaterfallInterstitialAd waterfallInterstitialAd;
 
@@ -92,6 +109,11 @@ public class VungleMediationAdapter extends RtbAdapter
   private String userId;
   private String placementId;
   private RewardedAd rewardedAd;
+
+  /** Times the stages of the load and show of the waterfall rewarded ad. */
+  private final AdLatencyTracker rewardedLatencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.REWARDED);
+
   private MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>
       mediationAdLoadCallback;
   private MediationRewardedAdCallback mediationRewardedAdCallback;
@@ -154,13 +176,9 @@ public class VungleMediationAdapter extends RtbAdapter
   @Override
   public VersionInfo getVersionInfo() {
     String versionString = getAdapterVersion();
-    String[] splits = versionString.split("\\.");
-
-    if (splits.length >= 4) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int micro = Integer.parseInt(splits[2]) * 100 + Integer.parseInt(splits[3]);
-      return new VersionInfo(major, minor, micro);
+    VersionInfo versionInfo = ADAPTER_VERSION_PARSER.parse(versionString);
+    if (versionInfo != null) {
+      return versionInfo;
     }
 
     String logMessage =
@@ -175,13 +193,9 @@ public class VungleMediationAdapter extends RtbAdapter
   @Override
   public VersionInfo getSDKVersionInfo() {
     String versionString = VungleSdkWrapper.delegate.getSdkVersion();
-    String[] splits = versionString.split("\\.");
-
-    if (splits.length >= 3) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int micro = Integer.parseInt(splits[2]);
-      return new VersionInfo(major, minor, micro);
+    VersionInfo versionInfo = SDK_VERSION_PARSER.parse(versionString);
+    if (versionInfo != null) {
+      return versionInfo;
     }
 
     String logMessage =
@@ -194,26 +208,36 @@ public class VungleMediationAdapter extends RtbAdapter
   @Override
   public void collectSignals(
       @NonNull RtbSignalData rtbSignalData, @NonNull SignalCallbacks signalCallbacks) {
-    VungleSdkWrapper.delegate.getBiddingToken(
-        rtbSignalData.getContext(),
-        new BidTokenCallback() {
-          @Override
-          public void onBidTokenCollected(@NonNull String token) {
-            Log.d(TAG, "Liftoff Monetize bidding token=" + token);
-            signalCallbacks.onSuccess(token);
-          }
-
-          @Override
-          public void onBidTokenError(@NonNull String s) {
-            AdError error =
-                new AdError(
-                    ERROR_CANNOT_GET_BID_TOKEN,
-                    "Liftoff Monetize returned an empty bid token.",
-                    ERROR_DOMAIN);
-            Log.w(TAG, error.toString());
-            signalCallbacks.onFailure(error);
-          }
-        });
+    List<MediationConfiguration> configurations = rtbSignalData.getConfigurations();
+    SignalCollector.getInstance()
+        .collectCachedSignals(
+            rtbSignalData.getContext(),
+            NETWORK_NAME,
+            configurations.isEmpty() ? null : configurations.get(0).getFormat(),
+            /* qualifier= */ null,
+            signalCallbacks,
+            SIGNAL_TIMEOUT_MILLIS,
+            callbacks ->
+                VungleSdkWrapper.delegate.getBiddingToken(
+                    rtbSignalData.getContext(),
+                    new BidTokenCallback() {
+                      @Override
+                      public void onBidTokenCollected(@NonNull String token) {
+                        Log.d(TAG, "Liftoff Monetize bidding token=" + token);
+                        callbacks.onSuccess(token);
+                      }
+
+                      @Override
+                      public void onBidTokenError(@NonNull String s) {
+                        AdError error =
+                            new AdError(
+                                ERROR_CANNOT_GET_BID_TOKEN,
+                                "Liftoff Monetize returned an empty bid token.",
+                                ERROR_DOMAIN);
+                        Log.w(TAG, error.toString());
+                        callbacks.onFailure(error);
+                      }
+                    }));
   }
 
   @Override
@@ -307,6 +331,7 @@ public class VungleMediationAdapter extends RtbAdapter
           MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>
               mediationAdLoadCallback) {
     this.mediationAdLoadCallback = mediationAdLoadCallback;
+    rewardedLatencyTracker.startStage(Stage.TIME_TO_FILL);
 
     Bundle mediationExtras = mediationRewardedAdConfiguration.getMediationExtras();
     Bundle serverParameters = mediationRewardedAdConfiguration.getServerParameters();
@@ -354,6 +379,7 @@ public class VungleMediationAdapter extends RtbAdapter
 
     Context context = mediationRewardedAdConfiguration.getContext();
 
+    rewardedLatencyTracker.startStage(Stage.INITIALIZATION);
     VungleInitializer.getInstance()
         .initialize(
             appID,
@@ -361,6 +387,7 @@ public class VungleMediationAdapter extends RtbAdapter
             new VungleInitializationListener() {
               @Override
               public void onInitializeSuccess() {
+                rewardedLatencyTracker.endStage(Stage.INITIALIZATION);
                 rewardedAd = vungleFactory.createRewardedAd(context, placement, adConfig);
                 rewardedAd.setAdListener(VungleMediationAdapter.this);
                 rewardedAd.setAdapterAdFormat("VungleMediationAdapter-rewarded");
@@ -368,6 +395,7 @@ public class VungleMediationAdapter extends RtbAdapter
                   rewardedAd.setUserId(userId);
                 }
 
+                rewardedLatencyTracker.startStage(Stage.SDK_LOAD);
                 rewardedAd.load();
               }
 
@@ -382,6 +410,7 @@ public class VungleMediationAdapter extends RtbAdapter
   @Override
   public void showAd(@NonNull Context context) {
     if (rewardedAd != null) {
+      rewardedLatencyTracker.startStage(Stage.SHOW);
       rewardedAd.play(context);
     } else {
       if (mediationRewardedAdCallback != null) {
@@ -401,14 +430,19 @@ public class VungleMediationAdapter extends RtbAdapter
   @Override
   public void onAdLoaded(@NonNull BaseAd baseAd) {
     Log.d(TAG, "Loaded waterfall rewarded ad from Liftoff Monetize.");
+    rewardedLatencyTracker.endStage(Stage.SDK_LOAD);
     if (mediationAdLoadCallback != null) {
+      rewardedLatencyTracker.endStage(Stage.TIME_TO_FILL);
+      rewardedLatencyTracker.startStage(Stage.LOAD_CALLBACK);
       mediationRewardedAdCallback = mediationAdLoadCallback.onSuccess(VungleMediationAdapter.this);
+      rewardedLatencyTracker.endStage(Stage.LOAD_CALLBACK);
     }
   }
 
   @Override
   public void onAdStart(@NonNull BaseAd baseAd) {
     Log.d(TAG, "Liftoff Monetize waterfall rewarded ad has started.");
+    rewardedLatencyTracker.endStage(Stage.SHOW);
     if (mediationRewardedAdCallback != null) {
       mediationRewardedAdCallback.onAdOpened();
     }
@@ -3,6 +3,8 @@ package com.google.ads.mediation.vungle.renderers
 import android.content.Context
 import android.os.Bundle
 import android.util.Log
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.AdLatencyTracker
 import com.google.ads.mediation.vungle.VungleConstants
 import com.google.ads.mediation.vungle.VungleConstants.KEY_BACK_BUTTON_IMMEDIATELY_ENABLED
 import com.google.ads.mediation.vungle.VungleFactory
@@ -12,8 +14,10 @@ import com.google.ads.mediation.vungle.VungleMediationAdapter
 import com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_CANNOT_PLAY_AD
 import com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_DOMAIN
 import com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS
+import com.google.ads.mediation.vungle.VungleMediationAdapter.NETWORK_NAME
 import com.google.ads.mediation.vungle.VungleMediationAdapter.TAG
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationAppOpenAd
 import com.google.android.gms.ads.mediation.MediationAppOpenAdCallback
@@ -42,8 +46,12 @@ abstract class VungleAppOpenAd(
 
   private var placementId: String? = null
 
+  /** Times the stages of the load and show of this ad. */
+  private val latencyTracker = AdLatencyTracker(NETWORK_NAME, AdFormat.APP_OPEN)
+
   /** Loads an app open ad. */
   fun render(mediationAppOpenAdConfiguration: MediationAppOpenAdConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL)
     val mediationExtras: Bundle = mediationAppOpenAdConfiguration.mediationExtras
     val serverParameters: Bundle = mediationAppOpenAdConfiguration.serverParameters
 
@@ -80,6 +88,7 @@ abstract class VungleAppOpenAd(
 
     val context: Context = mediationAppOpenAdConfiguration.context
 
+    latencyTracker.startStage(Stage.INITIALIZATION)
     VungleInitializer.getInstance()
       .initialize(
         // Safe to access appId here since we do a null-check for appId earlier in the function and
@@ -88,6 +97,7 @@ abstract class VungleAppOpenAd(
         context,
         object : VungleInitializationListener {
           override fun onInitializeSuccess() {
+            latencyTracker.endStage(Stage.INITIALIZATION)
             val adConfig = vungleFactory.createAdConfig()
             if (mediationExtras.containsKey(VungleConstants.KEY_ORIENTATION)) {
               adConfig.adOrientation =
@@ -104,6 +114,7 @@ abstract class VungleAppOpenAd(
             appOpenAd = vungleFactory.createInterstitialAd(context, placement!!, adConfig)
             appOpenAd?.adListener = this@VungleAppOpenAd
             appOpenAd?.adapterAdFormat = "VungleAppOpenAd"
+            latencyTracker.startStage(Stage.SDK_LOAD)
             appOpenAd?.load(getAdMarkup(mediationAppOpenAdConfiguration))
           }
 
@@ -142,14 +153,20 @@ abstract class VungleAppOpenAd(
       return
     }
 
+    latencyTracker.startStage(Stage.SHOW)
     appOpenAd?.play(context)
   }
 
   override fun onAdLoaded(baseAd: BaseAd) {
+    latencyTracker.endStage(Stage.SDK_LOAD)
+    latencyTracker.endStage(Stage.TIME_TO_FILL)
+    latencyTracker.startStage(Stage.LOAD_CALLBACK)
     mediationAppOpenAdCallback = mediationAdLoadCallback.onSuccess(this)
+    latencyTracker.endStage(Stage.LOAD_CALLBACK)
   }
 
   override fun onAdStart(baseAd: BaseAd) {
+    latencyTracker.endStage(Stage.SHOW)
     if (mediationAppOpenAdCallback != null) {
       mediationAppOpenAdCallback?.onAdOpened()
     }
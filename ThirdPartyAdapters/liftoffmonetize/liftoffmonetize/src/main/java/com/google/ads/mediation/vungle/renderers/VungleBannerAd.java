@@ -18,6 +18,7 @@ import static com.google.ads.mediation.vungle.VungleConstants.KEY_APP_ID;
 import static com.google.ads.mediation.vungle.VungleConstants.KEY_PLACEMENT_ID;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_DOMAIN;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS;
+import static com.google.ads.mediation.vungle.VungleMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.TAG;
 
 import android.content.Context;
@@ -26,11 +27,14 @@ import android.text.TextUtils;
 import android.util.Log;
 import android.view.View;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.ads.mediation.vungle.VungleFactory;
 import com.google.ads.mediation.vungle.VungleInitializer;
 import com.google.ads.mediation.vungle.VungleMediationAdapter;
 import com.google.ads.mediation.vungle.VungleSdkWrapper;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationBannerAd;
@@ -55,6 +59,10 @@ public abstract class VungleBannerAd implements MediationBannerAd, BannerAdListe
 
   private final VungleFactory vungleFactory;
 
+  /** Times the stages of the load of this ad. */
+  private final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.BANNER);
+
   public VungleBannerAd(
       @NonNull
           MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback>
@@ -66,6 +74,7 @@ public abstract class VungleBannerAd implements MediationBannerAd, BannerAdListe
 
   public void validateParamsAndLoadAd(
       MediationBannerAdConfiguration mediationBannerAdConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     Bundle serverParameters = mediationBannerAdConfiguration.getServerParameters();
 
     String appID = serverParameters.getString(KEY_APP_ID);
@@ -102,6 +111,7 @@ public abstract class VungleBannerAd implements MediationBannerAd, BannerAdListe
 
     VungleAdSize bannerAdSize = getVungleBannerAdSizeFromGoogleAdSize(adSize, placementForPlay);
 
+    latencyTracker.startStage(Stage.INITIALIZATION);
     VungleInitializer.getInstance()
         .initialize(
             appID,
@@ -109,6 +119,7 @@ public abstract class VungleBannerAd implements MediationBannerAd, BannerAdListe
             new VungleInitializer.VungleInitializationListener() {
               @Override
               public void onInitializeSuccess() {
+                latencyTracker.endStage(Stage.INITIALIZATION);
                 createBannerViewAndLoadAd(
                     context, placementForPlay, bannerAdSize, mediationBannerAdConfiguration);
               }
@@ -132,6 +143,7 @@ public abstract class VungleBannerAd implements MediationBannerAd, BannerAdListe
     AdSize adSize = mediationBannerAdConfiguration.getAdSize();
     VungleSdkWrapper.logCustomSizeForBannerPlacement(
         bannerAdView, "VungleBannerAd-custom", placementId, adSize);
+    latencyTracker.startStage(Stage.SDK_LOAD);
     loadAd(bannerAdView, mediationBannerAdConfiguration);
   }
 
@@ -166,7 +178,11 @@ public abstract class VungleBannerAd implements MediationBannerAd, BannerAdListe
 
   @Override
   public void onAdLoaded(@NonNull BaseAd baseAd) {
+    latencyTracker.endStage(Stage.SDK_LOAD);
+    latencyTracker.endStage(Stage.TIME_TO_FILL);
+    latencyTracker.startStage(Stage.LOAD_CALLBACK);
     mediationBannerAdCallback = mediationAdLoadCallback.onSuccess(this);
+    latencyTracker.endStage(Stage.LOAD_CALLBACK);
   }
 
   @Override
@@ -16,6 +16,8 @@ package com.google.ads.mediation.vungle.renderers
 
 import android.content.Context
 import android.util.Log
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.AdLatencyTracker
 import com.google.ads.mediation.vungle.VungleConstants
 import com.google.ads.mediation.vungle.VungleFactory
 import com.google.ads.mediation.vungle.VungleInitializer
@@ -24,8 +26,10 @@ import com.google.ads.mediation.vungle.VungleMediationAdapter
 import com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_CANNOT_PLAY_AD
 import com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_DOMAIN
 import com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS
+import com.google.ads.mediation.vungle.VungleMediationAdapter.NETWORK_NAME
 import com.google.ads.mediation.vungle.VungleMediationAdapter.TAG
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationInterstitialAd
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback
@@ -51,6 +55,9 @@ abstract class VungleInterstitialAd(
   private var mediationInterstitialAdCallback: MediationInterstitialAdCallback? = null
   private var placementId: String? = null
 
+  /** Times the stages of the load and show of this ad. */
+  private val latencyTracker = AdLatencyTracker(NETWORK_NAME, AdFormat.INTERSTITIAL)
+
   /** Gets ad markup that needs to be passed in when loading Liftoff's interstitial ad. */
   abstract fun getAdMarkup(
     mediationInterstitialAdConfiguration: MediationInterstitialAdConfiguration
@@ -64,6 +71,7 @@ abstract class VungleInterstitialAd(
 
   /** Loads an interstitial ad. */
   fun render(mediationInterstitialAdConfiguration: MediationInterstitialAdConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL)
     val mediationExtras = mediationInterstitialAdConfiguration.mediationExtras
     val serverParameters = mediationInterstitialAdConfiguration.serverParameters
 
@@ -99,12 +107,14 @@ abstract class VungleInterstitialAd(
 
     val context = mediationInterstitialAdConfiguration.context
 
+    latencyTracker.startStage(Stage.INITIALIZATION)
     VungleInitializer.getInstance()
       .initialize(
         appID,
         context,
         object : VungleInitializationListener {
           override fun onInitializeSuccess() {
+            latencyTracker.endStage(Stage.INITIALIZATION)
             val adConfig = vungleFactory.createAdConfig()
             if (mediationExtras.containsKey(VungleConstants.KEY_ORIENTATION)) {
               adConfig.adOrientation =
@@ -116,6 +126,7 @@ abstract class VungleInterstitialAd(
             this@VungleInterstitialAd.interstitialAd = interstitialAd
             interstitialAd.adListener = this@VungleInterstitialAd
             interstitialAd.adapterAdFormat = "VungleInterstitialAd"
+            latencyTracker.startStage(Stage.SDK_LOAD)
             val adMarkup = getAdMarkup(mediationInterstitialAdConfiguration)
             if (adMarkup != null) {
               interstitialAd.load(adMarkup)
@@ -148,12 +159,17 @@ abstract class VungleInterstitialAd(
       return
     }
 
+    latencyTracker.startStage(Stage.SHOW)
     interstitialAd?.play(context)
   }
 
   /** Vungle SDK's InterstitialAdListener implementation */
   override fun onAdLoaded(baseAd: BaseAd) {
+    latencyTracker.endStage(Stage.SDK_LOAD)
+    latencyTracker.endStage(Stage.TIME_TO_FILL)
+    latencyTracker.startStage(Stage.LOAD_CALLBACK)
     mediationInterstitialAdCallback = mediationAdLoadCallback.onSuccess(this@VungleInterstitialAd)
+    latencyTracker.endStage(Stage.LOAD_CALLBACK)
   }
 
   override fun onAdFailedToLoad(baseAd: BaseAd, adError: VungleError) {
@@ -183,6 +199,7 @@ abstract class VungleInterstitialAd(
   }
 
   override fun onAdStart(baseAd: BaseAd) {
+    latencyTracker.endStage(Stage.SHOW)
     if (mediationInterstitialAdCallback != null) {
       mediationInterstitialAdCallback?.onAdOpened()
     }
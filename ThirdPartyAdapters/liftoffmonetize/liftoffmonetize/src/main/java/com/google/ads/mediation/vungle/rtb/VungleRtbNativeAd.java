@@ -18,6 +18,7 @@ import static com.google.ads.mediation.vungle.VungleConstants.KEY_APP_ID;
 import static com.google.ads.mediation.vungle.VungleConstants.KEY_PLACEMENT_ID;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_DOMAIN;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS;
+import static com.google.ads.mediation.vungle.VungleMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.TAG;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.runtimeGmaSdkListensToAdapterReportedImpressions;
 
@@ -32,10 +33,13 @@ import android.view.ViewGroup;
 import android.widget.FrameLayout;
 import android.widget.ImageView;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.ads.mediation.vungle.VungleFactory;
 import com.google.ads.mediation.vungle.VungleInitializer;
 import com.google.ads.mediation.vungle.VungleMediationAdapter;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.VideoOptions;
 import com.google.android.gms.ads.formats.NativeAd.Image;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
@@ -72,6 +76,9 @@ public class VungleRtbNativeAd extends UnifiedNativeAdMapper implements NativeAd
 
   private final VungleFactory vungleFactory;
 
+  private final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.NATIVE);
+
   public VungleRtbNativeAd(
       @NonNull MediationAdLoadCallback<UnifiedNativeAdMapper, MediationNativeAdCallback> callback,
       VungleFactory vungleFactory) {
@@ -80,6 +87,7 @@ public class VungleRtbNativeAd extends UnifiedNativeAdMapper implements NativeAd
   }
 
   public void render(@NonNull MediationNativeAdConfiguration adConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     Bundle serverParameters = adConfiguration.getServerParameters();
     NativeAdOptions nativeAdOptions = adConfiguration.getNativeAdOptions();
     VideoOptions googleVideoOptions = nativeAdOptions.getVideoOptions();
@@ -135,6 +143,7 @@ public class VungleRtbNativeAd extends UnifiedNativeAdMapper implements NativeAd
 
     String watermark = adConfiguration.getWatermark();
 
+    latencyTracker.startStage(Stage.INITIALIZATION);
     VungleInitializer.getInstance()
         .initialize(
             appID,
@@ -142,6 +151,7 @@ public class VungleRtbNativeAd extends UnifiedNativeAdMapper implements NativeAd
             new VungleInitializer.VungleInitializationListener() {
               @Override
               public void onInitializeSuccess() {
+                latencyTracker.endStage(Stage.INITIALIZATION);
                 nativeAd = vungleFactory.createNativeAd(context, placementId);
                 nativeAd.setAdOptionsPosition(adOptionsPosition);
                 nativeAd.setAdListener(VungleRtbNativeAd.this);
@@ -155,6 +165,7 @@ public class VungleRtbNativeAd extends UnifiedNativeAdMapper implements NativeAd
                 if (!TextUtils.isEmpty(watermark)) {
                   nativeAd.getAdConfig().setWatermark(watermark);
                 }
+                latencyTracker.startStage(Stage.SDK_LOAD);
                 nativeAd.load(adMarkup);
               }
 
@@ -168,8 +179,14 @@ public class VungleRtbNativeAd extends UnifiedNativeAdMapper implements NativeAd
 
   @Override
   public void onAdLoaded(@NonNull BaseAd baseAd) {
+    latencyTracker.endStage(Stage.SDK_LOAD);
+    latencyTracker.startStage(Stage.ASSET_MAPPING);
     mapNativeAd();
+    latencyTracker.endStage(Stage.ASSET_MAPPING);
+    latencyTracker.endStage(Stage.TIME_TO_FILL);
+    latencyTracker.startStage(Stage.LOAD_CALLBACK);
     nativeAdCallback = adLoadCallback.onSuccess(VungleRtbNativeAd.this);
+    latencyTracker.endStage(Stage.LOAD_CALLBACK);
   }
 
   @Override
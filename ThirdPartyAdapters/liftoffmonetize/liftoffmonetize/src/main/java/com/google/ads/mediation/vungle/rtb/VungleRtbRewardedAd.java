@@ -21,6 +21,7 @@ import static com.google.ads.mediation.vungle.VungleConstants.KEY_USER_ID;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_CANNOT_PLAY_AD;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_DOMAIN;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS;
+import static com.google.ads.mediation.vungle.VungleMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.TAG;
 
 import android.content.Context;
@@ -29,11 +30,14 @@ import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.ads.mediation.vungle.VungleFactory;
 import com.google.ads.mediation.vungle.VungleInitializer;
 import com.google.ads.mediation.vungle.VungleInitializer.VungleInitializationListener;
 import com.google.ads.mediation.vungle.VungleMediationAdapter;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAd;
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback;
@@ -59,6 +63,10 @@ public class VungleRtbRewardedAd implements MediationRewardedAd, RewardedAdListe
 
   private final VungleFactory vungleFactory;
 
+  /** Times the stages of the load and show of this ad. */
+  private final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.REWARDED);
+
   public VungleRtbRewardedAd(
       @NonNull
           MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>
@@ -69,6 +77,7 @@ public class VungleRtbRewardedAd implements MediationRewardedAd, RewardedAdListe
   }
 
   public void render(@NonNull MediationRewardedAdConfiguration mediationRewardedAdConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     Bundle mediationExtras = mediationRewardedAdConfiguration.getMediationExtras();
     Bundle serverParameters = mediationRewardedAdConfiguration.getServerParameters();
 
@@ -118,6 +127,7 @@ public class VungleRtbRewardedAd implements MediationRewardedAd, RewardedAdListe
 
     Context context = mediationRewardedAdConfiguration.getContext();
 
+    latencyTracker.startStage(Stage.INITIALIZATION);
     VungleInitializer.getInstance()
         .initialize(
             appID,
@@ -125,12 +135,14 @@ public class VungleRtbRewardedAd implements MediationRewardedAd, RewardedAdListe
             new VungleInitializationListener() {
               @Override
               public void onInitializeSuccess() {
+                latencyTracker.endStage(Stage.INITIALIZATION);
                 rewardedAd = vungleFactory.createRewardedAd(context, placement, adConfig);
                 rewardedAd.setAdListener(VungleRtbRewardedAd.this);
                 rewardedAd.setAdapterAdFormat("VungleRtbRewardedAd");
                 if (!TextUtils.isEmpty(userId)) {
                   rewardedAd.setUserId(userId);
                 }
+                latencyTracker.startStage(Stage.SDK_LOAD);
                 rewardedAd.load(adMarkup);
               }
 
@@ -145,6 +157,7 @@ public class VungleRtbRewardedAd implements MediationRewardedAd, RewardedAdListe
   @Override
   public void showAd(@NonNull Context context) {
     if (rewardedAd != null) {
+      latencyTracker.startStage(Stage.SHOW);
       rewardedAd.play(context);
     } else {
       if (mediationRewardedAdCallback != null) {
@@ -162,11 +175,16 @@ public class VungleRtbRewardedAd implements MediationRewardedAd, RewardedAdListe
 
   @Override
   public void onAdLoaded(@NonNull BaseAd baseAd) {
+    latencyTracker.endStage(Stage.SDK_LOAD);
+    latencyTracker.endStage(Stage.TIME_TO_FILL);
+    latencyTracker.startStage(Stage.LOAD_CALLBACK);
     mediationRewardedAdCallback = mediationAdLoadCallback.onSuccess(VungleRtbRewardedAd.this);
+    latencyTracker.endStage(Stage.LOAD_CALLBACK);
   }
 
   @Override
   public void onAdStart(@NonNull BaseAd baseAd) {
+    latencyTracker.endStage(Stage.SHOW);
     if (mediationRewardedAdCallback != null) {
       mediationRewardedAdCallback.onAdOpened();
     }
@@ -10,6 +10,7 @@ import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_WATE
 import com.google.ads.mediation.adaptertestkit.FakeInitializationCompleteCallback
 import com.google.ads.mediation.adaptertestkit.FakeMediationAdLoadCallback
 import com.google.ads.mediation.adaptertestkit.FakeSignalCallbacks
+import com.google.ads.mediation.adaptertestkit.InlineSignalCollectorRule
 import com.google.ads.mediation.adaptertestkit.assertGetSdkVersion
 import com.google.ads.mediation.adaptertestkit.assertGetVersionInfo
 import com.google.ads.mediation.adaptertestkit.assertThat
@@ -68,6 +69,7 @@ import com.vungle.ads.VungleAdSize
 import com.vungle.ads.VungleBannerView
 import com.vungle.ads.internal.protos.Sdk.SDKError
 import org.junit.Before
+import org.junit.Rule
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.Mockito.mockStatic
@@ -84,6 +86,8 @@ import org.mockito.kotlin.whenever
 /** Tests for [VungleMediationAdapter]. */
 @RunWith(AndroidJUnit4::class)
 class VungleMediationAdapterTest {
+  @get:Rule val inlineSignalCollectorRule = InlineSignalCollectorRule()
+
   private lateinit var adapter: VungleMediationAdapter
 
   private val context = ApplicationProvider.getApplicationContext<Context>()
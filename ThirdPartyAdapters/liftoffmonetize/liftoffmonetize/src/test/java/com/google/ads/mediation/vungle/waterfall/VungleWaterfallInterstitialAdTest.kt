@@ -24,6 +24,9 @@ import com.google.ads.mediation.adaptertestkit.FakeMediationAdLoadCallback
 import com.google.ads.mediation.adaptertestkit.FakeMediationInterstitialAdCallback
 import com.google.ads.mediation.adaptertestkit.assertThat
 import com.google.ads.mediation.adaptertestkit.createMediationInterstitialAdConfiguration
+import com.google.ads.mediation.common.AdLatencyMetrics
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.HistogramAdLatencyMetrics
 import com.google.ads.mediation.vungle.VungleConstants.KEY_APP_ID
 import com.google.ads.mediation.vungle.VungleConstants.KEY_ORIENTATION
 import com.google.ads.mediation.vungle.VungleConstants.KEY_PLACEMENT_ID
@@ -33,6 +36,7 @@ import com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_CANNOT_PLAY_
 import com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_DOMAIN
 import com.google.ads.mediation.vungle.VungleMediationAdapter.VUNGLE_SDK_ERROR_DOMAIN
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.mediation.MediationInterstitialAd
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback
 import com.google.common.truth.Truth.assertThat
@@ -157,6 +161,35 @@ class VungleWaterfallInterstitialAdTest {
     assertThat(interstitialAdCallback.isOpened).isTrue()
   }
 
+  @Test
+  fun onAdStart_withLatencyMetrics_recordsLoadAndShowStages() {
+    val latencyMetrics = HistogramAdLatencyMetrics()
+    AdLatencyMetrics.setInstance(latencyMetrics)
+    try {
+      adapterWaterfallInterstitialAd =
+        VungleWaterfallInterstitialAd(interstitialAdLoadCallback, vungleFactory)
+      Mockito.mockStatic(VungleInitializer::class.java).use {
+        whenever(VungleInitializer.getInstance()) doReturn vungleInitializer
+        adapterWaterfallInterstitialAd.render(mediationInterstitialAdConfiguration)
+      }
+      adapterWaterfallInterstitialAd.onAdLoaded(vungleInterstitialAd)
+
+      adapterWaterfallInterstitialAd.showAd(context)
+      adapterWaterfallInterstitialAd.onAdStart(vungleInterstitialAd)
+    } finally {
+      AdLatencyMetrics.setInstance(null)
+    }
+
+    for (stage in Stage.values().filter { it != Stage.ASSET_MAPPING && it != Stage.IMAGE_LOAD }) {
+      assertThat(
+          latencyMetrics
+            .getHistogram("Liftoff Monetize", AdFormat.INTERSTITIAL, stage)!!
+            .getCount()
+        )
+        .isEqualTo(1)
+    }
+  }
+
   @Test
   fun onAdEnd_callsOnAdClosed() {
     renderAdAndMockLoadSuccess()
@@ -25,9 +25,13 @@ import com.five_corp.ad.FiveAdCustomLayoutEventListener
 import com.five_corp.ad.FiveAdErrorCode
 import com.five_corp.ad.FiveAdInterface
 import com.five_corp.ad.FiveAdLoadListener
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.AdLatencyTracker
 import com.google.ads.mediation.line.LineExtras.Companion.KEY_ENABLE_AD_SOUND
+import com.google.ads.mediation.line.LineMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.line.LineMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.AdSize
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationBannerAd
@@ -54,7 +58,11 @@ private constructor(
   private var mediationBannerAdCallback: MediationBannerAdCallback? = null
   private lateinit var adView: FiveAdCustomLayout
 
+  /** Times the stages of the load of this ad. */
+  private val latencyTracker = AdLatencyTracker(NETWORK_NAME, AdFormat.BANNER)
+
   fun loadAd(context: Context) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL)
     if (slotId.isNullOrEmpty()) {
       val adError =
         AdError(
@@ -65,7 +73,9 @@ private constructor(
       mediationAdLoadCallback.onFailure(adError)
       return
     }
+    latencyTracker.startStage(Stage.INITIALIZATION)
     LineInitializer.initialize(context, appId)
+    latencyTracker.endStage(Stage.INITIALIZATION)
     // FiveAd SDK requires the size of the banner given in pixels.
     adView =
       LineSdkFactory.delegate.createFiveAdCustomLayout(
@@ -77,24 +87,31 @@ private constructor(
     if (networkExtras != null) {
       adView.enableSound(networkExtras.getBoolean(KEY_ENABLE_AD_SOUND, false))
     }
+    latencyTracker.startStage(Stage.SDK_LOAD)
     adView.loadAdAsync()
   }
 
   fun loadRtbAd(context: Context) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL)
     val fiveAdConfig = LineInitializer.getFiveAdConfig(appId)
     val adLoader = AdLoader.forConfig(context, fiveAdConfig) ?: return
     val bidData = BidData(bidResponse, watermark)
+    latencyTracker.startStage(Stage.SDK_LOAD)
     adLoader.loadBannerAd(
       bidData,
       adSize.getWidthInPixels(context),
       object : AdLoader.LoadBannerAdCallback {
         override fun onLoad(fiveAdCustomLayout: FiveAdCustomLayout) {
+          latencyTracker.endStage(Stage.SDK_LOAD)
           adView = fiveAdCustomLayout
           if (networkExtras != null) {
             adView.enableSound(networkExtras.getBoolean(KEY_ENABLE_AD_SOUND, false))
           }
           adView.setEventListener(this@LineBannerAd)
+          latencyTracker.endStage(Stage.TIME_TO_FILL)
+          latencyTracker.startStage(Stage.LOAD_CALLBACK)
           mediationBannerAdCallback = mediationAdLoadCallback.onSuccess(this@LineBannerAd)
+          latencyTracker.endStage(Stage.LOAD_CALLBACK)
         }
 
         override fun onError(adErrorCode: FiveAdErrorCode) {
@@ -110,6 +127,7 @@ private constructor(
   override fun onFiveAdLoad(ad: FiveAdInterface) {
     // This callback is not used in the RTB flow.
     Log.d(TAG, "Finished loading Line Banner Ad for slotId: ${ad.slotId}")
+    latencyTracker.endStage(Stage.SDK_LOAD)
     val loadedAd = ad as? FiveAdCustomLayout
     loadedAd?.let {
       // Transforming ad size from pixels to dips
@@ -141,7 +159,10 @@ private constructor(
       }
     }
     adView.setEventListener(this)
+    latencyTracker.endStage(Stage.TIME_TO_FILL)
+    latencyTracker.startStage(Stage.LOAD_CALLBACK)
     mediationBannerAdCallback = mediationAdLoadCallback.onSuccess(this)
+    latencyTracker.endStage(Stage.LOAD_CALLBACK)
   }
 
   override fun onFiveAdLoadError(ad: FiveAdInterface, errorCode: FiveAdErrorCode) {
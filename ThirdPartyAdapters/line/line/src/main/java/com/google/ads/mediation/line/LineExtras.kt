@@ -20,6 +20,8 @@ import androidx.core.os.bundleOf
 /** Creates a mediation extras [Bundle] for the Line adapter. */
 data class LineExtras(
   val enableAdSound: Boolean = false,
+  /** Maximum time a native ad waits for each of its images to load. */
+  val nativeImageLoadTimeoutMillis: Long = DEFAULT_NATIVE_IMAGE_LOAD_TIMEOUT_MILLIS,
 ) {
 
   /**
@@ -29,10 +31,13 @@ data class LineExtras(
   fun build(): Bundle {
     return bundleOf(
       KEY_ENABLE_AD_SOUND to enableAdSound,
+      KEY_NATIVE_IMAGE_LOAD_TIMEOUT_MILLIS to nativeImageLoadTimeoutMillis,
     )
   }
 
   companion object {
     const val KEY_ENABLE_AD_SOUND = "enableAdSound"
+    const val KEY_NATIVE_IMAGE_LOAD_TIMEOUT_MILLIS = "nativeImageLoadTimeoutMillis"
+    const val DEFAULT_NATIVE_IMAGE_LOAD_TIMEOUT_MILLIS = 5000L
   }
 }
@@ -24,9 +24,13 @@ import com.five_corp.ad.FiveAdInterface
 import com.five_corp.ad.FiveAdInterstitial
 import com.five_corp.ad.FiveAdInterstitialEventListener
 import com.five_corp.ad.FiveAdLoadListener
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.AdLatencyTracker
 import com.google.ads.mediation.line.LineExtras.Companion.KEY_ENABLE_AD_SOUND
+import com.google.ads.mediation.line.LineMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.line.LineMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationInterstitialAd
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback
@@ -50,7 +54,11 @@ private constructor(
   private var mediationInterstitialAdCallback: MediationInterstitialAdCallback? = null
   private lateinit var interstitialAd: FiveAdInterstitial
 
+  /** Times the stages of the load and show of this ad. */
+  private val latencyTracker = AdLatencyTracker(NETWORK_NAME, AdFormat.INTERSTITIAL)
+
   fun loadAd(context: Context) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL)
     if (slotId.isNullOrEmpty()) {
       val adError =
         AdError(
@@ -61,29 +69,38 @@ private constructor(
       mediationAdLoadCallback.onFailure(adError)
       return
     }
+    latencyTracker.startStage(Stage.INITIALIZATION)
     LineInitializer.initialize(context, appId)
+    latencyTracker.endStage(Stage.INITIALIZATION)
     interstitialAd = LineSdkFactory.delegate.createFiveAdInterstitial(context, slotId)
     interstitialAd.setLoadListener(this)
     if (networkExtras != null) {
       interstitialAd.enableSound(networkExtras.getBoolean(KEY_ENABLE_AD_SOUND, true))
     }
+    latencyTracker.startStage(Stage.SDK_LOAD)
     interstitialAd.loadAdAsync()
   }
 
   fun loadRtbAd(context: Context) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL)
     val fiveAdConfig = LineInitializer.getFiveAdConfig(appId)
     val adLoader = AdLoader.forConfig(context, fiveAdConfig) ?: return
     val bidData = BidData(bidResponse, watermark)
+    latencyTracker.startStage(Stage.SDK_LOAD)
     adLoader.loadInterstitialAd(
       bidData,
       object : AdLoader.LoadInterstitialAdCallback {
         override fun onLoad(fiveAdInterstitial: FiveAdInterstitial) {
+          latencyTracker.endStage(Stage.SDK_LOAD)
           interstitialAd = fiveAdInterstitial
           if (networkExtras != null) {
             interstitialAd.enableSound(networkExtras.getBoolean(KEY_ENABLE_AD_SOUND, true))
           }
+          latencyTracker.endStage(Stage.TIME_TO_FILL)
+          latencyTracker.startStage(Stage.LOAD_CALLBACK)
           mediationInterstitialAdCallback =
             mediationAdLoadCallback.onSuccess(this@LineInterstitialAd)
+          latencyTracker.endStage(Stage.LOAD_CALLBACK)
           interstitialAd.setEventListener(this@LineInterstitialAd)
         }
 
@@ -96,12 +113,17 @@ private constructor(
   }
 
   override fun showAd(context: Context) {
+    latencyTracker.startStage(Stage.SHOW)
     interstitialAd.showAd()
   }
 
   override fun onFiveAdLoad(ad: FiveAdInterface) {
     Log.d(TAG, "Finished loading Line Interstitial Ad for slotId: ${ad.slotId}")
+    latencyTracker.endStage(Stage.SDK_LOAD)
+    latencyTracker.endStage(Stage.TIME_TO_FILL)
+    latencyTracker.startStage(Stage.LOAD_CALLBACK)
     mediationInterstitialAdCallback = mediationAdLoadCallback.onSuccess(this)
+    latencyTracker.endStage(Stage.LOAD_CALLBACK)
     interstitialAd.setEventListener(this)
   }
 
@@ -152,6 +174,7 @@ private constructor(
 
   override fun onFullScreenOpen(fiveAdInterstitial: FiveAdInterstitial) {
     Log.d(TAG, "Line interstitial video ad opened")
+    latencyTracker.endStage(Stage.SHOW)
     mediationInterstitialAdCallback?.onAdOpened()
   }
 
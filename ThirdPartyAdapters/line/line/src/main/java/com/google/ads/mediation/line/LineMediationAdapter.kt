@@ -21,6 +21,8 @@ import com.five_corp.ad.AdLoader
 import com.five_corp.ad.AdLoader.CollectSignalCallback
 import com.five_corp.ad.AdSlotConfig
 import com.five_corp.ad.FiveAdErrorCode
+import com.google.ads.mediation.common.SignalCollector
+import com.google.ads.mediation.common.VersionInfoParser
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.VersionInfo
 import com.google.android.gms.ads.mediation.InitializationCompleteCallback
@@ -58,13 +60,8 @@ constructor(private val mediationUtils: MediationUtilsWrapper = MediationUtilsWr
 
   override fun getSDKVersionInfo(): VersionInfo {
     val versionString = LineSdkWrapper.delegate.getSdkVersion()
-    val splits = versionString.split("\\.".toRegex()).dropLastWhile { it.isEmpty() }.toTypedArray()
-
-    if (splits.size >= 3) {
-      val major = splits[0].toInt()
-      val minor = splits[1].toInt()
-      val micro = splits[2].toInt()
-      return VersionInfo(major, minor, micro)
+    SDK_VERSION_PARSER.parse(versionString)?.let {
+      return it
     }
 
     val logMessage =
@@ -81,13 +78,8 @@ constructor(private val mediationUtils: MediationUtilsWrapper = MediationUtilsWr
       ?: getVersionInfo(BuildConfig.ADAPTER_VERSION)
 
   private fun getVersionInfo(versionString: String): VersionInfo {
-    val splits = versionString.split("\\.".toRegex()).dropLastWhile { it.isEmpty() }.toTypedArray()
-
-    if (splits.size >= 4) {
-      val major = splits[0].toInt()
-      val minor = splits[1].toInt()
-      val micro = splits[2].toInt() * 100 + splits[3].toInt()
-      return VersionInfo(major, minor, micro)
+    ADAPTER_VERSION_PARSER.parse(versionString)?.let {
+      return it
     }
 
     val logMessage =
@@ -165,19 +157,25 @@ constructor(private val mediationUtils: MediationUtilsWrapper = MediationUtilsWr
       signalCallbacks.onFailure(adError)
       return
     }
-    adLoader.collectSignal(
-      AdSlotConfig(slotIds.first()),
-      object : CollectSignalCallback {
-        override fun onCollect(signalString: String) {
-          signalCallbacks.onSuccess(signalString)
-        }
+    SignalCollector.getInstance().collectSignals(
+      NETWORK_NAME,
+      signalCallbacks,
+      SIGNAL_TIMEOUT_MILLIS,
+    ) { callbacks ->
+      adLoader.collectSignal(
+        AdSlotConfig(slotIds.first()),
+        object : CollectSignalCallback {
+          override fun onCollect(signalString: String) {
+            callbacks.onSuccess(signalString)
+          }
 
-        override fun onError(fiveAdErrorCode: FiveAdErrorCode) {
-          val adError = AdError(fiveAdErrorCode.value, fiveAdErrorCode.name, SDK_ERROR_DOMAIN)
-          signalCallbacks.onFailure(adError)
-        }
-      },
-    )
+          override fun onError(fiveAdErrorCode: FiveAdErrorCode) {
+            val adError = AdError(fiveAdErrorCode.value, fiveAdErrorCode.name, SDK_ERROR_DOMAIN)
+            callbacks.onFailure(adError)
+          }
+        },
+      )
+    }
   }
 
   override fun loadBannerAd(
@@ -261,6 +259,18 @@ constructor(private val mediationUtils: MediationUtilsWrapper = MediationUtilsWr
   }
 
   companion object {
+    /** Parses and caches the adapter version. */
+    private val ADAPTER_VERSION_PARSER = VersionInfoParser(4, 4)
+
+    /** Parses and caches the SDK version. */
+    private val SDK_VERSION_PARSER = VersionInfoParser(3, 3)
+
+    /** Deadline for Five Ad SDK to collect its signal, which it does asynchronously. */
+    private const val SIGNAL_TIMEOUT_MILLIS = 1000L
+
+    /** The network name reported to the signal collector and the ad latency metrics. */
+    const val NETWORK_NAME = "LINE"
+
     private val TAG = LineMediationAdapter::class.simpleName
     @VisibleForTesting var adapterVersionDelegate: String? = null
     const val KEY_APP_ID = "application_id"
@@ -15,8 +15,10 @@
 package com.google.ads.mediation.line
 
 import android.content.Context
+import android.graphics.Bitmap
 import android.graphics.drawable.Drawable
 import android.net.Uri
+import android.os.SystemClock
 import android.util.Log
 import android.view.View
 import android.widget.ImageView
@@ -28,8 +30,14 @@ import com.five_corp.ad.FiveAdInterface
 import com.five_corp.ad.FiveAdLoadListener
 import com.five_corp.ad.FiveAdNative
 import com.five_corp.ad.FiveAdNativeEventListener
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.AdLatencyTracker
+import com.google.ads.mediation.line.LineExtras.Companion.DEFAULT_NATIVE_IMAGE_LOAD_TIMEOUT_MILLIS
+import com.google.ads.mediation.line.LineExtras.Companion.KEY_NATIVE_IMAGE_LOAD_TIMEOUT_MILLIS
+import com.google.ads.mediation.line.LineMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.line.LineMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.MobileAds
 import com.google.android.gms.ads.VersionInfo
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
@@ -47,6 +55,7 @@ import kotlinx.coroutines.async
 import kotlinx.coroutines.cancel
 import kotlinx.coroutines.coroutineScope
 import kotlinx.coroutines.suspendCancellableCoroutine
+import kotlinx.coroutines.withTimeoutOrNull
 
 /**
  * Used to load Line native ads and mediate callbacks between Google Mobile Ads SDK and FiveAd SDK.
@@ -62,12 +71,17 @@ private constructor(
   private val mediationNativeAdLoadCallback:
     MediationAdLoadCallback<NativeAdMapper, MediationNativeAdCallback>,
   private val adapterScope: CoroutineScope,
+  private val imageLoadTimeoutMillis: Long,
 ) : NativeAdMapper(), FiveAdLoadListener, FiveAdNativeEventListener {
 
   private var mediationNativeAdCallback: MediationNativeAdCallback? = null
   private lateinit var nativeAd: FiveAdNative
 
+  /** Times the stages of the load of this ad. */
+  private val latencyTracker = AdLatencyTracker(NETWORK_NAME, AdFormat.NATIVE)
+
   fun loadAd() {
+    latencyTracker.startStage(Stage.TIME_TO_FILL)
     val context = weakContext.get()
     if (context == null) {
       return
@@ -82,17 +96,21 @@ private constructor(
       mediationNativeAdLoadCallback.onFailure(adError)
       return
     }
+    latencyTracker.startStage(Stage.INITIALIZATION)
     LineInitializer.initialize(context, appId)
+    latencyTracker.endStage(Stage.INITIALIZATION)
     nativeAd = LineSdkFactory.delegate.createFiveAdNative(context, slotId)
     val videoOptions = nativeAdOptions?.videoOptions
     if (videoOptions != null) {
       nativeAd.enableSound(!videoOptions.startMuted)
     }
     nativeAd.setLoadListener(this)
+    latencyTracker.startStage(Stage.SDK_LOAD)
     nativeAd.loadAdAsync()
   }
 
   fun loadRtbAd() {
+    latencyTracker.startStage(Stage.TIME_TO_FILL)
     val context = weakContext.get()
     if (context == null) {
       return
@@ -100,20 +118,18 @@ private constructor(
     val fiveAdConfig = LineInitializer.getFiveAdConfig(appId)
     val adLoader = AdLoader.forConfig(context, fiveAdConfig) ?: return
     val bidData = BidData(bidResponse, watermark)
+    latencyTracker.startStage(Stage.SDK_LOAD)
     adLoader.loadNativeAd(
       bidData,
       object : AdLoader.LoadNativeAdCallback {
         override fun onLoad(fiveAdNative: FiveAdNative) {
+          latencyTracker.endStage(Stage.SDK_LOAD)
           nativeAd = fiveAdNative
           val videoOptions = nativeAdOptions?.videoOptions
           if (videoOptions != null) {
             nativeAd.enableSound(!videoOptions.startMuted)
           }
-          adapterScope.async {
-            mapNativeAd()
-            mediationNativeAdCallback = mediationNativeAdLoadCallback.onSuccess(this@LineNativeAd)
-            nativeAd.setEventListener(this@LineNativeAd)
-          }
+          adapterScope.async { mapNativeAdAndReportResult() }
         }
 
         override fun onError(adErrorCode: FiveAdErrorCode) {
@@ -124,7 +140,21 @@ private constructor(
     )
   }
 
-  private suspend fun mapNativeAd() = coroutineScope {
+  private suspend fun mapNativeAdAndReportResult() {
+    latencyTracker.startStage(Stage.ASSET_MAPPING)
+    val mapped = mapNativeAd()
+    latencyTracker.endStage(Stage.ASSET_MAPPING)
+    if (mapped) {
+      latencyTracker.endStage(Stage.TIME_TO_FILL)
+      latencyTracker.startStage(Stage.LOAD_CALLBACK)
+      mediationNativeAdCallback = mediationNativeAdLoadCallback.onSuccess(this)
+      latencyTracker.endStage(Stage.LOAD_CALLBACK)
+      nativeAd.setEventListener(this)
+    }
+  }
+
+  /** Maps the native ad and returns whether it has all the required assets. */
+  private suspend fun mapNativeAd(): Boolean {
     headline = nativeAd.adTitle
     body = nativeAd.descriptionText
     callToAction = nativeAd.buttonText
@@ -158,29 +188,75 @@ private constructor(
       Log.w(TAG, adError.message)
       mediationNativeAdLoadCallback.onFailure(adError)
     }
+    return requiredImagesLoaded
   }
 
-  private suspend fun loadImages() = suspendCancellableCoroutine { continuation ->
-    nativeAd.loadIconImageAsync { image ->
-      val context = weakContext.get()
-      if (image != null && context != null) {
-        icon = LineNativeImage(image.toDrawable(context.resources))
+  /**
+   * Loads the icon and the information icon concurrently, each within [imageLoadTimeoutMillis], and
+   * returns whether the required information icon was loaded. The ad is mapped without an icon if
+   * the icon fails or times out.
+   */
+  private suspend fun loadImages(): Boolean = coroutineScope {
+    val iconImage =
+      async {
+        loadImage("icon") { callback -> nativeAd.loadIconImageAsync(callback) }
+          .also { latencyTracker.recordStage(Stage.IMAGE_LOAD, it.latencyMillis) }
       }
+    val informationIconImage =
+      async {
+        loadImage("information icon") { callback ->
+            nativeAd.loadInformationIconImageAsync(callback)
+          }
+          .also { latencyTracker.recordStage(Stage.IMAGE_LOAD, it.latencyMillis) }
+      }
+
+    val context = weakContext.get()
+    val iconBitmap = iconImage.await().bitmap
+    if (iconBitmap != null && context != null) {
+      icon = LineNativeImage(iconBitmap.toDrawable(context.resources))
     }
-    nativeAd.loadInformationIconImageAsync { image ->
-      val context = weakContext.get()
-      if (image != null && context != null) {
-        val informationIcon = ImageView(context)
-        informationIcon.setImageBitmap(image)
-        adChoicesContent = informationIcon
-        continuation.resume(true)
-      } else {
-        // Native Ad loaded should not continue if Information Icon is not correctly received.
-        continuation.resume(false)
+    val informationIconBitmap = informationIconImage.await().bitmap
+    if (informationIconBitmap == null || context == null) {
+      // Native Ad loaded should not continue if Information Icon is not correctly received.
+      return@coroutineScope false
+    }
+    val informationIcon = ImageView(context)
+    informationIcon.setImageBitmap(informationIconBitmap)
+    adChoicesContent = informationIcon
+    true
+  }
+
+  /**
+   * Loads an image with [loadImageAsync], and returns it along with how long it took. The image is
+   * null if it failed to load or didn't load within [imageLoadTimeoutMillis].
+   */
+  private suspend fun loadImage(
+    imageName: String,
+    loadImageAsync: (FiveAdNative.LoadImageCallback) -> Unit,
+  ): LoadedImage {
+    val startMillis = SystemClock.elapsedRealtime()
+    val bitmap =
+      withTimeoutOrNull(imageLoadTimeoutMillis) {
+        suspendCancellableCoroutine<Bitmap?> { continuation ->
+          loadImageAsync { image ->
+            if (continuation.isActive) {
+              continuation.resume(image)
+            }
+          }
+        }
       }
+    val latencyMillis = SystemClock.elapsedRealtime() - startMillis
+    if (bitmap == null) {
+      Log.w(TAG, "Line native ad $imageName failed to load after $latencyMillis ms.")
+    } else {
+      Log.d(TAG, "Line native ad $imageName loaded in $latencyMillis ms.")
     }
+    return LoadedImage(bitmap, latencyMillis)
   }
 
+  /** An image of the native ad, or null if it couldn't be loaded, and its load latency. */
+  private class LoadedImage(val bitmap: Bitmap?, val latencyMillis: Long)
+
   override fun trackViews(
     containerView: View,
     clickableAssetViews: Map<String, View>,
@@ -192,11 +268,8 @@ private constructor(
   override fun onFiveAdLoad(ad: FiveAdInterface) {
     // This callback is used only in the waterfall flow
     Log.d(TAG, "Finished loading Line Native Ad for slotId: ${ad.slotId}")
-    adapterScope.async {
-      mapNativeAd()
-      mediationNativeAdCallback = mediationNativeAdLoadCallback.onSuccess(this@LineNativeAd)
-      nativeAd.setEventListener(this@LineNativeAd)
-    }
+    latencyTracker.endStage(Stage.SDK_LOAD)
+    adapterScope.async { mapNativeAdAndReportResult() }
   }
 
   override fun onFiveAdLoadError(ad: FiveAdInterface, errorCode: FiveAdErrorCode) {
@@ -315,6 +388,11 @@ private constructor(
       val watermark = mediationNativeAdConfiguration.watermark
       val nativeAdOptions = mediationNativeAdConfiguration.nativeAdOptions
       val adapterScope = CoroutineScope(coroutineContext)
+      val imageLoadTimeoutMillis =
+        mediationNativeAdConfiguration.mediationExtras.getLong(
+          KEY_NATIVE_IMAGE_LOAD_TIMEOUT_MILLIS,
+          DEFAULT_NATIVE_IMAGE_LOAD_TIMEOUT_MILLIS,
+        )
 
       val instance =
         LineNativeAd(
@@ -326,6 +404,7 @@ private constructor(
           nativeAdOptions,
           mediationNativeAdLoadCallback,
           adapterScope,
+          imageLoadTimeoutMillis,
         )
       return Result.success(instance)
     }
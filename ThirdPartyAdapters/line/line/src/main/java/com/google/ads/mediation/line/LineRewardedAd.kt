@@ -24,9 +24,13 @@ import com.five_corp.ad.FiveAdInterface
 import com.five_corp.ad.FiveAdLoadListener
 import com.five_corp.ad.FiveAdVideoReward
 import com.five_corp.ad.FiveAdVideoRewardEventListener
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.AdLatencyTracker
 import com.google.ads.mediation.line.LineExtras.Companion.KEY_ENABLE_AD_SOUND
+import com.google.ads.mediation.line.LineMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.line.LineMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationRewardedAd
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback
@@ -50,7 +54,11 @@ private constructor(
   private var mediationRewardedAdCallback: MediationRewardedAdCallback? = null
   private lateinit var rewardedAd: FiveAdVideoReward
 
+  /** Times the stages of the load and show of this ad. */
+  private val latencyTracker = AdLatencyTracker(NETWORK_NAME, AdFormat.REWARDED)
+
   fun loadAd(context: Context) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL)
     if (slotId.isNullOrEmpty()) {
       val adError =
         AdError(
@@ -61,28 +69,37 @@ private constructor(
       mediationAdLoadCallback.onFailure(adError)
       return
     }
+    latencyTracker.startStage(Stage.INITIALIZATION)
     LineInitializer.initialize(context, appId)
+    latencyTracker.endStage(Stage.INITIALIZATION)
     rewardedAd = LineSdkFactory.delegate.createFiveVideoRewarded(context, slotId)
     rewardedAd.setLoadListener(this)
     if (networkExtras != null) {
       rewardedAd.enableSound(networkExtras.getBoolean(KEY_ENABLE_AD_SOUND, true))
     }
+    latencyTracker.startStage(Stage.SDK_LOAD)
     rewardedAd.loadAdAsync()
   }
 
   fun loadRtbAd(context: Context) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL)
     val fiveAdConfig = LineInitializer.getFiveAdConfig(appId)
     val adLoader = AdLoader.forConfig(context, fiveAdConfig) ?: return
     val bidData = BidData(bidResponse, watermark)
+    latencyTracker.startStage(Stage.SDK_LOAD)
     adLoader.loadRewardAd(
       bidData,
       object : AdLoader.LoadRewardAdCallback {
         override fun onLoad(fiveAdRewarded: FiveAdVideoReward) {
+          latencyTracker.endStage(Stage.SDK_LOAD)
           rewardedAd = fiveAdRewarded
           if (networkExtras != null) {
             rewardedAd.enableSound(networkExtras.getBoolean(KEY_ENABLE_AD_SOUND, true))
           }
+          latencyTracker.endStage(Stage.TIME_TO_FILL)
+          latencyTracker.startStage(Stage.LOAD_CALLBACK)
           mediationRewardedAdCallback = mediationAdLoadCallback.onSuccess(this@LineRewardedAd)
+          latencyTracker.endStage(Stage.LOAD_CALLBACK)
           rewardedAd.setEventListener(this@LineRewardedAd)
         }
 
@@ -95,12 +112,17 @@ private constructor(
   }
 
   override fun showAd(context: Context) {
+    latencyTracker.startStage(Stage.SHOW)
     rewardedAd.showAd()
   }
 
   override fun onFiveAdLoad(ad: FiveAdInterface) {
     Log.d(TAG, "Finished loading Line Rewarded Ad for slotId: ${ad.slotId}")
+    latencyTracker.endStage(Stage.SDK_LOAD)
+    latencyTracker.endStage(Stage.TIME_TO_FILL)
+    latencyTracker.startStage(Stage.LOAD_CALLBACK)
     mediationRewardedAdCallback = mediationAdLoadCallback.onSuccess(this)
+    latencyTracker.endStage(Stage.LOAD_CALLBACK)
     rewardedAd.setEventListener(this)
   }
 
@@ -164,6 +186,7 @@ private constructor(
 
   override fun onFullScreenOpen(fiveAdVideoReward: FiveAdVideoReward) {
     Log.d(TAG, "Line rewarded ad opened")
+    latencyTracker.endStage(Stage.SHOW)
     mediationRewardedAdCallback?.onAdOpened()
   }
 
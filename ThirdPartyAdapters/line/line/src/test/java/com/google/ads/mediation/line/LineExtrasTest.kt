@@ -43,6 +43,13 @@ class LineExtrasTest {
     assertThat(extras.getBoolean(LineExtras.KEY_ENABLE_AD_SOUND)).isFalse()
   }
 
+  @Test
+  fun build_withNativeImageLoadTimeout_returnsBundleWithNativeImageLoadTimeout() {
+    val extras = LineExtras(nativeImageLoadTimeoutMillis = 2000L).build()
+
+    assertThat(extras.getLong(LineExtras.KEY_NATIVE_IMAGE_LOAD_TIMEOUT_MILLIS)).isEqualTo(2000L)
+  }
+
   @Test
   fun defaultConstructor_defaultsEnableAdSoundToFalse() {
     val extras = LineExtras()
@@ -27,7 +27,11 @@ import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_BID_
 import com.google.ads.mediation.adaptertestkit.FakeMediationAdLoadCallback
 import com.google.ads.mediation.adaptertestkit.FakeMediationInterstitialAdCallback
 import com.google.ads.mediation.adaptertestkit.assertThat
+import com.google.ads.mediation.common.AdLatencyMetrics
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.HistogramAdLatencyMetrics
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.RequestConfiguration
 import com.google.android.gms.ads.mediation.MediationInterstitialAd
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback
@@ -393,6 +397,29 @@ class LineInterstitialAdTest {
     assertThat(interstitialAdCallback.isOpened).isTrue()
   }
 
+  @Test
+  fun onFullScreenOpen_withLatencyMetrics_recordsLoadAndShowStages() {
+    val latencyMetrics = HistogramAdLatencyMetrics()
+    AdLatencyMetrics.setInstance(latencyMetrics)
+    try {
+      lineInterstitialAd =
+        LineInterstitialAd.newInstance(mediationAdConfiguration, mediationAdLoadCallback)
+          .getOrThrow()
+      lineInterstitialAd.loadAd(activity)
+      lineInterstitialAd.onFiveAdLoad(mockFiveAdInterstitial)
+
+      lineInterstitialAd.showAd(activity)
+      lineInterstitialAd.onFullScreenOpen(mockFiveAdInterstitial)
+    } finally {
+      AdLatencyMetrics.setInstance(null)
+    }
+
+    for (stage in Stage.values().filter { it != Stage.ASSET_MAPPING && it != Stage.IMAGE_LOAD }) {
+      assertThat(latencyMetrics.getHistogram("LINE", AdFormat.INTERSTITIAL, stage)!!.getCount())
+        .isEqualTo(1)
+    }
+  }
+
   @Test
   fun onPlay_throwsNoException() {
     lineInterstitialAd.onPlay(mockFiveAdInterstitial)
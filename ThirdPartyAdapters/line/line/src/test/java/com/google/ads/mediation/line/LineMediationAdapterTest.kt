@@ -25,6 +25,7 @@ import com.google.ads.mediation.adaptertestkit.FakeMediationInterstitialAdCallba
 import com.google.ads.mediation.adaptertestkit.FakeMediationNativeAdCallback
 import com.google.ads.mediation.adaptertestkit.FakeMediationRewardedAdCallback
 import com.google.ads.mediation.adaptertestkit.FakeSignalCallbacks
+import com.google.ads.mediation.adaptertestkit.InlineSignalCollectorRule
 import com.google.ads.mediation.adaptertestkit.assertThat
 import com.google.ads.mediation.line.LineExtras.Companion.KEY_ENABLE_AD_SOUND
 import com.google.ads.mediation.line.LineMediationAdapter.Companion.ADAPTER_ERROR_DOMAIN
@@ -60,6 +61,7 @@ import com.google.android.gms.ads.mediation.rtb.RtbSignalData
 import com.google.android.gms.ads.nativead.NativeAdOptions
 import com.google.common.truth.Truth.assertThat
 import org.junit.Before
+import org.junit.Rule
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.Mockito.mockStatic
@@ -81,6 +83,8 @@ import org.robolectric.Robolectric
 @RunWith(AndroidJUnit4::class)
 class LineMediationAdapterTest {
 
+  @get:Rule val inlineSignalCollectorRule = InlineSignalCollectorRule()
+
   // Subject of tests
   private var lineMediationAdapter = LineMediationAdapter()
 
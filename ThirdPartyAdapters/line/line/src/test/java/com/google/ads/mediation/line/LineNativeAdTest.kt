@@ -33,7 +33,11 @@ import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_BID_
 import com.google.ads.mediation.adaptertestkit.FakeMediationAdLoadCallback
 import com.google.ads.mediation.adaptertestkit.FakeMediationNativeAdCallback
 import com.google.ads.mediation.adaptertestkit.assertThat
+import com.google.ads.mediation.common.AdLatencyMetrics
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.HistogramAdLatencyMetrics
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.MobileAds
 import com.google.android.gms.ads.RequestConfiguration
 import com.google.android.gms.ads.VersionInfo
@@ -44,11 +48,15 @@ import com.google.android.gms.ads.mediation.NativeAdMapper
 import com.google.android.gms.ads.nativead.NativeAdOptions
 import com.google.common.truth.Truth.assertThat
 import kotlin.test.assertIs
+import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.test.StandardTestDispatcher
 import kotlinx.coroutines.test.TestScope
 import kotlinx.coroutines.test.UnconfinedTestDispatcher
+import kotlinx.coroutines.test.advanceTimeBy
 import kotlinx.coroutines.test.advanceUntilIdle
+import kotlinx.coroutines.test.runCurrent
 import kotlinx.coroutines.test.runTest
 import org.junit.Before
 import org.junit.Test
@@ -432,6 +440,78 @@ class LineNativeAdTest {
     }
   }
 
+  @Test
+  fun onFiveAdLoad_whenIconTimesOut_completesLoadWithNullIconAtDeadline() {
+    testCoroutineScope.runTest {
+      val nativeAd = createNativeAdWithImageLoadTimeout(StandardTestDispatcher(testScheduler))
+      initiateImageLoadCallback(isInformationIcon = true)
+      nativeAd.loadAd()
+
+      nativeAd.onFiveAdLoad(mockFiveAdNative)
+      advanceTimeBy(TEST_IMAGE_LOAD_TIMEOUT_MILLIS - 1)
+      runCurrent()
+
+      assertThat(mediationAdLoadCallback).hasNotSucceeded()
+      advanceUntilIdle()
+      assertThat(nativeAd.icon).isNull()
+      assertIs<ImageView>(nativeAd.adChoicesContent)
+      assertThat(mediationAdLoadCallback).hasSucceededWith(nativeAd)
+    }
+  }
+
+  @Test
+  fun onFiveAdLoad_whenInformationIconTimesOut_invokesOnFailureAtDeadline() {
+    testCoroutineScope.runTest {
+      val nativeAd = createNativeAdWithImageLoadTimeout(StandardTestDispatcher(testScheduler))
+      initiateImageLoadCallback(isInformationIcon = false)
+      nativeAd.loadAd()
+
+      nativeAd.onFiveAdLoad(mockFiveAdNative)
+      advanceTimeBy(TEST_IMAGE_LOAD_TIMEOUT_MILLIS - 1)
+      runCurrent()
+
+      assertThat(mediationAdLoadCallback).hasNoFailure()
+      advanceUntilIdle()
+      val expectedError =
+        AdError(
+          LineMediationAdapter.ERROR_CODE_MINIMUM_NATIVE_INFO_NOT_RECEIVED,
+          LineMediationAdapter.ERROR_MSG_MINIMUM_NATIVE_INFO_NOT_RECEIVED,
+          LineMediationAdapter.SDK_ERROR_DOMAIN,
+        )
+      assertThat(mediationAdLoadCallback).hasFailedWith(expectedError)
+      assertThat(mediationAdLoadCallback).hasNotSucceeded()
+    }
+  }
+
+  @Test
+  fun onFiveAdLoad_withLatencyMetrics_recordsImageLoadLatencies() {
+    val latencyMetrics = HistogramAdLatencyMetrics()
+    AdLatencyMetrics.setInstance(latencyMetrics)
+    try {
+      testCoroutineScope.runTest {
+        val nativeAd =
+          LineNativeAd.newInstance(
+              mediationAdConfiguration,
+              mediationAdLoadCallback,
+              Dispatchers.Unconfined,
+            )
+            .getOrThrow()
+        initiateImageLoadCallbacks()
+        nativeAd.loadAd()
+
+        nativeAd.onFiveAdLoad(mockFiveAdNative)
+        advanceUntilIdle()
+      }
+    } finally {
+      AdLatencyMetrics.setInstance(null)
+    }
+
+    assertThat(
+        latencyMetrics.getHistogram("LINE", AdFormat.NATIVE, Stage.IMAGE_LOAD)!!.getCount()
+      )
+      .isEqualTo(2)
+  }
+
   @Test
   fun onFiveAdLoad_inLowerGMASdkVersions_doesNotInvokeOverrideImpressionRecording() {
     testCoroutineScope.runTest {
@@ -579,6 +659,28 @@ class LineNativeAdTest {
       .loadInformationIconImageAsync(any())
   }
 
+  private fun createNativeAdWithImageLoadTimeout(dispatcher: CoroutineDispatcher): LineNativeAd {
+    val mediationExtras =
+      LineExtras(nativeImageLoadTimeoutMillis = TEST_IMAGE_LOAD_TIMEOUT_MILLIS).build()
+    val config = createMediationNativeAdConfiguration(mediationExtras = mediationExtras)
+    return LineNativeAd.newInstance(config, mediationAdLoadCallback, dispatcher).getOrThrow()
+  }
+
+  /** Makes only the icon or only the information icon load, leaving the other one pending. */
+  private fun initiateImageLoadCallback(isInformationIcon: Boolean) {
+    val bitmap = if (isInformationIcon) mockInfoBitmap else mockIconBitmap
+    val stubber =
+      doAnswer { invocation ->
+          (invocation.arguments[0] as FiveAdNative.LoadImageCallback).onImageLoad(bitmap)
+        }
+        .whenever(mockFiveAdNative)
+    if (isInformationIcon) {
+      stubber.loadInformationIconImageAsync(any())
+    } else {
+      stubber.loadIconImageAsync(any())
+    }
+  }
+
   private fun createMediationNativeAdConfiguration(
     serverParameters: Bundle =
       bundleOf(
@@ -615,5 +717,6 @@ class LineNativeAdTest {
     const val TEST_APP_ID = "testAppId"
     const val TEST_SLOT_ID = "testSlotId"
     const val TEST_WATERMARK = "testWatermark"
+    const val TEST_IMAGE_LOAD_TIMEOUT_MILLIS = 1000L
   }
 }
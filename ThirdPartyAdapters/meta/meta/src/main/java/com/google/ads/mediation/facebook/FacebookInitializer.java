@@ -20,27 +20,21 @@ import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_F
 import android.content.Context;
 import com.facebook.ads.AudienceNetworkAds;
 import com.facebook.ads.AudienceNetworkAds.InitResult;
+import com.google.ads.mediation.common.SingleFlightInitializer;
 import com.google.android.gms.ads.AdError;
 import java.util.ArrayList;
 
 class FacebookInitializer implements AudienceNetworkAds.InitListener {
 
-  private static FacebookInitializer instance;
-  private boolean isInitializing = false;
-  private boolean isInitialized = false;
+  private static final FacebookInitializer instance = new FacebookInitializer();
 
-  private final ArrayList<Listener> listeners;
+  private final SingleFlightInitializer<Listener> initializer = new SingleFlightInitializer<>();
 
   static FacebookInitializer getInstance() {
-    if (instance == null) {
-      instance = new FacebookInitializer();
-    }
     return instance;
   }
 
-  private FacebookInitializer() {
-    listeners = new ArrayList<>();
-  }
+  private FacebookInitializer() {}
 
   void initialize(Context context, String placementId, Listener listener) {
     ArrayList<String> placements = new ArrayList<>();
@@ -50,19 +44,16 @@ class FacebookInitializer implements AudienceNetworkAds.InitListener {
   }
 
   void initialize(Context context, ArrayList<String> placements, Listener listener) {
-    if (isInitializing) {
-      listeners.add(listener);
-      return;
-    }
-
-    if (isInitialized) {
-      listener.onInitializeSuccess();
-      return;
+    switch (initializer.addListener(listener)) {
+      case ALREADY_INITIALIZED:
+        listener.onInitializeSuccess();
+        return;
+      case JOINED_PENDING_INITIALIZATION:
+        return;
+      case START_INITIALIZATION:
+        break;
     }
 
-    isInitializing = true;
-
-    getInstance().listeners.add(listener);
     AudienceNetworkAds.buildInitSettings(context)
         .withMediationService("GOOGLE:" + BuildConfig.ADAPTER_VERSION)
         .withPlacementIds(placements)
@@ -72,19 +63,17 @@ class FacebookInitializer implements AudienceNetworkAds.InitListener {
 
   @Override
   public void onInitialized(InitResult initResult) {
-    isInitializing = false;
-    isInitialized = initResult.isSuccess();
-
-    for (Listener listener : listeners) {
-      if (initResult.isSuccess()) {
+    if (initResult.isSuccess()) {
+      for (Listener listener : initializer.completeWithSuccess()) {
         listener.onInitializeSuccess();
-      } else {
-        AdError error = new AdError(ERROR_FACEBOOK_INITIALIZATION, initResult.getMessage(),
-            ERROR_DOMAIN);
+      }
+    } else {
+      AdError error = new AdError(ERROR_FACEBOOK_INITIALIZATION, initResult.getMessage(),
+          ERROR_DOMAIN);
+      for (Listener listener : initializer.completeWithFailure()) {
         listener.onInitializeError(error);
       }
     }
-    listeners.clear();
   }
 
   interface Listener {
@@ -24,6 +24,7 @@ import androidx.annotation.Nullable;
 import com.facebook.ads.AdSettings;
 import com.facebook.ads.BidderTokenProvider;
 import com.google.ads.mediation.common.AgeRestrictedTreatmentUtils;
+import com.google.ads.mediation.common.VersionInfoParser;
 import com.google.ads.mediation.facebook.rtb.FacebookRtbBannerAd;
 import com.google.ads.mediation.facebook.rtb.FacebookRtbInterstitialAd;
 import com.google.ads.mediation.facebook.rtb.FacebookRtbNativeAd;
@@ -62,8 +63,17 @@ import java.util.List;
 
 public class FacebookMediationAdapter extends RtbAdapter {
 
+  /** Parses and caches the adapter version. */
+  private static final VersionInfoParser ADAPTER_VERSION_PARSER = new VersionInfoParser(4, 4);
+
+  /** Parses and caches the SDK version. */
+  private static final VersionInfoParser SDK_VERSION_PARSER = new VersionInfoParser(3, 3);
+
   public static final String TAG = FacebookMediationAdapter.class.getSimpleName();
 
+  /** The network name reported to the ad latency metrics. */
+  public static final String NETWORK_NAME = "Meta Audience Network";
+
   public static final String KEY_ID = "id";
   public static final String KEY_SOCIAL_CONTEXT_ASSET = "social_context";
 
@@ -179,13 +189,9 @@ public class FacebookMediationAdapter extends RtbAdapter {
   @NonNull
   public VersionInfo getVersionInfo() {
     String versionString = FacebookAdapterUtils.getAdapterVersion();
-    String[] splits = versionString.split("\\.");
-
-    if (splits.length >= 4) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int micro = Integer.parseInt(splits[2]) * 100 + Integer.parseInt(splits[3]);
-      return new VersionInfo(major, minor, micro);
+    VersionInfo versionInfo = ADAPTER_VERSION_PARSER.parse(versionString);
+    if (versionInfo != null) {
+      return versionInfo;
     }
 
     String logMessage = String.format("Unexpected adapter version format: %s." +
@@ -198,13 +204,9 @@ public class FacebookMediationAdapter extends RtbAdapter {
   @NonNull
   public VersionInfo getSDKVersionInfo() {
     String versionString = FacebookSdkWrapper.getSdkVersion();
-    String[] splits = versionString.split("\\.");
-
-    if (splits.length >= 3) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int micro = Integer.parseInt(splits[2]);
-      return new VersionInfo(major, minor, micro);
+    VersionInfo versionInfo = SDK_VERSION_PARSER.parse(versionString);
+    if (versionInfo != null) {
+      return versionInfo;
     }
 
     String logMessage = String.format("Unexpected SDK version format: %s." +
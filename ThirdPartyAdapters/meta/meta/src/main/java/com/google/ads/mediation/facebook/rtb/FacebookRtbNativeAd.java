@@ -21,6 +21,7 @@ import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_M
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_WRONG_NATIVE_TYPE;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.KEY_ID;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.KEY_SOCIAL_CONTEXT_ASSET;
+import static com.google.ads.mediation.facebook.FacebookMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.TAG;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.getAdError;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.setMixedAudience;
@@ -46,9 +47,13 @@ import com.facebook.ads.NativeAdBase.NativeAdLoadConfigBuilder;
 import com.facebook.ads.NativeAdListener;
 import com.facebook.ads.NativeAdOptionsViewPosition;
 import com.facebook.ads.NativeBannerAd;
+import com.google.ads.mediation.common.AdLatencyMetrics;
+import com.google.ads.mediation.common.AdLatencyTracker;
+import com.google.ads.mediation.common.NativeImageLoader;
 import com.google.ads.mediation.facebook.FacebookMediationAdapter;
 import com.google.ads.mediation.facebook.MetaFactory;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.formats.UnifiedNativeAdAssetNames;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationNativeAdCallback;
@@ -70,6 +75,9 @@ public class FacebookRtbNativeAd extends NativeAdMapper {
 
   private final MetaFactory metaFactory;
 
+  private final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.NATIVE);
+
   public FacebookRtbNativeAd(
       @NonNull MediationAdLoadCallback<NativeAdMapper, MediationNativeAdCallback> callback,
       MetaFactory metaFactory) {
@@ -78,6 +86,7 @@ public class FacebookRtbNativeAd extends NativeAdMapper {
   }
 
   public void render(@NonNull MediationNativeAdConfiguration adConfiguration) {
+    latencyTracker.startStage(AdLatencyMetrics.Stage.TIME_TO_FILL);
     Bundle serverParameters = adConfiguration.getServerParameters();
     String placementID = FacebookMediationAdapter.getPlacementId(serverParameters);
     if (TextUtils.isEmpty(placementID)) {
@@ -111,16 +120,21 @@ public class FacebookRtbNativeAd extends NativeAdMapper {
 
     nativeAdOptions = adConfiguration.getNativeAdOptions();
 
-    nativeAdBase.loadAd(
+    NativeAdLoadConfigBuilder loadAdConfigBuilder =
         nativeAdBase
             .buildLoadAdConfig()
             .withAdListener(new NativeListener(nativeAdBase))
             .withBid(adConfiguration.getBidResponse())
-            .withMediaCacheFlag(MediaCacheFlag.ALL)
-            .withPreloadedIconView(
-                NativeAdLoadConfigBuilder.UNKNOWN_IMAGE_SIZE,
-                NativeAdLoadConfigBuilder.UNKNOWN_IMAGE_SIZE)
-            .build());
+            .withMediaCacheFlag(MediaCacheFlag.ALL);
+    if (NativeImageLoader.shouldLoadImages(nativeAdOptions)) {
+      // The preloaded icon is decoded by Meta Audience Network SDK, and would never be displayed
+      // if the publisher requested image URLs.
+      loadAdConfigBuilder.withPreloadedIconView(
+          NativeAdLoadConfigBuilder.UNKNOWN_IMAGE_SIZE,
+          NativeAdLoadConfigBuilder.UNKNOWN_IMAGE_SIZE);
+    }
+    latencyTracker.startStage(AdLatencyMetrics.Stage.SDK_LOAD);
+    nativeAdBase.loadAd(loadAdConfigBuilder.build());
   }
 
   private class NativeListener implements AdListener, NativeAdListener {
@@ -154,11 +168,15 @@ public class FacebookRtbNativeAd extends NativeAdMapper {
         return;
       }
 
+      latencyTracker.endStage(AdLatencyMetrics.Stage.SDK_LOAD);
       FacebookRtbNativeAd.this.mapNativeAd(
           new NativeAdMapperListener() {
             @Override
             public void onMappingSuccess() {
+              latencyTracker.endStage(AdLatencyMetrics.Stage.TIME_TO_FILL);
+              latencyTracker.startStage(AdLatencyMetrics.Stage.LOAD_CALLBACK);
               nativeAdCallback = callback.onSuccess(FacebookRtbNativeAd.this);
+              latencyTracker.endStage(AdLatencyMetrics.Stage.LOAD_CALLBACK);
             }
 
             @Override
@@ -187,9 +205,13 @@ public class FacebookRtbNativeAd extends NativeAdMapper {
    * success callback if the mapping was successful or a failure callback if the mapping was
    * unsuccessful.
    *
+   * <p>Runs on the main thread, where Meta Audience Network SDK delivers {@code onAdLoaded()} and
+   * expects its native ad getters to be called.
+   *
    * @param mapperListener used to send success/failure callbacks when mapping is done.
    */
   private void mapNativeAd(@NonNull NativeAdMapperListener mapperListener) {
+    latencyTracker.startStage(AdLatencyMetrics.Stage.ASSET_MAPPING);
     if (!containsRequiredFieldsForUnifiedNativeAd(nativeAdBase)) {
       AdError error = new AdError(ERROR_MAPPING_NATIVE_ASSETS,
           "Ad from Meta Audience Network doesn't have all required assets.", ERROR_DOMAIN);
@@ -279,6 +301,7 @@ public class FacebookRtbNativeAd extends NativeAdMapper {
     extras.putCharSequence(
         KEY_SOCIAL_CONTEXT_ASSET, FacebookRtbNativeAd.this.nativeAdBase.getAdSocialContext());
     setExtras(extras);
+    latencyTracker.endStage(AdLatencyMetrics.Stage.ASSET_MAPPING);
 
     mapperListener.onMappingSuccess();
   }
@@ -22,11 +22,18 @@ import com.google.ads.mediation.adaptertestkit.FakeMediationAdLoadCallback
 import com.google.ads.mediation.adaptertestkit.FakeMediationNativeAdCallback
 import com.google.ads.mediation.adaptertestkit.assertThat
 import com.google.ads.mediation.adaptertestkit.createMediationNativeAdConfiguration
+import com.google.ads.mediation.common.AdLatencyMetrics
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage.ASSET_MAPPING
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage.LOAD_CALLBACK
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage.SDK_LOAD
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage.TIME_TO_FILL
+import com.google.ads.mediation.common.HistogramAdLatencyMetrics
 import com.google.ads.mediation.facebook.FacebookMediationAdapter
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.KEY_ID
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.KEY_SOCIAL_CONTEXT_ASSET
 import com.google.ads.mediation.facebook.MetaFactory
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.formats.UnifiedNativeAdAssetNames.ASSET_ICON
 import com.google.android.gms.ads.mediation.MediationNativeAdCallback
 import com.google.android.gms.ads.mediation.NativeAdMapper
@@ -36,6 +43,7 @@ import com.google.android.gms.ads.nativead.NativeAdOptions.ADCHOICES_BOTTOM_RIGH
 import com.google.android.gms.ads.nativead.NativeAdOptions.ADCHOICES_TOP_LEFT
 import com.google.android.gms.ads.nativead.NativeAdOptions.ADCHOICES_TOP_RIGHT
 import com.google.common.truth.Truth.assertThat
+import java.time.Duration
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -43,10 +51,12 @@ import org.mockito.kotlin.any
 import org.mockito.kotlin.argumentCaptor
 import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
 import org.mockito.kotlin.times
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.verifyNoMoreInteractions
 import org.mockito.kotlin.whenever
+import org.robolectric.shadows.ShadowSystemClock
 
 /** Unit tests for public API calls implemented by [FacebookRtbNativeAd]. */
 @RunWith(AndroidJUnit4::class)
@@ -121,6 +131,28 @@ class FacebookRtbNativeAdTest {
     facebookRtbNativeAd = FacebookRtbNativeAd(nativeAdLoadCallback, metaFactory)
   }
 
+  @Test
+  fun render_preloadsIconView() {
+    facebookRtbNativeAd.render(mediationNativeAdConfiguration)
+
+    verify(metaNativeAdLoadConfigBuilder)
+      .withPreloadedIconView(
+        NativeAdBase.NativeAdLoadConfigBuilder.UNKNOWN_IMAGE_SIZE,
+        NativeAdBase.NativeAdLoadConfigBuilder.UNKNOWN_IMAGE_SIZE,
+      )
+  }
+
+  @Test
+  fun render_withUrlsForImageAssetsRequested_doesNotPreloadIconView() {
+    whenever(mediationNativeAdConfiguration.nativeAdOptions) doReturn
+      NativeAdOptions.Builder().setReturnUrlsForImageAssets(true).build()
+
+    facebookRtbNativeAd.render(mediationNativeAdConfiguration)
+
+    verify(metaNativeAdLoadConfigBuilder, never()).withPreloadedIconView(any(), any())
+    verify(metaNativeAd).loadAd(metaNativeAdLoadConfig)
+  }
+
   @Test
   fun nativeAdListenerOnAdLoaded_withWrongAd_invokesLoadFailure() {
     facebookRtbNativeAd.render(mediationNativeAdConfiguration)
@@ -287,6 +319,31 @@ class FacebookRtbNativeAdTest {
     assertThat(nativeAdLoadCallback).hasSucceededWith(facebookRtbNativeAd)
   }
 
+  @Test
+  fun nativeAdListenerOnAdLoaded_withLatencyMetrics_recordsLoadStages() {
+    val latencyMetrics = HistogramAdLatencyMetrics()
+    AdLatencyMetrics.setInstance(latencyMetrics)
+    try {
+      facebookRtbNativeAd = FacebookRtbNativeAd(nativeAdLoadCallback, metaFactory)
+      facebookRtbNativeAd.render(mediationNativeAdConfiguration)
+      verify(metaNativeAdLoadConfigBuilder).withAdListener(nativeListenerCaptor.capture())
+
+      ShadowSystemClock.advanceBy(Duration.ofMillis(300))
+      nativeListenerCaptor.firstValue.onAdLoaded(metaNativeAd)
+    } finally {
+      AdLatencyMetrics.setInstance(null)
+    }
+
+    val networkName = FacebookMediationAdapter.NETWORK_NAME
+    assertThat(latencyMetrics.getHistogram(networkName, AdFormat.NATIVE, SDK_LOAD)!!.getMaxMillis())
+      .isEqualTo(300)
+    for (stage in listOf(ASSET_MAPPING, LOAD_CALLBACK, TIME_TO_FILL)) {
+      assertThat(latencyMetrics.getHistogram(networkName, AdFormat.NATIVE, stage)!!.getCount())
+        .isEqualTo(1)
+    }
+    assertThat(nativeAdLoadCallback).hasSucceededWith(facebookRtbNativeAd)
+  }
+
   @Test
   fun nativeAdListenerOnAdLoaded_withPreloadedDrawable_setsNativeAdIconWithDrawable() {
     whenever(metaNativeAd.preloadedIconViewDrawable) doReturn iconViewDrawable
@@ -89,4 +89,13 @@ public class MintegralConstants {
     return new AdError(errorCode, errorMessage, MINTEGRAL_SDK_ERROR_DOMAIN);
   }
 
+  /**
+   * Returns the error for an ad request whose Mintegral slot is owned by an ad that is yet to be
+   * shown, and was not released in time.
+   */
+  @NonNull
+  public static AdError createAdAlreadyLoadedError() {
+    return new AdError(ERROR_CODE_AD_ALREADY_LOADED, ERROR_MSG_AD_ALREADY_LOADED, ERROR_DOMAIN);
+  }
+
 }
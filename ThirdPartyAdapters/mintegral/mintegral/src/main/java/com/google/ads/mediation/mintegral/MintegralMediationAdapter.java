@@ -14,19 +14,22 @@
 
 package com.google.ads.mediation.mintegral;
 
-import static com.google.ads.mediation.mintegral.MintegralConstants.ERROR_CODE_AD_ALREADY_LOADED;
-import static com.google.ads.mediation.mintegral.MintegralConstants.ERROR_DOMAIN;
 import static com.google.ads.mediation.mintegral.MintegralConstants.ERROR_INVALID_SERVER_PARAMETERS;
-import static com.google.ads.mediation.mintegral.MintegralConstants.ERROR_MSG_AD_ALREADY_LOADED;
+import static com.google.ads.mediation.mintegral.MintegralConstants.createAdAlreadyLoadedError;
 import static com.google.ads.mediation.mintegral.MintegralConstants.createSdkError;
 import static com.google.ads.mediation.mintegral.MintegralUtils.getMintegralSlotIdentifiers;
 
 import android.content.Context;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.SignalCollector;
+import com.google.ads.mediation.common.VersionInfoParser;
+import com.google.ads.mediation.common.WeakOwnerSlotQueue;
 import com.google.ads.mediation.mintegral.rtb.MintegralRtbAppOpenAd;
 import com.google.ads.mediation.mintegral.rtb.MintegralRtbBannerAd;
 import com.google.ads.mediation.mintegral.rtb.MintegralRtbInterstitialAd;
@@ -65,29 +68,35 @@ import com.mbridge.msdk.foundation.same.net.Aa;
 import com.mbridge.msdk.mbbid.out.BidManager;
 import com.mbridge.msdk.out.MBridgeSDKFactory;
 import com.mbridge.msdk.out.SDKInitStatusListener;
-import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 public class MintegralMediationAdapter extends RtbAdapter {
 
+  /** Parses and caches the adapter version. */
+  private static final VersionInfoParser ADAPTER_VERSION_PARSER = new VersionInfoParser(4, 4);
+
+  /** Parses and caches the SDK version. */
+  private static final VersionInfoParser SDK_VERSION_PARSER = new VersionInfoParser(3, 3);
+
+  /** Deadline for Mintegral SDK to return its buyer UID, which it reads synchronously. */
+  private static final long SIGNAL_TIMEOUT_MILLIS = 500;
+
   public static final String TAG = MintegralMediationAdapter.class.getSimpleName();
 
+  /** The network name reported to the bid token cache and the ad latency metrics. */
+  public static final String NETWORK_NAME = "Mintegral";
+
   /**
-   * A hash map to hold Mintegral slot identifiers of loaded ads which are yet to be shown.
-   *
-   * <p>The keys are Mintegral slot identifiers. The values are weak references to loaded ad
-   * objects.
-   *
-   * <p>This is used only MintegralUtils.shouldRestrictMultipleAdsLoad() is true.
+   * The slots owned by ads that are yet to be shown, when multiple ad loads per slot are restricted
+   * (see {@link FlagValueGetter#shouldRestrictMultipleAdLoads()}).
    */
-  public static final Map<MintegralSlotIdentifier, WeakReference<Object>> loadedSlotIdentifiers =
-      new ConcurrentHashMap<>();
+  public static final WeakOwnerSlotQueue<MintegralSlotIdentifier, Object> loadedSlots =
+      new WeakOwnerSlotQueue<>(new Handler(Looper.getMainLooper()), "Mintegral slot");
 
   private static MBridgeSDK mBridgeSDK;
 
@@ -131,17 +140,24 @@ public class MintegralMediationAdapter extends RtbAdapter {
       List<MintegralSlotIdentifier> mintegralSlotIdentifiers =
           getMintegralSlotIdentifiers(rtbSignalData);
       for (MintegralSlotIdentifier mintegralSlotIdentifier : mintegralSlotIdentifiers) {
-        WeakReference<Object> adObjectReference =
-            loadedSlotIdentifiers.get(mintegralSlotIdentifier);
-        if (adObjectReference != null && adObjectReference.get() != null) {
-          signalCallbacks.onFailure(
-              new AdError(ERROR_CODE_AD_ALREADY_LOADED, ERROR_MSG_AD_ALREADY_LOADED, ERROR_DOMAIN));
+        // Fail right away rather than waiting for the ad to be shown, which would hold the bid
+        // token outside of the signal collection deadline.
+        if (loadedSlots.getOwner(mintegralSlotIdentifier) != null) {
+          signalCallbacks.onFailure(createAdAlreadyLoadedError());
           return;
         }
       }
     }
-    String buyerUid = BidManager.getBuyerUid(rtbSignalData.getContext());
-    signalCallbacks.onSuccess(buyerUid);
+    List<MediationConfiguration> configurations = rtbSignalData.getConfigurations();
+    SignalCollector.getInstance()
+        .collectCachedSignals(
+            rtbSignalData.getContext(),
+            NETWORK_NAME,
+            configurations.isEmpty() ? null : configurations.get(0).getFormat(),
+            /* qualifier= */ null,
+            signalCallbacks,
+            SIGNAL_TIMEOUT_MILLIS,
+            callbacks -> callbacks.onSuccess(BidManager.getBuyerUid(rtbSignalData.getContext())));
   }
 
   @NonNull
@@ -151,13 +167,9 @@ public class MintegralMediationAdapter extends RtbAdapter {
     String versionString = MintegralUtils.getSdkVersion();
     String[] versionSplits = versionString.split("_");
     if (versionSplits.length > 1) {
-      String[] splits = versionSplits[1].split("\\.");
-
-      if (splits.length >= 3) {
-        int major = Integer.parseInt(splits[0]);
-        int minor = Integer.parseInt(splits[1]);
-        int micro = Integer.parseInt(splits[2]);
-        return new VersionInfo(major, minor, micro);
+      VersionInfo versionInfo = SDK_VERSION_PARSER.parse(versionSplits[1]);
+      if (versionInfo != null) {
+        return versionInfo;
       }
     }
 
@@ -171,13 +183,9 @@ public class MintegralMediationAdapter extends RtbAdapter {
   @Override
   public VersionInfo getVersionInfo() {
     String versionString = MintegralUtils.getAdapterVersion();
-    String[] splits = versionString.split("\\.");
-
-    if (splits.length >= 4) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int micro = Integer.parseInt(splits[2]) * 100 + Integer.parseInt(splits[3]);
-      return new VersionInfo(major, minor, micro);
+    VersionInfo versionInfo = ADAPTER_VERSION_PARSER.parse(versionString);
+    if (versionInfo != null) {
+      return versionInfo;
     }
 
     String logMessage = String.format(
@@ -14,16 +14,20 @@
 
 package com.google.ads.mediation.mintegral.mediation;
 
+import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.TAG;
-import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loadedSlotIdentifiers;
+import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loadedSlots;
 
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.ads.mediation.mintegral.FlagValueGetter;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.ads.mediation.mintegral.MintegralSlotIdentifier;
 import com.google.ads.mediation.mintegral.MintegralSplashAdWrapper;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationAppOpenAd;
 import com.google.android.gms.ads.mediation.MediationAppOpenAdCallback;
@@ -46,6 +50,10 @@ public abstract class MintegralAppOpenAd extends MBSplashLoadWithCodeListener
 
   protected final FlagValueGetter flagValueGetter;
 
+  /** Times the stages of the load and show of this ad. */
+  protected final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.APP_OPEN);
+
   protected MintegralAppOpenAd(
       @NonNull
           MediationAdLoadCallback<MediationAppOpenAd, MediationAppOpenAdCallback> adLoadCallback,
@@ -58,7 +66,11 @@ public abstract class MintegralAppOpenAd extends MBSplashLoadWithCodeListener
 
   @Override
   public void onLoadSuccessed(MBridgeIds mBridgeIds, int type) {
+    latencyTracker.endStage(Stage.SDK_LOAD);
+    latencyTracker.endStage(Stage.TIME_TO_FILL);
+    latencyTracker.startStage(Stage.LOAD_CALLBACK);
     appOpenAdCallback = adLoadCallback.onSuccess(this);
+    latencyTracker.endStage(Stage.LOAD_CALLBACK);
   }
 
   @Override
@@ -69,7 +81,7 @@ public abstract class MintegralAppOpenAd extends MBSplashLoadWithCodeListener
   @Override
   public void onLoadFailedWithCode(MBridgeIds mBridgeIds, int code, String msg, int reqType) {
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
-      loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      loadedSlots.release(mintegralSlotIdentifier, this);
     }
     AdError adError = MintegralConstants.createSdkError(code, msg);
     Log.d(TAG, adError.toString());
@@ -78,8 +90,9 @@ public abstract class MintegralAppOpenAd extends MBSplashLoadWithCodeListener
 
   @Override
   public void onShowSuccessed(MBridgeIds mBridgeIds) {
+    latencyTracker.endStage(Stage.SHOW);
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
-      loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      loadedSlots.release(mintegralSlotIdentifier, this);
     }
     if (appOpenAdCallback != null) {
       appOpenAdCallback.onAdOpened();
@@ -90,7 +103,7 @@ public abstract class MintegralAppOpenAd extends MBSplashLoadWithCodeListener
   @Override
   public void onShowFailed(MBridgeIds mBridgeIds, String msg) {
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
-      loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      loadedSlots.release(mintegralSlotIdentifier, this);
     }
     if (appOpenAdCallback != null) {
       AdError error =
@@ -14,6 +14,7 @@
 
 package com.google.ads.mediation.mintegral.mediation;
 
+import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.TAG;
 
 import android.content.Context;
@@ -21,9 +22,12 @@ import android.util.Log;
 import android.view.View;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.ads.mediation.mintegral.MediationUtilsWrapper;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationBannerAd;
@@ -43,6 +47,10 @@ public abstract class MintegralBannerAd extends BannerAdWithCodeListener impleme
   protected MBBannerView mbBannerView;
   protected MediationBannerAdCallback bannerAdCallback;
 
+  /** Times the stages of the load of this ad. */
+  protected final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.BANNER);
+
   public MintegralBannerAd(
       @NonNull
           MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback>
@@ -121,7 +129,11 @@ public abstract class MintegralBannerAd extends BannerAdWithCodeListener impleme
   @Override
   public void onLoadSuccessed(MBridgeIds mBridgeIds) {
     if (adLoadCallback != null) {
+      latencyTracker.endStage(Stage.SDK_LOAD);
+      latencyTracker.endStage(Stage.TIME_TO_FILL);
+      latencyTracker.startStage(Stage.LOAD_CALLBACK);
       bannerAdCallback = adLoadCallback.onSuccess(this);
+      latencyTracker.endStage(Stage.LOAD_CALLBACK);
     }
   }
 
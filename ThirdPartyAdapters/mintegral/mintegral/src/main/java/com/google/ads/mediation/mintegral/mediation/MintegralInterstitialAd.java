@@ -14,16 +14,20 @@
 
 package com.google.ads.mediation.mintegral.mediation;
 
+import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.TAG;
-import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loadedSlotIdentifiers;
+import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loadedSlots;
 
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.ads.mediation.mintegral.FlagValueGetter;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.ads.mediation.mintegral.MintegralSlotIdentifier;
 import com.google.ads.mediation.mintegral.MintegralUtils;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAd;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback;
@@ -46,6 +50,10 @@ public abstract class MintegralInterstitialAd extends NewInterstitialWithCodeLis
 
   protected final FlagValueGetter flagValueGetter;
 
+  /** Times the stages of the load and show of this ad. */
+  protected final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.INTERSTITIAL);
+
   public MintegralInterstitialAd(
       @NonNull MediationInterstitialAdConfiguration adConfiguration,
       @NonNull
@@ -67,14 +75,18 @@ public abstract class MintegralInterstitialAd extends NewInterstitialWithCodeLis
 
   @Override
   public void onResourceLoadSuccess(MBridgeIds mBridgeIds) {
+    latencyTracker.endStage(Stage.SDK_LOAD);
+    latencyTracker.endStage(Stage.TIME_TO_FILL);
+    latencyTracker.startStage(Stage.LOAD_CALLBACK);
     interstitialAdCallback = adLoadCallback.onSuccess(this);
+    latencyTracker.endStage(Stage.LOAD_CALLBACK);
   }
 
   @Override
   public void onResourceLoadFailWithCode(MBridgeIds mBridgeIds, int errorCode,
       String errorMessage) {
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
-      loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      loadedSlots.release(mintegralSlotIdentifier, this);
     }
     AdError error = MintegralConstants.createSdkError(errorCode, errorMessage);
     Log.w(TAG, error.toString());
@@ -83,8 +95,9 @@ public abstract class MintegralInterstitialAd extends NewInterstitialWithCodeLis
 
   @Override
   public void onAdShow(MBridgeIds mBridgeIds) {
+    latencyTracker.endStage(Stage.SHOW);
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
-      loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      loadedSlots.release(mintegralSlotIdentifier, this);
     }
     if (interstitialAdCallback != null) {
       interstitialAdCallback.onAdOpened();
@@ -102,7 +115,7 @@ public abstract class MintegralInterstitialAd extends NewInterstitialWithCodeLis
   @Override
   public void onShowFailWithCode(MBridgeIds mBridgeIds, int errorCode, String errorMessage) {
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
-      loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      loadedSlots.release(mintegralSlotIdentifier, this);
     }
     AdError error = MintegralConstants.createSdkError(errorCode, errorMessage);
     Log.w(TAG, error.toString());
@@ -14,6 +14,8 @@
 
 package com.google.ads.mediation.mintegral.mediation;
 
+import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.NETWORK_NAME;
+
 import android.content.Context;
 import android.graphics.drawable.Drawable;
 import android.net.Uri;
@@ -21,7 +23,9 @@ import android.text.TextUtils;
 import android.view.View;
 import android.view.ViewGroup;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.ads.mediation.mintegral.MintegralUtils;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.formats.NativeAd.Image;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationNativeAdCallback;
@@ -47,6 +51,10 @@ public abstract class MintegralNativeAd extends UnifiedNativeAdMapper implements
 
   private final boolean muted;
 
+  /** Times the stages of the load of this ad. */
+  protected final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.NATIVE);
+
   public MintegralNativeAd(@NonNull MediationNativeAdConfiguration mediationNativeAdConfiguration,
       @NonNull MediationAdLoadCallback<UnifiedNativeAdMapper, MediationNativeAdCallback>
           mediationAdLoadCallback) {
@@ -5,6 +5,7 @@ import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.TAG;
 import android.content.Context;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
@@ -41,8 +42,14 @@ public class MintegralNativeAdListener extends NativeAdWithCodeListener {
       adLoadCallback.onFailure(adError);
       return;
     }
+    mintegralNativeAd.latencyTracker.endStage(Stage.SDK_LOAD);
+    mintegralNativeAd.latencyTracker.endStage(Stage.TIME_TO_FILL);
+    mintegralNativeAd.latencyTracker.startStage(Stage.ASSET_MAPPING);
     mintegralNativeAd.mapNativeAd(list.get(0), context);
+    mintegralNativeAd.latencyTracker.endStage(Stage.ASSET_MAPPING);
+    mintegralNativeAd.latencyTracker.startStage(Stage.LOAD_CALLBACK);
     mintegralNativeAd.nativeCallback = adLoadCallback.onSuccess(mintegralNativeAd);
+    mintegralNativeAd.latencyTracker.endStage(Stage.LOAD_CALLBACK);
   }
 
 
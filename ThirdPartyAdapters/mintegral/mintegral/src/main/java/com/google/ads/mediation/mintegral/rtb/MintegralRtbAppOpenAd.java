@@ -15,7 +15,7 @@
 package com.google.ads.mediation.mintegral.rtb;
 
 import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.TAG;
-import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loadedSlotIdentifiers;
+import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loadedSlots;
 
 import android.app.Activity;
 import android.content.Context;
@@ -25,6 +25,7 @@ import android.util.Log;
 import android.view.ViewGroup;
 import android.widget.RelativeLayout;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
 import com.google.ads.mediation.mintegral.FlagValueGetter;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.ads.mediation.mintegral.MintegralFactory;
@@ -37,7 +38,6 @@ import com.google.android.gms.ads.mediation.MediationAppOpenAd;
 import com.google.android.gms.ads.mediation.MediationAppOpenAdCallback;
 import com.google.android.gms.ads.mediation.MediationAppOpenAdConfiguration;
 import com.mbridge.msdk.MBridgeConstans;
-import java.lang.ref.WeakReference;
 import org.json.JSONException;
 import org.json.JSONObject;
 
@@ -57,6 +57,7 @@ public class MintegralRtbAppOpenAd extends MintegralAppOpenAd {
 
   @Override
   public void loadAd(MediationAppOpenAdConfiguration adConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     Bundle serverParameters = adConfiguration.getServerParameters();
     String adUnitId = serverParameters.getString(MintegralConstants.AD_UNIT_ID);
     String placementId = serverParameters.getString(MintegralConstants.PLACEMENT_ID);
@@ -69,7 +70,7 @@ public class MintegralRtbAppOpenAd extends MintegralAppOpenAd {
 
     if (flagValueGetter.shouldRestrictMultipleAdLoads()) {
       mintegralSlotIdentifier = new MintegralSlotIdentifier(adUnitId, placementId);
-      loadedSlotIdentifiers.put(mintegralSlotIdentifier, new WeakReference<>(this));
+      loadedSlots.register(mintegralSlotIdentifier, this);
     }
 
     splashAdWrapper = MintegralFactory.createSplashAdWrapper();
@@ -80,11 +81,13 @@ public class MintegralRtbAppOpenAd extends MintegralAppOpenAd {
     splashAdWrapper.createAd(placementId, adUnitId);
     splashAdWrapper.setSplashLoadListener(this);
     splashAdWrapper.setSplashShowListener(this);
+    latencyTracker.startStage(Stage.SDK_LOAD);
     splashAdWrapper.preLoadByToken(bidToken);
   }
 
   @Override
   public void showAd(@NonNull Context context) {
+    latencyTracker.startStage(Stage.SHOW);
     // Context passed here is the activity that the publisher passed to GMA SDK's show() method
     // (https://developers.google.com/admob/android/reference/com/google/android/gms/ads/appopen/AppOpenAd#show(android.app.Activity)).
     // So, this will be an activity context.
@@ -20,6 +20,7 @@ import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.TAG;
 import android.util.Log;
 import android.widget.FrameLayout;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
 import com.google.ads.mediation.mintegral.MediationUtilsWrapper;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.ads.mediation.mintegral.MintegralFactory;
@@ -46,6 +47,7 @@ public class MintegralRtbBannerAd extends MintegralBannerAd {
   @Override
   public void loadAd(
       MediationBannerAdConfiguration adConfiguration, MediationUtilsWrapper mediationUtils) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     BannerSize bannerSize =
         getMintegralBannerSizeFromAdMobAdSize(
             adConfiguration.getAdSize(),
@@ -85,6 +87,7 @@ public class MintegralRtbBannerAd extends MintegralBannerAd {
         MintegralUtils.convertDipToPixel(adConfiguration.getContext(), bannerSize.getHeight()));
     mbBannerView.setLayoutParams(layoutParams);
     mbBannerView.setBannerAdListener(this);
+    latencyTracker.startStage(Stage.SDK_LOAD);
     mbBannerView.loadFromBid(bidToken);
   }
 }
@@ -15,11 +15,12 @@
 package com.google.ads.mediation.mintegral.rtb;
 
 import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.TAG;
-import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loadedSlotIdentifiers;
+import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loadedSlots;
 
 import android.content.Context;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
 import com.google.ads.mediation.mintegral.FlagValueGetter;
 import com.google.ads.mediation.mintegral.MintegralBidNewInterstitialAdWrapper;
 import com.google.ads.mediation.mintegral.MintegralConstants;
@@ -33,7 +34,6 @@ import com.google.android.gms.ads.mediation.MediationInterstitialAd;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdConfiguration;
 import com.mbridge.msdk.MBridgeConstans;
-import java.lang.ref.WeakReference;
 import org.json.JSONException;
 import org.json.JSONObject;
 
@@ -52,6 +52,7 @@ public class MintegralRtbInterstitialAd extends MintegralInterstitialAd {
 
   @Override
   public void loadAd(MediationInterstitialAdConfiguration adConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     String adUnitId = adConfiguration.getServerParameters()
         .getString(MintegralConstants.AD_UNIT_ID);
     String placementId = adConfiguration.getServerParameters()
@@ -65,7 +66,7 @@ public class MintegralRtbInterstitialAd extends MintegralInterstitialAd {
 
     if (flagValueGetter.shouldRestrictMultipleAdLoads()) {
       mintegralSlotIdentifier = new MintegralSlotIdentifier(adUnitId, placementId);
-      loadedSlotIdentifiers.put(mintegralSlotIdentifier, new WeakReference<>(this));
+      loadedSlots.register(mintegralSlotIdentifier, this);
     }
 
     mbBidNewInterstitialAdWrapper = MintegralFactory.createBidInterstitialHandler();
@@ -79,11 +80,13 @@ public class MintegralRtbInterstitialAd extends MintegralInterstitialAd {
           jsonException);
     }
     mbBidNewInterstitialAdWrapper.setInterstitialVideoListener(this);
+    latencyTracker.startStage(Stage.SDK_LOAD);
     mbBidNewInterstitialAdWrapper.loadFromBid(bidToken);
   }
 
   @Override
   public void showAd(@NonNull Context context) {
+    latencyTracker.startStage(Stage.SHOW);
     mbBidNewInterstitialAdWrapper.playVideoMute(
         muted
             ? MBridgeConstans.REWARD_VIDEO_PLAY_MUTE
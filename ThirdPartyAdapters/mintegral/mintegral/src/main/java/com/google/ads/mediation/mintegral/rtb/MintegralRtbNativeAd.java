@@ -20,6 +20,7 @@ import static com.mbridge.msdk.MBridgeConstans.NATIVE_VIDEO_SUPPORT;
 import android.util.Log;
 import android.view.View;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.ads.mediation.mintegral.MintegralUtils;
 import com.google.ads.mediation.mintegral.mediation.MintegralNativeAd;
@@ -53,6 +54,7 @@ public class MintegralRtbNativeAd extends MintegralNativeAd {
 
   @Override
   public void loadAd(MediationNativeAdConfiguration adConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     String adUnitId = adConfiguration.getServerParameters()
         .getString(MintegralConstants.AD_UNIT_ID);
     String placementId = adConfiguration.getServerParameters()
@@ -79,6 +81,7 @@ public class MintegralRtbNativeAd extends MintegralNativeAd {
     }
     mbBidNativeHandler.setAdListener(
         new MintegralNativeAdListener(this, adConfiguration.getContext(), adLoadCallback));
+    latencyTracker.startStage(Stage.SDK_LOAD);
     mbBidNativeHandler.bidLoad(bidToken);
   }
 
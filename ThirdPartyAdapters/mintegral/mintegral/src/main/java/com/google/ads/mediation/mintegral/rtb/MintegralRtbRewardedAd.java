@@ -15,11 +15,12 @@
 package com.google.ads.mediation.mintegral.rtb;
 
 import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.TAG;
-import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loadedSlotIdentifiers;
+import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loadedSlots;
 
 import android.content.Context;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
 import com.google.ads.mediation.mintegral.FlagValueGetter;
 import com.google.ads.mediation.mintegral.MintegralBidRewardedAdWrapper;
 import com.google.ads.mediation.mintegral.MintegralConstants;
@@ -33,7 +34,6 @@ import com.google.android.gms.ads.mediation.MediationRewardedAd;
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAdConfiguration;
 import com.mbridge.msdk.MBridgeConstans;
-import java.lang.ref.WeakReference;
 import org.json.JSONException;
 import org.json.JSONObject;
 
@@ -51,6 +51,7 @@ public class MintegralRtbRewardedAd extends MintegralRewardedAd {
 
   @Override
   public void loadAd(MediationRewardedAdConfiguration adConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     String adUnitId = adConfiguration.getServerParameters()
         .getString(MintegralConstants.AD_UNIT_ID);
     String placementId = adConfiguration.getServerParameters()
@@ -64,7 +65,7 @@ public class MintegralRtbRewardedAd extends MintegralRewardedAd {
 
     if (flagValueGetter.shouldRestrictMultipleAdLoads()) {
       mintegralSlotIdentifier = new MintegralSlotIdentifier(adUnitId, placementId);
-      loadedSlotIdentifiers.put(mintegralSlotIdentifier, new WeakReference<>(this));
+      loadedSlots.register(mintegralSlotIdentifier, this);
     }
 
     mintegralBidRewardedAdWrapper = MintegralFactory.createMintegralBidRewardedAdWrapper();
@@ -78,11 +79,13 @@ public class MintegralRtbRewardedAd extends MintegralRewardedAd {
           jsonException);
     }
     mintegralBidRewardedAdWrapper.setRewardVideoListener(this);
+    latencyTracker.startStage(Stage.SDK_LOAD);
     mintegralBidRewardedAdWrapper.loadFromBid(bidToken);
   }
 
   @Override
   public void showAd(@NonNull Context context) {
+    latencyTracker.startStage(Stage.SHOW);
     mintegralBidRewardedAdWrapper.playVideoMute(
         muted
             ? MBridgeConstans.REWARD_VIDEO_PLAY_MUTE
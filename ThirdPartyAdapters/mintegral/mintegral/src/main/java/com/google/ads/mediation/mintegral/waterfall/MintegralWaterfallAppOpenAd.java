@@ -14,10 +14,8 @@
 
 package com.google.ads.mediation.mintegral.waterfall;
 
-import static com.google.ads.mediation.mintegral.MintegralConstants.ERROR_CODE_AD_ALREADY_LOADED;
-import static com.google.ads.mediation.mintegral.MintegralConstants.ERROR_DOMAIN;
-import static com.google.ads.mediation.mintegral.MintegralConstants.ERROR_MSG_AD_ALREADY_LOADED;
-import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loadedSlotIdentifiers;
+import static com.google.ads.mediation.mintegral.MintegralConstants.createAdAlreadyLoadedError;
+import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loadedSlots;
 
 import android.app.Activity;
 import android.content.Context;
@@ -25,6 +23,8 @@ import android.os.Bundle;
 import android.view.ViewGroup;
 import android.widget.RelativeLayout;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.WeakOwnerSlotQueue;
 import com.google.ads.mediation.mintegral.FlagValueGetter;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.ads.mediation.mintegral.MintegralFactory;
@@ -36,7 +36,6 @@ import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationAppOpenAd;
 import com.google.android.gms.ads.mediation.MediationAppOpenAdCallback;
 import com.google.android.gms.ads.mediation.MediationAppOpenAdConfiguration;
-import java.lang.ref.WeakReference;
 
 /**
  * Used to show Mintegral splash ads and mediate callbacks between Google Mobile Ads SDK and
@@ -53,6 +52,7 @@ public class MintegralWaterfallAppOpenAd extends MintegralAppOpenAd {
 
   @Override
   public void loadAd(MediationAppOpenAdConfiguration adConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     Bundle serverParameters = adConfiguration.getServerParameters();
     String adUnitId = serverParameters.getString(MintegralConstants.AD_UNIT_ID);
     String placementId = serverParameters.getString(MintegralConstants.PLACEMENT_ID);
@@ -64,25 +64,37 @@ public class MintegralWaterfallAppOpenAd extends MintegralAppOpenAd {
 
     if (flagValueGetter.shouldRestrictMultipleAdLoads()) {
       mintegralSlotIdentifier = new MintegralSlotIdentifier(adUnitId, placementId);
-      WeakReference<Object> adObjectReference = loadedSlotIdentifiers.get(mintegralSlotIdentifier);
-      if (adObjectReference != null && adObjectReference.get() != null) {
-        adLoadCallback.onFailure(
-            new AdError(ERROR_CODE_AD_ALREADY_LOADED, ERROR_MSG_AD_ALREADY_LOADED, ERROR_DOMAIN));
+      // If another ad of the slot is yet to be shown, wait for it to be shown before loading.
+      WeakOwnerSlotQueue.Admission admission =
+          loadedSlots.acquire(
+              mintegralSlotIdentifier,
+              this,
+              () -> loadSplashAd(placementId, adUnitId),
+              () -> adLoadCallback.onFailure(createAdAlreadyLoadedError()));
+      if (admission == WeakOwnerSlotQueue.Admission.WAIT) {
+        return;
+      }
+      if (admission == WeakOwnerSlotQueue.Admission.REJECT) {
+        adLoadCallback.onFailure(createAdAlreadyLoadedError());
         return;
       }
-
-      loadedSlotIdentifiers.put(mintegralSlotIdentifier, new WeakReference<>(this));
     }
 
+    loadSplashAd(placementId, adUnitId);
+  }
+
+  private void loadSplashAd(@NonNull String placementId, @NonNull String adUnitId) {
     splashAdWrapper = MintegralFactory.createSplashAdWrapper();
     splashAdWrapper.createAd(placementId, adUnitId);
     splashAdWrapper.setSplashLoadListener(this);
     splashAdWrapper.setSplashShowListener(this);
+    latencyTracker.startStage(Stage.SDK_LOAD);
     splashAdWrapper.preLoad();
   }
 
   @Override
   public void showAd(@NonNull Context context) {
+    latencyTracker.startStage(Stage.SHOW);
     // Context passed here is the activity that the publisher passed to GMA SDK's show() method
     // (https://developers.google.com/admob/android/reference/com/google/android/gms/ads/appopen/AppOpenAd#show(android.app.Activity)).
     // So, this will be an activity context.
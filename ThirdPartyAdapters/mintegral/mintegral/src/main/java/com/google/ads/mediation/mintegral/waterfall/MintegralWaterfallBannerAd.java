@@ -20,6 +20,7 @@ import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.TAG;
 import android.util.Log;
 import android.widget.FrameLayout;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
 import com.google.ads.mediation.mintegral.MediationUtilsWrapper;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.ads.mediation.mintegral.MintegralUtils;
@@ -43,6 +44,7 @@ public class MintegralWaterfallBannerAd extends MintegralBannerAd {
   @Override
   public void loadAd(
       MediationBannerAdConfiguration adConfiguration, MediationUtilsWrapper mediationUtils) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     BannerSize bannerSize =
         getMintegralBannerSizeFromAdMobAdSize(
             adConfiguration.getAdSize(),
@@ -74,6 +76,7 @@ public class MintegralWaterfallBannerAd extends MintegralBannerAd {
         MintegralUtils.convertDipToPixel(adConfiguration.getContext(), bannerSize.getHeight()));
     mbBannerView.setLayoutParams(layoutParams);
     mbBannerView.setBannerAdListener(this);
+    latencyTracker.startStage(Stage.SDK_LOAD);
     mbBannerView.load();
   }
 }
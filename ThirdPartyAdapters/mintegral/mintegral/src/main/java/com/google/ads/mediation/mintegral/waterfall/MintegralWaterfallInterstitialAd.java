@@ -14,13 +14,13 @@
 
 package com.google.ads.mediation.mintegral.waterfall;
 
-import static com.google.ads.mediation.mintegral.MintegralConstants.ERROR_CODE_AD_ALREADY_LOADED;
-import static com.google.ads.mediation.mintegral.MintegralConstants.ERROR_DOMAIN;
-import static com.google.ads.mediation.mintegral.MintegralConstants.ERROR_MSG_AD_ALREADY_LOADED;
-import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loadedSlotIdentifiers;
+import static com.google.ads.mediation.mintegral.MintegralConstants.createAdAlreadyLoadedError;
+import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loadedSlots;
 
 import android.content.Context;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.WeakOwnerSlotQueue;
 import com.google.ads.mediation.mintegral.FlagValueGetter;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.ads.mediation.mintegral.MintegralFactory;
@@ -34,7 +34,6 @@ import com.google.android.gms.ads.mediation.MediationInterstitialAd;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdConfiguration;
 import com.mbridge.msdk.MBridgeConstans;
-import java.lang.ref.WeakReference;
 
 public class MintegralWaterfallInterstitialAd extends MintegralInterstitialAd {
 
@@ -51,6 +50,7 @@ public class MintegralWaterfallInterstitialAd extends MintegralInterstitialAd {
 
   @Override
   public void loadAd(MediationInterstitialAdConfiguration adConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     String adUnitId = adConfiguration.getServerParameters()
         .getString(MintegralConstants.AD_UNIT_ID);
     String placementId = adConfiguration.getServerParameters()
@@ -63,24 +63,37 @@ public class MintegralWaterfallInterstitialAd extends MintegralInterstitialAd {
 
     if (flagValueGetter.shouldRestrictMultipleAdLoads()) {
       mintegralSlotIdentifier = new MintegralSlotIdentifier(adUnitId, placementId);
-      WeakReference<Object> adObjectReference = loadedSlotIdentifiers.get(mintegralSlotIdentifier);
-      if (adObjectReference != null && adObjectReference.get() != null) {
-        adLoadCallback.onFailure(
-            new AdError(ERROR_CODE_AD_ALREADY_LOADED, ERROR_MSG_AD_ALREADY_LOADED, ERROR_DOMAIN));
+      // If another ad of the slot is yet to be shown, wait for it to be shown before loading.
+      WeakOwnerSlotQueue.Admission admission =
+          loadedSlots.acquire(
+              mintegralSlotIdentifier,
+              this,
+              () -> loadInterstitialAd(adConfiguration.getContext(), placementId, adUnitId),
+              () -> adLoadCallback.onFailure(createAdAlreadyLoadedError()));
+      if (admission == WeakOwnerSlotQueue.Admission.WAIT) {
+        return;
+      }
+      if (admission == WeakOwnerSlotQueue.Admission.REJECT) {
+        adLoadCallback.onFailure(createAdAlreadyLoadedError());
         return;
       }
-
-      loadedSlotIdentifiers.put(mintegralSlotIdentifier, new WeakReference<>(this));
     }
 
+    loadInterstitialAd(adConfiguration.getContext(), placementId, adUnitId);
+  }
+
+  private void loadInterstitialAd(
+      @NonNull Context context, @NonNull String placementId, @NonNull String adUnitId) {
     mbNewInterstitialAdWrapper = MintegralFactory.createInterstitialHandler();
-    mbNewInterstitialAdWrapper.createAd(adConfiguration.getContext(), placementId, adUnitId);
+    mbNewInterstitialAdWrapper.createAd(context, placementId, adUnitId);
     mbNewInterstitialAdWrapper.setInterstitialVideoListener(this);
+    latencyTracker.startStage(Stage.SDK_LOAD);
     mbNewInterstitialAdWrapper.load();
   }
 
   @Override
   public void showAd(@NonNull Context context) {
+    latencyTracker.startStage(Stage.SHOW);
     mbNewInterstitialAdWrapper.playVideoMute(
         muted
             ? MBridgeConstans.REWARD_VIDEO_PLAY_MUTE
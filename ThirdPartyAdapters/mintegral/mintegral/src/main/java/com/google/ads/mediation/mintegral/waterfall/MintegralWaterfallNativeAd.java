@@ -18,6 +18,7 @@ import static com.mbridge.msdk.MBridgeConstans.NATIVE_VIDEO_SUPPORT;
 
 import android.view.View;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.ads.mediation.mintegral.MintegralUtils;
 import com.google.ads.mediation.mintegral.mediation.MintegralNativeAd;
@@ -50,6 +51,7 @@ public class MintegralWaterfallNativeAd extends MintegralNativeAd {
 
   @Override
   public void loadAd(MediationNativeAdConfiguration adConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     String adUnitId = adConfiguration.getServerParameters()
         .getString(MintegralConstants.AD_UNIT_ID);
     String placementId = adConfiguration.getServerParameters()
@@ -68,6 +70,7 @@ public class MintegralWaterfallNativeAd extends MintegralNativeAd {
     mbNativeHandler = new MBNativeHandler(nativeProperties, adConfiguration.getContext());
     mbNativeHandler.setAdListener(
         new MintegralNativeAdListener(this, adConfiguration.getContext(), adLoadCallback));
+    latencyTracker.startStage(Stage.SDK_LOAD);
     mbNativeHandler.load();
   }
 
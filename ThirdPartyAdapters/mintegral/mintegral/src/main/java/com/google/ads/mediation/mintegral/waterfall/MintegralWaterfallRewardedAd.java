@@ -14,13 +14,13 @@
 
 package com.google.ads.mediation.mintegral.waterfall;
 
-import static com.google.ads.mediation.mintegral.MintegralConstants.ERROR_CODE_AD_ALREADY_LOADED;
-import static com.google.ads.mediation.mintegral.MintegralConstants.ERROR_DOMAIN;
-import static com.google.ads.mediation.mintegral.MintegralConstants.ERROR_MSG_AD_ALREADY_LOADED;
-import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loadedSlotIdentifiers;
+import static com.google.ads.mediation.mintegral.MintegralConstants.createAdAlreadyLoadedError;
+import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loadedSlots;
 
 import android.content.Context;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.WeakOwnerSlotQueue;
 import com.google.ads.mediation.mintegral.FlagValueGetter;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.ads.mediation.mintegral.MintegralFactory;
@@ -34,7 +34,6 @@ import com.google.android.gms.ads.mediation.MediationRewardedAd;
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAdConfiguration;
 import com.mbridge.msdk.MBridgeConstans;
-import java.lang.ref.WeakReference;
 
 public class MintegralWaterfallRewardedAd extends MintegralRewardedAd {
 
@@ -50,6 +49,7 @@ public class MintegralWaterfallRewardedAd extends MintegralRewardedAd {
 
   @Override
   public void loadAd(MediationRewardedAdConfiguration adConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     String adUnitId = adConfiguration.getServerParameters()
         .getString(MintegralConstants.AD_UNIT_ID);
     String placementId = adConfiguration.getServerParameters()
@@ -62,24 +62,37 @@ public class MintegralWaterfallRewardedAd extends MintegralRewardedAd {
 
     if (flagValueGetter.shouldRestrictMultipleAdLoads()) {
       mintegralSlotIdentifier = new MintegralSlotIdentifier(adUnitId, placementId);
-      WeakReference<Object> adObjectReference = loadedSlotIdentifiers.get(mintegralSlotIdentifier);
-      if (adObjectReference != null && adObjectReference.get() != null) {
-        adLoadCallback.onFailure(
-            new AdError(ERROR_CODE_AD_ALREADY_LOADED, ERROR_MSG_AD_ALREADY_LOADED, ERROR_DOMAIN));
+      // If another ad of the slot is yet to be shown, wait for it to be shown before loading.
+      WeakOwnerSlotQueue.Admission admission =
+          loadedSlots.acquire(
+              mintegralSlotIdentifier,
+              this,
+              () -> loadRewardedAd(adConfiguration.getContext(), placementId, adUnitId),
+              () -> adLoadCallback.onFailure(createAdAlreadyLoadedError()));
+      if (admission == WeakOwnerSlotQueue.Admission.WAIT) {
+        return;
+      }
+      if (admission == WeakOwnerSlotQueue.Admission.REJECT) {
+        adLoadCallback.onFailure(createAdAlreadyLoadedError());
         return;
       }
-
-      loadedSlotIdentifiers.put(mintegralSlotIdentifier, new WeakReference<>(this));
     }
 
+    loadRewardedAd(adConfiguration.getContext(), placementId, adUnitId);
+  }
+
+  private void loadRewardedAd(
+      @NonNull Context context, @NonNull String placementId, @NonNull String adUnitId) {
     mintegralRewardedAdWrapper = MintegralFactory.createMintegralRewardedAdWrapper();
-    mintegralRewardedAdWrapper.createAd(adConfiguration.getContext(), placementId, adUnitId);
+    mintegralRewardedAdWrapper.createAd(context, placementId, adUnitId);
     mintegralRewardedAdWrapper.setRewardVideoListener(this);
+    latencyTracker.startStage(Stage.SDK_LOAD);
     mintegralRewardedAdWrapper.load();
   }
 
   @Override
   public void showAd(@NonNull Context context) {
+    latencyTracker.startStage(Stage.SHOW);
     mintegralRewardedAdWrapper.playVideoMute(
         muted
             ? MBridgeConstans.REWARD_VIDEO_PLAY_MUTE
@@ -10,12 +10,16 @@ import com.google.ads.mediation.adaptertestkit.FakeMediationAdLoadCallback
 import com.google.ads.mediation.adaptertestkit.FakeMediationInterstitialAdCallback
 import com.google.ads.mediation.adaptertestkit.assertThat
 import com.google.ads.mediation.adaptertestkit.createMediationInterstitialAdConfiguration
+import com.google.ads.mediation.common.AdLatencyMetrics
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.HistogramAdLatencyMetrics
 import com.google.ads.mediation.mintegral.MintegralConstants.AD_UNIT_ID
 import com.google.ads.mediation.mintegral.MintegralConstants.ERROR_MINTEGRAL_SDK
 import com.google.ads.mediation.mintegral.MintegralConstants.MINTEGRAL_SDK_ERROR_DOMAIN
 import com.google.ads.mediation.mintegral.MintegralConstants.PLACEMENT_ID
 import com.google.ads.mediation.mintegral.waterfall.MintegralWaterfallInterstitialAd
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.mediation.MediationInterstitialAd
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback
 import com.google.common.truth.Truth.assertThat
@@ -117,6 +121,38 @@ class MintegralInterstitialAdTest {
     }
   }
 
+  @Test
+  fun onAdShow_withLatencyMetrics_recordsLoadAndShowStages() {
+    val latencyMetrics = HistogramAdLatencyMetrics()
+    AdLatencyMetrics.setInstance(latencyMetrics)
+    try {
+      mintegralInterstitialAd =
+        MintegralWaterfallInterstitialAd(
+          adConfiguration,
+          interstitialAdLoadCallback,
+          flagValueGetter,
+        )
+      Mockito.mockStatic(MintegralFactory::class.java).use {
+        whenever(MintegralFactory.createInterstitialHandler()) doReturn
+          mockMintegralNewInterstitialAdWrapper
+        mintegralInterstitialAd.loadAd(adConfiguration)
+        mintegralInterstitialAd.onResourceLoadSuccess(/* mBridgeIds= */ null)
+
+        mintegralInterstitialAd.showAd(activity)
+        mintegralInterstitialAd.onAdShow(/* mBridgeIds= */ null)
+      }
+    } finally {
+      AdLatencyMetrics.setInstance(null)
+    }
+
+    for (stage in listOf(Stage.SDK_LOAD, Stage.LOAD_CALLBACK, Stage.TIME_TO_FILL, Stage.SHOW)) {
+      assertThat(
+          latencyMetrics.getHistogram("Mintegral", AdFormat.INTERSTITIAL, stage)!!.getCount()
+        )
+        .isEqualTo(1)
+    }
+  }
+
   @Test
   fun onAdClicked_invokesReportAdClicked() {
     mintegralInterstitialAd.onResourceLoadSuccess(/* mBridgeIds= */ null)
@@ -15,17 +15,21 @@
 package com.google.ads.mediation.mintegral
 
 import android.app.Activity
+import android.os.Looper
 import androidx.core.os.bundleOf
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_AD_UNIT
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_BID_RESPONSE
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_PLACEMENT_ID
 import com.google.ads.mediation.adaptertestkit.FakeMediationAdLoadCallback
 import com.google.ads.mediation.adaptertestkit.FakeSignalCallbacks
+import com.google.ads.mediation.adaptertestkit.InlineSignalCollectorRule
 import com.google.ads.mediation.adaptertestkit.assertThat
 import com.google.ads.mediation.adaptertestkit.createMediationAppOpenAdConfiguration
 import com.google.ads.mediation.adaptertestkit.createMediationConfiguration
 import com.google.ads.mediation.adaptertestkit.createMediationInterstitialAdConfiguration
 import com.google.ads.mediation.adaptertestkit.createMediationRewardedAdConfiguration
+import com.google.ads.mediation.common.WeakOwnerSlotQueue.Companion.DEFAULT_MAX_WAITING_PER_SLOT
+import com.google.ads.mediation.common.WeakOwnerSlotQueue.Companion.DEFAULT_MAX_WAIT_MILLIS
 import com.google.ads.mediation.mintegral.MintegralConstants.AD_UNIT_ID
 import com.google.ads.mediation.mintegral.MintegralConstants.ERROR_CODE_AD_ALREADY_LOADED
 import com.google.ads.mediation.mintegral.MintegralConstants.ERROR_DOMAIN
@@ -47,8 +51,10 @@ import com.mbridge.msdk.out.MBSplashLoadWithCodeListener
 import com.mbridge.msdk.out.MBSplashShowListener
 import com.mbridge.msdk.out.MBridgeIds
 import com.mbridge.msdk.out.RewardVideoWithCodeListener
+import java.time.Duration
 import org.junit.After
 import org.junit.Before
+import org.junit.Rule
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.Mockito.mockStatic
@@ -60,11 +66,14 @@ import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
 import org.robolectric.Robolectric
 import org.robolectric.RobolectricTestRunner
+import org.robolectric.Shadows.shadowOf
 
 /** Tests the relevant behavior when [FlagValueGetter].shouldRestrictMultipleAdLoads() is true. */
 @RunWith(RobolectricTestRunner::class)
 class RestrictMultipleAdLoadsTest {
 
+  @get:Rule val inlineSignalCollectorRule = InlineSignalCollectorRule()
+
   private lateinit var adapter: MintegralMediationAdapter
 
   private val context = Robolectric.buildActivity(Activity::class.java).get()
@@ -180,19 +189,21 @@ class RestrictMultipleAdLoadsTest {
 
   @After
   fun tearDown() {
-    // Clear the map of loaded slot identifiers after each test (to avoid one test affecting
-    // another).
-    MintegralMediationAdapter.loadedSlotIdentifiers.clear()
+    // Clear the slots owned by loaded ads after each test (to avoid one test affecting another).
+    MintegralMediationAdapter.loadedSlots.clear()
   }
 
   @Test
-  fun loadSecondAppOpenWaterfallAd_ifPreviousAdIsLoadedAndNotYetShown_failsToLoad() {
+  fun loadSecondAppOpenWaterfallAd_ifPreviousAdIsLoadedAndNotYetShown_failsAtDeadline() {
     mockStatic(MintegralFactory::class.java).use {
       whenever(MintegralFactory.createSplashAdWrapper()) doReturn splashAdWrapper
       adapter.loadAppOpenAd(appOpenAdWaterfallConfig, appOpenAdLoadCallback)
 
       adapter.loadAppOpenAd(appOpenAdWaterfallConfig, appOpenAdLoadCallback)
 
+      assertThat(appOpenAdLoadCallback).hasNoFailure()
+      shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(DEFAULT_MAX_WAIT_MILLIS))
+
       val expectedError =
         AdError(ERROR_CODE_AD_ALREADY_LOADED, ERROR_MSG_AD_ALREADY_LOADED, ERROR_DOMAIN)
       assertThat(appOpenAdLoadCallback).hasFailedWith(expectedError)
@@ -314,13 +325,16 @@ class RestrictMultipleAdLoadsTest {
   }
 
   @Test
-  fun loadSecondInterstitialWaterfallAd_ifPreviousAdIsLoadedAndNotYetShown_failsToLoad() {
+  fun loadSecondInterstitialWaterfallAd_ifPreviousAdIsLoadedAndNotYetShown_failsAtDeadline() {
     mockStatic(MintegralFactory::class.java).use {
       whenever(MintegralFactory.createInterstitialHandler()) doReturn interstitialAdWrapper
       adapter.loadInterstitialAd(interstitialAdWaterfallConfig, interstitialAdLoadCallback)
 
       adapter.loadInterstitialAd(interstitialAdWaterfallConfig, interstitialAdLoadCallback)
 
+      assertThat(interstitialAdLoadCallback).hasNoFailure()
+      shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(DEFAULT_MAX_WAIT_MILLIS))
+
       val expectedError =
         AdError(ERROR_CODE_AD_ALREADY_LOADED, ERROR_MSG_AD_ALREADY_LOADED, ERROR_DOMAIN)
       assertThat(interstitialAdLoadCallback).hasFailedWith(expectedError)
@@ -343,6 +357,44 @@ class RestrictMultipleAdLoadsTest {
     }
   }
 
+  @Test
+  fun loadSecondInterstitialWaterfallAd_ifPreviousAdIsShownBeforeDeadline_loads() {
+    mockStatic(MintegralFactory::class.java).use {
+      whenever(MintegralFactory.createInterstitialHandler()) doReturn interstitialAdWrapper
+      adapter.loadInterstitialAd(interstitialAdWaterfallConfig, interstitialAdLoadCallback)
+      val interstitialAdListenerCaptor = argumentCaptor<NewInterstitialWithCodeListener>()
+      verify(interstitialAdWrapper)
+        .setInterstitialVideoListener(interstitialAdListenerCaptor.capture())
+      adapter.loadInterstitialAd(interstitialAdWaterfallConfig, interstitialAdLoadCallback)
+      verify(interstitialAdWrapper, times(1)).load()
+
+      interstitialAdListenerCaptor.firstValue.onAdShow(MBridgeIds())
+      shadowOf(Looper.getMainLooper()).idle()
+
+      verify(interstitialAdWrapper, times(2)).load()
+      assertThat(interstitialAdLoadCallback).hasNoFailure()
+    }
+  }
+
+  @Test
+  fun loadInterstitialWaterfallAd_ifTooManyAdsAreWaitingForTheSlot_failsToLoad() {
+    mockStatic(MintegralFactory::class.java).use {
+      whenever(MintegralFactory.createInterstitialHandler()) doReturn interstitialAdWrapper
+      repeat(DEFAULT_MAX_WAITING_PER_SLOT + 1) {
+        adapter.loadInterstitialAd(interstitialAdWaterfallConfig, interstitialAdLoadCallback)
+      }
+      val rejectedAdLoadCallback =
+        FakeMediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>()
+
+      adapter.loadInterstitialAd(interstitialAdWaterfallConfig, rejectedAdLoadCallback)
+
+      val expectedError =
+        AdError(ERROR_CODE_AD_ALREADY_LOADED, ERROR_MSG_AD_ALREADY_LOADED, ERROR_DOMAIN)
+      assertThat(rejectedAdLoadCallback).hasFailedWith(expectedError)
+      assertThat(interstitialAdLoadCallback).hasNoFailure()
+    }
+  }
+
   @Test
   fun loadSecondInterstitialWaterfallAd_ifPreviousAdLoadFailed_loads() {
     mockStatic(MintegralFactory::class.java).use {
@@ -446,13 +498,16 @@ class RestrictMultipleAdLoadsTest {
   }
 
   @Test
-  fun loadSecondRewardedWaterfallAd_ifPreviousAdIsLoadedAndNotYetShown_failsToLoad() {
+  fun loadSecondRewardedWaterfallAd_ifPreviousAdIsLoadedAndNotYetShown_failsAtDeadline() {
     mockStatic(MintegralFactory::class.java).use {
       whenever(MintegralFactory.createMintegralRewardedAdWrapper()) doReturn rewardedAdWrapper
       adapter.loadRewardedAd(rewardedAdWaterfallConfig, rewardedAdLoadCallback)
 
       adapter.loadRewardedAd(rewardedAdWaterfallConfig, rewardedAdLoadCallback)
 
+      assertThat(rewardedAdLoadCallback).hasNoFailure()
+      shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(DEFAULT_MAX_WAIT_MILLIS))
+
       val expectedError =
         AdError(ERROR_CODE_AD_ALREADY_LOADED, ERROR_MSG_AD_ALREADY_LOADED, ERROR_DOMAIN)
       assertThat(rewardedAdLoadCallback).hasFailedWith(expectedError)
@@ -17,6 +17,7 @@ package com.google.ads.mediation.moloco
 import android.content.Context
 import android.util.Log
 import com.google.ads.mediation.common.AgeRestrictedTreatmentUtils
+import com.google.ads.mediation.common.VersionInfoParser
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.AgeRestrictedTreatment
 import com.google.android.gms.ads.MobileAds
@@ -67,12 +68,8 @@ class MolocoMediationAdapter : RtbAdapter() {
 
   override fun getVersionInfo(): VersionInfo {
     val adapterVersion = MolocoAdapterUtils.adapterVersion
-    val splits = adapterVersion.split("\\.".toRegex()).dropLastWhile { it.isEmpty() }.toTypedArray()
-    if (splits.size >= 4) {
-      val major = splits[0].toInt()
-      val minor = splits[1].toInt()
-      val micro = splits[2].toInt() * 100 + splits[3].toInt()
-      return VersionInfo(major, minor, micro)
+    ADAPTER_VERSION_PARSER.parse(adapterVersion)?.let {
+      return it
     }
 
     val logMessage =
@@ -193,6 +190,9 @@ class MolocoMediationAdapter : RtbAdapter() {
   }
 
   companion object {
+    /** Parses and caches the adapter version. */
+    private val ADAPTER_VERSION_PARSER = VersionInfoParser(4, 4)
+
     private val TAG = MolocoMediationAdapter::class.simpleName
     const val MEDIATION_PLATFORM_NAME = "AdMob"
     const val KEY_APP_KEY = "app_key"
@@ -18,6 +18,8 @@ import android.graphics.drawable.Drawable
 import android.net.Uri
 import android.view.View
 import androidx.annotation.VisibleForTesting
+import com.google.ads.mediation.common.NativeImageLoader
+import com.google.ads.mediation.common.NativeImageLoader.Companion.DEFAULT_MAX_IMAGE_SIZE_PX
 import com.google.ads.mediation.moloco.MolocoMediationAdapter.Companion.MEDIATION_PLATFORM_NAME
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
@@ -42,9 +44,13 @@ private constructor(
   private val watermark: String,
   private val mediationNativeAdLoadCallback:
     MediationAdLoadCallback<NativeAdMapper, MediationNativeAdCallback>,
+  private val shouldLoadImages: Boolean,
+  private val imageLoader: NativeImageLoader,
 ) : AdLoad.Listener, NativeAdMapper() {
   @VisibleForTesting(otherwise = VisibleForTesting.PRIVATE) internal var nativeAd: NativeAd? = null
 
+  private var iconRequest: NativeImageLoader.Request? = null
+
   fun loadAd() {
     val mediationInfo = MediationInfo(MEDIATION_PLATFORM_NAME)
     Moloco.createNativeAd(
@@ -80,6 +86,7 @@ private constructor(
 
   override fun onAdLoadSuccess(molocoAd: MolocoAd) {
     overrideClickHandling = true
+    var iconUri: Uri? = null
     nativeAd?.apply {
       assets?.apply {
         rating?.let { starRating = it.toDouble() }
@@ -88,9 +95,7 @@ private constructor(
         title?.let { headline = it }
         description?.let { body = it }
         callToActionText?.let { callToAction = it }
-        iconUri?.let {
-          Drawable.createFromPath(it.toString())?.apply { icon = MolocoNativeMappedImage(this) }
-        }
+        iconUri = this.iconUri
 
         val mediaView = this.mediaView
 
@@ -101,6 +106,25 @@ private constructor(
       }
     }
 
+    val uri = iconUri
+    if (uri == null) {
+      onAssetsMapped()
+      return
+    }
+    if (!shouldLoadImages) {
+      icon = MolocoNativeMappedImage(drawable = null, uri)
+      onAssetsMapped()
+      return
+    }
+    // Decode the icon off the main thread instead of blocking it.
+    iconRequest =
+      imageLoader.load(uri, DEFAULT_MAX_IMAGE_SIZE_PX, DEFAULT_MAX_IMAGE_SIZE_PX) { drawable ->
+        drawable?.let { icon = MolocoNativeMappedImage(it, uri) }
+        onAssetsMapped()
+      }
+  }
+
+  private fun onAssetsMapped() {
     val showCallback = mediationNativeAdLoadCallback.onSuccess(this)
     nativeAd?.interactionListener =
       object : NativeAd.InteractionListener {
@@ -140,6 +164,8 @@ private constructor(
   }
 
   override fun destroy() {
+    iconRequest?.cancel()
+    iconRequest = null
     nativeAd?.destroy()
     nativeAd = null
   }
@@ -149,6 +175,8 @@ private constructor(
       mediationNativeAdConfiguration: MediationNativeAdConfiguration,
       mediationNativeAdLoadCallback:
         MediationAdLoadCallback<NativeAdMapper, MediationNativeAdCallback>,
+      imageLoader: NativeImageLoader =
+        NativeImageLoader.getInstance(mediationNativeAdConfiguration.context),
     ): Result<MolocoNativeAd> {
       val serverParameters = mediationNativeAdConfiguration.serverParameters
 
@@ -167,8 +195,18 @@ private constructor(
       val bidResponse = mediationNativeAdConfiguration.bidResponse
       val watermark = mediationNativeAdConfiguration.watermark
 
+      val shouldLoadImages =
+        NativeImageLoader.shouldLoadImages(mediationNativeAdConfiguration.nativeAdOptions)
+
       return Result.success(
-        MolocoNativeAd(adUnitId, bidResponse, watermark, mediationNativeAdLoadCallback)
+        MolocoNativeAd(
+          adUnitId,
+          bidResponse,
+          watermark,
+          mediationNativeAdLoadCallback,
+          shouldLoadImages,
+          imageLoader,
+        )
       )
     }
 
@@ -177,7 +215,7 @@ private constructor(
   }
 
   internal class MolocoNativeMappedImage(
-    private val drawable: Drawable,
+    private val drawable: Drawable?,
     private val uri: Uri = Uri.EMPTY,
     private val scale: Double = 1.0,
   ) : com.google.android.gms.ads.nativead.NativeAd.Image() {
@@ -28,6 +28,7 @@ import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_WATE
 import com.google.ads.mediation.adaptertestkit.FakeMediationAdLoadCallback
 import com.google.ads.mediation.adaptertestkit.FakeMediationNativeAdCallback
 import com.google.ads.mediation.adaptertestkit.assertThat
+import com.google.ads.mediation.common.NativeImageLoader
 import com.google.ads.mediation.moloco.MolocoMediationAdapter.Companion.MEDIATION_PLATFORM_NAME
 import com.google.ads.mediation.moloco.MolocoNativeAd.Companion.MEDIA_VIEW_TAG
 import com.google.android.gms.ads.AdError
@@ -35,6 +36,7 @@ import com.google.android.gms.ads.RequestConfiguration
 import com.google.android.gms.ads.mediation.MediationNativeAdCallback
 import com.google.android.gms.ads.mediation.MediationNativeAdConfiguration
 import com.google.android.gms.ads.mediation.NativeAdMapper
+import com.google.android.gms.ads.nativead.NativeAdOptions
 import com.google.common.truth.Truth.assertThat
 import com.moloco.sdk.publisher.CreateNativeAdCallback
 import com.moloco.sdk.publisher.MediationInfo
@@ -67,14 +69,21 @@ class MolocoNativeAdTest {
   private val nativeAdCallback = FakeMediationNativeAdCallback()
   private val nativeAdLoadCallback =
     FakeMediationAdLoadCallback<NativeAdMapper, MediationNativeAdCallback>(nativeAdCallback)
+  private val iconDrawable: Drawable = ColorDrawable(Color.RED)
+  private val imageLoaderCallbacks = mutableListOf<NativeImageLoader.Callback>()
+  private val imageLoader =
+    NativeImageLoader { _, _, _, callback ->
+      imageLoaderCallbacks.add(callback)
+      callback.onImageLoaded(iconDrawable)
+      NativeImageLoader.Request {}
+    }
 
   @Before
   fun setUp() {
     mockMoloco = mockStatic(Moloco::class.java)
     mediationAdConfiguration = createMediationNativeAdConfiguration()
-    MolocoNativeAd.newInstance(mediationAdConfiguration, nativeAdLoadCallback).onSuccess {
-      molocoNativeAd = it
-    }
+    MolocoNativeAd.newInstance(mediationAdConfiguration, nativeAdLoadCallback, imageLoader)
+      .onSuccess { molocoNativeAd = it }
   }
 
   @After
@@ -264,6 +273,76 @@ class MolocoNativeAdTest {
     assertThat(nativeAdLoadCallback).hasSucceededWith(molocoNativeAd)
   }
 
+  @Test
+  fun onAdLoadSuccess_loadsIconWithImageLoader() {
+    val iconUri = Uri.parse("file:///data/icon.png")
+    molocoNativeAd.nativeAd = createMolocoNativeAd(iconUri)
+
+    molocoNativeAd.onAdLoadSuccess(mock())
+
+    assertThat(imageLoaderCallbacks).hasSize(1)
+    assertThat(molocoNativeAd.icon.drawable).isSameInstanceAs(iconDrawable)
+    assertThat(molocoNativeAd.icon.uri).isEqualTo(iconUri)
+    assertThat(nativeAdLoadCallback).hasSucceededWith(molocoNativeAd)
+  }
+
+  @Test
+  fun onAdLoadSuccess_beforeIconIsLoaded_doesNotInvokeOnSuccess() {
+    val pendingCallbacks = mutableListOf<NativeImageLoader.Callback>()
+    val pendingImageLoader = NativeImageLoader { _, _, _, callback ->
+      pendingCallbacks.add(callback)
+      NativeImageLoader.Request {}
+    }
+    MolocoNativeAd.newInstance(mediationAdConfiguration, nativeAdLoadCallback, pendingImageLoader)
+      .onSuccess { molocoNativeAd = it }
+    molocoNativeAd.nativeAd = createMolocoNativeAd(Uri.parse("file:///data/icon.png"))
+
+    molocoNativeAd.onAdLoadSuccess(mock())
+
+    assertThat(nativeAdLoadCallback).hasNotSucceeded()
+    pendingCallbacks.single().onImageLoaded(null)
+    assertThat(molocoNativeAd.icon).isNull()
+    assertThat(nativeAdLoadCallback).hasSucceededWith(molocoNativeAd)
+  }
+
+  @Test
+  fun onAdLoadSuccess_withUrlsForImageAssetsRequested_mapsIconUriWithoutLoadingIt() {
+    val urlsOnlyOptions = NativeAdOptions.Builder().setReturnUrlsForImageAssets(true).build()
+    val configuration =
+      mock<MediationNativeAdConfiguration> {
+        on { serverParameters } doReturn
+          bundleOf(MolocoMediationAdapter.KEY_AD_UNIT_ID to TEST_AD_UNIT)
+        on { nativeAdOptions } doReturn urlsOnlyOptions
+      }
+    MolocoNativeAd.newInstance(configuration, nativeAdLoadCallback, imageLoader).onSuccess {
+      molocoNativeAd = it
+    }
+    val iconUri = Uri.parse("file:///data/icon.png")
+    molocoNativeAd.nativeAd = createMolocoNativeAd(iconUri)
+
+    molocoNativeAd.onAdLoadSuccess(mock())
+
+    assertThat(imageLoaderCallbacks).isEmpty()
+    assertThat(molocoNativeAd.icon.drawable).isNull()
+    assertThat(molocoNativeAd.icon.uri).isEqualTo(iconUri)
+    assertThat(nativeAdLoadCallback).hasSucceededWith(molocoNativeAd)
+  }
+
+  @Test
+  fun destroy_beforeIconIsLoaded_cancelsIconRequest() {
+    val iconRequest = mock<NativeImageLoader.Request>()
+    MolocoNativeAd.newInstance(mediationAdConfiguration, nativeAdLoadCallback) { _, _, _, _ ->
+        iconRequest
+      }
+      .onSuccess { molocoNativeAd = it }
+    molocoNativeAd.nativeAd = createMolocoNativeAd(Uri.parse("file:///data/icon.png"))
+    molocoNativeAd.onAdLoadSuccess(mock())
+
+    molocoNativeAd.destroy()
+
+    verify(iconRequest).cancel()
+  }
+
   @Test
   fun onAdLoadFailed_dueToSdkInit_invokesOnFailure() {
     val testError =
@@ -363,6 +442,11 @@ class MolocoNativeAdTest {
 
   // endregion
 
+  private fun createMolocoNativeAd(iconUri: Uri): NativeAd {
+    val mockNativeAdAssets = mock<NativeAd.Assets> { on { this.iconUri } doReturn iconUri }
+    return mock { on { assets } doReturn mockNativeAdAssets }
+  }
+
   private fun createMediationNativeAdConfiguration(
     serverParameters: android.os.Bundle =
       bundleOf(MolocoMediationAdapter.KEY_AD_UNIT_ID to TEST_AD_UNIT)
@@ -23,8 +23,8 @@ import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
 import com.bytedance.sdk.openadsdk.api.init.PAGConfig;
 import com.bytedance.sdk.openadsdk.api.init.PAGSdk.PAGInitCallback;
+import com.google.ads.mediation.common.SingleFlightInitializer;
 import com.google.android.gms.ads.AdError;
-import java.util.ArrayList;
 
 /**
  * Manages initializing Pangle SDK.
@@ -35,32 +35,25 @@ import java.util.ArrayList;
  */
 public class PangleInitializer implements PAGInitCallback {
 
-  private static PangleInitializer instance;
+  private static final PangleInitializer instance = new PangleInitializer();
 
-  private boolean isInitializing = false;
-  private boolean isInitialized = false;
-  private final ArrayList<Listener> initListeners;
+  private final SingleFlightInitializer<Listener> initializer = new SingleFlightInitializer<>();
 
   private final PangleSdkWrapper pangleSdkWrapper;
   private final PangleFactory pangleFactory;
 
   @NonNull
   public static PangleInitializer getInstance() {
-    if (instance == null) {
-      instance = new PangleInitializer();
-    }
     return instance;
   }
 
   private PangleInitializer() {
-    initListeners = new ArrayList<>();
     pangleSdkWrapper = new PangleSdkWrapper();
     pangleFactory = new PangleFactory();
   }
 
   @VisibleForTesting
   public PangleInitializer(PangleSdkWrapper pangleSdkWrapper, PangleFactory pangleFactory) {
-    initListeners = new ArrayList<>();
     this.pangleSdkWrapper = pangleSdkWrapper;
     this.pangleFactory = pangleFactory;
   }
@@ -76,19 +69,16 @@ public class PangleInitializer implements PAGInitCallback {
       return;
     }
 
-    if (isInitializing) {
-      initListeners.add(listener);
-      return;
+    switch (initializer.addListener(listener)) {
+      case ALREADY_INITIALIZED:
+        listener.onInitializeSuccess();
+        return;
+      case JOINED_PENDING_INITIALIZATION:
+        return;
+      case START_INITIALIZATION:
+        break;
     }
 
-    if (isInitialized) {
-      listener.onInitializeSuccess();
-      return;
-    }
-
-    isInitializing = true;
-    initListeners.add(listener);
-
     // Pangle SDK is only initialized using a single App ID.
     PAGConfig adConfig =
         pangleFactory
@@ -105,25 +95,17 @@ public class PangleInitializer implements PAGInitCallback {
 
   @Override
   public void success() {
-    isInitializing = false;
-    isInitialized = true;
-
-    for (Listener listener : initListeners) {
+    for (Listener listener : initializer.completeWithSuccess()) {
       listener.onInitializeSuccess();
     }
-    initListeners.clear();
   }
 
   @Override
   public void fail(int errorCode, @NonNull String errorMessage) {
-    isInitializing = false;
-    isInitialized = false;
-
     AdError error = PangleConstants.createSdkError(errorCode, errorMessage);
-    for (Listener listener : initListeners) {
+    for (Listener listener : initializer.completeWithFailure()) {
       listener.onInitializeError(error);
     }
-    initListeners.clear();
   }
 
   public interface Listener {
@@ -29,6 +29,8 @@ import com.bytedance.sdk.openadsdk.api.bidding.PAGBiddingRequest;
 import com.bytedance.sdk.openadsdk.api.init.PAGBidCallback;
 import com.bytedance.sdk.openadsdk.api.init.PAGBidError;
 import com.bytedance.sdk.openadsdk.api.init.PAGConfig;
+import com.google.ads.mediation.common.SignalCollector;
+import com.google.ads.mediation.common.VersionInfoParser;
 import com.google.ads.mediation.pangle.PangleInitializer.Listener;
 import com.google.ads.mediation.pangle.renderer.PangleAppOpenAd;
 import com.google.ads.mediation.pangle.renderer.PangleBannerAd;
@@ -63,8 +65,20 @@ import java.util.List;
 
 public class PangleMediationAdapter extends RtbAdapter {
 
+  /** Parses and caches the adapter version. */
+  private static final VersionInfoParser ADAPTER_VERSION_PARSER = new VersionInfoParser(4, 5);
+
+  /** Parses and caches the SDK version. */
+  private static final VersionInfoParser SDK_VERSION_PARSER = new VersionInfoParser(3, 4);
+
+  /** Deadline for Pangle SDK to generate its bidding token, which it does asynchronously. */
+  private static final long SIGNAL_TIMEOUT_MILLIS = 1000;
+
   public static final String TAG = PangleMediationAdapter.class.getSimpleName();
 
+  /** The network name reported to the bid token cache and the ad latency metrics. */
+  public static final String NETWORK_NAME = "Pangle";
+
   @VisibleForTesting
   static final String ERROR_MESSAGE_MISSING_OR_INVALID_APP_ID = "Missing or invalid App ID.";
 
@@ -108,22 +122,30 @@ public class PangleMediationAdapter extends RtbAdapter {
     }
     PAGBiddingRequest biddingRequest = new PAGBiddingRequest();
     biddingRequest.setAdxId(PangleConstants.ADX_ID);
-    pangleSdkWrapper.getBiddingToken(
-        rtbSignalData.getContext(),
-        biddingRequest,
-        new PAGBidCallback() {
-          @Override
-          public void onBiddingTokenCollected(String biddingToken) {
-            signalCallbacks.onSuccess(biddingToken);
-          }
-
-          @Override
-          public void onBiddingTokenFailed(PAGBidError pagBidError) {
-            signalCallbacks.onFailure(
-                new AdError(
-                    pagBidError.getCode(), pagBidError.getMessage(), PANGLE_SDK_ERROR_DOMAIN));
-          }
-        });
+    SignalCollector.getInstance()
+        .collectSignals(
+            NETWORK_NAME,
+            signalCallbacks,
+            SIGNAL_TIMEOUT_MILLIS,
+            callbacks ->
+                pangleSdkWrapper.getBiddingToken(
+                    rtbSignalData.getContext(),
+                    biddingRequest,
+                    new PAGBidCallback() {
+                      @Override
+                      public void onBiddingTokenCollected(String biddingToken) {
+                        callbacks.onSuccess(biddingToken);
+                      }
+
+                      @Override
+                      public void onBiddingTokenFailed(PAGBidError pagBidError) {
+                        callbacks.onFailure(
+                            new AdError(
+                                pagBidError.getCode(),
+                                pagBidError.getMessage(),
+                                PANGLE_SDK_ERROR_DOMAIN));
+                      }
+                    }));
   }
 
   @Override
@@ -188,16 +210,9 @@ public class PangleMediationAdapter extends RtbAdapter {
   @VisibleForTesting
   @NonNull
   VersionInfo getVersionInfo(String versionString) {
-    String[] splits = versionString.split("\\.");
-
-    if (splits.length >= 4) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int micro = Integer.parseInt(splits[2]) * 100 + Integer.parseInt(splits[3]);
-      if (splits.length >= 5) {
-        micro = micro * 100 + Integer.parseInt(splits[4]);
-      }
-      return new VersionInfo(major, minor, micro);
+    VersionInfo versionInfo = ADAPTER_VERSION_PARSER.parse(versionString);
+    if (versionInfo != null) {
+      return versionInfo;
     }
 
     String logMessage =
@@ -212,16 +227,9 @@ public class PangleMediationAdapter extends RtbAdapter {
   @Override
   public VersionInfo getSDKVersionInfo() {
     String versionString = pangleSdkWrapper.getSdkVersion();
-    String[] splits = versionString.split("\\.");
-
-    if (splits.length >= 3) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int micro = Integer.parseInt(splits[2]);
-      if (splits.length >= 4) {
-        micro = micro * 100 + Integer.parseInt(splits[3]);
-      }
-      return new VersionInfo(major, minor, micro);
+    VersionInfo versionInfo = SDK_VERSION_PARSER.parse(versionString);
+    if (versionInfo != null) {
+      return versionInfo;
     }
 
     String logMessage =
@@ -15,6 +15,7 @@
 package com.google.ads.mediation.pangle.renderer;
 
 import static com.google.ads.mediation.pangle.PangleConstants.ERROR_INVALID_SERVER_PARAMETERS;
+import static com.google.ads.mediation.pangle.PangleMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.pangle.PangleMediationAdapter.TAG;
 
 import android.app.Activity;
@@ -28,6 +29,8 @@ import com.bytedance.sdk.openadsdk.api.open.PAGAppOpenAd;
 import com.bytedance.sdk.openadsdk.api.open.PAGAppOpenAdInteractionListener;
 import com.bytedance.sdk.openadsdk.api.open.PAGAppOpenAdLoadListener;
 import com.bytedance.sdk.openadsdk.api.open.PAGAppOpenRequest;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.ads.mediation.pangle.PangleConstants;
 import com.google.ads.mediation.pangle.PangleFactory;
 import com.google.ads.mediation.pangle.PangleInitializer;
@@ -35,6 +38,7 @@ import com.google.ads.mediation.pangle.PangleInitializer.Listener;
 import com.google.ads.mediation.pangle.PangleRequestHelper;
 import com.google.ads.mediation.pangle.PangleSdkWrapper;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationAppOpenAd;
 import com.google.android.gms.ads.mediation.MediationAppOpenAdCallback;
@@ -52,6 +56,10 @@ public class PangleAppOpenAd implements MediationAppOpenAd {
   private final PangleSdkWrapper pangleSdkWrapper;
   private final PangleFactory pangleFactory;
 
+  /** Times the stages of the load and show of this ad. */
+  private final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.APP_OPEN);
+
   private MediationAppOpenAdCallback appOpenAdCallback;
   private PAGAppOpenAd pagAppOpenAd;
 
@@ -69,6 +77,7 @@ public class PangleAppOpenAd implements MediationAppOpenAd {
   }
 
   public void render(@NonNull MediationAppOpenAdConfiguration adConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
 
     Bundle serverParameters = adConfiguration.getServerParameters();
     final String placementId = serverParameters.getString(PangleConstants.PLACEMENT_ID);
@@ -84,15 +93,18 @@ public class PangleAppOpenAd implements MediationAppOpenAd {
     final String bidResponse = adConfiguration.getBidResponse();
     Context context = adConfiguration.getContext();
     String appId = serverParameters.getString(PangleConstants.APP_ID);
+    latencyTracker.startStage(Stage.INITIALIZATION);
     pangleInitializer.initialize(
         context,
         appId,
         new Listener() {
           @Override
           public void onInitializeSuccess() {
+            latencyTracker.endStage(Stage.INITIALIZATION);
             PAGAppOpenRequest request = pangleFactory.createPagAppOpenRequest();
             request.setAdString(bidResponse);
             PangleRequestHelper.setWatermarkString(request, bidResponse, adConfiguration);
+            latencyTracker.startStage(Stage.SDK_LOAD);
             pangleSdkWrapper.loadAppOpenAd(
                 placementId,
                 request,
@@ -106,7 +118,11 @@ public class PangleAppOpenAd implements MediationAppOpenAd {
 
                   @Override
                   public void onAdLoaded(PAGAppOpenAd appOpenAd) {
+                    latencyTracker.endStage(Stage.SDK_LOAD);
+                    latencyTracker.endStage(Stage.TIME_TO_FILL);
+                    latencyTracker.startStage(Stage.LOAD_CALLBACK);
                     appOpenAdCallback = adLoadCallback.onSuccess(PangleAppOpenAd.this);
+                    latencyTracker.endStage(Stage.LOAD_CALLBACK);
                     pagAppOpenAd = appOpenAd;
                   }
                 });
@@ -122,10 +138,12 @@ public class PangleAppOpenAd implements MediationAppOpenAd {
 
   @Override
   public void showAd(@NonNull Context context) {
+    latencyTracker.startStage(Stage.SHOW);
     pagAppOpenAd.setAdInteractionListener(
         new PAGAppOpenAdInteractionListener() {
           @Override
           public void onAdShowed() {
+            latencyTracker.endStage(Stage.SHOW);
             if (appOpenAdCallback != null) {
               appOpenAdCallback.onAdOpened();
               appOpenAdCallback.reportAdImpression();
@@ -16,6 +16,7 @@ package com.google.ads.mediation.pangle.renderer;
 
 import static com.google.ads.mediation.pangle.PangleConstants.ERROR_BANNER_SIZE_MISMATCH;
 import static com.google.ads.mediation.pangle.PangleConstants.ERROR_INVALID_SERVER_PARAMETERS;
+import static com.google.ads.mediation.pangle.PangleMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.pangle.PangleMediationAdapter.TAG;
 
 import android.content.Context;
@@ -31,6 +32,8 @@ import com.bytedance.sdk.openadsdk.api.banner.PAGBannerAdInteractionListener;
 import com.bytedance.sdk.openadsdk.api.banner.PAGBannerAdLoadListener;
 import com.bytedance.sdk.openadsdk.api.banner.PAGBannerRequest;
 import com.bytedance.sdk.openadsdk.api.banner.PAGBannerSize;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.ads.mediation.pangle.PangleConstants;
 import com.google.ads.mediation.pangle.PangleFactory;
 import com.google.ads.mediation.pangle.PangleInitializer;
@@ -38,6 +41,7 @@ import com.google.ads.mediation.pangle.PangleInitializer.Listener;
 import com.google.ads.mediation.pangle.PangleRequestHelper;
 import com.google.ads.mediation.pangle.PangleSdkWrapper;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationBannerAd;
@@ -55,6 +59,11 @@ public class PangleBannerAd implements MediationBannerAd, PAGBannerAdInteraction
   private final PangleInitializer pangleInitializer;
   private final PangleSdkWrapper pangleSdkWrapper;
   private final PangleFactory pangleFactory;
+
+  /** Times the stages of the load of this ad. */
+  private final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.BANNER);
+
   private MediationBannerAdCallback bannerAdCallback;
   @VisibleForTesting FrameLayout wrappedAdView;
 
@@ -72,6 +81,7 @@ public class PangleBannerAd implements MediationBannerAd, PAGBannerAdInteraction
   }
 
   public void render(@NonNull MediationBannerAdConfiguration adConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
 
     Bundle serverParameters = adConfiguration.getServerParameters();
     String placementId = serverParameters.getString(PangleConstants.PLACEMENT_ID);
@@ -88,12 +98,14 @@ public class PangleBannerAd implements MediationBannerAd, PAGBannerAdInteraction
     String bidResponse = adConfiguration.getBidResponse();
     Context context = adConfiguration.getContext();
     String appId = serverParameters.getString(PangleConstants.APP_ID);
+    latencyTracker.startStage(Stage.INITIALIZATION);
     pangleInitializer.initialize(
         context,
         appId,
         new Listener() {
           @Override
           public void onInitializeSuccess() {
+            latencyTracker.endStage(Stage.INITIALIZATION);
             AdSize googleAdSize = adConfiguration.getAdSize();
             PAGBannerSize bannerSize = getBannerSizeFromGoogleAdSize(context, googleAdSize);
             if (bannerSize == null) {
@@ -110,6 +122,7 @@ public class PangleBannerAd implements MediationBannerAd, PAGBannerAdInteraction
             PAGBannerRequest request = pangleFactory.createPagBannerRequest(bannerSize);
             request.setAdString(bidResponse);
             PangleRequestHelper.setWatermarkString(request, bidResponse, adConfiguration);
+            latencyTracker.startStage(Stage.SDK_LOAD);
             pangleSdkWrapper.loadBannerAd(
                 placementId,
                 request,
@@ -123,9 +136,13 @@ public class PangleBannerAd implements MediationBannerAd, PAGBannerAdInteraction
 
                   @Override
                   public void onAdLoaded(PAGBannerAd pagBannerAd) {
+                    latencyTracker.endStage(Stage.SDK_LOAD);
+                    latencyTracker.endStage(Stage.TIME_TO_FILL);
                     pagBannerAd.setAdInteractionListener(PangleBannerAd.this);
                     wrappedAdView.addView(pagBannerAd.getBannerView());
+                    latencyTracker.startStage(Stage.LOAD_CALLBACK);
                     bannerAdCallback = adLoadCallback.onSuccess(PangleBannerAd.this);
+                    latencyTracker.endStage(Stage.LOAD_CALLBACK);
                   }
                 });
           }
@@ -15,6 +15,7 @@
 package com.google.ads.mediation.pangle.renderer;
 
 import static com.google.ads.mediation.pangle.PangleConstants.ERROR_INVALID_SERVER_PARAMETERS;
+import static com.google.ads.mediation.pangle.PangleMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.pangle.PangleMediationAdapter.TAG;
 
 import android.app.Activity;
@@ -27,6 +28,8 @@ import com.bytedance.sdk.openadsdk.api.interstitial.PAGInterstitialAd;
 import com.bytedance.sdk.openadsdk.api.interstitial.PAGInterstitialAdInteractionListener;
 import com.bytedance.sdk.openadsdk.api.interstitial.PAGInterstitialAdLoadListener;
 import com.bytedance.sdk.openadsdk.api.interstitial.PAGInterstitialRequest;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.ads.mediation.pangle.PangleConstants;
 import com.google.ads.mediation.pangle.PangleFactory;
 import com.google.ads.mediation.pangle.PangleInitializer;
@@ -34,6 +37,7 @@ import com.google.ads.mediation.pangle.PangleInitializer.Listener;
 import com.google.ads.mediation.pangle.PangleRequestHelper;
 import com.google.ads.mediation.pangle.PangleSdkWrapper;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAd;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback;
@@ -46,6 +50,11 @@ public class PangleInterstitialAd implements MediationInterstitialAd {
   private final PangleInitializer pangleInitializer;
   private final PangleSdkWrapper pangleSdkWrapper;
   private final PangleFactory pangleFactory;
+
+  /** Times the stages of the load and show of this ad. */
+  private final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.INTERSTITIAL);
+
   private MediationInterstitialAdCallback interstitialAdCallback;
   private PAGInterstitialAd pagInterstitialAd;
 
@@ -63,6 +72,7 @@ public class PangleInterstitialAd implements MediationInterstitialAd {
   }
 
   public void render(@NonNull MediationInterstitialAdConfiguration adConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
 
     Bundle serverParameters = adConfiguration.getServerParameters();
     String placementId = serverParameters.getString(PangleConstants.PLACEMENT_ID);
@@ -79,15 +89,18 @@ public class PangleInterstitialAd implements MediationInterstitialAd {
     String bidResponse = adConfiguration.getBidResponse();
     Context context = adConfiguration.getContext();
     String appId = serverParameters.getString(PangleConstants.APP_ID);
+    latencyTracker.startStage(Stage.INITIALIZATION);
     pangleInitializer.initialize(
         context,
         appId,
         new Listener() {
           @Override
           public void onInitializeSuccess() {
+            latencyTracker.endStage(Stage.INITIALIZATION);
             PAGInterstitialRequest request = pangleFactory.createPagInterstitialRequest();
             request.setAdString(bidResponse);
             PangleRequestHelper.setWatermarkString(request, bidResponse, adConfiguration);
+            latencyTracker.startStage(Stage.SDK_LOAD);
             pangleSdkWrapper.loadInterstitialAd(
                 placementId,
                 request,
@@ -101,7 +114,11 @@ public class PangleInterstitialAd implements MediationInterstitialAd {
 
                   @Override
                   public void onAdLoaded(PAGInterstitialAd interstitialAd) {
+                    latencyTracker.endStage(Stage.SDK_LOAD);
+                    latencyTracker.endStage(Stage.TIME_TO_FILL);
+                    latencyTracker.startStage(Stage.LOAD_CALLBACK);
                     interstitialAdCallback = adLoadCallback.onSuccess(PangleInterstitialAd.this);
+                    latencyTracker.endStage(Stage.LOAD_CALLBACK);
                     pagInterstitialAd = interstitialAd;
                   }
                 });
@@ -117,10 +134,12 @@ public class PangleInterstitialAd implements MediationInterstitialAd {
 
   @Override
   public void showAd(@NonNull Context context) {
+    latencyTracker.startStage(Stage.SHOW);
     pagInterstitialAd.setAdInteractionListener(
         new PAGInterstitialAdInteractionListener() {
           @Override
           public void onAdShowed() {
+            latencyTracker.endStage(Stage.SHOW);
             if (interstitialAdCallback != null) {
               interstitialAdCallback.onAdOpened();
               interstitialAdCallback.reportAdImpression();
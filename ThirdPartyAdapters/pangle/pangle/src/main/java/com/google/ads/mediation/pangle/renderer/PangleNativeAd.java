@@ -15,6 +15,7 @@
 package com.google.ads.mediation.pangle.renderer;
 
 import static com.google.ads.mediation.pangle.PangleConstants.ERROR_INVALID_SERVER_PARAMETERS;
+import static com.google.ads.mediation.pangle.PangleMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.pangle.PangleMediationAdapter.TAG;
 
 import android.content.Context;
@@ -33,6 +34,8 @@ import com.bytedance.sdk.openadsdk.api.nativeAd.PAGNativeAdData;
 import com.bytedance.sdk.openadsdk.api.nativeAd.PAGNativeAdInteractionListener;
 import com.bytedance.sdk.openadsdk.api.nativeAd.PAGNativeAdLoadListener;
 import com.bytedance.sdk.openadsdk.api.nativeAd.PAGNativeRequest;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.ads.mediation.pangle.PangleConstants;
 import com.google.ads.mediation.pangle.PangleFactory;
 import com.google.ads.mediation.pangle.PangleInitializer;
@@ -40,6 +43,7 @@ import com.google.ads.mediation.pangle.PangleInitializer.Listener;
 import com.google.ads.mediation.pangle.PangleRequestHelper;
 import com.google.ads.mediation.pangle.PangleSdkWrapper;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.formats.NativeAd.Image;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationNativeAdCallback;
@@ -62,6 +66,11 @@ public class PangleNativeAd extends UnifiedNativeAdMapper {
   private final PangleInitializer pangleInitializer;
   private final PangleSdkWrapper pangleSdkWrapper;
   private final PangleFactory pangleFactory;
+
+  /** Times the stages of the load of this ad. */
+  private final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.NATIVE);
+
   private MediationNativeAdCallback callback;
   private PAGNativeAd pagNativeAd;
 
@@ -79,6 +88,7 @@ public class PangleNativeAd extends UnifiedNativeAdMapper {
   }
 
   public void render(@NonNull MediationNativeAdConfiguration adConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
 
     Bundle serverParameters = adConfiguration.getServerParameters();
     String placementId = serverParameters.getString(PangleConstants.PLACEMENT_ID);
@@ -95,15 +105,18 @@ public class PangleNativeAd extends UnifiedNativeAdMapper {
     String bidResponse = adConfiguration.getBidResponse();
     Context context = adConfiguration.getContext();
     String appId = serverParameters.getString(PangleConstants.APP_ID);
+    latencyTracker.startStage(Stage.INITIALIZATION);
     pangleInitializer.initialize(
         context,
         appId,
         new Listener() {
           @Override
           public void onInitializeSuccess() {
+            latencyTracker.endStage(Stage.INITIALIZATION);
             PAGNativeRequest request = pangleFactory.createPagNativeRequest();
             request.setAdString(bidResponse);
             PangleRequestHelper.setWatermarkString(request, bidResponse, adConfiguration);
+            latencyTracker.startStage(Stage.SDK_LOAD);
             pangleSdkWrapper.loadNativeAd(
                 placementId,
                 request,
@@ -117,8 +130,14 @@ public class PangleNativeAd extends UnifiedNativeAdMapper {
 
                   @Override
                   public void onAdLoaded(PAGNativeAd pagNativeAd) {
+                    latencyTracker.endStage(Stage.SDK_LOAD);
+                    latencyTracker.endStage(Stage.TIME_TO_FILL);
+                    latencyTracker.startStage(Stage.ASSET_MAPPING);
                     mapNativeAd(pagNativeAd);
+                    latencyTracker.endStage(Stage.ASSET_MAPPING);
+                    latencyTracker.startStage(Stage.LOAD_CALLBACK);
                     callback = adLoadCallback.onSuccess(PangleNativeAd.this);
+                    latencyTracker.endStage(Stage.LOAD_CALLBACK);
                   }
                 });
           }
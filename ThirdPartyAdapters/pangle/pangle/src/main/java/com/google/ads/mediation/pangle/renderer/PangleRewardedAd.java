@@ -15,6 +15,7 @@
 package com.google.ads.mediation.pangle.renderer;
 
 import static com.google.ads.mediation.pangle.PangleConstants.ERROR_INVALID_SERVER_PARAMETERS;
+import static com.google.ads.mediation.pangle.PangleMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.pangle.PangleMediationAdapter.TAG;
 
 import android.app.Activity;
@@ -28,6 +29,8 @@ import com.bytedance.sdk.openadsdk.api.reward.PAGRewardedAd;
 import com.bytedance.sdk.openadsdk.api.reward.PAGRewardedAdInteractionListener;
 import com.bytedance.sdk.openadsdk.api.reward.PAGRewardedAdLoadListener;
 import com.bytedance.sdk.openadsdk.api.reward.PAGRewardedRequest;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.ads.mediation.pangle.PangleConstants;
 import com.google.ads.mediation.pangle.PangleFactory;
 import com.google.ads.mediation.pangle.PangleInitializer;
@@ -35,6 +38,7 @@ import com.google.ads.mediation.pangle.PangleInitializer.Listener;
 import com.google.ads.mediation.pangle.PangleRequestHelper;
 import com.google.ads.mediation.pangle.PangleSdkWrapper;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAd;
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback;
@@ -47,6 +51,11 @@ public class PangleRewardedAd implements MediationRewardedAd {
   private final PangleInitializer pangleInitializer;
   private final PangleSdkWrapper pangleSdkWrapper;
   private final PangleFactory pangleFactory;
+
+  /** Times the stages of the load and show of this ad. */
+  private final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.REWARDED);
+
   private MediationRewardedAdCallback rewardedAdCallback;
   private PAGRewardedAd pagRewardedAd;
 
@@ -64,6 +73,7 @@ public class PangleRewardedAd implements MediationRewardedAd {
   }
 
   public void render(@NonNull MediationRewardedAdConfiguration adConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
 
     Bundle serverParameters = adConfiguration.getServerParameters();
     String placementId = serverParameters.getString(PangleConstants.PLACEMENT_ID);
@@ -80,15 +90,18 @@ public class PangleRewardedAd implements MediationRewardedAd {
     String bidResponse = adConfiguration.getBidResponse();
     Context context = adConfiguration.getContext();
     String appId = serverParameters.getString(PangleConstants.APP_ID);
+    latencyTracker.startStage(Stage.INITIALIZATION);
     pangleInitializer.initialize(
         context,
         appId,
         new Listener() {
           @Override
           public void onInitializeSuccess() {
+            latencyTracker.endStage(Stage.INITIALIZATION);
             PAGRewardedRequest request = pangleFactory.createPagRewardedRequest();
             request.setAdString(bidResponse);
             PangleRequestHelper.setWatermarkString(request, bidResponse, adConfiguration);
+            latencyTracker.startStage(Stage.SDK_LOAD);
             pangleSdkWrapper.loadRewardedAd(
                 placementId,
                 request,
@@ -102,7 +115,11 @@ public class PangleRewardedAd implements MediationRewardedAd {
 
                   @Override
                   public void onAdLoaded(PAGRewardedAd rewardedAd) {
+                    latencyTracker.endStage(Stage.SDK_LOAD);
+                    latencyTracker.endStage(Stage.TIME_TO_FILL);
+                    latencyTracker.startStage(Stage.LOAD_CALLBACK);
                     rewardedAdCallback = adLoadCallback.onSuccess(PangleRewardedAd.this);
+                    latencyTracker.endStage(Stage.LOAD_CALLBACK);
                     pagRewardedAd = rewardedAd;
                   }
                 });
@@ -118,10 +135,12 @@ public class PangleRewardedAd implements MediationRewardedAd {
 
   @Override
   public void showAd(@NonNull Context context) {
+    latencyTracker.startStage(Stage.SHOW);
     pagRewardedAd.setAdInteractionListener(
         new PAGRewardedAdInteractionListener() {
           @Override
           public void onAdShowed() {
+            latencyTracker.endStage(Stage.SHOW);
             if (rewardedAdCallback != null) {
               rewardedAdCallback.onAdOpened();
               rewardedAdCallback.reportAdImpression();
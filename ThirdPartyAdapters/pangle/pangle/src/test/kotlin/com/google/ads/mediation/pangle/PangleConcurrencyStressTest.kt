@@ -0,0 +1,134 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.pangle
+
+import android.content.Context
+import androidx.core.os.bundleOf
+import androidx.test.core.app.ApplicationProvider
+import com.bytedance.sdk.openadsdk.api.init.PAGBidCallback
+import com.bytedance.sdk.openadsdk.api.init.PAGConfig
+import com.bytedance.sdk.openadsdk.api.init.PAGSdk.PAGInitCallback
+import com.google.ads.mediation.adaptertestkit.createMediationConfiguration
+import com.google.ads.mediation.adaptertestkit.runConcurrencyStress
+import com.google.android.gms.ads.mediation.rtb.RtbSignalData
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import org.junit.After
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.kotlin.any
+import org.mockito.kotlin.doAnswer
+import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.mock
+import org.robolectric.RobolectricTestParameterInjector
+
+/**
+ * Races [PangleMediationAdapter.initialize] and [PangleMediationAdapter.collectSignals] from many
+ * threads against a fake Pangle SDK that reports its results on a background thread.
+ */
+@RunWith(RobolectricTestParameterInjector::class)
+class PangleConcurrencyStressTest {
+
+  private val context: Context = ApplicationProvider.getApplicationContext()
+  private val sdkExecutor = Executors.newSingleThreadScheduledExecutor()
+  private val pagConfig: PAGConfig = mock()
+  private val pagConfigBuilder: PAGConfig.Builder = mock {
+    on { appId(any()) } doReturn this.mock
+    on { setAdxId(PangleConstants.ADX_ID) } doReturn this.mock
+    on { setUserData(any()) } doReturn this.mock
+    on { build() } doReturn pagConfig
+  }
+  private val pangleFactory: PangleFactory = mock {
+    on { createPAGConfigBuilder() } doReturn pagConfigBuilder
+  }
+  private val mediationConfigurations =
+    listOf(
+      createMediationConfiguration(serverParameters = bundleOf(PangleConstants.APP_ID to APP_ID))
+    )
+  private val rtbSignalData = mock<RtbSignalData> { on { context } doReturn context }
+
+  @After
+  fun tearDown() {
+    sdkExecutor.shutdownNow()
+  }
+
+  @Test
+  fun initializeAndCollectSignals_sdkInitializationSucceeds_invokesEveryCallbackOnce() {
+    val adapter = createAdapter(initializationSucceeds = true)
+
+    val report =
+      adapter.runConcurrencyStress(
+        context,
+        mediationConfigurations = mediationConfigurations,
+        rtbSignalData = rtbSignalData,
+      )
+
+    report.assertExactlyOnceCallbacks()
+  }
+
+  @Test
+  fun initialize_sdkInitializationFails_invokesEveryCallbackOnce() {
+    val adapter = createAdapter(initializationSucceeds = false)
+
+    val report =
+      adapter.runConcurrencyStress(context, mediationConfigurations = mediationConfigurations)
+
+    report.assertExactlyOnceCallbacks()
+  }
+
+  /**
+   * Returns an adapter using a fake Pangle SDK that completes each initialization after a short
+   * delay, and generates bid tokens on a background thread.
+   */
+  private fun createAdapter(initializationSucceeds: Boolean): PangleMediationAdapter {
+    val pangleSdkWrapper =
+      mock<PangleSdkWrapper> {
+        on { init(any(), any(), any()) } doAnswer
+          { invocation ->
+            val initCallback = invocation.getArgument<PAGInitCallback>(2)
+            sdkExecutor.schedule(
+              Runnable {
+                if (initializationSucceeds) {
+                  initCallback.success()
+                } else {
+                  initCallback.fail(SDK_ERROR_CODE, "Initialization failed.")
+                }
+              },
+              SDK_DELAY_MILLIS,
+              TimeUnit.MILLISECONDS,
+            )
+            Unit
+          }
+        on { getBiddingToken(any(), any(), any()) } doAnswer
+          { invocation ->
+            val bidCallback = invocation.getArgument<PAGBidCallback>(2)
+            sdkExecutor.execute { bidCallback.onBiddingTokenCollected(BIDDING_TOKEN) }
+            Unit
+          }
+      }
+    return PangleMediationAdapter(
+      PangleInitializer(pangleSdkWrapper, pangleFactory),
+      pangleSdkWrapper,
+      pangleFactory,
+    )
+  }
+
+  private companion object {
+    const val APP_ID = "testAppId"
+    const val BIDDING_TOKEN = "testBiddingToken"
+    const val SDK_ERROR_CODE = 101
+    const val SDK_DELAY_MILLIS = 5L
+  }
+}
@@ -9,6 +9,7 @@ import com.bytedance.sdk.openadsdk.api.init.PAGBidError
 import com.google.ads.mediation.adaptertestkit.FakeInitializationCompleteCallback
 import com.google.ads.mediation.adaptertestkit.FakeMediationAdLoadCallback
 import com.google.ads.mediation.adaptertestkit.FakeSignalCallbacks
+import com.google.ads.mediation.adaptertestkit.InlineSignalCollectorRule
 import com.google.ads.mediation.adaptertestkit.assertThat
 import com.google.ads.mediation.adaptertestkit.createMediationAppOpenAdConfiguration
 import com.google.ads.mediation.adaptertestkit.createMediationBannerAdConfiguration
@@ -45,6 +46,7 @@ import com.google.android.gms.ads.mediation.UnifiedNativeAdMapper
 import com.google.android.gms.ads.mediation.rtb.RtbSignalData
 import com.google.common.truth.Truth.assertThat
 import org.junit.Before
+import org.junit.Rule
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.kotlin.any
@@ -61,6 +63,8 @@ import org.robolectric.RobolectricTestParameterInjector
 @RunWith(RobolectricTestParameterInjector::class)
 class PangleMediationAdapterTest {
 
+  @get:Rule val inlineSignalCollectorRule = InlineSignalCollectorRule()
+
   // Test subject.
   private lateinit var pangleMediationAdapter: PangleMediationAdapter
 
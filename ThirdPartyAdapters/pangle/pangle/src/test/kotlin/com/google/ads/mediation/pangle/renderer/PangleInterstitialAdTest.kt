@@ -13,6 +13,9 @@ import com.google.ads.mediation.adaptertestkit.FakeMediationAdLoadCallback
 import com.google.ads.mediation.adaptertestkit.FakeMediationInterstitialAdCallback
 import com.google.ads.mediation.adaptertestkit.assertThat
 import com.google.ads.mediation.adaptertestkit.createMediationInterstitialAdConfiguration
+import com.google.ads.mediation.common.AdLatencyMetrics
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.HistogramAdLatencyMetrics
 import com.google.ads.mediation.pangle.PangleConstants
 import com.google.ads.mediation.pangle.PangleFactory
 import com.google.ads.mediation.pangle.PangleInitializer
@@ -25,6 +28,7 @@ import com.google.ads.mediation.pangle.utils.TestConstants.PLACEMENT_ID_VALUE
 import com.google.ads.mediation.pangle.utils.TestConstants.WATERMARK
 import com.google.ads.mediation.pangle.utils.mockPangleSdkInitializationFailure
 import com.google.ads.mediation.pangle.utils.mockPangleSdkInitializationSuccess
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_UNSPECIFIED
 import com.google.android.gms.ads.RequestConfiguration.TagForChildDirectedTreatment
 import com.google.android.gms.ads.mediation.MediationInterstitialAd
@@ -161,6 +165,27 @@ class PangleInterstitialAdTest {
     assertThat(mediationAdLoadCallback).hasSucceededWith(interstitialAd)
   }
 
+  @Test
+  fun render_ifPangleAdLoadSucceeds_withLatencyMetrics_recordsLoadStages() {
+    val latencyMetrics = HistogramAdLatencyMetrics()
+    AdLatencyMetrics.setInstance(latencyMetrics)
+    try {
+      mockPangleSdkInitializationSuccess(pangleInitializer)
+      stubPangleInterstitialAdLoadToSucceed()
+      initializeInterstitialAd()
+
+      interstitialAd.render(mediationInterstitialAdConfig)
+    } finally {
+      AdLatencyMetrics.setInstance(null)
+    }
+
+    for (stage in
+      listOf(Stage.INITIALIZATION, Stage.SDK_LOAD, Stage.LOAD_CALLBACK, Stage.TIME_TO_FILL)) {
+      assertThat(latencyMetrics.getHistogram("Pangle", AdFormat.INTERSTITIAL, stage)!!.getCount())
+        .isEqualTo(1)
+    }
+  }
+
   @Test
   fun render_ifPangleAdLoadFails_callsLoadFailureCallback() {
     mockPangleSdkInitializationSuccess(pangleInitializer)
@@ -14,6 +14,8 @@
 
 package com.google.ads.mediation.pubmatic
 
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.AdLatencyTracker
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.ADAPTER_ERROR_DOMAIN
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.ERROR_INVALID_BANNER_AD_SIZE
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.ERROR_INVALID_BANNER_AD_SIZE_MSG
@@ -26,9 +28,11 @@ import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.ERRO
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.KEY_AD_UNIT
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.KEY_PROFILE_ID
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.KEY_PUBLISHER_ID
+import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.getPubMaticBannerAdSize
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationBannerAd
 import com.google.android.gms.ads.mediation.MediationBannerAdCallback
@@ -56,22 +60,32 @@ private constructor(
 
   private var mediationBannerAdCallback: MediationBannerAdCallback? = null
 
+  /** Times the stages of the load of this ad. */
+  private val latencyTracker = AdLatencyTracker(NETWORK_NAME, AdFormat.BANNER)
+
   fun loadAd() {
+    latencyTracker.startStage(Stage.TIME_TO_FILL)
     pobBannerView.setListener(this)
     // Pause auto-refresh since the GMA SDK will handle the banner refresh logic.
     pobBannerView.pauseAutoRefresh()
     if (isRTB) {
       pobBannerView.addExtraInfo(KEY_POB_ADMOB_WATERMARK, watermark)
+      latencyTracker.startStage(Stage.SDK_LOAD)
       pobBannerView.loadAd(bidResponse, POBBiddingHost.ADMOB)
       return
     }
+    latencyTracker.startStage(Stage.SDK_LOAD)
     pobBannerView.loadAd()
   }
 
   override fun getView() = pobBannerView
 
   override fun onAdReceived(pobBannerView: POBBannerView) {
+    latencyTracker.endStage(Stage.SDK_LOAD)
+    latencyTracker.endStage(Stage.TIME_TO_FILL)
+    latencyTracker.startStage(Stage.LOAD_CALLBACK)
     mediationBannerAdCallback = mediationAdLoadCallback.onSuccess(this)
+    latencyTracker.endStage(Stage.LOAD_CALLBACK)
   }
 
   override fun onAdFailed(pobBannerView: POBBannerView, pobError: POBError) {
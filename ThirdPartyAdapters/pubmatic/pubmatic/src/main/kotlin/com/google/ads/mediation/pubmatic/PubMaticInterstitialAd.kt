@@ -15,6 +15,8 @@
 package com.google.ads.mediation.pubmatic
 
 import android.content.Context
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.AdLatencyTracker
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.ADAPTER_ERROR_DOMAIN
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.ERROR_AD_NOT_READY
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.ERROR_MISSING_AD_UNIT_ID
@@ -26,8 +28,10 @@ import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.ERRO
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.KEY_AD_UNIT
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.KEY_PROFILE_ID
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.KEY_PUBLISHER_ID
+import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationInterstitialAd
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback
@@ -55,19 +59,29 @@ private constructor(
 
   private var mediationInterstitialAdCallback: MediationInterstitialAdCallback? = null
 
+  /** Times the stages of the load and show of this ad. */
+  private val latencyTracker = AdLatencyTracker(NETWORK_NAME, AdFormat.INTERSTITIAL)
+
   fun loadAd() {
+    latencyTracker.startStage(Stage.TIME_TO_FILL)
     pobInterstitial.setListener(this)
     if (isRtb) {
       pobInterstitial.addExtraInfo(KEY_POB_ADMOB_WATERMARK, watermark)
+      latencyTracker.startStage(Stage.SDK_LOAD)
       pobInterstitial.loadAd(bidResponse, POBBiddingHost.ADMOB)
       return
     }
 
+    latencyTracker.startStage(Stage.SDK_LOAD)
     pobInterstitial.loadAd()
   }
 
   override fun onAdReceived(pobInterstitial: POBInterstitial) {
+    latencyTracker.endStage(Stage.SDK_LOAD)
+    latencyTracker.endStage(Stage.TIME_TO_FILL)
+    latencyTracker.startStage(Stage.LOAD_CALLBACK)
     mediationInterstitialAdCallback = mediationAdLoadCallback.onSuccess(this)
+    latencyTracker.endStage(Stage.LOAD_CALLBACK)
   }
 
   override fun onAdFailedToLoad(pobInterstitial: POBInterstitial, pobError: POBError) {
@@ -78,6 +92,7 @@ private constructor(
 
   override fun showAd(context: Context) {
     if (pobInterstitial.isReady) {
+      latencyTracker.startStage(Stage.SHOW)
       pobInterstitial.show()
     } else {
       mediationInterstitialAdCallback?.onAdFailedToShow(
@@ -105,6 +120,7 @@ private constructor(
   }
 
   override fun onAdOpened(pobInterstitial: POBInterstitial) {
+    latencyTracker.endStage(Stage.SHOW)
     mediationInterstitialAdCallback?.onAdOpened()
   }
 
@@ -18,6 +18,8 @@ import android.content.Context
 import android.util.Log
 import androidx.annotation.VisibleForTesting
 import com.google.ads.mediation.common.AgeRestrictedTreatmentUtils
+import com.google.ads.mediation.common.SignalCollector
+import com.google.ads.mediation.common.VersionInfoParser
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.AdSize
@@ -75,13 +77,8 @@ constructor(
       ?: getSDKVersionInfo(OpenWrapSDK.getVersion())
 
   private fun getSDKVersionInfo(sdkVersion: String): VersionInfo {
-    val splits = sdkVersion.split("\\.".toRegex()).dropLastWhile { it.isEmpty() }.toTypedArray()
-
-    if (splits.size >= 3) {
-      val major = splits[0].toInt()
-      val minor = splits[1].toInt()
-      val micro = splits[2].toInt()
-      return VersionInfo(major, minor, micro)
+    SDK_VERSION_PARSER.parse(sdkVersion)?.let {
+      return it
     }
 
     val logMessage = "Unexpected SDK version format: $sdkVersion. Returning 0.0.0 for SDK version."
@@ -94,12 +91,8 @@ constructor(
       ?: getVersionInfo(BuildConfig.ADAPTER_VERSION)
 
   private fun getVersionInfo(adapterVersion: String): VersionInfo {
-    val splits = adapterVersion.split("\\.".toRegex()).dropLastWhile { it.isEmpty() }.toTypedArray()
-    if (splits.size >= 4) {
-      val major = splits[0].toInt()
-      val minor = splits[1].toInt()
-      val micro = splits[2].toInt() * 100 + splits[3].toInt()
-      return VersionInfo(major, minor, micro)
+    ADAPTER_VERSION_PARSER.parse(adapterVersion)?.let {
+      return it
     }
 
     val logMessage =
@@ -183,13 +176,24 @@ constructor(
       return
     }
 
-    callback.onSuccess(
-      pubMaticSignalGenerator.generateSignal(
-        signalData.context,
-        POBBiddingHost.ADMOB,
-        POBSignalConfig.Builder(pubMaticAdFormat).build(),
+    // PubMatic generates signals synchronously, so generate them off the calling thread.
+    SignalCollector.getInstance().collectCachedSignals(
+      signalData.context,
+      NETWORK_NAME,
+      gmaAdFormat,
+      // Banner and MREC signals differ.
+      qualifier = pubMaticAdFormat.toString(),
+      signalCallbacks = callback,
+      timeoutMillis = SIGNAL_TIMEOUT_MILLIS,
+    ) { signalCallbacks ->
+      signalCallbacks.onSuccess(
+        pubMaticSignalGenerator.generateSignal(
+          signalData.context,
+          POBBiddingHost.ADMOB,
+          POBSignalConfig.Builder(pubMaticAdFormat).build(),
+        )
       )
-    )
+    }
   }
 
   override fun loadBannerAd(
@@ -323,6 +327,18 @@ constructor(
   }
 
   companion object {
+    /** Parses and caches the adapter version. */
+    private val ADAPTER_VERSION_PARSER = VersionInfoParser(4, 4)
+
+    /** Parses and caches the SDK version. */
+    private val SDK_VERSION_PARSER = VersionInfoParser(3, 3)
+
+    /** Deadline for PubMatic SDK to generate its signal, which it does synchronously. */
+    private const val SIGNAL_TIMEOUT_MILLIS = 500L
+
+    /** The network name reported to the bid token cache and the ad latency metrics. */
+    const val NETWORK_NAME = "PubMatic"
+
     private val TAG = PubMaticMediationAdapter::class.simpleName
     @VisibleForTesting var pubMaticSdkVersionDelegate: String? = null
     @VisibleForTesting var adapterVersionDelegate: String? = null
@@ -21,6 +21,8 @@ import android.view.View
 import android.widget.FrameLayout
 import androidx.core.net.toUri
 import com.bumptech.glide.Glide
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.AdLatencyTracker
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.ADAPTER_ERROR_DOMAIN
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.ERROR_MISSING_AD_UNIT_ID
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.ERROR_MISSING_AD_UNIT_ID_MSG
@@ -31,9 +33,11 @@ import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.ERRO
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.KEY_AD_UNIT
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.KEY_PROFILE_ID
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.KEY_PUBLISHER_ID
+import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.ads.mediation.pubmatic.PubMaticUtils.runtimeGmaSdkListensToAdapterReportedImpressions
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationNativeAdCallback
 import com.google.android.gms.ads.mediation.MediationNativeAdConfiguration
@@ -81,10 +85,15 @@ private constructor(
 
   private var mediationNativeAdCallback: MediationNativeAdCallback? = null
 
+  /** Times the stages of the load of this ad. */
+  private val latencyTracker = AdLatencyTracker(NETWORK_NAME, AdFormat.NATIVE)
+
   fun loadAd() {
+    latencyTracker.startStage(Stage.TIME_TO_FILL)
     pobNativeAdLoader.setAdLoaderListener(this)
     if (isRtb) {
       pobNativeAdLoader.addExtraInfo(KEY_POB_ADMOB_WATERMARK, watermark)
+      latencyTracker.startStage(Stage.SDK_LOAD)
       pobNativeAdLoader.loadAd(bidResponse, POBBiddingHost.ADMOB)
       return
     }
@@ -120,15 +129,22 @@ private constructor(
         POBNativeRequestDataAsset(/* type= */ POBNativeDataAssetType.RATING, /* required= */ false),
       )
     )
+    latencyTracker.startStage(Stage.SDK_LOAD)
     pobNativeAdLoader.loadAd()
   }
 
   override fun onAdReceived(pobNativeAdLoader: POBNativeAdLoader, pobNativeAd: POBNativeAd) {
+    latencyTracker.endStage(Stage.SDK_LOAD)
     this.pobNativeAd = pobNativeAd
+    latencyTracker.startStage(Stage.ASSET_MAPPING)
     mapNativeAd()
     adapterScope.async {
       mapNativeAdAsync()
+      latencyTracker.endStage(Stage.ASSET_MAPPING)
+      latencyTracker.endStage(Stage.TIME_TO_FILL)
+      latencyTracker.startStage(Stage.LOAD_CALLBACK)
       mediationNativeAdCallback = mediationAdLoadCallback.onSuccess(this@PubMaticNativeAd)
+      latencyTracker.endStage(Stage.LOAD_CALLBACK)
     }
   }
 
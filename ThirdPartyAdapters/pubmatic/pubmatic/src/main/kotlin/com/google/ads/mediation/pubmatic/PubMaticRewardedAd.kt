@@ -15,6 +15,8 @@
 package com.google.ads.mediation.pubmatic
 
 import android.content.Context
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.AdLatencyTracker
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.ADAPTER_ERROR_DOMAIN
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.ERROR_AD_NOT_READY
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.ERROR_MISSING_AD_UNIT_ID
@@ -28,8 +30,10 @@ import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.ERRO
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.KEY_AD_UNIT
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.KEY_PROFILE_ID
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.KEY_PUBLISHER_ID
+import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.NETWORK_NAME
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationRewardedAd
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback
@@ -57,18 +61,28 @@ private constructor(
 
   private var mediationRewardedAdCallback: MediationRewardedAdCallback? = null
 
+  /** Times the stages of the load and show of this ad. */
+  private val latencyTracker = AdLatencyTracker(NETWORK_NAME, AdFormat.REWARDED)
+
   fun loadAd() {
+    latencyTracker.startStage(Stage.TIME_TO_FILL)
     pobRewardedAd.setListener(this)
     if (isRtb) {
       pobRewardedAd.addExtraInfo(KEY_POB_ADMOB_WATERMARK, watermark)
+      latencyTracker.startStage(Stage.SDK_LOAD)
       pobRewardedAd.loadAd(bidResponse, POBBiddingHost.ADMOB)
       return
     }
+    latencyTracker.startStage(Stage.SDK_LOAD)
     pobRewardedAd.loadAd()
   }
 
   override fun onAdReceived(pobRewardedAd: POBRewardedAd) {
+    latencyTracker.endStage(Stage.SDK_LOAD)
+    latencyTracker.endStage(Stage.TIME_TO_FILL)
+    latencyTracker.startStage(Stage.LOAD_CALLBACK)
     mediationRewardedAdCallback = mediationAdLoadCallback.onSuccess(this)
+    latencyTracker.endStage(Stage.LOAD_CALLBACK)
   }
 
   override fun onAdFailedToLoad(pobRewardedAd: POBRewardedAd, pobError: POBError) {
@@ -79,6 +93,7 @@ private constructor(
 
   override fun showAd(context: Context) {
     if (pobRewardedAd.isReady) {
+      latencyTracker.startStage(Stage.SHOW)
       pobRewardedAd.show()
     } else {
       mediationRewardedAdCallback?.onAdFailedToShow(
@@ -102,6 +117,7 @@ private constructor(
   }
 
   override fun onAdOpened(pobRewardedAd: POBRewardedAd) {
+    latencyTracker.endStage(Stage.SHOW)
     mediationRewardedAdCallback?.onAdOpened()
   }
 
@@ -21,10 +21,14 @@ import androidx.test.ext.junit.runners.AndroidJUnit4
 import com.google.ads.mediation.adaptertestkit.FakeMediationAdLoadCallback
 import com.google.ads.mediation.adaptertestkit.FakeMediationInterstitialAdCallback
 import com.google.ads.mediation.adaptertestkit.assertThat
+import com.google.ads.mediation.common.AdLatencyMetrics
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.HistogramAdLatencyMetrics
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.ADAPTER_ERROR_DOMAIN
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.ERROR_AD_NOT_READY
 import com.google.ads.mediation.pubmatic.PubMaticMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_UNSPECIFIED
 import com.google.android.gms.ads.RequestConfiguration.TAG_FOR_UNDER_AGE_OF_CONSENT_UNSPECIFIED
 import com.google.android.gms.ads.mediation.MediationInterstitialAd
@@ -180,6 +184,36 @@ class PubMaticInterstitialAdTests {
     assertThat(interstitialAdCallback.isOpened).isTrue()
   }
 
+  @Test
+  fun onAdOpened_withLatencyMetrics_recordsLoadAndShowStages() {
+    val latencyMetrics = HistogramAdLatencyMetrics()
+    AdLatencyMetrics.setInstance(latencyMetrics)
+    try {
+      PubMaticInterstitialAd.newInstance(
+          mediationInterstitialAdConfiguration,
+          interstitialAdLoadCallback,
+          pubMaticAdFactory,
+          isRtb = true,
+        )
+        .onSuccess { pubMaticInterstitialAd = it }
+      whenever(pobInterstitial.isReady).thenReturn(true)
+
+      pubMaticInterstitialAd.loadAd()
+      pubMaticInterstitialAd.onAdReceived(pobInterstitial)
+      pubMaticInterstitialAd.showAd(context)
+      pubMaticInterstitialAd.onAdOpened(pobInterstitial)
+    } finally {
+      AdLatencyMetrics.setInstance(null)
+    }
+
+    for (stage in listOf(Stage.SDK_LOAD, Stage.LOAD_CALLBACK, Stage.TIME_TO_FILL, Stage.SHOW)) {
+      assertThat(
+          latencyMetrics.getHistogram("PubMatic", AdFormat.INTERSTITIAL, stage)!!.getCount()
+        )
+        .isEqualTo(1)
+    }
+  }
+
   @Test
   fun onAdClosed_reportsAdClosed() {
     // Call onAdReceived() to set pubMaticInterstitialAd.mediationInterstitialAdCallback
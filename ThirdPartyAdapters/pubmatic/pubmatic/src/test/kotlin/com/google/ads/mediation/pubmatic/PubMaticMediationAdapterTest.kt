@@ -25,6 +25,7 @@ import com.google.ads.mediation.adaptertestkit.FakeMediationInterstitialAdCallba
 import com.google.ads.mediation.adaptertestkit.FakeMediationNativeAdCallback
 import com.google.ads.mediation.adaptertestkit.FakeMediationRewardedAdCallback
 import com.google.ads.mediation.adaptertestkit.FakeSignalCallbacks
+import com.google.ads.mediation.adaptertestkit.InlineSignalCollectorRule
 import com.google.ads.mediation.adaptertestkit.assertGetSdkVersion
 import com.google.ads.mediation.adaptertestkit.assertGetVersionInfo
 import com.google.ads.mediation.adaptertestkit.assertThat
@@ -90,6 +91,7 @@ import com.pubmatic.sdk.openwrap.core.signal.POBSignalConfig
 import com.pubmatic.sdk.openwrap.interstitial.POBInterstitial
 import com.pubmatic.sdk.rewardedad.POBRewardedAd
 import org.junit.Before
+import org.junit.Rule
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.Mockito.mockStatic
@@ -104,6 +106,8 @@ import org.mockito.kotlin.whenever
 
 @RunWith(AndroidJUnit4::class)
 class PubMaticMediationAdapterTest {
+  @get:Rule val inlineSignalCollectorRule = InlineSignalCollectorRule()
+
   // Subject of testing
   private lateinit var adapter: PubMaticMediationAdapter
 
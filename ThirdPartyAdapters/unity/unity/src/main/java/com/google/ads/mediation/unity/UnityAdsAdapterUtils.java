@@ -15,7 +15,6 @@
 package com.google.ads.mediation.unity;
 
 import static com.google.ads.mediation.unity.UnityMediationAdapter.SDK_ERROR_DOMAIN;
-import static com.google.ads.mediation.unity.UnityMediationAdapter.TAG;
 import static com.google.android.gms.ads.RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_FALSE;
 import static com.google.android.gms.ads.RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_TRUE;
 import static com.google.android.gms.ads.RequestConfiguration.TAG_FOR_UNDER_AGE_OF_CONSENT_FALSE;
@@ -25,9 +24,10 @@ import android.content.Context;
 import android.content.SharedPreferences;
 import android.preference.PreferenceManager;
 import android.text.TextUtils;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.AdditionalConsentIndex;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.AdSize;
@@ -40,7 +40,6 @@ import com.unity3d.ads.metadata.MetaData;
 import com.unity3d.services.banners.BannerErrorInfo;
 import com.unity3d.services.banners.UnityBannerSize;
 import java.util.ArrayList;
-import java.util.Arrays;
 
 /** Utility class for the Unity adapter. */
 public class UnityAdsAdapterUtils {
@@ -68,6 +67,12 @@ public class UnityAdsAdapterUtils {
     FALSE
   }
 
+  /**
+   * The value of "user.nonbehavioral" last committed by {@link #updateUnityAdsPrivacy}, or {@code
+   * null} if it didn't commit one yet. Guarded by {@code UnityAdsAdapterUtils.class}.
+   */
+  @Nullable private static Boolean committedNonBehavioral;
+
   /** Private constructor */
   private UnityAdsAdapterUtils() {}
 
@@ -267,6 +272,30 @@ public class UnityAdsAdapterUtils {
     userMetaData.commit();
   }
 
+  /**
+   * Sets the privacy of the Unity Ads SDK from {@code requestConfiguration}, like {@link
+   * #setUnityAdsPrivacy}, but only builds and commits a {@link MetaData} if the resulting privacy
+   * differs from the one this method last committed. Loads made with an unchanged request
+   * configuration, such as banner refreshes, then don't write to the Unity Ads storage.
+   */
+  public static void updateUnityAdsPrivacy(
+      @NonNull RequestConfiguration requestConfiguration, @NonNull Context context) {
+    boolean nonBehavioral = !shouldTreatAsAdult(requestConfiguration);
+    synchronized (UnityAdsAdapterUtils.class) {
+      if (committedNonBehavioral != null && committedNonBehavioral == nonBehavioral) {
+        return;
+      }
+      setUnityAdsPrivacy(requestConfiguration, new MetaData(context));
+      committedNonBehavioral = nonBehavioral;
+    }
+  }
+
+  /** Forgets the privacy committed by {@link #updateUnityAdsPrivacy}. */
+  @VisibleForTesting
+  static synchronized void resetCommittedUnityAdsPrivacy() {
+    committedNonBehavioral = null;
+  }
+
   /**
    * Checks whether or not the provided Unity Ads IDs are valid.
    *
@@ -303,123 +332,13 @@ public class UnityAdsAdapterUtils {
    */
   static @NonNull ConsentResult hasACConsent(@NonNull Context context, int vendorId) {
     SharedPreferences sharedPref = PreferenceManager.getDefaultSharedPreferences(context);
-
-    int gdprApplies = -1;
-    try {
-      gdprApplies = sharedPref.getInt("IABTCF_gdprApplies", -1);
-    } catch (ClassCastException exception) {
-      Log.w(
-          TAG,
-          "Could not parse IABTCF_gdprApplies as an integer. Did your CMP write it correctly?",
-          exception);
-    }
-
-    if (gdprApplies != 1) {
-      return ConsentResult.UNKNOWN;
-    }
-
-    String additionalConsentString = "";
-    try {
-      additionalConsentString = sharedPref.getString("IABTCF_AddtlConsent", "");
-    } catch (ClassCastException exception) {
-      Log.w(
-          TAG,
-          "Could not parse IABTCF_AddtlConsent as a string. Did your CMP write it correctly?",
-          exception);
-    }
-
-    if (TextUtils.isEmpty(additionalConsentString)) {
-      return ConsentResult.UNKNOWN;
-    }
-
-    String vendorIdString = String.valueOf(vendorId);
-    String[] additionalConsentParts = additionalConsentString.split("~");
-
-    int version;
-    try {
-      version = Integer.parseInt(additionalConsentParts[0]);
-    } catch (Exception exception) {
-      Log.w(
-          TAG,
-          "Could not parse the IABTCF_AddtlConsent spec version. Did your CMP write it correctly?",
-          exception);
-      return ConsentResult.UNKNOWN;
-    }
-
-    if (version == 1) {
-      // Spec version 1
-      Log.w(
-          TAG,
-          "The IABTCF_AddtlConsent string uses version 1 of Google’s Additional Consent spec."
-              + " Version 1 does not report vendors to whom the user denied consent. To detect"
-              + " vendors that the user denied consent, upgrade to a CMP that supports version 2 of"
-              + " Google's Additional Consent technical specification.");
-
-      if (additionalConsentParts.length == 1) {
-        // The AC string had no consented vendor.
-        return ConsentResult.UNKNOWN;
-      }
-
-      if (additionalConsentParts.length == 2) {
-        String[] consentedIds = additionalConsentParts[1].split("\\.");
-        if (Arrays.asList(consentedIds).contains(vendorIdString)) {
-          return ConsentResult.TRUE;
-        }
-
-        // The targeting vendor ID is not included in the consented vendor list
-        return ConsentResult.UNKNOWN;
-      }
-
-      String errorMessage =
-          String.format(
-              "Could not parse the IABTCF_AddtlConsent string: \"%s\". String had more parts than"
-                  + " expected. Did your CMP write IABTCF_AddtlConsent correctly?",
-              additionalConsentString);
-      Log.w(TAG, errorMessage);
-      return ConsentResult.UNKNOWN;
-    } else if (version >= 2) {
-      // Spec version 2
-      if (additionalConsentParts.length < 3) {
-        String errorMessage =
-            String.format(
-                "Could not parse the IABTCF_AddtlConsent string: \"%s\". String had less parts than"
-                    + " expected. Did your CMP write IABTCF_AddtlConsent correctly?",
-                additionalConsentString);
-        Log.w(TAG, errorMessage);
-        return ConsentResult.UNKNOWN;
-      }
-
-      String[] disclosedIds = additionalConsentParts[2].split("\\.");
-      if (!disclosedIds[0].equals("dv")) {
-        String errorMessage =
-            String.format(
-                "Could not parse the IABTCF_AddtlConsent string: \"%s\". Expected disclosed vendors"
-                    + " part to have the string \"dv.\". Did your CMP write IABTCF_AddtlConsent"
-                    + " correctly?",
-                additionalConsentString);
-        Log.w(TAG, errorMessage);
-        return ConsentResult.UNKNOWN;
-      }
-
-      String[] consentedIds = additionalConsentParts[1].split("\\.");
-      if (Arrays.asList(consentedIds).contains(vendorIdString)) {
+    switch (AdditionalConsentIndex.getInstance().getConsentResult(sharedPref, vendorId)) {
+      case TRUE:
         return ConsentResult.TRUE;
-      }
-
-      if (Arrays.asList(disclosedIds).contains(vendorIdString)) {
+      case FALSE:
         return ConsentResult.FALSE;
-      }
-
-      return ConsentResult.UNKNOWN;
-    } else {
-      // Unknown spec version
-      String errorMessage =
-          String.format(
-              "Could not parse the IABTCF_AddtlConsent string: \"%s\". Spec version was unexpected."
-                  + " Did your CMP write IABTCF_AddtlConsent correctly?",
-              additionalConsentString);
-      Log.w(TAG, errorMessage);
-      return ConsentResult.UNKNOWN;
+      default:
+        return ConsentResult.UNKNOWN;
     }
   }
 
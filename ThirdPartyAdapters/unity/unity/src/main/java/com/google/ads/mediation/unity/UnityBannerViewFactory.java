@@ -1,14 +1,38 @@
 package com.google.ads.mediation.unity;
 
 import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
 import com.unity3d.services.banners.BannerView;
 import com.unity3d.services.banners.UnityBannerSize;
 
-/** A factory to create UnityAds {@link BannerView} for Banner Ads */
+/**
+ * A factory to create UnityAds {@link BannerView} for Banner Ads. Detached banner views are reused
+ * through {@link UnityBannerViewPool}.
+ */
 class UnityBannerViewFactory {
+
+  private final UnityBannerViewPool bannerViewPool;
+
+  UnityBannerViewFactory() {
+    this(UnityBannerViewPool.getInstance());
+  }
+
+  @VisibleForTesting
+  UnityBannerViewFactory(@NonNull UnityBannerViewPool bannerViewPool) {
+    this.bannerViewPool = bannerViewPool;
+  }
+
   UnityBannerViewWrapper createBannerView(
       Context context, String placementId, UnityBannerSize bannerSize) {
+    UnityBannerViewWrapper pooledBannerView =
+        bannerViewPool.acquire(context, placementId, bannerSize);
+    if (pooledBannerView != null) {
+      return pooledBannerView;
+    }
     BannerView bannerView = new BannerView(context, placementId, bannerSize);
-    return new UnityBannerViewWrapper(bannerView);
+    UnityBannerViewWrapper bannerViewWrapper = new UnityBannerViewWrapper(bannerView);
+    bannerViewPool.recycleWhenDetached(bannerViewWrapper);
+    return bannerViewWrapper;
   }
 }
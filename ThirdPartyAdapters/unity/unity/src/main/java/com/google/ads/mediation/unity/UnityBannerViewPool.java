@@ -0,0 +1,232 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.unity;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.view.View;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.unity3d.services.banners.BannerView;
+import com.unity3d.services.banners.UnityBannerSize;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A process-wide pool of detached Unity Ads {@link BannerView}s, so that banner refreshes reuse the
+ * view of the banner they replace instead of inflating a new one.
+ *
+ * <p>A banner view is returned to the pool once it is removed from its parent, and is reused for
+ * the next banner request with the same context, placement ID and {@link UnityBannerSize}. The pool
+ * holds at most {@link #MAX_POOLED_BANNER_VIEWS} views. Views are destroyed when they are evicted,
+ * when their activity is destroyed, or when the system asks the app to trim its memory.
+ */
+class UnityBannerViewPool implements ComponentCallbacks2, Application.ActivityLifecycleCallbacks {
+
+  /** Maximum number of detached banner views kept for reuse. */
+  @VisibleForTesting static final int MAX_POOLED_BANNER_VIEWS = 3;
+
+  private static final UnityBannerViewPool instance =
+      new UnityBannerViewPool(new Handler(Looper.getMainLooper()));
+
+  private final Handler handler;
+
+  /** Detached banner views, least recently detached first. */
+  private final ArrayDeque<UnityBannerViewWrapper> bannerViews = new ArrayDeque<>();
+
+  private final AtomicBoolean isRegisteredForCallbacks = new AtomicBoolean();
+
+  @VisibleForTesting
+  UnityBannerViewPool(@NonNull Handler handler) {
+    this.handler = handler;
+  }
+
+  /** Returns the pool shared by all Unity Ads banner ads. */
+  @NonNull
+  static UnityBannerViewPool getInstance() {
+    return instance;
+  }
+
+  /**
+   * Removes and returns a detached banner view created for {@code context}, {@code placementId}
+   * and {@code bannerSize}, if any.
+   */
+  @Nullable
+  synchronized UnityBannerViewWrapper acquire(
+      @NonNull Context context,
+      @NonNull String placementId,
+      @NonNull UnityBannerSize bannerSize) {
+    registerForCallbacks(context);
+    Iterator<UnityBannerViewWrapper> iterator = bannerViews.descendingIterator();
+    while (iterator.hasNext()) {
+      UnityBannerViewWrapper bannerViewWrapper = iterator.next();
+      BannerView bannerView = bannerViewWrapper.getBannerView();
+      UnityBannerSize size = bannerView.getSize();
+      if (bannerView.getContext() == context
+          && placementId.equals(bannerView.getPlacementId())
+          && size.getWidth() == bannerSize.getWidth()
+          && size.getHeight() == bannerSize.getHeight()) {
+        iterator.remove();
+        Log.d(UnityMediationAdapter.TAG, "Reusing Unity Ads banner view for: " + placementId);
+        return bannerViewWrapper;
+      }
+    }
+    return null;
+  }
+
+  /** Returns {@code bannerViewWrapper} to the pool once it is removed from its parent. */
+  void recycleWhenDetached(@NonNull UnityBannerViewWrapper bannerViewWrapper) {
+    bannerViewWrapper
+        .getBannerView()
+        .addOnAttachStateChangeListener(
+            new View.OnAttachStateChangeListener() {
+              @Override
+              public void onViewAttachedToWindow(@NonNull View view) {
+                // No-op.
+              }
+
+              @Override
+              public void onViewDetachedFromWindow(@NonNull View view) {
+                // The view still has its parent while it is being detached. Check once the
+                // removal completes, as the view is also detached when e.g. its window is hidden.
+                handler.post(
+                    () -> {
+                      if (view.getParent() == null && !view.isAttachedToWindow()) {
+                        recycle(bannerViewWrapper);
+                      }
+                    });
+              }
+            });
+  }
+
+  /** Adds a detached banner view to the pool, evicting the oldest one if the pool is full. */
+  @VisibleForTesting
+  synchronized void recycle(@NonNull UnityBannerViewWrapper bannerViewWrapper) {
+    if (bannerViews.contains(bannerViewWrapper)) {
+      return;
+    }
+    Context context = bannerViewWrapper.getBannerView().getContext();
+    if (context instanceof Activity && ((Activity) context).isFinishing()) {
+      bannerViewWrapper.destroy();
+      return;
+    }
+    // Drop the reference to the banner ad that used this view.
+    bannerViewWrapper.setListener(null);
+    bannerViews.addLast(bannerViewWrapper);
+    while (bannerViews.size() > MAX_POOLED_BANNER_VIEWS) {
+      bannerViews.pollFirst().destroy();
+    }
+  }
+
+  /** Returns the number of detached banner views in the pool. */
+  @VisibleForTesting
+  synchronized int size() {
+    return bannerViews.size();
+  }
+
+  /** Destroys every pooled banner view. */
+  synchronized void clear() {
+    for (UnityBannerViewWrapper bannerViewWrapper : bannerViews) {
+      bannerViewWrapper.destroy();
+    }
+    bannerViews.clear();
+  }
+
+  @Override
+  public void onTrimMemory(int level) {
+    if (level >= TRIM_MEMORY_RUNNING_LOW) {
+      Log.d(UnityMediationAdapter.TAG, "Destroying pooled banner views on trim memory: " + level);
+      clear();
+    }
+  }
+
+  @Override
+  public void onLowMemory() {
+    clear();
+  }
+
+  @Override
+  public void onConfigurationChanged(@NonNull Configuration newConfig) {
+    // No-op.
+  }
+
+  @Override
+  public void onActivityDestroyed(@NonNull Activity activity) {
+    synchronized (this) {
+      Iterator<UnityBannerViewWrapper> iterator = bannerViews.iterator();
+      while (iterator.hasNext()) {
+        UnityBannerViewWrapper bannerViewWrapper = iterator.next();
+        if (bannerViewWrapper.getBannerView().getContext() == activity) {
+          iterator.remove();
+          bannerViewWrapper.destroy();
+        }
+      }
+    }
+  }
+
+  @Override
+  public void onActivityCreated(@NonNull Activity activity, @Nullable Bundle savedInstanceState) {
+    // No-op.
+  }
+
+  @Override
+  public void onActivityStarted(@NonNull Activity activity) {
+    // No-op.
+  }
+
+  @Override
+  public void onActivityResumed(@NonNull Activity activity) {
+    // No-op.
+  }
+
+  @Override
+  public void onActivityPaused(@NonNull Activity activity) {
+    // No-op.
+  }
+
+  @Override
+  public void onActivityStopped(@NonNull Activity activity) {
+    // No-op.
+  }
+
+  @Override
+  public void onActivitySaveInstanceState(@NonNull Activity activity, @NonNull Bundle outState) {
+    // No-op.
+  }
+
+  /**
+   * Registers this pool for trim memory and activity lifecycle callbacks. Subsequent calls have no
+   * effect.
+   */
+  private void registerForCallbacks(@NonNull Context context) {
+    Context applicationContext = context.getApplicationContext();
+    if (applicationContext == null || !isRegisteredForCallbacks.compareAndSet(false, true)) {
+      return;
+    }
+    applicationContext.registerComponentCallbacks(this);
+    if (applicationContext instanceof Application) {
+      ((Application) applicationContext).registerActivityLifecycleCallbacks(this);
+    }
+  }
+}
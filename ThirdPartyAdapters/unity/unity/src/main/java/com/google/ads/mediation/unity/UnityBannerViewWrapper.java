@@ -27,4 +27,8 @@ class UnityBannerViewWrapper {
   public BannerView getBannerView() {
     return bannerView;
   }
+
+  public void destroy() {
+    bannerView.destroy();
+  }
 }
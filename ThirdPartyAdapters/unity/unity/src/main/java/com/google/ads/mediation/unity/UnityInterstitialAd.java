@@ -7,6 +7,7 @@ import static com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_MSG_MIS
 import static com.google.ads.mediation.unity.UnityMediationAdapter.KEY_GAME_ID;
 import static com.google.ads.mediation.unity.UnityMediationAdapter.KEY_PLACEMENT_ID;
 import static com.google.ads.mediation.unity.UnityMediationAdapter.KEY_WATERMARK;
+import static com.google.ads.mediation.unity.UnityMediationAdapter.NETWORK_NAME;
 
 import android.app.Activity;
 import android.content.Context;
@@ -14,7 +15,10 @@ import android.os.Bundle;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAd;
@@ -28,7 +32,6 @@ import com.unity3d.ads.UnityAds.UnityAdsLoadError;
 import com.unity3d.ads.UnityAds.UnityAdsShowError;
 import com.unity3d.ads.UnityAdsLoadOptions;
 import com.unity3d.ads.UnityAdsShowOptions;
-import com.unity3d.ads.metadata.MetaData;
 import java.util.UUID;
 
 /**
@@ -52,6 +55,10 @@ public class UnityInterstitialAd
 
   private final UnityAdsLoader unityAdsLoader;
 
+  /** Times the stages of the load and show of this ad. */
+  private final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.INTERSTITIAL);
+
   /** Callback object for Google's Interstitial Lifecycle. */
   @Nullable private MediationInterstitialAdCallback interstitialAdCallback;
 
@@ -80,7 +87,11 @@ public class UnityInterstitialAd
             "Unity Ads interstitial ad successfully loaded for placement ID: %s", placementId);
     Log.d(UnityMediationAdapter.TAG, logMessage);
     this.placementId = placementId;
+    latencyTracker.endStage(Stage.SDK_LOAD);
+    latencyTracker.endStage(Stage.TIME_TO_FILL);
+    latencyTracker.startStage(Stage.LOAD_CALLBACK);
     interstitialAdCallback = adLoadCallback.onSuccess(this);
+    latencyTracker.endStage(Stage.LOAD_CALLBACK);
   }
 
   @Override
@@ -94,6 +105,7 @@ public class UnityInterstitialAd
 
   @Override
   public void onUnityAdsShowStart(String placementId) {
+    latencyTracker.endStage(Stage.SHOW);
     String logMessage =
         String.format("Unity Ads interstitial ad started for placement ID: %s", placementId);
     Log.d(UnityMediationAdapter.TAG, logMessage);
@@ -151,6 +163,7 @@ public class UnityInterstitialAd
   }
 
   public void loadAd(MediationInterstitialAdConfiguration adConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     Context context = adConfiguration.getContext();
     Bundle serverParameters = adConfiguration.getServerParameters();
 
@@ -166,20 +179,22 @@ public class UnityInterstitialAd
 
     final String adMarkup = adConfiguration.getBidResponse();
 
+    latencyTracker.startStage(Stage.INITIALIZATION);
     unityInitializer.initializeUnityAds(
         context,
         gameId,
         new IUnityAdsInitializationListener() {
           @Override
           public void onInitializationComplete() {
+            latencyTracker.endStage(Stage.INITIALIZATION);
             String logMessage =
                 String.format(
                     "Unity Ads is initialized for game ID '%s' "
                         + "and can now load interstitial ad with placement ID: %s",
                     gameId, placementId);
             Log.d(UnityMediationAdapter.TAG, logMessage);
-            UnityAdsAdapterUtils.setUnityAdsPrivacy(
-                MobileAds.getRequestConfiguration(), new MetaData(context));
+            UnityAdsAdapterUtils.updateUnityAdsPrivacy(
+                MobileAds.getRequestConfiguration(), context);
 
             objectId = UUID.randomUUID().toString();
             UnityAdsLoadOptions unityAdsLoadOptions =
@@ -187,6 +202,7 @@ public class UnityInterstitialAd
             if (adMarkup != null) {
               unityAdsLoadOptions.setAdMarkup(adMarkup);
             }
+            latencyTracker.startStage(Stage.SDK_LOAD);
             unityAdsLoader.load(placementId, unityAdsLoadOptions, UnityInterstitialAd.this);
           }
 
@@ -206,6 +222,7 @@ public class UnityInterstitialAd
 
   @Override
   public void showAd(Context context) {
+    latencyTracker.startStage(Stage.SHOW);
     if (placementId == null) {
       Log.w(
           UnityMediationAdapter.TAG,
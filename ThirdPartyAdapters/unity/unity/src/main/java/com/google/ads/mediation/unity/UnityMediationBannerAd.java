@@ -20,6 +20,7 @@ import static com.google.ads.mediation.unity.UnityAdsAdapterUtils.getMediationEr
 import static com.google.ads.mediation.unity.UnityMediationAdapter.ADAPTER_ERROR_DOMAIN;
 import static com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_MSG_MISSING_PARAMETERS;
 import static com.google.ads.mediation.unity.UnityMediationAdapter.KEY_WATERMARK;
+import static com.google.ads.mediation.unity.UnityMediationAdapter.NETWORK_NAME;
 
 import android.content.Context;
 import android.os.Bundle;
@@ -29,7 +30,10 @@ import android.view.View;
 import androidx.annotation.Keep;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
@@ -39,7 +43,6 @@ import com.google.android.gms.ads.mediation.MediationBannerAdConfiguration;
 import com.unity3d.ads.IUnityAdsInitializationListener;
 import com.unity3d.ads.UnityAds;
 import com.unity3d.ads.UnityAdsLoadOptions;
-import com.unity3d.ads.metadata.MetaData;
 import com.unity3d.services.banners.BannerErrorInfo;
 import com.unity3d.services.banners.BannerView;
 import com.unity3d.services.banners.UnityBannerSize;
@@ -72,6 +75,10 @@ public class UnityMediationBannerAd implements MediationBannerAd, BannerView.ILi
   @Nullable private UnityBannerViewWrapper unityBannerViewWrapper;
   private final UnityAdsLoader unityAdsLoader;
 
+  /** Times the stages of the load of this ad. */
+  private final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.BANNER);
+
   static final String ERROR_MSG_NO_MATCHING_AD_SIZE =
       "There is no matching Unity Ads ad size for Google ad size: ";
 
@@ -98,7 +105,11 @@ public class UnityMediationBannerAd implements MediationBannerAd, BannerView.ILi
             "Unity Ads finished loading banner ad for placement ID: %s",
             bannerView.getPlacementId());
     Log.d(UnityMediationAdapter.TAG, logMessage);
+    latencyTracker.endStage(Stage.SDK_LOAD);
+    latencyTracker.endStage(Stage.TIME_TO_FILL);
+    latencyTracker.startStage(Stage.LOAD_CALLBACK);
     mediationBannerAdCallback = mediationBannerAdLoadCallback.onSuccess(this);
+    latencyTracker.endStage(Stage.LOAD_CALLBACK);
     // TODO(b/276467762): Find a place to call mediatinoBannerAdCallback.reportAdImpression(), if
     // any.
   }
@@ -156,6 +167,7 @@ public class UnityMediationBannerAd implements MediationBannerAd, BannerView.ILi
   public void loadAd(
       MediationBannerAdConfiguration mediationBannerAdConfiguration,
       MediationUtilsWrapper mediationUtils) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     Context context = mediationBannerAdConfiguration.getContext();
     Bundle serverParameters = mediationBannerAdConfiguration.getServerParameters();
     AdSize adSize = mediationBannerAdConfiguration.getAdSize();
@@ -191,12 +203,14 @@ public class UnityMediationBannerAd implements MediationBannerAd, BannerView.ILi
       return;
     }
 
+    latencyTracker.startStage(Stage.INITIALIZATION);
     unityInitializer.initializeUnityAds(
         context,
         gameId,
         new IUnityAdsInitializationListener() {
           @Override
           public void onInitializationComplete() {
+            latencyTracker.endStage(Stage.INITIALIZATION);
             String logMessage =
                 String.format(
                     "Unity Ads is initialized for game ID '%s' "
@@ -204,8 +218,8 @@ public class UnityMediationBannerAd implements MediationBannerAd, BannerView.ILi
                     gameId, bannerPlacementId);
             Log.d(UnityMediationAdapter.TAG, logMessage);
 
-            UnityAdsAdapterUtils.setUnityAdsPrivacy(
-                MobileAds.getRequestConfiguration(), new MetaData(context));
+            UnityAdsAdapterUtils.updateUnityAdsPrivacy(
+                MobileAds.getRequestConfiguration(), context);
 
             if (unityBannerViewWrapper == null) {
               unityBannerViewWrapper =
@@ -221,6 +235,7 @@ public class UnityMediationBannerAd implements MediationBannerAd, BannerView.ILi
             if (adMarkup != null) {
               loadOptions.setAdMarkup(adMarkup);
             }
+            latencyTracker.startStage(Stage.SDK_LOAD);
             unityBannerViewWrapper.load(loadOptions);
           }
 
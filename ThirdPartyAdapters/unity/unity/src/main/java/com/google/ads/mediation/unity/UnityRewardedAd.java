@@ -19,6 +19,7 @@ import static com.google.ads.mediation.unity.UnityMediationAdapter.ADAPTER_ERROR
 import static com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS;
 import static com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_MSG_MISSING_PARAMETERS;
 import static com.google.ads.mediation.unity.UnityMediationAdapter.KEY_WATERMARK;
+import static com.google.ads.mediation.unity.UnityMediationAdapter.NETWORK_NAME;
 import static com.google.ads.mediation.unity.UnityMediationAdapter.TAG;
 
 import android.app.Activity;
@@ -28,7 +29,10 @@ import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage;
+import com.google.ads.mediation.common.AdLatencyTracker;
 import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAd;
@@ -42,7 +46,6 @@ import com.unity3d.ads.UnityAds.UnityAdsLoadError;
 import com.unity3d.ads.UnityAds.UnityAdsShowError;
 import com.unity3d.ads.UnityAdsLoadOptions;
 import com.unity3d.ads.UnityAdsShowOptions;
-import com.unity3d.ads.metadata.MetaData;
 import java.util.UUID;
 
 /**
@@ -64,6 +67,10 @@ public class UnityRewardedAd implements MediationRewardedAd {
 
   private final UnityAdsLoader unityAdsLoader;
 
+  /** Times the stages of the load and show of this ad. */
+  private final AdLatencyTracker latencyTracker =
+      new AdLatencyTracker(NETWORK_NAME, AdFormat.REWARDED);
+
   /**
    * Mediation rewarded video ad listener used to forward rewarded ad events to the Google Mobile
    * Ads SDK.
@@ -89,7 +96,11 @@ public class UnityRewardedAd implements MediationRewardedAd {
                   "Unity Ads rewarded ad successfully loaded placement ID: %s", placementId);
           Log.d(TAG, logMessage);
           UnityRewardedAd.this.placementId = placementId;
+          latencyTracker.endStage(Stage.SDK_LOAD);
+          latencyTracker.endStage(Stage.TIME_TO_FILL);
+          latencyTracker.startStage(Stage.LOAD_CALLBACK);
           mediationRewardedAdCallback = mediationAdLoadCallback.onSuccess(UnityRewardedAd.this);
+          latencyTracker.endStage(Stage.LOAD_CALLBACK);
         }
 
         @Override
@@ -115,6 +126,7 @@ public class UnityRewardedAd implements MediationRewardedAd {
 
   /** Loads a rewarded ad. */
   public void loadAd(MediationRewardedAdConfiguration mediationRewardedAdConfiguration) {
+    latencyTracker.startStage(Stage.TIME_TO_FILL);
     Context context = mediationRewardedAdConfiguration.getContext();
     Bundle serverParameters = mediationRewardedAdConfiguration.getServerParameters();
     final String gameId = serverParameters.getString(UnityMediationAdapter.KEY_GAME_ID);
@@ -131,12 +143,14 @@ public class UnityRewardedAd implements MediationRewardedAd {
 
     // The ad is loaded in the UnityAdsInitializationListener after initializing of the Unity Ads
     // SDK.
+    latencyTracker.startStage(Stage.INITIALIZATION);
     unityInitializer.initializeUnityAds(
         context, gameId, new UnityAdsInitializationListener(context, gameId, placementId, adMarkup));
   }
 
   @Override
   public void showAd(@NonNull Context context) {
+    latencyTracker.startStage(Stage.SHOW);
     // Check if the placement is ready before showing
     if (placementId == null) {
       Log.w(TAG, "Unity Ads received call to show before successfully loading an ad.");
@@ -157,6 +171,7 @@ public class UnityRewardedAd implements MediationRewardedAd {
       new IUnityAdsShowListener() {
         @Override
         public void onUnityAdsShowStart(String placementId) {
+          latencyTracker.endStage(Stage.SHOW);
           // Unity Ads video ad started playing. Send Video Started event if this is a rewarded
           // video.
           if (mediationRewardedAdCallback == null) {
@@ -218,14 +233,14 @@ public class UnityRewardedAd implements MediationRewardedAd {
 
     @Override
     public void onInitializationComplete() {
+      latencyTracker.endStage(Stage.INITIALIZATION);
       String logMessage =
           String.format(
               "Unity Ads is initialized for game ID '%s' "
                   + "and can now load rewarded ad with placement ID: %s",
               gameId, placementId);
       Log.d(TAG, logMessage);
-      UnityAdsAdapterUtils.setUnityAdsPrivacy(
-          MobileAds.getRequestConfiguration(), new MetaData(context));
+      UnityAdsAdapterUtils.updateUnityAdsPrivacy(MobileAds.getRequestConfiguration(), context);
 
       objectId = UUID.randomUUID().toString();
       UnityAdsLoadOptions unityAdsLoadOptions =
@@ -234,6 +249,7 @@ public class UnityRewardedAd implements MediationRewardedAd {
         unityAdsLoadOptions.setAdMarkup(adMarkup);
       }
 
+      latencyTracker.startStage(Stage.SDK_LOAD);
       unityAdsLoader.load(placementId, unityAdsLoadOptions, unityLoadListener);
     }
 
@@ -18,6 +18,7 @@ import com.unity3d.services.banners.BannerErrorInfo
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
+import org.mockito.Mockito.mockConstruction
 import org.mockito.kotlin.any
 import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.eq
@@ -39,6 +40,7 @@ class UnityAdsAdapterUtilsTest {
   @Before
   fun setUp() {
     sharedPreferences.edit().clear().commit()
+    UnityAdsAdapterUtils.resetCommittedUnityAdsPrivacy()
   }
 
   enum class BannerErrorTestCase(val error: BannerErrorCode, val expectedErrorCode: Int) {
@@ -240,6 +242,65 @@ class UnityAdsAdapterUtilsTest {
     verify(mockMetaData).commit()
   }
 
+  @Test
+  fun updateUnityAdsPrivacy_firstCall_commitsMetaData() {
+    mockConstruction(MetaData::class.java).use { mockedMetaDataConstruction ->
+      UnityAdsAdapterUtils.updateUnityAdsPrivacy(createRequestConfiguration(), context)
+
+      val metaData = mockedMetaDataConstruction.constructed().single()
+      verify(metaData).set("user.nonbehavioral", false)
+      verify(metaData).commit()
+    }
+  }
+
+  @Test
+  fun updateUnityAdsPrivacy_unchangedPrivacy_doesNotCommitMetaDataAgain() {
+    mockConstruction(MetaData::class.java).use { mockedMetaDataConstruction ->
+      UnityAdsAdapterUtils.updateUnityAdsPrivacy(createRequestConfiguration(), context)
+
+      UnityAdsAdapterUtils.updateUnityAdsPrivacy(createRequestConfiguration(), context)
+      // A different configuration that results in the same privacy.
+      UnityAdsAdapterUtils.updateUnityAdsPrivacy(
+        createRequestConfiguration(
+          tagForChildDirectedTreatment =
+            RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_UNSPECIFIED,
+          tagForUnderAgeOfConsent = RequestConfiguration.TAG_FOR_UNDER_AGE_OF_CONSENT_FALSE,
+        ),
+        context,
+      )
+
+      assertThat(mockedMetaDataConstruction.constructed()).hasSize(1)
+    }
+  }
+
+  @Test
+  fun updateUnityAdsPrivacy_changedPrivacy_commitsNewMetaData() {
+    mockConstruction(MetaData::class.java).use { mockedMetaDataConstruction ->
+      UnityAdsAdapterUtils.updateUnityAdsPrivacy(createRequestConfiguration(), context)
+
+      UnityAdsAdapterUtils.updateUnityAdsPrivacy(
+        createRequestConfiguration(
+          tagForChildDirectedTreatment = RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_TRUE
+        ),
+        context,
+      )
+
+      assertThat(mockedMetaDataConstruction.constructed()).hasSize(2)
+      val metaData = mockedMetaDataConstruction.constructed()[1]
+      verify(metaData).set("user.nonbehavioral", true)
+      verify(metaData).commit()
+    }
+  }
+
+  private fun createRequestConfiguration(
+    tagForChildDirectedTreatment: Int = RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_FALSE,
+    tagForUnderAgeOfConsent: Int = RequestConfiguration.TAG_FOR_UNDER_AGE_OF_CONSENT_UNSPECIFIED,
+  ): RequestConfiguration =
+    RequestConfiguration.Builder()
+      .setTagForChildDirectedTreatment(tagForChildDirectedTreatment)
+      .setTagForUnderAgeOfConsent(tagForUnderAgeOfConsent)
+      .build()
+
   // region hasACConsent() Tests
   @Test
   fun hasACConsent_withNegativeGDPRApplies_returnsUnknown() {
@@ -0,0 +1,157 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.unity
+
+import android.app.Activity
+import android.content.ComponentCallbacks2
+import android.os.Handler
+import android.os.Looper
+import android.view.View
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.unity.UnityBannerViewPool.MAX_POOLED_BANNER_VIEWS
+import com.google.common.truth.Truth.assertThat
+import com.unity3d.services.banners.BannerView
+import com.unity3d.services.banners.UnityBannerSize
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.kotlin.argumentCaptor
+import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
+import org.mockito.kotlin.verify
+import org.mockito.kotlin.whenever
+import org.robolectric.Robolectric
+import org.robolectric.Shadows.shadowOf
+
+/** Tests for [UnityBannerViewPool]. */
+@RunWith(AndroidJUnit4::class)
+class UnityBannerViewPoolTest {
+
+  private val activity: Activity = Robolectric.buildActivity(Activity::class.java).get()
+  private val otherActivity: Activity = Robolectric.buildActivity(Activity::class.java).get()
+  private val bannerSize = UnityBannerSize(320, 50)
+  private val bannerViewPool = UnityBannerViewPool(Handler(Looper.getMainLooper()))
+
+  @Test
+  fun acquire_withMatchingContextPlacementAndSize_returnsRecycledBannerView() {
+    val bannerViewWrapper = createBannerViewWrapper()
+    bannerViewPool.recycle(bannerViewWrapper)
+
+    val acquiredBannerView =
+      bannerViewPool.acquire(activity, PLACEMENT_ID, UnityBannerSize(320, 50))
+
+    assertThat(acquiredBannerView).isSameInstanceAs(bannerViewWrapper)
+    assertThat(bannerViewPool.size()).isEqualTo(0)
+    verify(bannerViewWrapper).setListener(null)
+  }
+
+  @Test
+  fun acquire_withoutMatchingBannerView_returnsNull() {
+    bannerViewPool.recycle(createBannerViewWrapper())
+
+    assertThat(bannerViewPool.acquire(activity, OTHER_PLACEMENT_ID, bannerSize)).isNull()
+    assertThat(bannerViewPool.acquire(activity, PLACEMENT_ID, UnityBannerSize(300, 250))).isNull()
+    assertThat(bannerViewPool.acquire(otherActivity, PLACEMENT_ID, bannerSize)).isNull()
+    assertThat(bannerViewPool.size()).isEqualTo(1)
+  }
+
+  @Test
+  fun recycle_whenPoolIsFull_destroysOldestBannerView() {
+    val bannerViewWrappers = List(MAX_POOLED_BANNER_VIEWS + 1) { createBannerViewWrapper() }
+
+    bannerViewWrappers.forEach { bannerViewPool.recycle(it) }
+
+    assertThat(bannerViewPool.size()).isEqualTo(MAX_POOLED_BANNER_VIEWS)
+    verify(bannerViewWrappers.first()).destroy()
+    verify(bannerViewWrappers.last(), never()).destroy()
+  }
+
+  @Test
+  fun recycle_bannerViewOfFinishingActivity_destroysBannerView() {
+    activity.finish()
+    val bannerViewWrapper = createBannerViewWrapper()
+
+    bannerViewPool.recycle(bannerViewWrapper)
+
+    assertThat(bannerViewPool.size()).isEqualTo(0)
+    verify(bannerViewWrapper).destroy()
+  }
+
+  @Test
+  fun recycleWhenDetached_recyclesBannerViewRemovedFromParent() {
+    val bannerViewWrapper = createBannerViewWrapper()
+    bannerViewPool.recycleWhenDetached(bannerViewWrapper)
+    val listenerCaptor = argumentCaptor<View.OnAttachStateChangeListener>()
+    verify(bannerViewWrapper.bannerView).addOnAttachStateChangeListener(listenerCaptor.capture())
+
+    listenerCaptor.firstValue.onViewDetachedFromWindow(bannerViewWrapper.bannerView)
+    shadowOf(Looper.getMainLooper()).idle()
+
+    assertThat(bannerViewPool.size()).isEqualTo(1)
+  }
+
+  @Test
+  fun recycleWhenDetached_doesNotRecycleBannerViewStillInParent() {
+    val bannerViewWrapper = createBannerViewWrapper()
+    whenever(bannerViewWrapper.bannerView.parent) doReturn mock()
+    bannerViewPool.recycleWhenDetached(bannerViewWrapper)
+    val listenerCaptor = argumentCaptor<View.OnAttachStateChangeListener>()
+    verify(bannerViewWrapper.bannerView).addOnAttachStateChangeListener(listenerCaptor.capture())
+
+    listenerCaptor.firstValue.onViewDetachedFromWindow(bannerViewWrapper.bannerView)
+    shadowOf(Looper.getMainLooper()).idle()
+
+    assertThat(bannerViewPool.size()).isEqualTo(0)
+  }
+
+  @Test
+  fun onTrimMemory_destroysPooledBannerViews() {
+    val bannerViewWrapper = createBannerViewWrapper()
+    bannerViewPool.recycle(bannerViewWrapper)
+
+    bannerViewPool.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW)
+
+    assertThat(bannerViewPool.size()).isEqualTo(0)
+    verify(bannerViewWrapper).destroy()
+  }
+
+  @Test
+  fun onActivityDestroyed_destroysBannerViewsOfActivity() {
+    val bannerViewWrapper = createBannerViewWrapper()
+    val otherBannerViewWrapper = createBannerViewWrapper(otherActivity)
+    bannerViewPool.recycle(bannerViewWrapper)
+    bannerViewPool.recycle(otherBannerViewWrapper)
+
+    bannerViewPool.onActivityDestroyed(activity)
+
+    assertThat(bannerViewPool.size()).isEqualTo(1)
+    verify(bannerViewWrapper).destroy()
+    verify(otherBannerViewWrapper, never()).destroy()
+  }
+
+  private fun createBannerViewWrapper(context: Activity = activity): UnityBannerViewWrapper {
+    val bannerView: BannerView = mock {
+      on { getContext() } doReturn context
+      on { placementId } doReturn PLACEMENT_ID
+      on { size } doReturn UnityBannerSize(320, 50)
+    }
+    return mock { on { getBannerView() } doReturn bannerView }
+  }
+
+  private companion object {
+    const val PLACEMENT_ID = "placementId"
+    const val OTHER_PLACEMENT_ID = "otherPlacementId"
+  }
+}
@@ -7,9 +7,13 @@ import androidx.test.ext.junit.runners.AndroidJUnit4
 import com.google.ads.mediation.adaptertestkit.FakeMediationAdLoadCallback
 import com.google.ads.mediation.adaptertestkit.FakeMediationInterstitialAdCallback
 import com.google.ads.mediation.adaptertestkit.assertThat
+import com.google.ads.mediation.common.AdLatencyMetrics
+import com.google.ads.mediation.common.AdLatencyMetrics.Stage
+import com.google.ads.mediation.common.HistogramAdLatencyMetrics
 import com.google.ads.mediation.unity.UnityAdsAdapterUtils.getMediationErrorCode
 import com.google.ads.mediation.unity.UnityMediationAdapter.SDK_ERROR_DOMAIN
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.mediation.MediationInterstitialAd
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback
 import com.google.android.gms.ads.mediation.MediationInterstitialAdConfiguration
@@ -172,6 +176,49 @@ class UnityInterstitialAdTest {
     verify(unityAdsLoader).show(any(), eq(TEST_LOADED_PLACEMENT_ID), any(), any())
   }
 
+  @Test
+  fun onUnityAdsShowStart_withLatencyMetrics_recordsLoadAndShowStages() {
+    val latencyMetrics = HistogramAdLatencyMetrics()
+    AdLatencyMetrics.setInstance(latencyMetrics)
+    try {
+      unityInterstitialAd =
+        UnityInterstitialAd(
+          interstitialAdConfiguration,
+          interstitialAdLoadCallback,
+          unityInitializer,
+          unityAdsLoader,
+        )
+      doAnswer { invocation ->
+          val args = invocation.arguments
+          (args[2] as IUnityAdsInitializationListener).onInitializationComplete()
+        }
+        .whenever(unityInitializer)
+        .initializeUnityAds(any(), any(), any())
+      whenever(interstitialAdConfiguration.serverParameters) doReturn
+        bundleOf(
+          UnityMediationAdapter.KEY_PLACEMENT_ID to PLACEMENT_ID,
+          UnityMediationAdapter.KEY_GAME_ID to TEST_GAME_ID,
+        )
+      whenever(interstitialAdConfiguration.context) doReturn activity
+      whenever(unityAdsLoader.createUnityAdsLoadOptionsWithId(any())) doReturn mock()
+      whenever(unityAdsLoader.createUnityAdsShowOptionsWithId(any())) doReturn mock()
+      unityInterstitialAd.loadAd(interstitialAdConfiguration)
+      unityInterstitialAd.onUnityAdsAdLoaded(PLACEMENT_ID)
+
+      unityInterstitialAd.showAd(activity)
+      unityInterstitialAd.onUnityAdsShowStart(PLACEMENT_ID)
+    } finally {
+      AdLatencyMetrics.setInstance(null)
+    }
+
+    for (stage in Stage.values().filter { it != Stage.ASSET_MAPPING && it != Stage.IMAGE_LOAD }) {
+      assertThat(
+          latencyMetrics.getHistogram("Unity Ads", AdFormat.INTERSTITIAL, stage)!!.getCount()
+        )
+        .isEqualTo(1)
+    }
+  }
+
   companion object {
     private const val PLACEMENT_ID = "test_placement_id"
     private const val TEST_LOADED_PLACEMENT_ID = "test_loaded_placement_id"
@@ -19,6 +19,7 @@ import android.content.Context
 import android.util.Log
 import androidx.annotation.VisibleForTesting
 import com.google.ads.mediation.common.AgeRestrictedTreatmentUtils
+import com.google.ads.mediation.common.VersionInfoParser
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.AgeRestrictedTreatment
 import com.google.android.gms.ads.MobileAds
@@ -58,13 +59,8 @@ class VerveMediationAdapter : RtbAdapter() {
 
   override fun getSDKVersionInfo(): VersionInfo {
     val sdkVersion = HyBid.getHyBidVersion()
-    val splits = sdkVersion.split("\\.".toRegex()).dropLastWhile { it.isEmpty() }.toTypedArray()
-
-    if (splits.size >= 3) {
-      val major = splits[0].toInt()
-      val minor = splits[1].toInt()
-      val micro = splits[2].toInt()
-      return VersionInfo(major, minor, micro)
+    SDK_VERSION_PARSER.parse(sdkVersion)?.let {
+      return it
     }
 
     val logMessage =
@@ -81,12 +77,8 @@ class VerveMediationAdapter : RtbAdapter() {
       ?: getVersionInfo(BuildConfig.ADAPTER_VERSION)
 
   private fun getVersionInfo(versionString: String): VersionInfo {
-    val splits = versionString.split("\\.".toRegex()).dropLastWhile { it.isEmpty() }.toTypedArray()
-    if (splits.size >= 4) {
-      val major = splits[0].toInt()
-      val minor = splits[1].toInt()
-      val micro = splits[2].toInt() * 100 + splits[3].toInt()
-      return VersionInfo(major, minor, micro)
+    ADAPTER_VERSION_PARSER.parse(versionString)?.let {
+      return it
     }
 
     val logMessage =
@@ -232,6 +224,12 @@ class VerveMediationAdapter : RtbAdapter() {
   }
 
   companion object {
+    /** Parses and caches the adapter version. */
+    private val ADAPTER_VERSION_PARSER = VersionInfoParser(4, 4)
+
+    /** Parses and caches the SDK version. */
+    private val SDK_VERSION_PARSER = VersionInfoParser(3, 3)
+
     private val TAG = VerveMediationAdapter::class.simpleName
     @VisibleForTesting var adapterVersionDelegate: String? = null
     const val APP_TOKEN_KEY = "AppToken"
@@ -22,6 +22,7 @@ import android.widget.ImageView
 import androidx.annotation.VisibleForTesting
 import androidx.core.graphics.drawable.toDrawable
 import androidx.core.net.toUri
+import com.google.ads.mediation.common.NativeImageLoader
 import com.google.ads.mediation.verve.VerveMediationAdapter.Companion.ERROR_CODE_AD_LOAD_FAILED_TO_LOAD
 import com.google.ads.mediation.verve.VerveMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.android.gms.ads.AdError
@@ -43,6 +44,7 @@ internal constructor(
     MediationAdLoadCallback<NativeAdMapper, MediationNativeAdCallback>,
   private val bidResponse: String,
   private val hyBidNativeAdRequest: HyBidNativeAdRequest,
+  private val shouldLoadImages: Boolean = true,
 ) : NativeAdMapper(), HyBidNativeAdRequest.RequestListener, NativeAd.Listener {
   private var hyBidNativeAd: NativeAd? = null
   private var nativeAdCallback: MediationNativeAdCallback? = null
@@ -123,8 +125,10 @@ internal constructor(
     adChoicesContent = nativeAd.getContentInfo(context)
     callToAction = nativeAd.callToActionText
     starRating = nativeAd.rating.toDouble()
-    icon =
-      NativeAdImage(nativeAd.iconBitmap.toDrawable(context.resources), nativeAd.iconUrl.toUri())
+    // Only wrap the icon bitmap in a drawable if it will be displayed.
+    val iconDrawable =
+      if (shouldLoadImages) nativeAd.iconBitmap?.toDrawable(context.resources) else null
+    icon = NativeAdImage(iconDrawable, nativeAd.iconUrl.toUri())
     val imageView = ImageView(context)
     imageView.setImageBitmap(nativeAd.bannerBitmap)
     setMediaView(imageView)
@@ -155,9 +159,17 @@ internal constructor(
 
       val bidResponse = mediationNativeAdConfiguration.bidResponse
       val nativeAdRequest = HyBidNativeAdRequest()
+      val shouldLoadImages =
+        NativeImageLoader.shouldLoadImages(mediationNativeAdConfiguration.nativeAdOptions)
 
       return Result.success(
-        VerveNativeAd(context, mediationNativeAdLoadCallback, bidResponse, nativeAdRequest)
+        VerveNativeAd(
+          context,
+          mediationNativeAdLoadCallback,
+          bidResponse,
+          nativeAdRequest,
+          shouldLoadImages,
+        )
       )
     }
   }
@@ -79,6 +79,24 @@ class VerveNativeAdTest {
     assertThat(verveNativeAd.overrideImpressionRecording).isTrue()
   }
 
+  @Test
+  fun onRequestSuccess_withUrlsForImageAssetsRequested_mapsIconUriWithoutDrawable() {
+    verveNativeAd =
+      VerveNativeAd(
+        context,
+        nativeAdLoadCallback,
+        TEST_BID_RESPONSE,
+        mockHyBidNativeAdRequest,
+        shouldLoadImages = false,
+      )
+
+    verveNativeAd.onRequestSuccess(mockHyBidNativeAd)
+
+    assertThat(nativeAdLoadCallback).hasSucceededWith(verveNativeAd)
+    assertThat(verveNativeAd.icon.drawable).isNull()
+    assertThat(verveNativeAd.icon.uri.toString()).isEqualTo(TEST_ICON_URL)
+  }
+
   @Test
   fun onRequestSuccess_withNullAd_invokesOnFailure() {
     val expectedAdError =